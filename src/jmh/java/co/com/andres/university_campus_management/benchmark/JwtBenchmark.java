@@ -0,0 +1,89 @@
+package co.com.andres.university_campus_management.benchmark;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import co.com.andres.university_campus_management.config.JwtAuthenticationFilter;
+import co.com.andres.university_campus_management.utils.JwtUtil;
+import io.micrometer.observation.ObservationRegistry;
+import jakarta.servlet.ServletException;
+
+/**
+ * Mide la generación y la verificación de tokens JWT.
+ *
+ * {@code generate} es lo que hace cada inicio de sesión después de comprobar
+ * la contraseña; {@code verify} reproduce las llamadas que hace el filtro a
+ * {@link JwtUtil} en cada solicitud autenticada (usuario, roles y validez, tres
+ * análisis del token); {@code filter} recorre el
+ * {@link JwtAuthenticationFilter} completo con una solicitud simulada, con la
+ * autenticación en el contexto de seguridad, el evento JFR y la observación
+ * (sin registro, como en las solicitudes no muestreadas). Ejecutar con:
+ * {@code mvn -Pbenchmark test-compile exec:exec -Djmh.args="Jwt -prof gc"}
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtBenchmark {
+
+    private static final String SECRET = "ZXN0YWVzdW5hY2xhdmVtdXlsYXJnYXF1ZXVzYXJlbW9zcGFyYWZpcm1hcmVsSldUMjAwMg==";
+    private static final String EMAIL = "andres.rojas@universidad.com";
+
+    private JwtUtil jwtUtil;
+    private JwtAuthenticationFilter filter;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        jwtUtil = new JwtUtil();
+        ReflectionTestUtils.setField(jwtUtil, "secret", SECRET);
+        ReflectionTestUtils.setField(jwtUtil, "expiration", 86_400_000L);
+        filter = new JwtAuthenticationFilter(jwtUtil, ObservationRegistry.NOOP);
+        token = jwtUtil.generateToken(EMAIL, Set.of("ROLE_STUDENT"));
+    }
+
+    @Benchmark
+    public String generate() {
+        return jwtUtil.generateToken(EMAIL, Set.of("ROLE_STUDENT"));
+    }
+
+    @Benchmark
+    public boolean verify() {
+        var email = jwtUtil.extractUsername(token);
+        List<String> roles = jwtUtil.extractRoles(token);
+        return !roles.isEmpty() && jwtUtil.validateToken(token, email);
+    }
+
+    @Benchmark
+    public Authentication filter() throws ServletException, IOException {
+        var request = new MockHttpServletRequest("GET", "/api/curso");
+        request.addHeader("Authorization", "Bearer " + token);
+        try {
+            filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+            return SecurityContextHolder.getContext().getAuthentication();
+        } finally {
+            SecurityContextHolder.clearContext();
+        }
+    }
+}
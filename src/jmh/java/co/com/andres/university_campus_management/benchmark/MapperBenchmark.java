@@ -0,0 +1,134 @@
+package co.com.andres.university_campus_management.benchmark;
+
+import java.time.LocalDate;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import co.com.andres.university_campus_management.mapper.CourseMapper;
+import co.com.andres.university_campus_management.mapper.CourseMapperImpl;
+import co.com.andres.university_campus_management.mapper.EnrollmentMapper;
+import co.com.andres.university_campus_management.mapper.EnrollmentMapperImpl;
+import co.com.andres.university_campus_management.mapper.ProfessorMapper;
+import co.com.andres.university_campus_management.mapper.ProfessorMapperImpl;
+import co.com.andres.university_campus_management.mapper.StudentMapper;
+import co.com.andres.university_campus_management.mapper.StudentMapperImpl;
+import co.com.andres.university_campus_management.model.DTO.CourseRequest;
+import co.com.andres.university_campus_management.model.DTO.CourseResponse;
+import co.com.andres.university_campus_management.model.DTO.EnrollmentRequest;
+import co.com.andres.university_campus_management.model.DTO.EnrollmentResponse;
+import co.com.andres.university_campus_management.model.DTO.ProfessorRequest;
+import co.com.andres.university_campus_management.model.DTO.ProfessorResponse;
+import co.com.andres.university_campus_management.model.DTO.StudentRequest;
+import co.com.andres.university_campus_management.model.DTO.StudentResponse;
+import co.com.andres.university_campus_management.model.entity.Course;
+import co.com.andres.university_campus_management.model.entity.Enrollment;
+import co.com.andres.university_campus_management.model.entity.EnrollmentState;
+import co.com.andres.university_campus_management.model.entity.Professor;
+import co.com.andres.university_campus_management.model.entity.Student;
+
+/**
+ * Mide los mappers de MapStruct en ambos sentidos: de solicitud a entidad (al
+ * crear o actualizar) y de entidad a respuesta (en cada lectura, una vez por
+ * fila en los listados).
+ *
+ * Se usan las implementaciones generadas directamente, sin contexto de
+ * Spring: el coste medido es el de la copia de campos. Ejecutar con:
+ * {@code mvn -Pbenchmark test-compile exec:exec -Djmh.args="Mapper -prof gc"}
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MapperBenchmark {
+
+    private final StudentMapper studentMapper = new StudentMapperImpl();
+    private final ProfessorMapper professorMapper = new ProfessorMapperImpl();
+    private final CourseMapper courseMapper = new CourseMapperImpl();
+    private final EnrollmentMapper enrollmentMapper = new EnrollmentMapperImpl();
+
+    private StudentRequest studentRequest;
+    private ProfessorRequest professorRequest;
+    private CourseRequest courseRequest;
+    private EnrollmentRequest enrollmentRequest;
+    private Student student;
+    private Professor professor;
+    private Course course;
+    private Enrollment enrollment;
+
+    @Setup
+    public void setUp() {
+        studentRequest = new StudentRequest("Luis Andres", "Rojas Acevedo", "andres.rojas@universidad.com",
+                "Calle 123 #45-67", "3001234567", "2024001234", null, null, "Estudiante2024!");
+        professorRequest = new ProfessorRequest("Luis Andres", "Rojas Acevedo", "andres.rojas@universidad.com",
+                "+573001234567", "Calle 123 #45-67", Set.of("ROLE_PROFESSOR", "ROLE_ADMIN"), "Profesor2024!");
+        courseRequest = new CourseRequest("Programación Avanzada", "PROG-101", "Estructuras de datos", 5L, 30);
+        enrollmentRequest = new EnrollmentRequest(1L, 1L, LocalDate.now().plusDays(1), null);
+
+        student = studentMapper.toEntity(studentRequest);
+        student.setIdStudent(1L);
+        professor = professorMapper.toEntity(professorRequest);
+        professor.setIdProfessor(5L);
+        course = courseMapper.toEntity(courseRequest);
+        course.setIdCourse(1L);
+        course.setProfessor(professor);
+        enrollment = new Enrollment();
+        enrollment.setIdEnrollment(1L);
+        enrollment.setStudent(student);
+        enrollment.setCourse(course);
+        enrollment.setEnrollmentDate(LocalDate.now());
+        enrollment.setEnrollmentState(EnrollmentState.ACTIVE);
+    }
+
+    @Benchmark
+    public Student studentToEntity() {
+        return studentMapper.toEntity(studentRequest);
+    }
+
+    @Benchmark
+    public StudentResponse studentToResponse() {
+        return studentMapper.toResponse(student);
+    }
+
+    @Benchmark
+    public Professor professorToEntity() {
+        return professorMapper.toEntity(professorRequest);
+    }
+
+    @Benchmark
+    public ProfessorResponse professorToResponse() {
+        return professorMapper.toResponse(professor);
+    }
+
+    @Benchmark
+    public Course courseToEntity() {
+        return courseMapper.toEntity(courseRequest);
+    }
+
+    @Benchmark
+    public CourseResponse courseToResponse() {
+        return courseMapper.toResponse(course);
+    }
+
+    @Benchmark
+    public Enrollment enrollmentToEntity() {
+        return enrollmentMapper.toEntity(enrollmentRequest);
+    }
+
+    @Benchmark
+    public EnrollmentResponse enrollmentToResponse() {
+        return enrollmentMapper.toResponse(enrollment);
+    }
+}
@@ -0,0 +1,97 @@
+package co.com.andres.university_campus_management.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.HttpStatus;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+
+import co.com.andres.university_campus_management.config.exception.ApiErrorResponse;
+import co.com.andres.university_campus_management.config.exception.studentException.StudentByIdException;
+
+/**
+ * Mide la ruta completa de un 404 por ID inexistente: lanzar la excepción desde
+ * el fondo de la pila, capturarla, construir el cuerpo de error y serializarlo.
+ *
+ * {@code legacy} reproduce el comportamiento anterior (RuntimeException con
+ * traza de pila y un ApiErrorResponse nuevo por respuesta) y {@code domain} el
+ * actual (excepción de dominio sin traza y cuerpo precalculado). La
+ * profundidad simula la pila de filtros, proxies y repositorios de una
+ * solicitud real. Ejecutar con:
+ * {@code mvn -Pbenchmark test-compile exec:exec -Djmh.args="NotFoundPath -prof gc"}
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class NotFoundPathBenchmark {
+
+    private static final String PATH = "/api/estudiante/123456";
+
+    @Param({ "30", "150" })
+    private int depth;
+
+    private ObjectMapper mapper;
+
+    @Setup
+    public void setUp() {
+        mapper = JsonMapper.builder().findAndAddModules().build();
+    }
+
+    @Benchmark
+    public byte[] legacy() throws JsonProcessingException {
+        try {
+            throwAt(depth, true);
+            return null;
+        } catch (LegacyStudentByIdException ex) {
+            return mapper.writeValueAsBytes(new ApiErrorResponse(HttpStatus.NOT_FOUND, ex.getMessage(), PATH));
+        }
+    }
+
+    @Benchmark
+    public byte[] domain() throws JsonProcessingException {
+        try {
+            throwAt(depth, false);
+            return null;
+        } catch (StudentByIdException ex) {
+            return mapper.writeValueAsBytes(ex.errorResponse());
+        }
+    }
+
+    private static void throwAt(int frames, boolean legacy) {
+        if (frames > 0) {
+            throwAt(frames - 1, legacy);
+            return;
+        }
+        if (legacy) {
+            throw new LegacyStudentByIdException();
+        }
+        throw new StudentByIdException();
+    }
+
+    /**
+     * Excepción equivalente a StudentByIdException antes de la jerarquía de
+     * dominio.
+     */
+    private static class LegacyStudentByIdException extends RuntimeException {
+
+        LegacyStudentByIdException() {
+            super("ESTUDIANTE CON ESE ID, NO ENCONTRADO");
+        }
+    }
+}
@@ -0,0 +1,161 @@
+package co.com.andres.university_campus_management.benchmark;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import co.com.andres.university_campus_management.config.exception.FieldViolation;
+import co.com.andres.university_campus_management.config.exception.couseException.CourseCodeValidException;
+import co.com.andres.university_campus_management.config.exception.couseException.CourseMaxCapacityValidException;
+import co.com.andres.university_campus_management.config.exception.enrollmentException.EnrollmentWithDateValidException;
+import co.com.andres.university_campus_management.config.exception.enrollmentException.EnrollmentWithIdCourseValidException;
+import co.com.andres.university_campus_management.config.exception.enrollmentException.EnrollmentWithIdSudentValidException;
+import co.com.andres.university_campus_management.config.exception.professorException.CourseWithIdProfessorValidException;
+import co.com.andres.university_campus_management.config.exception.professorException.ProfessorWithEmailValidException;
+import co.com.andres.university_campus_management.config.exception.professorException.ProfessorWithPhoneValidException;
+import co.com.andres.university_campus_management.config.exception.professorException.ProfessorWithRoleValidException;
+import co.com.andres.university_campus_management.config.exception.studentException.StudentWintEmailValidException;
+import co.com.andres.university_campus_management.config.exception.studentException.StudentWintNumberValidExeption;
+import co.com.andres.university_campus_management.config.exception.studentException.StudentWintPhoneValidException;
+import co.com.andres.university_campus_management.model.DTO.CourseRequest;
+import co.com.andres.university_campus_management.model.DTO.EnrollmentRequest;
+import co.com.andres.university_campus_management.model.DTO.ProfessorRequest;
+import co.com.andres.university_campus_management.model.DTO.StudentRequest;
+import co.com.andres.university_campus_management.utils.RequestValidator;
+
+/**
+ * Compara la validación de cada DTO de solicitud con las expresiones regulares
+ * originales ({@code String.matches}, un patrón compilado por llamada) y con
+ * el motor de reglas precompiladas y comprobaciones escritas a mano.
+ *
+ * Los métodos {@code regex*} reproducen las validaciones anteriores y se
+ * detienen en el primer error, como hacían los servicios; los métodos
+ * {@code engine*} usan las mismas reglas que los servicios y reúnen todos los
+ * incumplimientos. Con {@code valid=false} cada solicitud incumple todas sus
+ * reglas de formato. Ejecutar con:
+ * {@code mvn -Pbenchmark test-compile exec:exec -Djmh.args="RequestValidation -prof gc"}
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RequestValidationBenchmark {
+
+    private static final RequestValidator<StudentRequest> STUDENT_RULES = RequestValidator.<StudentRequest>builder()
+            .rule("email", StudentRequest::isValidEmail, new StudentWintEmailValidException())
+            .rule("phone", request -> "No especificado".equals(request.phone()) || request.isValidPhone(),
+                    new StudentWintPhoneValidException())
+            .rule("student_Number", StudentRequest::isValidStudentNumber, new StudentWintNumberValidExeption())
+            .build();
+
+    private static final RequestValidator<ProfessorRequest> PROFESSOR_RULES = RequestValidator.<ProfessorRequest>builder()
+            .rule("email", ProfessorRequest::isValidEmail, new ProfessorWithEmailValidException())
+            .rule("phone", ProfessorRequest::isValidPhone, new ProfessorWithPhoneValidException())
+            .rule("roles", ProfessorRequest::isValidRoles, new ProfessorWithRoleValidException())
+            .build();
+
+    private static final RequestValidator<CourseRequest> COURSE_RULES = RequestValidator.<CourseRequest>builder()
+            .rule("course_code", CourseRequest::isValidCourseCode, new CourseCodeValidException())
+            .rule("professor_id", CourseRequest::isValidProfessorId, new CourseWithIdProfessorValidException())
+            .rule("maximum_capacity", CourseRequest::isValidMaxCapacity, new CourseMaxCapacityValidException())
+            .build();
+
+    private static final RequestValidator<EnrollmentRequest> ENROLLMENT_RULES = RequestValidator.<EnrollmentRequest>builder()
+            .rule("course", EnrollmentRequest::isValidIdCourse, new EnrollmentWithIdCourseValidException())
+            .rule("student", EnrollmentRequest::isValidIdStudent, new EnrollmentWithIdSudentValidException())
+            .rule("enrollment_date", EnrollmentRequest::isValidEnrollmentDate, new EnrollmentWithDateValidException())
+            .build();
+
+    @Param({ "true", "false" })
+    private boolean valid;
+
+    private StudentRequest student;
+    private ProfessorRequest professor;
+    private CourseRequest course;
+    private EnrollmentRequest enrollment;
+
+    @Setup
+    public void setUp() {
+        if (valid) {
+            student = new StudentRequest("Luis Andres", "Rojas Acevedo", "andres.rojas@universidad.com",
+                    "Calle 123 #45-67", "3001234567", "2024001234", null, null, "Estudiante2024!");
+            professor = new ProfessorRequest("Luis Andres", "Rojas Acevedo", "andres.rojas@universidad.com",
+                    "+573001234567", "Calle 123 #45-67", Set.of("ROLE_PROFESSOR", "ROLE_ADMIN"), "Profesor2024!");
+            course = new CourseRequest("Programación Avanzada", "PROG-101", null, 5L, 30);
+            enrollment = new EnrollmentRequest(1L, 1L, LocalDate.now().plusDays(1), null);
+        } else {
+            student = new StudentRequest("Luis Andres", "Rojas Acevedo", "andres.rojas@gmail.com",
+                    "Calle 123 #45-67", "300-123-4567", "2024-0012", null, null, "Estudiante2024!");
+            professor = new ProfessorRequest("Luis Andres", "Rojas Acevedo", "andres.rojas@gmail.com",
+                    "300-123-4567", "Calle 123 #45-67", Set.of("ROLE_ROOT"), "Profesor2024!");
+            course = new CourseRequest("Programación Avanzada", "prog-101", null, 0L, 80);
+            enrollment = new EnrollmentRequest(0L, 0L, LocalDate.now().minusDays(1), null);
+        }
+    }
+
+    @Benchmark
+    public boolean regexStudent() {
+        return student.email().matches("^[A-Za-z0-9+_.-]+@universidad\\.com$")
+                && ("No especificado".equals(student.phone()) || student.phone().matches("^\\+?[0-9]{7,20}$"))
+                && student.studentNumber().matches("^[0-9]{8,10}$");
+    }
+
+    @Benchmark
+    public List<FieldViolation> engineStudent() {
+        return STUDENT_RULES.validate(student);
+    }
+
+    @Benchmark
+    public boolean regexProfessor() {
+        return professor.email().matches("^[A-Za-z0-9+_.-]+@universidad\\.com$")
+                && professor.roles().stream().map(rol -> rol.trim().toUpperCase())
+                        .allMatch(Set.of("ROLE_PROFESSOR", "ROLE_ADMIN")::contains)
+                && professor.phone().matches("^\\+?[0-9]{7,20}$");
+    }
+
+    @Benchmark
+    public List<FieldViolation> engineProfessor() {
+        return PROFESSOR_RULES.validate(professor);
+    }
+
+    @Benchmark
+    public boolean regexCourse() {
+        return course.courseCode().matches("^[A-Z]{3,4}-\\d{3}$")
+                && course.isValidProfessorId()
+                && course.isValidMaxCapacity();
+    }
+
+    @Benchmark
+    public List<FieldViolation> engineCourse() {
+        return COURSE_RULES.validate(course);
+    }
+
+    @Benchmark
+    public boolean regexEnrollment() {
+        return enrollment.isValidIdCourse()
+                && enrollment.isValidIdStudent()
+                && enrollment.enrollmentDate() != null
+                && !enrollment.enrollmentDate().isBefore(LocalDate.now())
+                && enrollment.enrollmentDate().toString().matches("\\d{4}-\\d{2}-\\d{2}");
+    }
+
+    @Benchmark
+    public List<FieldViolation> engineEnrollment() {
+        return ENROLLMENT_RULES.validate(enrollment);
+    }
+}
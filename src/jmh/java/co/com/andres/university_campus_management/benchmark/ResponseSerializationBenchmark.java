@@ -0,0 +1,102 @@
+package co.com.andres.university_campus_management.benchmark;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import co.com.andres.university_campus_management.model.DTO.CourseResponse;
+import co.com.andres.university_campus_management.model.DTO.EnrollmentResponse;
+import co.com.andres.university_campus_management.model.DTO.ProfessorResponse;
+import co.com.andres.university_campus_management.model.DTO.StudentResponse;
+import co.com.andres.university_campus_management.model.entity.EnrollmentState;
+
+/**
+ * Mide la serialización con Jackson de los records de respuesta.
+ *
+ * El {@link ObjectMapper} se configura como el de Spring Boot (módulos de
+ * fechas y fechas ISO en lugar de marcas de tiempo). {@code rows} es el número
+ * de elementos de la lista serializada: 1 para una consulta por ID y 100 para
+ * una página de listado. Ejecutar con:
+ * {@code mvn -Pbenchmark test-compile exec:exec -Djmh.args="ResponseSerialization -prof gc"}
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ResponseSerializationBenchmark {
+
+    @Param({ "1", "100" })
+    private int rows;
+
+    private ObjectMapper objectMapper;
+    private List<StudentResponse> students;
+    private List<ProfessorResponse> professors;
+    private List<CourseResponse> courses;
+    private List<EnrollmentResponse> enrollments;
+
+    @Setup
+    public void setUp() {
+        objectMapper = Jackson2ObjectMapperBuilder.json()
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+        var today = LocalDate.now();
+        students = LongStream.rangeClosed(1, rows)
+                .mapToObj(id -> new StudentResponse(id, "Luis Andres", "Rojas Acevedo",
+                        "estudiante" + id + "@universidad.com", "Calle 123 #45-67", "3001234567",
+                        String.valueOf(2024000000L + id), Set.of("ROLE_STUDENT")))
+                .toList();
+        professors = LongStream.rangeClosed(1, rows)
+                .mapToObj(id -> new ProfessorResponse(id, "Luis Andres", "Rojas Acevedo",
+                        "profesor" + id + "@universidad.com", "+573001234567", "Calle 123 #45-67",
+                        Set.of("ROLE_PROFESSOR")))
+                .toList();
+        courses = LongStream.rangeClosed(1, rows)
+                .mapToObj(id -> new CourseResponse(id, "Programación Avanzada " + id, "PROG-" + (100 + id % 900),
+                        "Estructuras de datos y algoritmos", 30, id % 10 + 1))
+                .toList();
+        enrollments = LongStream.rangeClosed(1, rows)
+                .mapToObj(id -> new EnrollmentResponse(id, id, id % 10 + 1, today, EnrollmentState.ACTIVE))
+                .toList();
+    }
+
+    @Benchmark
+    public byte[] students() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(students);
+    }
+
+    @Benchmark
+    public byte[] professors() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(professors);
+    }
+
+    @Benchmark
+    public byte[] courses() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(courses);
+    }
+
+    @Benchmark
+    public byte[] enrollments() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(enrollments);
+    }
+}
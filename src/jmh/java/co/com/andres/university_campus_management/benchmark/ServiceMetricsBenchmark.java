@@ -0,0 +1,111 @@
+package co.com.andres.university_campus_management.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.aop.framework.ProxyFactory;
+
+import co.com.andres.university_campus_management.config.ServiceMetricsInterceptor;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.config.MeterFilter;
+import io.micrometer.core.instrument.distribution.DistributionStatisticConfig;
+import io.micrometer.core.instrument.observation.DefaultMeterObservationHandler;
+import io.micrometer.observation.ObservationRegistry;
+import io.micrometer.prometheusmetrics.PrometheusConfig;
+import io.micrometer.prometheusmetrics.PrometheusMeterRegistry;
+
+/**
+ * Mide el coste del {@link ServiceMetricsInterceptor} sobre una llamada a un
+ * servicio.
+ *
+ * Ambos casos pasan por un proxy de Spring AOP con un interceptor que solo
+ * delega, como el de transacciones que ya tienen los servicios reales;
+ * {@code instrumented} añade el interceptor de métricas, cuya observación se
+ * convierte en un timer de Prometheus con histograma de percentiles, igual que
+ * en la aplicación (sin trazas: los spans solo se crean en las solicitudes
+ * muestreadas).
+ * {@code work} es el trabajo del método en tokens de
+ * {@link Blackhole#consumeCPU(long)}: 0 aísla el coste fijo y los demás lo
+ * ponen en proporción con métodos de decenas y cientos de microsegundos, más
+ * rápidos aun que una llamada con acceso a base de datos. El objetivo es menos
+ * de un 1% de diferencia en esos casos. Ejecutar con:
+ * {@code mvn -Pbenchmark test-compile exec:exec -Djmh.args="ServiceMetrics"}
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ServiceMetricsBenchmark {
+
+    @Param({ "0", "10000", "100000" })
+    private long work;
+
+    private CatalogService plain;
+    private CatalogService instrumented;
+
+    @Setup
+    public void setUp() {
+        var registry = new PrometheusMeterRegistry(PrometheusConfig.DEFAULT);
+        registry.config().meterFilter(new MeterFilter() {
+            @Override
+            public DistributionStatisticConfig configure(Meter.Id id, DistributionStatisticConfig config) {
+                return DistributionStatisticConfig.builder().percentilesHistogram(true).build().merge(config);
+            }
+        });
+        var observations = ObservationRegistry.create();
+        observations.observationConfig().observationHandler(new DefaultMeterObservationHandler(registry));
+        plain = proxy(null);
+        instrumented = proxy(new ServiceMetricsInterceptor(() -> observations));
+    }
+
+    @Benchmark
+    public long plain() {
+        return plain.find(work);
+    }
+
+    @Benchmark
+    public long instrumented() {
+        return instrumented.find(work);
+    }
+
+    private static CatalogService proxy(ServiceMetricsInterceptor metrics) {
+        var factory = new ProxyFactory(new CatalogServiceImpl());
+        factory.setProxyTargetClass(true);
+        if (metrics != null) {
+            factory.addAdvice(metrics);
+        }
+        factory.addAdvice((MethodInterceptor) invocation -> invocation.proceed());
+        return (CatalogService) factory.getProxy();
+    }
+
+    /**
+     * Servicio de ejemplo con la misma forma que los de la aplicación.
+     */
+    public interface CatalogService {
+
+        long find(long work);
+    }
+
+    public static class CatalogServiceImpl implements CatalogService {
+
+        @Override
+        public long find(long work) {
+            Blackhole.consumeCPU(work);
+            return work;
+        }
+    }
+}
@@ -0,0 +1,116 @@
+package co.com.andres.university_campus_management.benchmark;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+
+import co.com.andres.university_campus_management.model.DTO.SparseRows;
+import co.com.andres.university_campus_management.model.DTO.StudentResponse;
+import co.com.andres.university_campus_management.utils.FieldCatalog;
+import co.com.andres.university_campus_management.utils.FieldCatalog.Kind;
+
+/**
+ * Compara la serialización del listado completo de estudiantes con la del
+ * listado con campos seleccionados ({@code ?fields=id,name}).
+ *
+ * El tamaño de cada payload se imprime al preparar el estado; el tiempo de
+ * serialización lo mide JMH. Ejecutar con:
+ * {@code mvn -Pbenchmark test-compile exec:exec -Djmh.args="SparseFields"}
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SparseFieldsBenchmark {
+
+    @Param("100000")
+    private int rows;
+
+    private ObjectMapper mapper;
+    private List<StudentResponse> full;
+    private SparseRows sparse;
+
+    @Setup
+    public void setUp() throws IOException {
+        mapper = JsonMapper.builder().findAndAddModules().build();
+
+        var catalog = FieldCatalog.of("Student")
+                .field("id_student", "idStudent", Kind.NUMBER)
+                .field("name", "name", Kind.TEXT)
+                .field("last_name", "lastName", Kind.TEXT)
+                .field("email", "email", Kind.TEXT)
+                .alias("id", "id_student");
+        var fieldSet = catalog.resolve("id,name");
+
+        full = new ArrayList<>(rows);
+        var sparseRows = new ArrayList<Object[]>(rows);
+        for (int i = 0; i < rows; i++) {
+            long id = i + 1L;
+            var name = "Estudiante " + i;
+            full.add(new StudentResponse(id, name, "Apellido " + i, "estudiante" + i + "@universidad.com",
+                    "Calle " + i + " #45-67, Barrio Centro, Ciudad", "300" + (1_000_000 + i),
+                    String.valueOf(2_024_000_000L + i), Set.of("ROLE_STUDENT")));
+            sparseRows.add(new Object[] { id, name });
+        }
+        sparse = new SparseRows(fieldSet, sparseRows);
+
+        long fullBytes = write(full);
+        long sparseBytes = write(sparse);
+        System.out.printf("%nPayload con %d filas: completo %d bytes, id,name %d bytes (%.1f%%)%n",
+                rows, fullBytes, sparseBytes, 100.0 * sparseBytes / fullBytes);
+    }
+
+    @Benchmark
+    public long fullList() throws IOException {
+        return write(full);
+    }
+
+    @Benchmark
+    public long sparseList() throws IOException {
+        return write(sparse);
+    }
+
+    private long write(Object value) throws IOException {
+        var out = new CountingOutputStream();
+        mapper.writeValue(out, value);
+        return out.count;
+    }
+
+    /**
+     * Descarta los bytes escritos y solo cuenta cuántos fueron.
+     */
+    private static final class CountingOutputStream extends OutputStream {
+
+        private long count;
+
+        @Override
+        public void write(int b) {
+            count++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            count += len;
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package co.com.andres.university_campus_management.config;
+
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+import co.com.andres.university_campus_management.utils.BCryptCalibration;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Endpoint de Actuator que expone el resultado de la calibración de BCrypt.
+ *
+ * Disponible en {@code /actuator/bcrypt} para administradores; muestra el costo
+ * elegido, la latencia objetivo y el tiempo medido para cada costo evaluado.
+ *
+ * @author Andres
+ * @version 1.0
+ * @since 2024
+ */
+@Component
+@Endpoint(id = "bcrypt")
+@RequiredArgsConstructor
+public class BCryptCalibrationEndpoint {
+
+    private final BCryptCalibration calibration;
+
+    /**
+     * Devuelve la calibración realizada al arrancar la aplicación.
+     *
+     * @return Resultado de la calibración de BCrypt
+     */
+    @ReadOperation
+    public BCryptCalibration calibration() {
+        return calibration;
+    }
+}
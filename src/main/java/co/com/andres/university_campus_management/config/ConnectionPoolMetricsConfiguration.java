@@ -0,0 +1,95 @@
+package co.com.andres.university_campus_management.config;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import javax.sql.DataSource;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+import co.com.andres.university_campus_management.config.datasource.ReplicaRoutingDataSource;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Métricas del tiempo que cada solicitud retiene una conexión del pool.
+ *
+ * Hikari ya mide cuánto tiempo se usa cada conexión
+ * ({@code hikaricp.connections.usage}); con la sesión limitada a la
+ * transacción del servicio ese tiempo deja de incluir la serialización JSON
+ * y el resto de la solicitud. A partir de él se publica
+ * {@code datasource.connections.capacity}: cuántas conexiones por segundo
+ * puede entregar el pool con su tamaño actual (tamaño / tiempo medio de
+ * retención). Si el tiempo de retención baja, la capacidad sube sin añadir
+ * conexiones.
+ *
+ * @author Andres
+ * @version 1.0
+ * @since 2024
+ */
+@Slf4j
+@Configuration
+public class ConnectionPoolMetricsConfiguration {
+
+    /**
+     * Publica la capacidad de cada pool Hikari de la aplicación.
+     *
+     * @param dataSource DataSource de la aplicación
+     * @return Binder con la capacidad de cada pool
+     */
+    @Bean
+    MeterBinder connectionCapacityMetrics(DataSource dataSource) {
+        return registry -> {
+            for (var pool : pools(dataSource)) {
+                if (pool.getPoolName() == null) {
+                    // Sin nombre explícito Hikari lo asigna al arrancar el pool
+                    log.warn("Pool sin nombre (spring.datasource.hikari.pool-name): no se publica su capacidad");
+                    continue;
+                }
+                Gauge.builder("datasource.connections.capacity", pool, hikari -> capacity(registry, hikari))
+                        .tag("pool", pool.getPoolName())
+                        .baseUnit("connections.per.second")
+                        .description("Conexiones por segundo que el pool puede entregar con su tamaño actual")
+                        .register(registry);
+            }
+        };
+    }
+
+    /**
+     * Tamaño del pool dividido por el tiempo medio de retención de una conexión.
+     */
+    private static double capacity(MeterRegistry registry, HikariDataSource pool) {
+        Timer usage = registry.find("hikaricp.connections.usage").tag("pool", pool.getPoolName()).timer();
+        if (usage == null || usage.count() == 0) {
+            return Double.NaN;
+        }
+        double meanSeconds = usage.mean(TimeUnit.SECONDS);
+        return meanSeconds > 0 ? pool.getMaximumPoolSize() / meanSeconds : Double.NaN;
+    }
+
+    private static List<HikariDataSource> pools(DataSource dataSource) {
+        var pools = new ArrayList<HikariDataSource>();
+        try {
+            if (dataSource.isWrapperFor(ReplicaRoutingDataSource.class)) {
+                for (var target : dataSource.unwrap(ReplicaRoutingDataSource.class).getResolvedDataSources().values()) {
+                    if (target instanceof HikariDataSource hikari) {
+                        pools.add(hikari);
+                    }
+                }
+            } else if (dataSource.isWrapperFor(HikariDataSource.class)) {
+                pools.add(dataSource.unwrap(HikariDataSource.class));
+            }
+        } catch (SQLException ex) {
+            log.warn("No se pudieron registrar las métricas de capacidad del pool: {}", ex.getMessage());
+        }
+        return pools;
+    }
+}
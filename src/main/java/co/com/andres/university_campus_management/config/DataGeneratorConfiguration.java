@@ -0,0 +1,77 @@
+package co.com.andres.university_campus_management.config;
+
+import java.time.LocalDate;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import co.com.andres.university_campus_management.datagen.CampusDataGenerator;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Perfil "datagen": carga datos sintéticos en la base de datos y termina.
+ *
+ * Se usa como herramienta de línea de comandos, sin servidor web:
+ * {@code java -jar app.jar --spring.profiles.active=datagen --datagen.enrollments=10000000}.
+ * Las tablas las crea Hibernate al arrancar, como en la aplicación; el
+ * generador añade las filas a las existentes.
+ *
+ * @author Andres
+ * @version 1.0
+ * @since 2024
+ */
+@Slf4j
+@Configuration
+@Profile("datagen")
+public class DataGeneratorConfiguration {
+
+    /**
+     * Ejecuta la generación al terminar el arranque y cierra la aplicación
+     * con código 0 si la carga termina y 1 si falla.
+     *
+     * @param context Contexto de la aplicación
+     * @param dataSource Base de datos de destino
+     * @param passwordEncoder Codificador con el que se calcula el hash compartido
+     * @param seed Semilla de la generación
+     * @param professors Profesores a generar
+     * @param courses Cursos a generar
+     * @param students Estudiantes a generar
+     * @param enrollments Matrículas a generar
+     * @param password Contraseña de todos los usuarios generados
+     * @return Tarea de generación
+     */
+    @Bean
+    ApplicationRunner campusDataGeneratorRunner(ConfigurableApplicationContext context, DataSource dataSource,
+            PasswordEncoder passwordEncoder,
+            @Value("${datagen.seed:42}") long seed,
+            @Value("${datagen.professors:500}") int professors,
+            @Value("${datagen.courses:5000}") int courses,
+            @Value("${datagen.students:200000}") int students,
+            @Value("${datagen.enrollments:2000000}") long enrollments,
+            @Value("${datagen.password:Campus2024!}") String password) {
+        return args -> {
+            var exitCode = 0;
+            try {
+                var generator = new CampusDataGenerator(dataSource, passwordEncoder.encode(password));
+                var summary = generator.load(new CampusDataGenerator.Settings(seed, professors, courses, students,
+                        enrollments, LocalDate.now()));
+                log.info("Datos sintéticos cargados en {} s: {} profesores, {} cursos, {} estudiantes, {} matrículas {}",
+                        summary.elapsed().toMillis() / 1000.0, summary.professors(), summary.courses(),
+                        summary.students(), summary.enrollments(), summary.enrollmentStates());
+            } catch (Exception ex) {
+                log.error("Falló la generación de datos sintéticos; no se guardó ninguna fila", ex);
+                exitCode = 1;
+            }
+            var code = exitCode;
+            System.exit(SpringApplication.exit(context, () -> code));
+        };
+    }
+}
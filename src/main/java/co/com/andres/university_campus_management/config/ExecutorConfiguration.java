@@ -0,0 +1,54 @@
+package co.com.andres.university_campus_management.config;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.TaskDecorator;
+
+import co.com.andres.university_campus_management.utils.QueryCounter;
+
+/**
+ * Configuración de los ejecutores usados para paralelizar consultas.
+ *
+ * Las tareas @Async y las respuestas asíncronas de Spring MVC (exportaciones
+ * en streaming) usan el ejecutor {@code applicationTaskExecutor} de Spring
+ * Boot: un pool acotado por {@code spring.task.execution.pool.*} o, con
+ * {@code spring.threads.virtual.enabled=true}, un hilo virtual por tarea.
+ * Como {@link #fanOutExecutor()} también es un {@link java.util.concurrent.Executor},
+ * {@code spring.task.execution.mode=force} evita que Spring Boot deje de
+ * crear el suyo.
+ *
+ * @author Andres
+ * @version 1.0
+ * @since 2024
+ */
+@Configuration
+public class ExecutorConfiguration {
+
+    /**
+     * Ejecutor de hilos virtuales para lanzar en paralelo las partes
+     * independientes de una misma solicitud (por ejemplo, la vista agregada
+     * del estudiante). Cada tarea obtiene su propio hilo virtual, así que no
+     * hay un pool que dimensionar; el límite real lo pone el pool de conexiones.
+     *
+     * @return Ejecutor con un hilo virtual por tarea
+     */
+    @Bean(destroyMethod = "close")
+    public ExecutorService fanOutExecutor() {
+        return Executors.newVirtualThreadPerTaskExecutor();
+    }
+
+    /**
+     * Decorador que Spring Boot aplica a {@code applicationTaskExecutor}, para
+     * que las sentencias SQL de una tarea asíncrona (como el cuerpo de una
+     * exportación) se sumen al contador de la solicitud que la lanzó.
+     *
+     * @return Decorador que propaga el {@link QueryCounter}
+     */
+    @Bean
+    public TaskDecorator queryCounterTaskDecorator() {
+        return QueryCounter::propagate;
+    }
+}
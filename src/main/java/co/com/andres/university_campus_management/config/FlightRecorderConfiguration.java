@@ -0,0 +1,47 @@
+package co.com.andres.university_campus_management.config;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.util.unit.DataSize;
+
+import co.com.andres.university_campus_management.jfr.FlightRecording;
+
+/**
+ * Perfil "jfr": graba los eventos de negocio (matrículas, inicios de sesión,
+ * verificación de JWT y búsquedas) junto con los eventos del JDK.
+ *
+ * Fuera de este perfil los eventos propios están deshabilitados y no cuestan
+ * más que la comprobación de {@code shouldCommit()}. La grabación se resume
+ * con {@code co.com.andres.university_campus_management.jfr.JfrReport}.
+ *
+ * @author Andres
+ * @version 1.0
+ * @since 2024
+ */
+@Configuration
+@Profile("jfr")
+public class FlightRecorderConfiguration {
+
+    /**
+     * Crea e inicia la grabación; se detiene y vuelca al cerrar el contexto.
+     *
+     * @param file Archivo .jfr de salida
+     * @param jdkSettings Configuración del JDK a combinar (default o profile)
+     * @param maxAge Antigüedad máxima de los datos retenidos
+     * @param maxSize Tamaño máximo de los datos retenidos
+     * @return Grabación en curso
+     */
+    @Bean(initMethod = "start", destroyMethod = "stop")
+    FlightRecording flightRecording(
+            @Value("${jfr.file:university-campus.jfr}") Path file,
+            @Value("${jfr.jdk-settings:profile}") String jdkSettings,
+            @Value("${jfr.max-age:6h}") Duration maxAge,
+            @Value("${jfr.max-size:250MB}") DataSize maxSize) {
+        return new FlightRecording(file, jdkSettings, maxAge, maxSize.toBytes());
+    }
+}
@@ -0,0 +1,214 @@
+package co.com.andres.university_campus_management.config;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.HexFormat;
+import java.util.Set;
+
+import org.springframework.http.MediaType;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import co.com.andres.university_campus_management.config.exception.DomainException;
+import co.com.andres.university_campus_management.config.exception.idempotencyException.IdempotencyKeyValidException;
+import co.com.andres.university_campus_management.utils.IdempotencyStore;
+import co.com.andres.university_campus_management.utils.IdempotencyStore.StoredResponse;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Filtro que hace idempotentes los endpoints de creación (POST) cuando el
+ * cliente envía la cabecera {@code Idempotency-Key}.
+ *
+ * La primera solicitud con una clave se procesa normalmente y su respuesta se
+ * guarda; los reintentos con la misma clave reciben la respuesta guardada, con
+ * la cabecera {@code Idempotent-Replayed: true}, sin volver a ejecutar el
+ * servicio. La clave se acota por usuario autenticado y ruta, y se compara el
+ * hash del cuerpo para rechazar su reutilización con otra solicitud.
+ *
+ * Se ejecuta después de la cadena de Spring Security, por lo que el usuario
+ * ya está autenticado. Sin la cabecera, la solicitud sigue su curso sin
+ * cambios.
+ *
+ * @author Andres
+ * @version 1.0
+ * @since 2024
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class IdempotencyFilter extends OncePerRequestFilter {
+
+    public static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+    public static final String REPLAYED_HEADER = "Idempotent-Replayed";
+
+    /**
+     * Longitud máxima de la clave enviada por el cliente.
+     */
+    private static final int MAX_KEY_LENGTH = 255;
+
+    /**
+     * Endpoints de creación que admiten la cabecera.
+     */
+    private static final Set<String> CREATE_PATHS = Set.of(
+            "/api/estudiante", "/api/profesor", "/api/curso", "/api/inscripcion");
+
+    private final IdempotencyStore idempotencyStore;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !"POST".equals(request.getMethod())
+                || !CREATE_PATHS.contains(path(request))
+                || request.getHeader(IDEMPOTENCY_KEY_HEADER) == null;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        try {
+            var key = request.getHeader(IDEMPOTENCY_KEY_HEADER).trim();
+            if (key.isEmpty() || key.length() > MAX_KEY_LENGTH) {
+                throw new IdempotencyKeyValidException();
+            }
+
+            byte[] body = request.getInputStream().readAllBytes();
+            var requestHash = sha256(body);
+            var scopedKey = principal() + " " + path(request) + " " + key;
+
+            var outcome = idempotencyStore.execute(scopedKey, requestHash, () -> {
+                var captured = new ContentCachingResponseWrapper(response);
+                filterChain.doFilter(new CachedBodyRequest(request, body), captured);
+                var stored = new StoredResponse(requestHash, captured.getStatus(), captured.getContentType(),
+                        new String(captured.getContentAsByteArray(), StandardCharsets.UTF_8), Instant.now());
+                captured.copyBodyToResponse();
+                return stored;
+            });
+
+            if (outcome.replayed()) {
+                log.info("Respuesta repetida para la clave de idempotencia: {}", key);
+                var stored = outcome.response();
+                response.setStatus(stored.status());
+                response.setHeader(REPLAYED_HEADER, "true");
+                if (stored.contentType() != null) {
+                    response.setContentType(stored.contentType());
+                }
+                response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+                response.getWriter().write(stored.body());
+            }
+        } catch (DomainException ex) {
+            response.setStatus(ex.getStatus().value());
+            response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+            objectMapper.writeValue(response.getOutputStream(), ex.errorResponse());
+        }
+    }
+
+    private static String path(HttpServletRequest request) {
+        return request.getRequestURI().substring(request.getContextPath().length());
+    }
+
+    private static String principal() {
+        var authentication = SecurityContextHolder.getContext().getAuthentication();
+        return authentication != null ? authentication.getName() : "anonymous";
+    }
+
+    private static String sha256(byte[] body) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(body));
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+
+    /**
+     * Solicitud cuyo cuerpo ya se leyó para calcular su hash y se vuelve a
+     * ofrecer a los siguientes filtros y al controlador.
+     */
+    static final class CachedBodyRequest extends HttpServletRequestWrapper {
+
+        private final byte[] body;
+
+        CachedBodyRequest(HttpServletRequest request, byte[] body) {
+            super(request);
+            this.body = body;
+        }
+
+        @Override
+        public ServletInputStream getInputStream() {
+            var input = new ByteArrayInputStream(body);
+            return new ServletInputStream() {
+
+                @Override
+                public int read() {
+                    return input.read();
+                }
+
+                @Override
+                public int read(byte[] buffer, int offset, int length) {
+                    return input.read(buffer, offset, length);
+                }
+
+                @Override
+                public boolean isFinished() {
+                    return input.available() == 0;
+                }
+
+                @Override
+                public boolean isReady() {
+                    return true;
+                }
+
+                /**
+                 * El cuerpo ya está en memoria: se notifica de inmediato que hay
+                 * datos y, cuando el oyente los consume, que se leyeron todos.
+                 */
+                @Override
+                public void setReadListener(ReadListener listener) {
+                    try {
+                        if (!isFinished()) {
+                            listener.onDataAvailable();
+                        }
+                        if (isFinished()) {
+                            listener.onAllDataRead();
+                        }
+                    } catch (IOException | RuntimeException ex) {
+                        listener.onError(ex);
+                    }
+                }
+            };
+        }
+
+        @Override
+        public BufferedReader getReader() {
+            return new BufferedReader(new InputStreamReader(getInputStream(), StandardCharsets.UTF_8));
+        }
+
+        @Override
+        public int getContentLength() {
+            return body.length;
+        }
+
+        @Override
+        public long getContentLengthLong() {
+            return body.length;
+        }
+    }
+}
@@ -11,7 +11,10 @@ import org.springframework.security.web.authentication.WebAuthenticationDetailsS
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
+import co.com.andres.university_campus_management.jfr.JwtVerificationEvent;
 import co.com.andres.university_campus_management.utils.JwtUtil;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -40,6 +43,12 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
      */
     private final JwtUtil jwtUtil;
 
+    /**
+     * Registro de observaciones: la verificación del token es un span propio
+     * dentro de la cadena de seguridad.
+     */
+    private final ObservationRegistry observationRegistry;
+
     /**
      * Procesa internamente cada solicitud HTTP para autenticación JWT.
      * 
@@ -72,34 +81,47 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
         // Extrae el token eliminando el prefijo "Bearer "
         var token = authHeader.substring(7);
-        var email = jwtUtil.extractUsername(token);
-
-        // Verifica si se pudo extraer el email y no hay autenticación previa en el contexto
-        if (email != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-            
-            // Extrae y mapea los roles del token a autoridades de Spring Security
-            var roles = jwtUtil.extractRoles(token).stream()
-                    .map(SimpleGrantedAuthority::new)
-                    .toList();
-
-            // Valida el token JWT
-            if (jwtUtil.validateToken(token, email)) {
-                // Crea un objeto User de Spring Security con el email y roles
-                var user = new User(email, "", roles);
-                
-                // Crea el token de autenticación
-                var authToken = new UsernamePasswordAuthenticationToken(user, null, roles);
-                
-                // Establece los detalles de la autenticación
-                authToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
-                
-                // Establece la autenticación en el contexto de seguridad
-                SecurityContextHolder.getContext().setAuthentication(authToken);
-                
-                log.debug("Autenticación JWT exitosa para el usuario: {}", email);
-            } else {
-                log.warn("Token JWT inválido para el usuario: {}", email);
+        var event = JwtVerificationEvent.start();
+        var observation = Observation.start("jwt.verification", observationRegistry);
+        try (var scope = observation.openScope()) {
+            var email = jwtUtil.extractUsername(token);
+
+            // Verifica si se pudo extraer el email y no hay autenticación previa en el contexto
+            if (email != null && SecurityContextHolder.getContext().getAuthentication() == null) {
+
+                // Extrae y mapea los roles del token a autoridades de Spring Security
+                var roles = jwtUtil.extractRoles(token).stream()
+                        .map(SimpleGrantedAuthority::new)
+                        .toList();
+
+                // Valida el token JWT
+                var valid = jwtUtil.validateToken(token, email);
+                event.valid(valid);
+                if (valid) {
+                    // Crea un objeto User de Spring Security con el email y roles
+                    var user = new User(email, "", roles);
+
+                    // Crea el token de autenticación
+                    var authToken = new UsernamePasswordAuthenticationToken(user, null, roles);
+
+                    // Establece los detalles de la autenticación
+                    authToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+
+                    // Establece la autenticación en el contexto de seguridad
+                    SecurityContextHolder.getContext().setAuthentication(authToken);
+
+                    log.debug("Autenticación JWT exitosa para el usuario: {}", email);
+                } else {
+                    log.warn("Token JWT inválido para el usuario: {}", email);
+                }
             }
+        } catch (RuntimeException ex) {
+            event.failure(ex);
+            observation.error(ex);
+            throw ex;
+        } finally {
+            event.finish();
+            observation.stop();
         }
 
         // Continúa con la cadena de filtros
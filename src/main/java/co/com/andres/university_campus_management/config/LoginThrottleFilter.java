@@ -0,0 +1,73 @@
+package co.com.andres.university_campus_management.config;
+
+import java.io.IOException;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import co.com.andres.university_campus_management.config.exception.authenticate.LoginThrottledException;
+import co.com.andres.university_campus_management.utils.LoginThrottle;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Filtro que limita los intentos de inicio de sesión por IP del cliente.
+ *
+ * Se ejecuta antes de leer el cuerpo de la solicitud, de modo que una ráfaga
+ * de intentos desde una misma IP se rechaza con 429 sin llegar a consultar
+ * los repositorios ni a verificar contraseñas con BCrypt. El límite por email
+ * se aplica en el servicio de autenticación, una vez conocido el email.
+ *
+ * @author Andres
+ * @version 1.0
+ * @since 2024
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LoginThrottleFilter extends OncePerRequestFilter {
+
+    /**
+     * Prefijo de los endpoints de autenticación protegidos por el filtro.
+     */
+    private static final String AUTHENTICATE_PATH = "/authenticate";
+
+    private final LoginThrottle loginThrottle;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * Solo se filtran las solicitudes POST a los endpoints de autenticación.
+     */
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !"POST".equals(request.getMethod())
+                || !request.getServletPath().startsWith(AUTHENTICATE_PATH);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+
+        var ip = request.getRemoteAddr();
+        if (loginThrottle.tryAcquireIp(ip)) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        log.warn("Intentos de inicio de sesión limitados para la IP: {}", ip);
+        var exception = new LoginThrottledException();
+        response.setStatus(exception.getStatus().value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(loginThrottle.retryAfterSeconds()));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(), exception.errorResponse());
+    }
+}
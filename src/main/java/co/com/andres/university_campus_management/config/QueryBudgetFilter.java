@@ -0,0 +1,155 @@
+package co.com.andres.university_campus_management.config;
+
+import java.io.IOException;
+import java.util.Locale;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.core.env.Environment;
+import org.springframework.core.env.Profiles;
+import org.springframework.security.web.util.OnCommittedResponseWrapper;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerMapping;
+
+import co.com.andres.university_campus_management.utils.QueryBudget;
+import co.com.andres.university_campus_management.utils.QueryCounter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Filtro que cuenta las sentencias SQL de cada solicitud.
+ *
+ * Abre un {@link QueryCounter} para la solicitud y, al terminar:
+ * - Fuera del perfil "prod" añade las cabeceras {@code X-Query-Count} y
+ *   {@code X-DB-Time} (milisegundos en base de datos) a la respuesta
+ * - Registra una advertencia si el endpoint superó su {@link QueryBudget} (o
+ *   {@code query-budget.default} si no declara uno)
+ * - Registra una advertencia de posible N+1 si una misma sentencia se repitió
+ *   al menos {@code query-budget.repeated-threshold} veces
+ *
+ * Se ejecuta antes que la cadena de Spring Security para incluir todas las
+ * sentencias de la solicitud. En las respuestas en streaming las cabeceras y
+ * el presupuesto solo cubren las sentencias ejecutadas antes de empezar a
+ * escribir el cuerpo; las del cuerpo se suman después al mismo contador.
+ *
+ * Publica los contadores {@code query.budget.exceeded} y
+ * {@code query.repeated.detected}, etiquetados por endpoint.
+ *
+ * Las sentencias las cuenta el DataSource de medición de
+ * {@link SlowQueryLogConfiguration}, que se instala mientras este filtro esté
+ * activo aunque el registro de sentencias lentas no lo esté. Se desactiva con
+ * {@code query-budget.enabled=false}.
+ *
+ * @author Andres
+ * @version 1.0
+ * @since 2024
+ */
+@Slf4j
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@ConditionalOnProperty(name = "query-budget.enabled", havingValue = "true", matchIfMissing = true)
+public class QueryBudgetFilter extends OncePerRequestFilter {
+
+    public static final String QUERY_COUNT_HEADER = "X-Query-Count";
+    public static final String DB_TIME_HEADER = "X-DB-Time";
+
+    /**
+     * Atributo de la solicitud con su {@link QueryCounter}.
+     */
+    public static final String COUNTER_ATTRIBUTE = QueryCounter.class.getName();
+
+    private final MeterRegistry meterRegistry;
+    private final int defaultBudget;
+    private final int repeatedThreshold;
+    private final boolean headers;
+
+    public QueryBudgetFilter(MeterRegistry meterRegistry, Environment environment,
+            @Value("${query-budget.default:20}") int defaultBudget,
+            @Value("${query-budget.repeated-threshold:5}") int repeatedThreshold) {
+        this.meterRegistry = meterRegistry;
+        this.defaultBudget = defaultBudget;
+        this.repeatedThreshold = repeatedThreshold;
+        this.headers = !environment.acceptsProfiles(Profiles.of("prod"));
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+            FilterChain filterChain) throws ServletException, IOException {
+        var counter = QueryCounter.start();
+        request.setAttribute(COUNTER_ATTRIBUTE, counter);
+        var wrapped = headers ? new CountingHeadersResponse(response, counter) : response;
+        try {
+            filterChain.doFilter(request, wrapped);
+        } finally {
+            QueryCounter.stop();
+            if (headers && !response.isCommitted()) {
+                writeHeaders(response, counter);
+            }
+            check(request, counter);
+        }
+    }
+
+    private void check(HttpServletRequest request, QueryCounter counter) {
+        if (!(request.getAttribute(HandlerMapping.BEST_MATCHING_HANDLER_ATTRIBUTE) instanceof HandlerMethod handler)) {
+            return;
+        }
+        var endpoint = request.getMethod() + " "
+                + request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        var annotation = handler.getMethodAnnotation(QueryBudget.class);
+        int budget = annotation != null ? annotation.value() : defaultBudget;
+        long count = counter.count();
+        var mostRepeated = counter.mostRepeated();
+
+        if (count > budget) {
+            log.warn("El endpoint {} ejecutó {} sentencias SQL, por encima de su presupuesto de {}. Más repetida: {}",
+                    endpoint, count, budget, mostRepeated.map(Object::toString).orElse("-"));
+            Counter.builder("query.budget.exceeded")
+                    .description("Solicitudes que superaron su presupuesto de sentencias SQL")
+                    .tag("endpoint", endpoint)
+                    .register(meterRegistry)
+                    .increment();
+        }
+        mostRepeated.filter(entry -> entry.getValue() >= repeatedThreshold).ifPresent(entry -> {
+            log.warn("Posible N+1 en {}: la sentencia '{}' se ejecutó {} veces en la misma solicitud",
+                    endpoint, entry.getKey(), entry.getValue());
+            Counter.builder("query.repeated.detected")
+                    .description("Solicitudes que repitieron una misma sentencia SQL (posible N+1)")
+                    .tag("endpoint", endpoint)
+                    .register(meterRegistry)
+                    .increment();
+        });
+    }
+
+    private static void writeHeaders(HttpServletResponse response, QueryCounter counter) {
+        response.setHeader(QUERY_COUNT_HEADER, Long.toString(counter.count()));
+        response.setHeader(DB_TIME_HEADER, String.format(Locale.ROOT, "%.3f", counter.databaseMillis()));
+    }
+
+    /**
+     * Respuesta que escribe las cabeceras del contador justo antes de enviarse
+     * al cliente, cuando ya no se pueden añadir después de la cadena.
+     */
+    private static final class CountingHeadersResponse extends OnCommittedResponseWrapper {
+
+        private final QueryCounter counter;
+
+        CountingHeadersResponse(HttpServletResponse response, QueryCounter counter) {
+            super(response);
+            this.counter = counter;
+        }
+
+        @Override
+        protected void onResponseCommitted() {
+            writeHeaders((HttpServletResponse) getResponse(), counter);
+        }
+    }
+}
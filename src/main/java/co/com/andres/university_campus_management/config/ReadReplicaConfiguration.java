@@ -0,0 +1,157 @@
+package co.com.andres.university_campus_management.config;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.autoconfigure.transaction.TransactionManagerCustomizers;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.util.StringUtils;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+
+import co.com.andres.university_campus_management.config.datasource.ReplicaLagMonitor;
+import co.com.andres.university_campus_management.config.datasource.ReplicaRoutingDataSource;
+import co.com.andres.university_campus_management.config.datasource.ReplicaRoutingTransactionManager;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Configuración de las réplicas de lectura.
+ *
+ * Se activa al definir {@code datasource.replica.urls} (URLs JDBC separadas
+ * por comas). El DataSource de la aplicación pasa a ser un
+ * {@link ReplicaRoutingDataSource} detrás de un
+ * {@link LazyConnectionDataSourceProxy}: las transacciones
+ * {@code @Transactional(readOnly = true)} se reparten entre las réplicas y el
+ * resto va al primario definido en {@code spring.datasource.*}.
+ *
+ * Cada réplica tiene su propio pool Hikari de solo lectura (tamaño
+ * {@code datasource.replica.pool-size}); usuario y contraseña se toman de
+ * {@code datasource.replica.username/password} o, si no se definen, del
+ * primario. Todos los pools publican sus métricas {@code hikaricp.*}.
+ *
+ * @author Andres
+ * @version 1.0
+ * @since 2024
+ */
+@Slf4j
+@Configuration
+@ConditionalOnProperty(name = "datasource.replica.urls")
+public class ReadReplicaConfiguration {
+
+    /**
+     * Crea el DataSource de enrutamiento entre el primario y las réplicas.
+     *
+     * @param properties Propiedades spring.datasource.* del primario
+     * @param environment Entorno para leer la configuración de los pools
+     * @param meterRegistry Registro de métricas
+     * @param replicaUrls URLs JDBC de las réplicas
+     * @param maxLagMillis Retraso máximo de una réplica para recibir lecturas
+     * @param stickyWindowMillis Ventana de lectura en el primario tras una escritura del usuario
+     * @return DataSource de enrutamiento
+     */
+    @Bean(destroyMethod = "close")
+    ReplicaRoutingDataSource replicaRoutingDataSource(DataSourceProperties properties, Environment environment,
+            MeterRegistry meterRegistry,
+            @Value("${datasource.replica.urls}") String[] replicaUrls,
+            @Value("${datasource.replica.max-lag-ms:5000}") long maxLagMillis,
+            @Value("${datasource.replica.sticky-window-ms:5000}") long stickyWindowMillis) {
+        var metrics = new MicrometerMetricsTrackerFactory(meterRegistry);
+
+        var primary = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        Binder.get(environment).bind("spring.datasource.hikari", Bindable.ofInstance(primary));
+        primary.setPoolName(ReplicaRoutingDataSource.PRIMARY);
+        primary.setMetricsTrackerFactory(metrics);
+
+        var username = environment.getProperty("datasource.replica.username", properties.determineUsername());
+        var password = environment.getProperty("datasource.replica.password", properties.determinePassword());
+        int poolSize = environment.getProperty("datasource.replica.pool-size", Integer.class, 10);
+
+        var replicas = new LinkedHashMap<String, DataSource>();
+        for (int i = 0; i < replicaUrls.length; i++) {
+            var url = replicaUrls[i].trim();
+            if (!StringUtils.hasText(url)) {
+                continue;
+            }
+            var replica = new HikariDataSource();
+            replica.setPoolName("replica-" + (i + 1));
+            replica.setJdbcUrl(url);
+            replica.setUsername(username);
+            replica.setPassword(password);
+            replica.setMaximumPoolSize(poolSize);
+            replica.setReadOnly(true);
+            replica.setMetricsTrackerFactory(metrics);
+            replicas.put(replica.getPoolName(), replica);
+        }
+
+        log.info("Lecturas repartidas entre {} réplicas (retraso máximo {} ms, ventana tras escritura {} ms)",
+                replicas.size(), maxLagMillis, stickyWindowMillis);
+        return new ReplicaRoutingDataSource(primary, replicas, maxLagMillis, stickyWindowMillis, meterRegistry);
+    }
+
+    /**
+     * DataSource de la aplicación. Retrasa la obtención de la conexión física
+     * hasta la primera sentencia, cuando la transacción ya indica si es de
+     * solo lectura.
+     *
+     * @param replicaRoutingDataSource DataSource de enrutamiento
+     * @return DataSource principal de la aplicación
+     */
+    @Bean
+    @Primary
+    DataSource dataSource(ReplicaRoutingDataSource replicaRoutingDataSource) {
+        return new LazyConnectionDataSourceProxy(replicaRoutingDataSource);
+    }
+
+    /**
+     * Gestor de transacciones de la aplicación. Sustituye al de Spring Boot
+     * para fijar el destino de las transacciones de solo lectura al empezar.
+     *
+     * @param replicaRoutingDataSource DataSource de enrutamiento
+     * @param customizers Personalizaciones de Spring Boot (spring.transaction.*)
+     * @return Gestor de transacciones JPA
+     */
+    @Bean
+    PlatformTransactionManager transactionManager(ReplicaRoutingDataSource replicaRoutingDataSource,
+            ObjectProvider<TransactionManagerCustomizers> customizers) {
+        var transactionManager = new ReplicaRoutingTransactionManager(replicaRoutingDataSource);
+        customizers.ifAvailable(customizer -> customizer.customize(transactionManager));
+        return transactionManager;
+    }
+
+    /**
+     * Crea el monitor del retraso de replicación.
+     *
+     * Sin {@code datasource.replica.lag-query} se usa la consulta de una
+     * réplica en espera de PostgreSQL.
+     *
+     * @param replicaRoutingDataSource DataSource de enrutamiento
+     * @param environment Entorno para leer la consulta de retraso
+     * @param queryTimeoutSeconds Tiempo máximo de cada medición
+     * @return Monitor del retraso de las réplicas
+     */
+    @Bean
+    ReplicaLagMonitor replicaLagMonitor(ReplicaRoutingDataSource replicaRoutingDataSource, Environment environment,
+            @Value("${datasource.replica.lag-query-timeout-s:2}") int queryTimeoutSeconds) {
+        var lagQuery = environment.getProperty("datasource.replica.lag-query", ReplicaLagMonitor.POSTGRES_LAG_QUERY);
+        Map<String, DataSource> replicas = new LinkedHashMap<>();
+        for (var key : replicaRoutingDataSource.replicaKeys()) {
+            replicas.put(key, replicaRoutingDataSource.getResolvedDataSources().get(key));
+        }
+        return new ReplicaLagMonitor(replicaRoutingDataSource, replicas, lagQuery, queryTimeoutSeconds);
+    }
+}
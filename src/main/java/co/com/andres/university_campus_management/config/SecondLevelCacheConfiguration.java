@@ -0,0 +1,147 @@
+package co.com.andres.university_campus_management.config;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.List;
+import java.util.OptionalLong;
+import java.util.UUID;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.JCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Configuración de la caché de segundo nivel de Hibernate (JCache con Caffeine).
+ *
+ * Cursos y profesores cambian pocas veces por periodo, pero se leen en casi
+ * todas las solicitudes, así que sus entidades, los roles de los profesores y
+ * la consulta por código de curso se guardan en regiones de caché acotadas:
+ * - Cada región tiene un tamaño máximo y un tiempo de vida, configurables con
+ *   {@code cache.l2.regions.<región>.max-size} y {@code .ttl}; los valores por
+ *   defecto son {@code cache.l2.default.max-size} y {@code cache.l2.default.ttl}
+ * - Solo existen las regiones declaradas aquí: Hibernate falla al arrancar si
+ *   una entidad pide una región desconocida, en lugar de crear una sin límites
+ * - Las estadísticas de cada región (aciertos, fallos, expulsiones) se publican
+ *   como métricas {@code cache.*} con la etiqueta {@code cache=<región>}
+ * - Con réplicas de lectura ({@code datasource.replica.urls}), las regiones de
+ *   consultas viven como mucho {@code cache.l2.replica.query-ttl}: un resultado
+ *   leído de una réplica atrasada puede entrar en ellas (ver
+ *   {@code ReplicaRoutingDataSource})
+ *
+ * @author Andres
+ * @version 1.0
+ * @since 2024
+ */
+@Slf4j
+@Configuration
+public class SecondLevelCacheConfiguration {
+
+    /**
+     * Regiones declaradas en las entidades y en las consultas cacheables.
+     */
+    private static final String COURSE_REGION = "course";
+    private static final String PROFESSOR_REGION = "professor";
+    private static final String PROFESSOR_ROLES_REGION = "professor.roles";
+    private static final String COURSE_BY_CODE_REGION = "course.byCode";
+
+    /**
+     * Regiones internas de Hibernate para la caché de consultas. La de marcas
+     * de tiempo no expira: si perdiera una entrada antes que los resultados,
+     * una consulta en caché podría devolver datos ya modificados.
+     */
+    private static final String QUERY_RESULTS_REGION = "default-query-results-region";
+    private static final String UPDATE_TIMESTAMPS_REGION = "default-update-timestamps-region";
+
+    private static final List<String> REGIONS = List.of(COURSE_REGION, PROFESSOR_REGION,
+            PROFESSOR_ROLES_REGION, COURSE_BY_CODE_REGION, QUERY_RESULTS_REGION, UPDATE_TIMESTAMPS_REGION);
+
+    /**
+     * Regiones que guardan resultados de consultas.
+     */
+    private static final List<String> QUERY_REGIONS = List.of(COURSE_BY_CODE_REGION, QUERY_RESULTS_REGION);
+
+    /**
+     * Crea el gestor de cachés con una caché acotada por cada región.
+     *
+     * Cada contexto de Spring usa su propio gestor (URI único), de modo que
+     * varios contextos en la misma JVM no comparten ni cierran las regiones
+     * de otro.
+     *
+     * @param environment Entorno para leer el tamaño y el tiempo de vida de cada región
+     *        y si hay réplicas de lectura
+     * @return Gestor de cachés JCache
+     */
+    @Bean(destroyMethod = "close")
+    CacheManager hibernateCacheManager(Environment environment) {
+        var provider = Caching.getCachingProvider(CaffeineCachingProvider.class.getName());
+        var cacheManager = provider.getCacheManager(URI.create("hibernate-l2-" + UUID.randomUUID()),
+                provider.getDefaultClassLoader());
+
+        long defaultMaxSize = environment.getProperty("cache.l2.default.max-size", Long.class, 10_000L);
+        var defaultTtl = environment.getProperty("cache.l2.default.ttl", Duration.class, Duration.ofHours(1));
+        var replicaQueryTtl = environment.containsProperty("datasource.replica.urls")
+                ? environment.getProperty("cache.l2.replica.query-ttl", Duration.class, Duration.ofSeconds(30))
+                : null;
+
+        for (var region : REGIONS) {
+            var prefix = "cache.l2.regions." + region;
+            long maxSize = environment.getProperty(prefix + ".max-size", Long.class, defaultMaxSize);
+            var ttl = region.equals(UPDATE_TIMESTAMPS_REGION)
+                    ? Duration.ZERO
+                    : environment.getProperty(prefix + ".ttl", Duration.class, defaultTtl);
+            if (replicaQueryTtl != null && QUERY_REGIONS.contains(region)
+                    && (ttl.isZero() || ttl.compareTo(replicaQueryTtl) > 0)) {
+                ttl = replicaQueryTtl;
+            }
+
+            var configuration = new CaffeineConfiguration<Object, Object>();
+            configuration.setMaximumSize(OptionalLong.of(maxSize));
+            if (!ttl.isZero()) {
+                configuration.setExpireAfterWrite(OptionalLong.of(ttl.toNanos()));
+            }
+            configuration.setStatisticsEnabled(true);
+            cacheManager.createCache(region, configuration);
+            log.info("Región de caché de segundo nivel '{}': máximo {} entradas, vida {}", region, maxSize,
+                    ttl.isZero() ? "sin límite" : ttl);
+        }
+        return cacheManager;
+    }
+
+    /**
+     * Entrega a Hibernate el gestor de cachés con las regiones ya creadas.
+     *
+     * @param hibernateCacheManager Gestor de cachés de segundo nivel
+     * @return Personalizador de las propiedades de Hibernate
+     */
+    @Bean
+    HibernatePropertiesCustomizer secondLevelCacheCustomizer(CacheManager hibernateCacheManager) {
+        return properties -> {
+            properties.put(ConfigSettings.CACHE_MANAGER, hibernateCacheManager);
+            properties.put(ConfigSettings.MISSING_CACHE_STRATEGY, "fail");
+        };
+    }
+
+    /**
+     * Publica las estadísticas de cada región de caché.
+     *
+     * @param hibernateCacheManager Gestor de cachés de segundo nivel
+     * @return Binder con las métricas de las regiones
+     */
+    @Bean
+    MeterBinder secondLevelCacheMetrics(CacheManager hibernateCacheManager) {
+        return registry -> REGIONS.forEach(region ->
+                JCacheMetrics.monitor(registry, hibernateCacheManager.getCache(region)));
+    }
+}
@@ -1,17 +1,30 @@
 package co.com.andres.university_campus_management.config;
 
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.annotation.Order;
 import org.springframework.http.HttpMethod;
 import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.authentication.ProviderManager;
+import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
+import org.springframework.security.config.Customizer;
 import org.springframework.security.config.annotation.authentication.configuration.AuthenticationConfiguration;
 import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
+import org.springframework.security.config.http.SessionCreationPolicy;
+import org.springframework.security.core.userdetails.User;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.provisioning.InMemoryUserDetailsManager;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
+import org.springframework.security.web.authentication.www.BasicAuthenticationFilter;
+
+import co.com.andres.university_campus_management.utils.BCryptCalibration;
+import jakarta.servlet.DispatcherType;
 
 /**
  * Configuración de seguridad para la aplicación de gestión universitaria.
@@ -35,23 +48,35 @@ public class SecurityConfiguration {
      * Define las reglas de autorización para los diferentes endpoints:
      * - Permite acceso público a los endpoints de autenticación (/api/auth/**)
      * - Permite acceso público de lectura a los cursos (/api/cursos)
+     * - Restringe los endpoints de Actuator a administradores, salvo /actuator/health
+     *   y /actuator/prometheus cuando hay credencial de scraper (ver
+     *   {@link #prometheusScrapeFilterChain})
      * - Requiere autenticación para todas las demás solicitudes
      * - Deshabilita CSRF y CORS para simplificar la configuración
      * - Integra el filtro JWT personalizado en la cadena de filtros
+     * - Limita los intentos de inicio de sesión por IP antes del filtro JWT
      * 
      * @param http Configuración HTTP de Spring Security
      * @param jwtFilter Filtro personalizado para autenticación JWT
+     * @param loginThrottleFilter Filtro que limita los intentos de inicio de sesión
      * @return SecurityFilterChain configurado
      * @throws Exception Si ocurre un error en la configuración
      */
     @Bean
-    SecurityFilterChain securityFilterChain(HttpSecurity http, JwtAuthenticationFilter jwtFilter) throws Exception {
+    SecurityFilterChain securityFilterChain(HttpSecurity http, JwtAuthenticationFilter jwtFilter,
+            LoginThrottleFilter loginThrottleFilter) throws Exception {
         http.csrf(csrf -> csrf.disable())
             .cors(cors -> cors.disable())
             .authorizeHttpRequests(auth -> auth
+                // El despacho ASYNC de las respuestas en streaming ya fue autorizado en la solicitud original
+                .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
+                .requestMatchers(HttpMethod.POST, "/authenticate").permitAll()
                 .requestMatchers("/authenticate/profesor").permitAll()
                 .requestMatchers("/authenticate/estudiante").permitAll()
                 .requestMatchers(HttpMethod.GET, "/api/cursos").permitAll()
+                // Actuator: salud pública, el resto solo para administradores
+                .requestMatchers("/actuator/health").permitAll()
+                .requestMatchers("/actuator/**").hasRole("ADMIN")
                 // Permitir acceso público a Swagger UI y recursos relacionados
                 .requestMatchers(
                     "/swagger-ui/**",
@@ -63,23 +88,99 @@ public class SecurityConfiguration {
                 ).permitAll()
                 .anyRequest().authenticated()
             )
-            .addFilterBefore(jwtFilter, UsernamePasswordAuthenticationFilter.class);
+            .addFilterBefore(jwtFilter, UsernamePasswordAuthenticationFilter.class)
+            .addFilterBefore(loginThrottleFilter, JwtAuthenticationFilter.class);
+
+        return http.build();
+    }
+
+    /**
+     * Cadena de seguridad propia de {@code /actuator/prometheus} para que el
+     * scraper no necesite un JWT de administrador, que caduca y da acceso a
+     * toda la API.
+     *
+     * Se activa al definir {@code security.scrape.password}: el scraper se
+     * autentica con HTTP Basic ({@code basic_auth} en Prometheus) con el
+     * usuario {@code security.scrape.username}. Esa credencial solo vale para
+     * este endpoint; un token de ADMIN sigue sirviendo. La contraseña es un
+     * secreto generado para una máquina, no la de una persona, así que se
+     * guarda con el costo mínimo de BCrypt para no gastar CPU en cada scrape.
+     *
+     * @param http Configuración HTTP de Spring Security
+     * @param jwtFilter Filtro personalizado para autenticación JWT
+     * @param username Usuario del scraper
+     * @param password Contraseña del scraper
+     * @return SecurityFilterChain del endpoint de Prometheus
+     * @throws Exception Si ocurre un error en la configuración
+     */
+    @Bean
+    @Order(1)
+    @ConditionalOnProperty(name = "security.scrape.password")
+    SecurityFilterChain prometheusScrapeFilterChain(HttpSecurity http, JwtAuthenticationFilter jwtFilter,
+            @Value("${security.scrape.username:prometheus}") String username,
+            @Value("${security.scrape.password}") String password) throws Exception {
+        if (password.isBlank()) {
+            throw new IllegalStateException("LA CONTRASEÑA DEL SCRAPER (security.scrape.password) NO PUEDE ESTAR VACÍA");
+        }
+        var encoder = new BCryptPasswordEncoder(4);
+        var scraper = User.withUsername(username)
+                .password(encoder.encode(password))
+                .roles("METRICS")
+                .build();
+        var provider = new DaoAuthenticationProvider(new InMemoryUserDetailsManager(scraper));
+        provider.setPasswordEncoder(encoder);
+
+        http.securityMatcher("/actuator/prometheus")
+            .csrf(csrf -> csrf.disable())
+            .cors(cors -> cors.disable())
+            .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
+            .authorizeHttpRequests(auth -> auth.anyRequest().hasAnyRole("METRICS", "ADMIN"))
+            .authenticationManager(new ProviderManager(provider))
+            .httpBasic(Customizer.withDefaults())
+            .addFilterBefore(jwtFilter, BasicAuthenticationFilter.class);
 
         return http.build();
     }
 
+    /**
+     * Calibra el costo de BCrypt para la máquina actual.
+     * 
+     * Si se configura security.bcrypt.strength se usa ese costo sin medir;
+     * en caso contrario se elige el mayor costo cuyo tiempo de hash no supera
+     * la latencia objetivo, dentro del rango mínimo y máximo configurado.
+     * 
+     * @param strength Costo fijo (0 para calibrar automáticamente)
+     * @param targetMillis Latencia objetivo por hash en milisegundos
+     * @param minStrength Costo mínimo permitido
+     * @param maxStrength Costo máximo permitido
+     * @return Resultado de la calibración
+     */
+    @Bean
+    BCryptCalibration bcryptCalibration(
+            @Value("${security.bcrypt.strength:0}") int strength,
+            @Value("${security.bcrypt.target-ms:250}") long targetMillis,
+            @Value("${security.bcrypt.min-strength:10}") int minStrength,
+            @Value("${security.bcrypt.max-strength:14}") int maxStrength) {
+        if (strength > 0) {
+            return BCryptCalibration.pinned(strength);
+        }
+        return BCryptCalibration.measure(targetMillis, minStrength, maxStrength);
+    }
+
     /**
      * Configura el codificador de contraseñas BCrypt.
      * 
      * BCrypt es un algoritmo de hash seguro que se utiliza para
      * encriptar las contraseñas de los usuarios antes de almacenarlas
-     * en la base de datos.
+     * en la base de datos. El costo proviene de la calibración; los hashes
+     * almacenados con un costo menor se recalculan en el siguiente login.
      * 
+     * @param calibration Calibración del costo de BCrypt
      * @return PasswordEncoder configurado con BCrypt
      */
     @Bean
-    PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    PasswordEncoder passwordEncoder(BCryptCalibration calibration) {
+        return new BCryptPasswordEncoder(calibration.strength());
     }
 
     /**
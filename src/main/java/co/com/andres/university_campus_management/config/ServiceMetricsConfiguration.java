@@ -0,0 +1,133 @@
+package co.com.andres.university_campus_management.config;
+
+import java.lang.reflect.Method;
+
+import org.aopalliance.aop.Advice;
+import org.springframework.aop.Pointcut;
+import org.springframework.aop.framework.autoproxy.AbstractBeanFactoryAwareAdvisingPostProcessor;
+import org.springframework.aop.support.DefaultPointcutAdvisor;
+import org.springframework.aop.support.StaticMethodMatcherPointcut;
+import org.springframework.aop.support.annotation.AnnotationMatchingPointcut;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.function.SingletonSupplier;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import co.com.andres.university_campus_management.service.StudentService;
+import io.micrometer.observation.ObservationRegistry;
+
+/**
+ * Métricas y trazas de los métodos de servicio y de controlador.
+ *
+ * Todo bean que implemente una interfaz del paquete {@code service}
+ * (StudentService, CourseService, ProfessorService, EnrollmentService,
+ * AuthenticateService, StudentDashboardService) recibe el
+ * {@link ServiceMetricsInterceptor} en cada método de esa interfaz, y los
+ * controladores en cada método de endpoint. El interceptor se coloca delante
+ * de los demás (transacciones y @PreAuthorize incluidos), así que el tiempo
+ * medido incluye el commit y las comprobaciones de seguridad del método.
+ *
+ * Los métodos de repositorio ya los mide Spring Data
+ * ({@code spring.data.repository.invocations}); los histogramas de percentiles
+ * de los timers se activan en application.properties.
+ *
+ * @author Andres
+ * @version 1.0
+ * @since 2024
+ */
+@Configuration
+public class ServiceMetricsConfiguration {
+
+    /**
+     * Añade el interceptor de métricas a los beans de servicio.
+     *
+     * @param observationRegistry Registro de observaciones
+     * @return Post-procesador que aplica el interceptor
+     */
+    @Bean
+    static ServiceMetricsPostProcessor serviceMetricsPostProcessor(
+            ObjectProvider<ObservationRegistry> observationRegistry) {
+        return new ServiceMetricsPostProcessor(new ServiceMethodPointcut(),
+                new ServiceMetricsInterceptor(registry(observationRegistry)));
+    }
+
+    /**
+     * Añade el interceptor de métricas a los métodos de endpoint de los
+     * controladores.
+     *
+     * @param observationRegistry Registro de observaciones
+     * @return Post-procesador que aplica el interceptor
+     */
+    @Bean
+    static ServiceMetricsPostProcessor controllerMetricsPostProcessor(
+            ObjectProvider<ObservationRegistry> observationRegistry) {
+        return new ServiceMetricsPostProcessor(
+                new AnnotationMatchingPointcut(RestController.class, RequestMapping.class, true),
+                new ServiceMetricsInterceptor(ServiceMetricsInterceptor.CONTROLLER_METRIC_NAME, "controller",
+                        registry(observationRegistry)));
+    }
+
+    private static SingletonSupplier<ObservationRegistry> registry(ObjectProvider<ObservationRegistry> provider) {
+        return SingletonSupplier.of(() -> provider.getIfAvailable(() -> ObservationRegistry.NOOP));
+    }
+
+    /**
+     * Post-procesador que envuelve los beans seleccionados con el interceptor
+     * de métricas, por delante de los advisors que ya tuvieran.
+     */
+    static final class ServiceMetricsPostProcessor extends AbstractBeanFactoryAwareAdvisingPostProcessor {
+
+        ServiceMetricsPostProcessor(Pointcut pointcut, Advice interceptor) {
+            this.advisor = new DefaultPointcutAdvisor(pointcut, interceptor);
+            setBeforeExistingAdvisors(true);
+            setProxyTargetClass(true);
+        }
+    }
+
+    /**
+     * Selecciona los métodos declarados en una interfaz de servicio que
+     * implementa la clase.
+     */
+    private static final class ServiceMethodPointcut extends StaticMethodMatcherPointcut {
+
+        private static final String SERVICE_PACKAGE = StudentService.class.getPackageName();
+
+        ServiceMethodPointcut() {
+            setClassFilter(ServiceMethodPointcut::implementsService);
+        }
+
+        @Override
+        public boolean matches(Method method, Class<?> targetClass) {
+            for (var candidate : targetClass.getInterfaces()) {
+                if (isService(candidate) && declares(candidate, method)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private static boolean implementsService(Class<?> type) {
+            for (var candidate : type.getInterfaces()) {
+                if (isService(candidate)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private static boolean isService(Class<?> type) {
+            return type.getPackageName().equals(SERVICE_PACKAGE);
+        }
+
+        private static boolean declares(Class<?> type, Method method) {
+            try {
+                type.getMethod(method.getName(), method.getParameterTypes());
+                return true;
+            } catch (NoSuchMethodException ex) {
+                return false;
+            }
+        }
+    }
+}
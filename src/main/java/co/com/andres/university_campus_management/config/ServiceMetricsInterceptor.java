@@ -0,0 +1,128 @@
+package co.com.andres.university_campus_management.config;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+
+/**
+ * Interceptor que observa cada llamada a un método de servicio o de
+ * controlador.
+ *
+ * Cada llamada es una {@link Observation}: el registro de métricas la
+ * convierte en el timer {@code service.invocations} (o
+ * {@code controller.invocations}) y, con las trazas activas, en un span hijo
+ * del span en curso, de modo que una solicitud lenta muestra cuánto tiempo
+ * pasó en el controlador, en el servicio y en cada sentencia SQL.
+ *
+ * Etiquetas: {@code service} o {@code controller} (interfaz del servicio o
+ * clase del controlador), {@code method}, {@code state} (SUCCESS o ERROR) y
+ * {@code exception} (clase de la excepción o "none"), las mismas que usa
+ * Spring Data en {@code spring.data.repository.invocations}. Los nombres se
+ * resuelven una sola vez por método.
+ *
+ * @author Andres
+ * @version 1.0
+ * @since 2024
+ */
+public class ServiceMetricsInterceptor implements MethodInterceptor {
+
+    public static final String METRIC_NAME = "service.invocations";
+    public static final String CONTROLLER_METRIC_NAME = "controller.invocations";
+
+    private final String name;
+    private final String typeKey;
+    private final Supplier<ObservationRegistry> observationRegistry;
+    private final Map<Method, Names> names = new ConcurrentHashMap<>();
+
+    /**
+     * Crea el interceptor de los métodos de servicio.
+     *
+     * @param observationRegistry Registro de observaciones; se resuelve en la
+     *                            primera llamada para poder crear el
+     *                            interceptor desde un post-procesador
+     */
+    public ServiceMetricsInterceptor(Supplier<ObservationRegistry> observationRegistry) {
+        this(METRIC_NAME, "service", observationRegistry);
+    }
+
+    /**
+     * Crea el interceptor con un nombre de métrica propio.
+     *
+     * @param name Nombre de la observación (y del timer)
+     * @param typeKey Etiqueta con el tipo que declara el método (service o controller)
+     * @param observationRegistry Registro de observaciones
+     */
+    public ServiceMetricsInterceptor(String name, String typeKey, Supplier<ObservationRegistry> observationRegistry) {
+        this.name = name;
+        this.typeKey = typeKey;
+        this.observationRegistry = observationRegistry;
+    }
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        var method = names.get(invocation.getMethod());
+        if (method == null) {
+            method = names.computeIfAbsent(invocation.getMethod(), key -> Names.of(invocation));
+        }
+        var observation = Observation.createNotStarted(name, observationRegistry.get())
+                .contextualName(method.contextualName())
+                .lowCardinalityKeyValue(typeKey, method.type())
+                .lowCardinalityKeyValue("method", method.method())
+                .start();
+        try (var scope = observation.openScope()) {
+            var result = invocation.proceed();
+            observation.lowCardinalityKeyValue("state", "SUCCESS")
+                    .lowCardinalityKeyValue("exception", "none");
+            return result;
+        } catch (Throwable ex) {
+            observation.lowCardinalityKeyValue("state", "ERROR")
+                    .lowCardinalityKeyValue("exception", ex.getClass().getSimpleName())
+                    .error(ex);
+            throw ex;
+        } finally {
+            observation.stop();
+        }
+    }
+
+    /**
+     * Nombres de un método interceptado.
+     *
+     * @param type Interfaz de servicio o clase de controlador (por ejemplo, StudentService)
+     * @param method Nombre del método
+     */
+    private record Names(String type, String method) {
+
+        String contextualName() {
+            return type + "." + method;
+        }
+
+        static Names of(MethodInvocation invocation) {
+            return new Names(type(invocation), invocation.getMethod().getName());
+        }
+
+        /**
+         * Interfaz que declara el método o, si no hay ninguna (controladores),
+         * la clase del objeto.
+         */
+        private static String type(MethodInvocation invocation) {
+            var method = invocation.getMethod();
+            var targetClass = invocation.getThis() != null ? invocation.getThis().getClass() : method.getDeclaringClass();
+            for (var candidate : targetClass.getInterfaces()) {
+                try {
+                    candidate.getMethod(method.getName(), method.getParameterTypes());
+                    return candidate.getSimpleName();
+                } catch (NoSuchMethodException ex) {
+                    // El método no pertenece a esta interfaz
+                }
+            }
+            return method.getDeclaringClass().getSimpleName();
+        }
+    }
+}
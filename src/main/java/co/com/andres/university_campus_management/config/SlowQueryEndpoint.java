@@ -0,0 +1,49 @@
+package co.com.andres.university_campus_management.config;
+
+import java.util.List;
+
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+import co.com.andres.university_campus_management.utils.SlowQueryLog;
+import co.com.andres.university_campus_management.utils.SlowQueryLog.QueryRanking;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Endpoint de Actuator con el ranking de las consultas más lentas.
+ *
+ * Disponible en {@code /actuator/slowqueries} para administradores; muestra
+ * las consultas normalizadas de las dos últimas ventanas ordenadas por tiempo
+ * máximo. Un DELETE sobre el mismo endpoint reinicia las estadísticas.
+ *
+ * @author Andres
+ * @version 1.0
+ * @since 2024
+ */
+@Component
+@Endpoint(id = "slowqueries")
+@RequiredArgsConstructor
+public class SlowQueryEndpoint {
+
+    private final SlowQueryLog slowQueryLog;
+
+    /**
+     * Devuelve las consultas más lentas.
+     *
+     * @return Ranking de las consultas más lentas
+     */
+    @ReadOperation
+    public List<QueryRanking> slowQueries() {
+        return slowQueryLog.top();
+    }
+
+    /**
+     * Reinicia las estadísticas de consultas.
+     */
+    @DeleteOperation
+    public void reset() {
+        slowQueryLog.reset();
+    }
+}
@@ -0,0 +1,133 @@
+package co.com.andres.university_campus_management.config;
+
+import javax.sql.DataSource;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.springframework.beans.BeansException;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.AnyNestedCondition;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Conditional;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.data.repository.core.support.RepositoryFactoryBeanSupport;
+import org.springframework.util.function.SingletonSupplier;
+
+import co.com.andres.university_campus_management.config.datasource.QueryTimingDataSource;
+import co.com.andres.university_campus_management.utils.QueryCounter;
+import co.com.andres.university_campus_management.utils.SlowQueryLog;
+import io.micrometer.observation.ObservationRegistry;
+
+/**
+ * Configuración del registro de sentencias lentas.
+ *
+ * Sustituye a {@code spring.jpa.show-sql}: en lugar de imprimir todas las
+ * sentencias de forma síncrona, el DataSource de la aplicación mide cada una
+ * y solo las que superan {@code slow-query.threshold-ms} se escriben, en JSON
+ * y desde un hilo propio. Para saber qué método lanzó cada sentencia, los
+ * repositorios de Spring Data marcan el método en curso en el hilo.
+ *
+ * El mismo DataSource alimenta el {@link QueryCounter} de
+ * {@link QueryBudgetFilter}, así que se instala mientras alguna de las dos
+ * funciones esté activa: {@code slow-query.enabled=false} solo apaga el
+ * registro de sentencias lentas, y con {@code query-budget.enabled=false}
+ * también deja de medirse cada sentencia.
+ *
+ * @author Andres
+ * @version 1.0
+ * @since 2024
+ */
+@Configuration
+public class SlowQueryLogConfiguration {
+
+    /**
+     * Nombre del bean DataSource de la aplicación.
+     */
+    private static final String DATA_SOURCE_BEAN = "dataSource";
+
+    /**
+     * Envuelve el DataSource de la aplicación para medir sus sentencias.
+     *
+     * Solo se envuelve el bean {@code dataSource}, de modo que con réplicas se
+     * miden también las lecturas enviadas a ellas y las conexiones internas
+     * (como la medición del retraso de replicación) quedan fuera.
+     *
+     * @param slowQueryLog Registro de sentencias lentas
+     * @param observationRegistry Registro de observaciones (spans de JDBC)
+     * @param environment Entorno para saber si el registro está activo
+     * @return Post-procesador que envuelve el DataSource
+     */
+    @Bean
+    @Conditional(QueryTimingCondition.class)
+    static BeanPostProcessor queryTimingDataSourcePostProcessor(ObjectProvider<SlowQueryLog> slowQueryLog,
+            ObjectProvider<ObservationRegistry> observationRegistry, Environment environment) {
+        var slowQueries = environment.getProperty("slow-query.enabled", Boolean.class, true)
+                ? SingletonSupplier.of(slowQueryLog::getObject)
+                : null;
+        var observations = SingletonSupplier.of(() -> observationRegistry.getIfAvailable(() -> ObservationRegistry.NOOP));
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) throws BeansException {
+                if (!DATA_SOURCE_BEAN.equals(beanName) || !(bean instanceof DataSource dataSource)) {
+                    return bean;
+                }
+                return new QueryTimingDataSource(dataSource, slowQueries, observations);
+            }
+        };
+    }
+
+    /**
+     * Añade a cada repositorio de Spring Data un interceptor que marca el
+     * método en curso (por ejemplo, {@code CourseRepository.findByCourseCode})
+     * como origen de las sentencias que ejecute.
+     *
+     * @return Post-procesador de las factorías de repositorios
+     */
+    @Bean
+    @ConditionalOnProperty(name = "slow-query.enabled", havingValue = "true", matchIfMissing = true)
+    static BeanPostProcessor repositoryOriginPostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessBeforeInitialization(Object bean, String beanName) throws BeansException {
+                if (bean instanceof RepositoryFactoryBeanSupport<?, ?, ?> factoryBean) {
+                    factoryBean.addRepositoryFactoryCustomizer(factory -> factory.addRepositoryProxyPostProcessor(
+                            (proxyFactory, information) -> proxyFactory.addAdvice(
+                                    originInterceptor(information.getRepositoryInterface().getSimpleName()))));
+                }
+                return bean;
+            }
+        };
+    }
+
+    private static MethodInterceptor originInterceptor(String repository) {
+        return invocation -> {
+            var previous = SlowQueryLog.enter(repository + "." + invocation.getMethod().getName());
+            try {
+                return invocation.proceed();
+            } finally {
+                SlowQueryLog.exit(previous);
+            }
+        };
+    }
+
+    /**
+     * Se cumple si está activo el registro de sentencias lentas o el
+     * presupuesto de sentencias por solicitud.
+     */
+    static final class QueryTimingCondition extends AnyNestedCondition {
+
+        QueryTimingCondition() {
+            super(ConfigurationPhase.REGISTER_BEAN);
+        }
+
+        @ConditionalOnProperty(name = "slow-query.enabled", havingValue = "true", matchIfMissing = true)
+        static final class SlowQueryLogEnabled {
+        }
+
+        @ConditionalOnProperty(name = "query-budget.enabled", havingValue = "true", matchIfMissing = true)
+        static final class QueryBudgetEnabled {
+        }
+    }
+}
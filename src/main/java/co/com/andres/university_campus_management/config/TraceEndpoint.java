@@ -0,0 +1,68 @@
+package co.com.andres.university_campus_management.config;
+
+import java.util.List;
+
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import co.com.andres.university_campus_management.config.tracing.ExportedSpan;
+import co.com.andres.university_campus_management.config.tracing.InMemorySpanExporter;
+import co.com.andres.university_campus_management.config.tracing.InMemorySpanExporter.TraceSummary;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Endpoint de Actuator con las trazas del colector en memoria.
+ *
+ * Disponible en {@code /actuator/traces} para administradores:
+ * - GET /actuator/traces: resumen de las trazas retenidas, de la más reciente
+ *   a la más antigua
+ * - GET /actuator/traces/{traceId}: spans de una traza en orden de inicio
+ * - DELETE /actuator/traces: descarta los spans retenidos
+ *
+ * El traceId de una solicitud aparece en sus líneas de log.
+ *
+ * @author Andres
+ * @version 1.0
+ * @since 2024
+ */
+@Component
+@Endpoint(id = "traces")
+@ConditionalOnProperty(name = "tracing.exporter", havingValue = "memory", matchIfMissing = true)
+@RequiredArgsConstructor
+public class TraceEndpoint {
+
+    private final InMemorySpanExporter exporter;
+
+    /**
+     * Devuelve el resumen de las trazas retenidas.
+     *
+     * @return Resumen de cada traza
+     */
+    @ReadOperation
+    public List<TraceSummary> traces() {
+        return exporter.traces();
+    }
+
+    /**
+     * Devuelve los spans de una traza.
+     *
+     * @param traceId ID de la traza
+     * @return Spans de la traza en orden de inicio
+     */
+    @ReadOperation
+    public List<ExportedSpan> trace(@Selector String traceId) {
+        return exporter.trace(traceId);
+    }
+
+    /**
+     * Descarta los spans retenidos.
+     */
+    @DeleteOperation
+    public void reset() {
+        exporter.reset();
+    }
+}
@@ -0,0 +1,65 @@
+package co.com.andres.university_campus_management.config;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import co.com.andres.university_campus_management.config.tracing.FileSpanExporter;
+import co.com.andres.university_campus_management.config.tracing.InMemorySpanExporter;
+
+/**
+ * Exportadores locales de trazas de OpenTelemetry.
+ *
+ * Spring Boot crea el SDK de OpenTelemetry (a través de Micrometer Tracing),
+ * el muestreador ({@code management.tracing.sampling.probability}) y la
+ * correlación de logs (traceId y spanId en el MDC y en el patrón de log); aquí
+ * solo se elige a dónde van los spans, sin depender de un backend externo:
+ * - {@code tracing.exporter=memory} (por defecto): los últimos
+ *   {@code tracing.memory.max-spans} spans, consultables en {@code /actuator/traces}
+ * - {@code tracing.exporter=file}: un JSON por span en {@code tracing.file}
+ * - {@code tracing.exporter=none}: sin exportador local
+ *
+ * Los spans cubren la solicitud HTTP, la cadena de Spring Security (con la
+ * verificación del JWT y las comprobaciones @PreAuthorize), cada método de
+ * controlador y de servicio, y cada sentencia JDBC.
+ *
+ * @author Andres
+ * @version 1.0
+ * @since 2024
+ */
+@Configuration
+public class TracingConfiguration {
+
+    /**
+     * Colector de trazas en memoria.
+     *
+     * @param maxSpans Número máximo de spans retenidos
+     * @return Exportador en memoria
+     */
+    @Bean
+    @ConditionalOnProperty(name = "tracing.exporter", havingValue = "memory", matchIfMissing = true)
+    InMemorySpanExporter inMemorySpanExporter(@Value("${tracing.memory.max-spans:10000}") int maxSpans) {
+        return new InMemorySpanExporter(maxSpans);
+    }
+
+    /**
+     * Exportador de trazas a un archivo local.
+     *
+     * @param objectMapper Serializador JSON
+     * @param file Archivo de salida
+     * @return Exportador a archivo
+     * @throws IOException si no se puede abrir el archivo
+     */
+    @Bean
+    @ConditionalOnProperty(name = "tracing.exporter", havingValue = "file")
+    FileSpanExporter fileSpanExporter(ObjectMapper objectMapper,
+            @Value("${tracing.file:traces.jsonl}") Path file) throws IOException {
+        return new FileSpanExporter(objectMapper, file);
+    }
+}
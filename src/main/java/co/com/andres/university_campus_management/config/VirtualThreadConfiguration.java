@@ -0,0 +1,139 @@
+package co.com.andres.university_campus_management.config;
+
+import java.nio.file.Path;
+import java.sql.SQLException;
+import java.time.Duration;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.BeansException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.core.env.Environment;
+import org.springframework.util.StringUtils;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+import co.com.andres.university_campus_management.config.datasource.BulkheadDataSource;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Configuración del modo de ejecución con hilos virtuales.
+ *
+ * Se activa con {@code spring.threads.virtual.enabled=true} (perfil "virtual").
+ * Spring Boot pasa entonces a hilos virtuales Tomcat y el ejecutor
+ * {@code applicationTaskExecutor}, que corre las tareas @Async y las
+ * exportaciones en streaming (ver {@link ExecutorConfiguration}); esta
+ * configuración añade lo que el modo necesita para no saturar la base de datos:
+ * - Un bulkhead con semáforo delante del pool Hikari
+ * - Métricas del bulkhead (permisos disponibles y cola de espera)
+ * - El monitor JFR de hilos virtuales fijados
+ *
+ * @author Andres
+ * @version 1.0
+ * @since 2024
+ */
+@Slf4j
+@Configuration
+@ConditionalOnProperty(name = "spring.threads.virtual.enabled", havingValue = "true")
+public class VirtualThreadConfiguration {
+
+    /**
+     * Envuelve el pool Hikari con el bulkhead de conexiones.
+     *
+     * Si no se configura datasource.bulkhead.max-permits se usa el tamaño
+     * máximo del pool, de modo que nunca hay más hilos esperando dentro de
+     * Hikari que conexiones disponibles.
+     *
+     * @param environment Entorno para leer la configuración del bulkhead
+     * @return Post-procesador que envuelve el DataSource
+     */
+    @Bean
+    static BeanPostProcessor dataSourceBulkheadPostProcessor(Environment environment) {
+        return new BulkheadPostProcessor(environment);
+    }
+
+    /**
+     * Post-procesador del bulkhead. Es {@link Ordered} para envolver el pool
+     * antes que los post-procesadores sin orden (como la medición de
+     * sentencias), que solo reconocen el pool mientras no está envuelto.
+     */
+    @RequiredArgsConstructor
+    private static final class BulkheadPostProcessor implements BeanPostProcessor, Ordered {
+
+        private final Environment environment;
+
+        @Override
+        public Object postProcessAfterInitialization(Object bean, String beanName) throws BeansException {
+            if (!(bean instanceof HikariDataSource hikari)) {
+                return bean;
+            }
+            int permits = environment.getProperty("datasource.bulkhead.max-permits", Integer.class,
+                    hikari.getMaximumPoolSize());
+            long timeout = environment.getProperty("datasource.bulkhead.acquire-timeout-ms", Long.class,
+                    hikari.getConnectionTimeout());
+            log.info("Bulkhead de conexiones activo sobre '{}': {} permisos, espera máxima {} ms",
+                    beanName, permits, timeout);
+            return new BulkheadDataSource(hikari, permits, timeout);
+        }
+
+        @Override
+        public int getOrder() {
+            return Ordered.LOWEST_PRECEDENCE;
+        }
+    }
+
+    /**
+     * Publica las métricas del bulkhead de conexiones.
+     *
+     * @param dataSource DataSource de la aplicación
+     * @return Binder con los indicadores del bulkhead
+     */
+    @Bean
+    MeterBinder dataSourceBulkheadMetrics(DataSource dataSource) {
+        return registry -> {
+            try {
+                if (!dataSource.isWrapperFor(BulkheadDataSource.class)) {
+                    return;
+                }
+                var bulkhead = dataSource.unwrap(BulkheadDataSource.class);
+                Gauge.builder("datasource.bulkhead.available", bulkhead, BulkheadDataSource::availablePermits)
+                        .description("Permisos de conexión disponibles")
+                        .register(registry);
+                Gauge.builder("datasource.bulkhead.queued", bulkhead, BulkheadDataSource::queuedThreads)
+                        .description("Hilos esperando un permiso de conexión")
+                        .register(registry);
+                Gauge.builder("datasource.bulkhead.max", bulkhead, BulkheadDataSource::maxPermits)
+                        .description("Tamaño del bulkhead de conexiones")
+                        .register(registry);
+            } catch (SQLException ex) {
+                log.warn("No se pudieron registrar las métricas del bulkhead: {}", ex.getMessage());
+            }
+        };
+    }
+
+    /**
+     * Crea el monitor de hilos virtuales fijados basado en JFR.
+     *
+     * @param meterRegistry Registro de métricas
+     * @param thresholdMillis Duración mínima de un bloqueo para reportarlo
+     * @param dumpFile Archivo .jfr donde volcar la grabación al cerrar (opcional)
+     * @return Monitor de hilos fijados
+     */
+    @Bean
+    @ConditionalOnProperty(name = "virtual.pinning.enabled", havingValue = "true", matchIfMissing = true)
+    VirtualThreadPinningMonitor virtualThreadPinningMonitor(MeterRegistry meterRegistry,
+            @Value("${virtual.pinning.threshold-ms:20}") long thresholdMillis,
+            @Value("${virtual.pinning.jfr-file:}") String dumpFile) {
+        return new VirtualThreadPinningMonitor(meterRegistry, Duration.ofMillis(thresholdMillis),
+                StringUtils.hasText(dumpFile) ? Path.of(dumpFile) : null);
+    }
+}
@@ -0,0 +1,131 @@
+package co.com.andres.university_campus_management.config;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Diagnóstico de hilos virtuales fijados (pinned) a su hilo portador.
+ *
+ * Un hilo virtual queda fijado cuando se bloquea dentro de un bloque
+ * synchronized o de código nativo, como ocurre en algunos caminos del driver
+ * JDBC o de Hibernate. Mientras dura el bloqueo el hilo portador no puede
+ * ejecutar otros hilos virtuales, lo que anula la ventaja del modo virtual.
+ *
+ * Este monitor escucha en caliente el evento de JFR {@code jdk.VirtualThreadPinned}
+ * por encima de un umbral, registra el marco responsable, cuenta los eventos
+ * en {@code jvm.threads.virtual.pinned} por origen (jdbc, hibernate u otro) y,
+ * si se configura un archivo, vuelca la grabación al detener la aplicación.
+ *
+ * @author Andres
+ * @version 1.0
+ * @since 2024
+ */
+@Slf4j
+public class VirtualThreadPinningMonitor {
+
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+
+    private final Duration threshold;
+    private final Path dumpFile;
+    private final Counter jdbcPinned;
+    private final Counter hibernatePinned;
+    private final Counter otherPinned;
+    private RecordingStream stream;
+
+    /**
+     * Crea el monitor.
+     *
+     * @param meterRegistry Registro de métricas
+     * @param threshold Duración mínima de un bloqueo para reportarlo
+     * @param dumpFile Archivo .jfr donde volcar la grabación al cerrar, o null
+     */
+    public VirtualThreadPinningMonitor(MeterRegistry meterRegistry, Duration threshold, Path dumpFile) {
+        this.threshold = threshold;
+        this.dumpFile = dumpFile;
+        this.jdbcPinned = pinned(meterRegistry, "jdbc");
+        this.hibernatePinned = pinned(meterRegistry, "hibernate");
+        this.otherPinned = pinned(meterRegistry, "other");
+    }
+
+    /**
+     * Inicia la escucha de eventos una vez que la aplicación está lista.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        stream = new RecordingStream();
+        stream.enable(PINNED_EVENT).withThreshold(threshold).withStackTrace();
+        stream.onEvent(PINNED_EVENT, this::onPinned);
+        stream.startAsync();
+        log.info("Monitor de hilos virtuales fijados activo (umbral {} ms)", threshold.toMillis());
+    }
+
+    /**
+     * Detiene la escucha y vuelca la grabación si se configuró un archivo.
+     */
+    @PreDestroy
+    public void stop() {
+        if (stream == null) {
+            return;
+        }
+        if (dumpFile != null) {
+            try {
+                stream.dump(dumpFile);
+                log.info("Grabación JFR de hilos fijados guardada en {}", dumpFile);
+            } catch (IOException ex) {
+                log.warn("No se pudo guardar la grabación JFR en {}: {}", dumpFile, ex.getMessage());
+            }
+        }
+        stream.close();
+    }
+
+    private void onPinned(RecordedEvent event) {
+        var frames = event.getStackTrace() != null ? event.getStackTrace().getFrames() : List.<RecordedFrame>of();
+        var source = "other";
+        String culprit = "desconocido";
+        for (var frame : frames) {
+            var type = frame.getMethod().getType().getName();
+            if (type.startsWith("org.postgresql.") || type.startsWith("org.h2.") || type.startsWith("com.zaxxer.hikari.")
+                    || type.startsWith("java.sql.")) {
+                source = "jdbc";
+                culprit = type + "." + frame.getMethod().getName() + ":" + frame.getLineNumber();
+                break;
+            }
+            if (type.startsWith("org.hibernate.")) {
+                source = "hibernate";
+                culprit = type + "." + frame.getMethod().getName() + ":" + frame.getLineNumber();
+                break;
+            }
+        }
+        if ("other".equals(source) && !frames.isEmpty()) {
+            var top = frames.get(0);
+            culprit = top.getMethod().getType().getName() + "." + top.getMethod().getName() + ":" + top.getLineNumber();
+        }
+
+        switch (source) {
+            case "jdbc" -> jdbcPinned.increment();
+            case "hibernate" -> hibernatePinned.increment();
+            default -> otherPinned.increment();
+        }
+        log.warn("Hilo virtual fijado durante {} ms ({}): {}", event.getDuration().toMillis(), source, culprit);
+    }
+
+    private static Counter pinned(MeterRegistry meterRegistry, String source) {
+        return Counter.builder("jvm.threads.virtual.pinned")
+                .tag("source", source)
+                .description("Bloqueos de hilos virtuales fijados a su hilo portador")
+                .register(meterRegistry);
+    }
+}
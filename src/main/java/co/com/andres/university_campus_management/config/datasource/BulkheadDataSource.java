@@ -0,0 +1,147 @@
+package co.com.andres.university_campus_management.config.datasource;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import javax.sql.DataSource;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+/**
+ * DataSource que limita cuántos hilos pueden tener una conexión al mismo tiempo.
+ *
+ * Con hilos virtuales no hay un pool de hilos que acote la concurrencia, por lo
+ * que miles de solicitudes pueden competir a la vez por el pool de conexiones.
+ * Este bulkhead coloca un semáforo justo delante del pool: cada conexión
+ * obtenida consume un permiso que se libera al cerrarla, y los hilos que no
+ * obtienen permiso dentro del tiempo máximo reciben un error transitorio en
+ * lugar de acumularse indefinidamente.
+ *
+ * @author Andres
+ * @version 1.0
+ * @since 2024
+ */
+public class BulkheadDataSource extends DelegatingDataSource {
+
+    private final Semaphore permits;
+    private final int maxPermits;
+    private final long acquireTimeoutMillis;
+
+    /**
+     * Crea el bulkhead sobre el DataSource indicado.
+     *
+     * @param target DataSource real (normalmente el pool Hikari)
+     * @param maxPermits Número máximo de conexiones simultáneas
+     * @param acquireTimeoutMillis Tiempo máximo de espera por un permiso
+     */
+    public BulkheadDataSource(DataSource target, int maxPermits, long acquireTimeoutMillis) {
+        super(target);
+        this.permits = new Semaphore(maxPermits, true);
+        this.maxPermits = maxPermits;
+        this.acquireTimeoutMillis = acquireTimeoutMillis;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        acquire();
+        try {
+            return guard(super.getConnection());
+        } catch (SQLException | RuntimeException ex) {
+            permits.release();
+            throw ex;
+        }
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        acquire();
+        try {
+            return guard(super.getConnection(username, password));
+        } catch (SQLException | RuntimeException ex) {
+            permits.release();
+            throw ex;
+        }
+    }
+
+    /**
+     * Permisos disponibles en este momento.
+     *
+     * @return Número de conexiones que aún pueden obtenerse sin esperar
+     */
+    public int availablePermits() {
+        return permits.availablePermits();
+    }
+
+    /**
+     * Hilos esperando un permiso (valor aproximado).
+     *
+     * @return Número estimado de hilos en cola
+     */
+    public int queuedThreads() {
+        return permits.getQueueLength();
+    }
+
+    /**
+     * Número máximo de conexiones simultáneas permitidas.
+     *
+     * @return Tamaño del bulkhead
+     */
+    public int maxPermits() {
+        return maxPermits;
+    }
+
+    private void acquire() throws SQLException {
+        try {
+            if (!permits.tryAcquire(acquireTimeoutMillis, TimeUnit.MILLISECONDS)) {
+                throw new SQLTransientConnectionException(
+                        "Bulkhead de conexiones saturado: no se obtuvo permiso en " + acquireTimeoutMillis + " ms");
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new SQLTransientConnectionException("Interrumpido esperando una conexión", ex);
+        }
+    }
+
+    /**
+     * Envuelve la conexión para liberar el permiso exactamente una vez al cerrarla.
+     */
+    private Connection guard(Connection connection) {
+        var released = new AtomicBoolean();
+        return (Connection) Proxy.newProxyInstance(
+                Connection.class.getClassLoader(),
+                new Class<?>[] { Connection.class },
+                (proxy, method, args) -> {
+                    switch (method.getName()) {
+                        case "equals" -> {
+                            return proxy == args[0];
+                        }
+                        case "hashCode" -> {
+                            return System.identityHashCode(proxy);
+                        }
+                        default -> {
+                        }
+                    }
+                    if ("close".equals(method.getName()) && method.getParameterCount() == 0) {
+                        try {
+                            connection.close();
+                        } finally {
+                            if (released.compareAndSet(false, true)) {
+                                permits.release();
+                            }
+                        }
+                        return null;
+                    }
+                    try {
+                        return method.invoke(connection, args);
+                    } catch (InvocationTargetException ex) {
+                        throw ex.getTargetException();
+                    }
+                });
+    }
+}
@@ -0,0 +1,286 @@
+package co.com.andres.university_campus_management.config.datasource;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Locale;
+import java.util.Set;
+import java.util.function.Supplier;
+
+import javax.sql.DataSource;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import co.com.andres.university_campus_management.utils.QueryCounter;
+import co.com.andres.university_campus_management.utils.SlowQueryLog;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+
+/**
+ * DataSource que mide cada sentencia SQL y la entrega al {@link SlowQueryLog}
+ * y al {@link QueryCounter} de la solicitud en curso.
+ *
+ * Envuelve conexiones, sentencias y resultados con proxies JDK:
+ * - En las actualizaciones el tiempo es el de la llamada execute* y las filas
+ *   las que devuelve el driver
+ * - En las consultas el tiempo va desde execute* hasta que se cierra el
+ *   ResultSet, e incluye por tanto la lectura de las filas, que se cuentan a
+ *   medida que se recorren
+ *
+ * No añade ninguna escritura en el hilo de la solicitud: el registro decide
+ * si la sentencia es lenta y la escribe desde su propio hilo.
+ *
+ * Cada ejecución es además una {@link Observation} {@code jdbc.statement}
+ * (etiquetada por operación: select, insert, update, delete u other), que con
+ * las trazas activas aparece como span hijo del método que la lanzó, con la
+ * sentencia y las filas como atributos.
+ *
+ * @author Andres
+ * @version 1.0
+ * @since 2024
+ */
+public class QueryTimingDataSource extends DelegatingDataSource {
+
+    private static final Set<String> EXECUTE_METHODS = Set.of(
+            "execute", "executeQuery", "executeUpdate", "executeLargeUpdate", "executeBatch", "executeLargeBatch");
+
+    private static final int MAX_STATEMENT_LENGTH = 2000;
+
+    private final Supplier<SlowQueryLog> slowQueryLog;
+    private final Supplier<ObservationRegistry> observationRegistry;
+
+    /**
+     * Crea el DataSource de medición.
+     *
+     * @param target DataSource real
+     * @param slowQueryLog Registro de sentencias; se resuelve en la primera
+     *                     sentencia para no depender de él al crear el DataSource.
+     *                     Es null si el registro de sentencias lentas está
+     *                     desactivado y solo se alimenta el {@link QueryCounter}
+     * @param observationRegistry Registro de observaciones, resuelto igual que
+     *                            el registro de sentencias
+     */
+    public QueryTimingDataSource(DataSource target, Supplier<SlowQueryLog> slowQueryLog,
+            Supplier<ObservationRegistry> observationRegistry) {
+        super(target);
+        this.slowQueryLog = slowQueryLog;
+        this.observationRegistry = observationRegistry;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return connection(super.getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return connection(super.getConnection(username, password));
+    }
+
+    private Connection connection(Connection connection) {
+        return proxy(Connection.class, connection, (proxy, method, args) -> {
+            var result = invoke(connection, method, args);
+            return switch (method.getName()) {
+                case "prepareStatement" -> statement(PreparedStatement.class, (PreparedStatement) result,
+                        (String) args[0]);
+                case "prepareCall" -> statement(CallableStatement.class, (CallableStatement) result,
+                        (String) args[0]);
+                case "createStatement" -> statement(Statement.class, (Statement) result, null);
+                default -> result;
+            };
+        });
+    }
+
+    /**
+     * Envuelve una sentencia. En las preparadas el SQL se conoce al crearla;
+     * en las simples llega como primer argumento de execute*.
+     */
+    private <S extends Statement> S statement(Class<S> type, S statement, String preparedSql) {
+        var execution = new Execution[1];
+        return proxy(type, statement, (proxy, method, args) -> {
+            var name = method.getName();
+            if (!EXECUTE_METHODS.contains(name)) {
+                var result = invoke(statement, method, args);
+                if ("getResultSet".equals(name) && result instanceof ResultSet resultSet && execution[0] != null) {
+                    return resultSet(resultSet, execution[0]);
+                }
+                if ("close".equals(name) && execution[0] != null) {
+                    execution[0].finish();
+                }
+                return result;
+            }
+
+            var sql = preparedSql != null ? preparedSql
+                    : args != null && args.length > 0 && args[0] instanceof String text ? text : null;
+            if (execution[0] != null) {
+                execution[0].finish();
+            }
+            var current = new Execution(sql);
+            execution[0] = current;
+            Object result;
+            try {
+                result = invoke(statement, method, args);
+            } catch (Throwable ex) {
+                current.fail(ex);
+                throw ex;
+            }
+            switch (result) {
+                case ResultSet resultSet -> {
+                    return resultSet(resultSet, current);
+                }
+                case Integer count -> current.rows = Math.max(count, 0);
+                case Long count -> current.rows = Math.max(count, 0);
+                case int[] counts -> current.rows = sum(counts);
+                case long[] counts -> current.rows = sum(counts);
+                case null, default -> {
+                    // execute(): si devolvió un ResultSet se mide al obtenerlo con getResultSet
+                    if (Boolean.TRUE.equals(result)) {
+                        return result;
+                    }
+                }
+            }
+            current.finish();
+            return result;
+        });
+    }
+
+    private ResultSet resultSet(ResultSet resultSet, Execution execution) {
+        return proxy(ResultSet.class, resultSet, (proxy, method, args) -> {
+            var name = method.getName();
+            if ("close".equals(name)) {
+                try {
+                    return invoke(resultSet, method, args);
+                } finally {
+                    execution.finish();
+                }
+            }
+            var result = invoke(resultSet, method, args);
+            if ("next".equals(name) && Boolean.TRUE.equals(result)) {
+                execution.rows++;
+            }
+            return result;
+        });
+    }
+
+    private static long sum(int[] counts) {
+        long total = 0;
+        for (int count : counts) {
+            total += Math.max(count, 0);
+        }
+        return total;
+    }
+
+    private static long sum(long[] counts) {
+        long total = 0;
+        for (long count : counts) {
+            total += Math.max(count, 0);
+        }
+        return total;
+    }
+
+    /**
+     * Una ejecución en curso. Se registra una sola vez aunque se cierren tanto
+     * el ResultSet como la sentencia.
+     */
+    private final class Execution {
+
+        private final String sql;
+        private final Observation observation;
+        private final long start;
+        private long rows;
+        private boolean finished;
+
+        Execution(String sql) {
+            var operation = operation(sql);
+            this.sql = sql;
+            this.observation = Observation.createNotStarted("jdbc.statement", observationRegistry.get())
+                    .contextualName("jdbc " + operation)
+                    .lowCardinalityKeyValue("operation", operation)
+                    .highCardinalityKeyValue("db.statement", sql == null ? "" :
+                            sql.length() > MAX_STATEMENT_LENGTH ? sql.substring(0, MAX_STATEMENT_LENGTH) : sql)
+                    .start();
+            this.start = System.nanoTime();
+        }
+
+        void fail(Throwable ex) {
+            observation.error(ex);
+            finish();
+        }
+
+        void finish() {
+            if (finished) {
+                return;
+            }
+            finished = true;
+            long elapsed = System.nanoTime() - start;
+            observation.highCardinalityKeyValue("db.rows", Long.toString(rows)).stop();
+            QueryCounter.record(sql, elapsed);
+            if (slowQueryLog != null) {
+                slowQueryLog.get().record(sql, elapsed, rows);
+            }
+        }
+    }
+
+    /**
+     * Operación de la sentencia según su primera palabra.
+     */
+    private static String operation(String sql) {
+        if (sql == null) {
+            return "other";
+        }
+        var trimmed = sql.stripLeading();
+        int end = 0;
+        while (end < trimmed.length() && Character.isLetter(trimmed.charAt(end))) {
+            end++;
+        }
+        return switch (trimmed.substring(0, end).toLowerCase(Locale.ROOT)) {
+            case "select", "with" -> "select";
+            case "insert" -> "insert";
+            case "update" -> "update";
+            case "delete" -> "delete";
+            default -> "other";
+        };
+    }
+
+    @FunctionalInterface
+    private interface Handler {
+        Object handle(Object proxy, Method method, Object[] args) throws Throwable;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T proxy(Class<T> type, T target, Handler handler) {
+        return (T) Proxy.newProxyInstance(
+                type.getClassLoader(),
+                new Class<?>[] { type },
+                (proxy, method, args) -> {
+                    switch (method.getName()) {
+                        case "equals" -> {
+                            return proxy == args[0];
+                        }
+                        case "hashCode" -> {
+                            return System.identityHashCode(proxy);
+                        }
+                        case "unwrap", "isWrapperFor" -> {
+                            return invoke(target, method, args);
+                        }
+                        default -> {
+                            return handler.handle(proxy, method, args);
+                        }
+                    }
+                });
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException ex) {
+            throw ex.getTargetException();
+        }
+    }
+}
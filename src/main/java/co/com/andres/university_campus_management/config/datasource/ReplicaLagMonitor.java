@@ -0,0 +1,79 @@
+package co.com.andres.university_campus_management.config.datasource;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import javax.sql.DataSource;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Mide periódicamente el retraso de replicación de cada réplica y lo
+ * comunica al {@link ReplicaRoutingDataSource}.
+ *
+ * El retraso se obtiene con una consulta configurable que devuelve
+ * milisegundos; la consulta por defecto es la de una réplica en espera de
+ * PostgreSQL. Si la consulta falla la réplica se marca como no disponible y
+ * sus lecturas pasan al primario hasta la siguiente medición correcta.
+ *
+ * @author Andres
+ * @version 1.0
+ * @since 2024
+ */
+@Slf4j
+public class ReplicaLagMonitor {
+
+    /**
+     * Retraso de una réplica en espera de PostgreSQL, en milisegundos. Si ya
+     * aplicó todo lo recibido el retraso es cero aunque no haya escrituras
+     * recientes en el primario.
+     */
+    public static final String POSTGRES_LAG_QUERY = "SELECT CASE "
+            + "WHEN pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0 "
+            + "ELSE COALESCE(EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()) * 1000, 0) END";
+
+    private final ReplicaRoutingDataSource routingDataSource;
+    private final Map<String, JdbcTemplate> replicas;
+    private final String lagQuery;
+
+    /**
+     * Crea el monitor.
+     *
+     * @param routingDataSource DataSource de enrutamiento a actualizar
+     * @param replicas DataSources de las réplicas, por nombre
+     * @param lagQuery Consulta que devuelve el retraso en milisegundos
+     * @param queryTimeoutSeconds Tiempo máximo de cada medición
+     */
+    public ReplicaLagMonitor(ReplicaRoutingDataSource routingDataSource, Map<String, DataSource> replicas,
+            String lagQuery, int queryTimeoutSeconds) {
+        this.routingDataSource = routingDataSource;
+        this.lagQuery = lagQuery;
+        this.replicas = new LinkedHashMap<>();
+        replicas.forEach((name, dataSource) -> {
+            var jdbcTemplate = new JdbcTemplate(dataSource);
+            jdbcTemplate.setQueryTimeout(queryTimeoutSeconds);
+            this.replicas.put(name, jdbcTemplate);
+        });
+    }
+
+    /**
+     * Mide el retraso de todas las réplicas y olvida las ventanas de
+     * persistencia vencidas.
+     */
+    @Scheduled(fixedDelayString = "${datasource.replica.lag-check-interval-ms:1000}")
+    public void refresh() {
+        replicas.forEach((name, jdbcTemplate) -> {
+            try {
+                var lag = jdbcTemplate.queryForObject(lagQuery, Number.class);
+                routingDataSource.updateLag(name, lag != null ? lag.longValue() : 0);
+            } catch (RuntimeException ex) {
+                log.warn("No se pudo medir el retraso de la réplica '{}': {}", name, ex.getMessage());
+                routingDataSource.markUnavailable(name);
+            }
+        });
+        routingDataSource.purgeExpiredWrites();
+    }
+}
@@ -0,0 +1,353 @@
+package co.com.andres.university_campus_management.config.datasource;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.sql.DataSource;
+
+import org.hibernate.CacheMode;
+import org.hibernate.Session;
+import org.hibernate.jpa.SpecHints;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseCookie;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.orm.jpa.EntityManagerHolder;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.util.WebUtils;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.CacheStoreMode;
+
+/**
+ * DataSource que envía las transacciones de solo lectura a las réplicas y el
+ * resto al primario.
+ *
+ * La decisión se toma al obtener la conexión física, por lo que debe usarse
+ * detrás de un {@code LazyConnectionDataSourceProxy}: así la transacción ya
+ * está marcada como de solo lectura cuando se elige el destino. Una lectura
+ * va al primario cuando:
+ * - No hay transacción o la transacción no es de solo lectura
+ * - El usuario confirmó una escritura hace menos de la ventana de
+ *   persistencia (lee sus propias escrituras aunque la réplica vaya atrasada)
+ * - Ninguna réplica está disponible con un retraso por debajo del umbral
+ *
+ * La última escritura de cada usuario se guarda en memoria y, además, en la
+ * cookie {@value #LAST_WRITE_COOKIE} de la respuesta (instante de la escritura
+ * en milisegundos, con la duración de la ventana). Así la siguiente lectura
+ * del usuario va al primario aunque el balanceador la envíe a otra instancia;
+ * basta con que los relojes de las instancias estén sincronizados (NTP) con
+ * un error muy inferior a la ventana. Un cliente que no devuelve cookies solo
+ * lee sus propias escrituras en la instancia que las hizo.
+ *
+ * Una réplica puede devolver filas anteriores a la última escritura. Para que
+ * esas filas no entren en las regiones READ_WRITE de la caché de segundo
+ * nivel, y se sirvan a todos los usuarios hasta que venzan, la sesión de
+ * Hibernate de una transacción enviada a una réplica pasa a
+ * {@link CacheMode#GET}: lee de la caché pero no la rellena. Hibernate
+ * prepara cada consulta antes de pedir la conexión, así que
+ * {@link ReplicaRoutingTransactionManager} fija el destino al empezar cada
+ * transacción de solo lectura, antes de su primera consulta.
+ *
+ * La caché de consultas es la excepción: Hibernate 6.6 guarda el resultado
+ * de una consulta cacheable tras un fallo aunque la sesión esté en
+ * {@link CacheMode#GET}. Ese resultado solo contiene identificadores (las
+ * entidades que referencia no se guardan), pero puede omitir o incluir filas
+ * que el primario ya cambió; por eso, con réplicas, las regiones de consultas
+ * viven como mucho {@code cache.l2.replica.query-ttl}.
+ *
+ * Las réplicas disponibles se reparten en turno rotatorio. El retraso de cada
+ * una lo actualiza {@link ReplicaLagMonitor}; hasta la primera medición se
+ * consideran no disponibles.
+ *
+ * Publica el contador {@code datasource.routing} (target = primary o replica,
+ * reason = read-write, read, sticky o lagging) y el indicador
+ * {@code datasource.replica.lag} por réplica.
+ *
+ * @author Andres
+ * @version 1.0
+ * @since 2024
+ */
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+    public static final String PRIMARY = "primary";
+
+    /**
+     * Cookie con el instante de la última escritura del cliente.
+     */
+    public static final String LAST_WRITE_COOKIE = "last_write";
+
+    /**
+     * Retraso registrado para una réplica que no respondió a la medición.
+     */
+    private static final long UNAVAILABLE = Long.MAX_VALUE;
+
+    private final List<String> replicaKeys;
+    private final Map<String, ReplicaState> replicas = new ConcurrentHashMap<>();
+    private final Map<String, Long> lastWrites = new ConcurrentHashMap<>();
+    private final AtomicInteger next = new AtomicInteger();
+    private final long maxLagMillis;
+    private final long stickyWindowNanos;
+
+    private final Counter primaryReadWrite;
+    private final Counter primarySticky;
+    private final Counter primaryLagging;
+    private final Counter replicaRead;
+
+    /**
+     * Estado de una réplica según la última medición.
+     */
+    private static final class ReplicaState {
+
+        private volatile long lagMillis = UNAVAILABLE;
+    }
+
+    /**
+     * Crea el DataSource de enrutamiento.
+     *
+     * @param primary DataSource del primario
+     * @param replicas DataSources de las réplicas, por nombre
+     * @param maxLagMillis Retraso máximo de una réplica para recibir lecturas
+     * @param stickyWindowMillis Tiempo durante el que las lecturas de un usuario
+     *        van al primario después de una escritura suya
+     * @param meterRegistry Registro de métricas
+     */
+    public ReplicaRoutingDataSource(DataSource primary, Map<String, DataSource> replicas, long maxLagMillis,
+            long stickyWindowMillis, MeterRegistry meterRegistry) {
+        var targets = new HashMap<Object, Object>(replicas);
+        targets.put(PRIMARY, primary);
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(primary);
+        setLenientFallback(false);
+
+        this.replicaKeys = List.copyOf(replicas.keySet());
+        this.maxLagMillis = maxLagMillis;
+        this.stickyWindowNanos = stickyWindowMillis * 1_000_000;
+        for (var key : replicaKeys) {
+            var state = new ReplicaState();
+            this.replicas.put(key, state);
+            Gauge.builder("datasource.replica.lag", state,
+                    s -> s.lagMillis == UNAVAILABLE ? Double.NaN : s.lagMillis)
+                    .tag("replica", key)
+                    .baseUnit("milliseconds")
+                    .description("Retraso de replicación medido en la réplica")
+                    .register(meterRegistry);
+        }
+
+        this.primaryReadWrite = routing(meterRegistry, PRIMARY, "read-write");
+        this.primarySticky = routing(meterRegistry, PRIMARY, "sticky");
+        this.primaryLagging = routing(meterRegistry, PRIMARY, "lagging");
+        this.replicaRead = routing(meterRegistry, "replica", "read");
+    }
+
+    private static Counter routing(MeterRegistry registry, String target, String reason) {
+        return Counter.builder("datasource.routing")
+                .tag("target", target)
+                .tag("reason", reason)
+                .description("Conexiones obtenidas por destino y motivo")
+                .register(registry);
+    }
+
+    /**
+     * Nombres de las réplicas configuradas.
+     *
+     * @return Claves de las réplicas en el DataSource de enrutamiento
+     */
+    public List<String> replicaKeys() {
+        return replicaKeys;
+    }
+
+    /**
+     * Registra el último retraso medido de una réplica.
+     *
+     * @param replica Nombre de la réplica
+     * @param lagMillis Retraso en milisegundos
+     */
+    public void updateLag(String replica, long lagMillis) {
+        replicas.get(replica).lagMillis = Math.max(lagMillis, 0);
+    }
+
+    /**
+     * Marca una réplica como no disponible hasta la siguiente medición correcta.
+     *
+     * @param replica Nombre de la réplica
+     */
+    public void markUnavailable(String replica) {
+        replicas.get(replica).lagMillis = UNAVAILABLE;
+    }
+
+    /**
+     * Olvida las escrituras que ya salieron de la ventana de persistencia.
+     */
+    public void purgeExpiredWrites() {
+        long now = System.nanoTime();
+        lastWrites.values().removeIf(written -> now - written >= stickyWindowNanos);
+    }
+
+    /**
+     * Cierra los pools del primario y de las réplicas.
+     */
+    public void close() {
+        for (var dataSource : getResolvedDataSources().values()) {
+            if (dataSource instanceof Closeable closeable) {
+                try {
+                    closeable.close();
+                } catch (IOException ex) {
+                    logger.warn("No se pudo cerrar el pool de conexiones", ex);
+                }
+            }
+        }
+    }
+
+    /**
+     * Elige el destino de la transacción de solo lectura que acaba de empezar
+     * y lo mantiene hasta que termine. Si suspende a otra transacción de solo
+     * lectura (REQUIRES_NEW), al terminar se restaura el destino de aquella.
+     */
+    public void routeReadOnlyTransaction() {
+        var outer = TransactionSynchronizationManager.unbindResourceIfPossible(this);
+        TransactionSynchronizationManager.bindResource(this, selectTarget());
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(ReplicaRoutingDataSource.this);
+                if (outer != null) {
+                    TransactionSynchronizationManager.bindResource(ReplicaRoutingDataSource.this, outer);
+                }
+            }
+        });
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        // Una transacción de escritura anidada en una de lectura va siempre al primario
+        var routed = TransactionSynchronizationManager.isCurrentTransactionReadOnly()
+                ? TransactionSynchronizationManager.getResource(this) : null;
+        return routed != null ? routed : selectTarget();
+    }
+
+    private String selectTarget() {
+        if (!TransactionSynchronizationManager.isActualTransactionActive()
+                || !TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            recordWriteOnCommit();
+            primaryReadWrite.increment();
+            return PRIMARY;
+        }
+        if (wroteRecently()) {
+            primarySticky.increment();
+            return PRIMARY;
+        }
+        int size = replicaKeys.size();
+        int start = size > 0 ? Math.floorMod(next.getAndIncrement(), size) : 0;
+        for (int i = 0; i < size; i++) {
+            var key = replicaKeys.get((start + i) % size);
+            if (replicas.get(key).lagMillis <= maxLagMillis) {
+                replicaRead.increment();
+                skipCachePuts();
+                return key;
+            }
+        }
+        primaryLagging.increment();
+        return PRIMARY;
+    }
+
+    /**
+     * Al confirmar una transacción de escritura, abre la ventana de
+     * persistencia del usuario que la hizo.
+     */
+    private void recordWriteOnCommit() {
+        var user = currentUser();
+        if (user == null || !TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                lastWrites.put(user, System.nanoTime());
+                markResponse();
+            }
+        });
+    }
+
+    /**
+     * Indica si el usuario actual confirmó una escritura dentro de la ventana
+     * de persistencia, en esta instancia o, según su cookie, en otra.
+     *
+     * @return true si sus lecturas deben ir al primario
+     */
+    public boolean wroteRecently() {
+        var user = currentUser();
+        if (user == null) {
+            return false;
+        }
+        var written = lastWrites.get(user);
+        if (written != null && System.nanoTime() - written < stickyWindowNanos) {
+            return true;
+        }
+        var cookie = RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes attributes
+                ? WebUtils.getCookie(attributes.getRequest(), LAST_WRITE_COOKIE) : null;
+        if (cookie == null) {
+            return false;
+        }
+        try {
+            long elapsedMillis = System.currentTimeMillis() - Long.parseLong(cookie.getValue());
+            return Math.abs(elapsedMillis) < stickyWindowNanos / 1_000_000;
+        } catch (NumberFormatException ex) {
+            return false;
+        }
+    }
+
+    /**
+     * Añade a la respuesta en curso la cookie con el instante de la escritura.
+     */
+    private void markResponse() {
+        if (!(RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes attributes)) {
+            return;
+        }
+        var response = attributes.getResponse();
+        if (response == null || response.isCommitted()) {
+            return;
+        }
+        var cookie = ResponseCookie.from(LAST_WRITE_COOKIE, Long.toString(System.currentTimeMillis()))
+                .maxAge(Duration.ofNanos(stickyWindowNanos))
+                .path("/")
+                .httpOnly(true)
+                .sameSite("Lax")
+                .build();
+        response.addHeader(HttpHeaders.SET_COOKIE, cookie.toString());
+    }
+
+    /**
+     * La sesión de la transacción deja de escribir en la caché de segundo
+     * nivel; se llama al enviar la transacción a una réplica. Además del modo
+     * de la sesión se fija la propiedad JPA, que {@code find} vuelve a aplicar
+     * en cada llamada.
+     */
+    private static void skipCachePuts() {
+        for (var resource : TransactionSynchronizationManager.getResourceMap().values()) {
+            if (resource instanceof EntityManagerHolder holder) {
+                var entityManager = holder.getEntityManager();
+                entityManager.setProperty(SpecHints.HINT_SPEC_CACHE_STORE_MODE, CacheStoreMode.BYPASS);
+                entityManager.unwrap(Session.class).setCacheMode(CacheMode.GET);
+            }
+        }
+    }
+
+    private static String currentUser() {
+        var authentication = SecurityContextHolder.getContext().getAuthentication();
+        return authentication != null && authentication.isAuthenticated()
+                && !(authentication instanceof AnonymousAuthenticationToken) ? authentication.getName() : null;
+    }
+}
@@ -0,0 +1,37 @@
+package co.com.andres.university_campus_management.config.datasource;
+
+import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.DefaultTransactionStatus;
+
+/**
+ * Gestor de transacciones JPA que fija el destino de cada transacción de
+ * solo lectura (primario o réplica) en cuanto empieza.
+ *
+ * El {@code LazyConnectionDataSourceProxy} retrasa la elección hasta la
+ * primera sentencia, pero para entonces Hibernate ya decidió si el resultado
+ * de esa consulta se guarda en la caché. Al elegir el destino aquí, la
+ * sesión de una transacción enviada a una réplica ya está en modo de solo
+ * lectura de caché antes de su primera consulta.
+ *
+ * @author Andres
+ * @version 1.0
+ * @since 2024
+ */
+public class ReplicaRoutingTransactionManager extends JpaTransactionManager {
+
+    private final transient ReplicaRoutingDataSource routingDataSource;
+
+    public ReplicaRoutingTransactionManager(ReplicaRoutingDataSource routingDataSource) {
+        this.routingDataSource = routingDataSource;
+    }
+
+    @Override
+    protected void prepareSynchronization(DefaultTransactionStatus status, TransactionDefinition definition) {
+        super.prepareSynchronization(status, definition);
+        // Solo entonces la transacción figura como activa y de solo lectura
+        if (status.isNewTransaction() && status.isNewSynchronization() && definition.isReadOnly()) {
+            routingDataSource.routeReadOnlyTransaction();
+        }
+    }
+}
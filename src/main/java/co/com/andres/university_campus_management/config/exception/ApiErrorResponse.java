@@ -1,12 +1,14 @@
 package co.com.andres.university_campus_management.config.exception;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 import org.springframework.http.HttpStatus;
 
 import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonInclude;
 
-import lombok.Data;
+import lombok.Getter;
 
 /**
  * Clase que representa la respuesta de error estandarizada para la API.
@@ -16,45 +18,61 @@ import lombok.Data;
  * una estructura consistente para el manejo de errores en toda la aplicación.
  * 
  * La clase utiliza anotaciones de Jackson para el formato JSON y Lombok
- * para la generación automática de getters, setters y otros métodos.
+ * para la generación automática de getters. Es inmutable, lo que permite
+ * compartir una misma instancia entre respuestas (ver {@link DomainException}).
  * 
  * @author Andres
  * @version 1.0
  * @since 2024
  */
-@Data
+@Getter
+@JsonInclude(JsonInclude.Include.NON_NULL)
 public class ApiErrorResponse {
 
     /**
      * Marca de tiempo que indica cuándo ocurrió el error.
-     * Se formatea como string en formato ISO 8601.
+     * Se formatea como string en formato ISO 8601. Se omite en las respuestas
+     * precalculadas de los errores de dominio (la cabecera Date la informa).
      */
     @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "yyyy-MM-dd'T'HH:mm:ss")
-    private LocalDateTime timestamp;
+    private final LocalDateTime timestamp;
 
     /**
      * Código de estado HTTP que indica el tipo de error.
      * Ejemplos: 400 (Bad Request), 404 (Not Found), 500 (Internal Server Error)
      */
-    private Integer status;
+    private final Integer status;
 
     /**
      * Descripción del tipo de error basada en el código de estado HTTP.
      * Ejemplos: "Bad Request", "Not Found", "Internal Server Error"
      */
-    private String error;
+    private final String error;
 
     /**
      * Mensaje descriptivo y específico del error que ocurrió.
      * Proporciona información útil para el desarrollador o usuario.
      */
-    private String message;
+    private final String message;
+
+    /**
+     * Código de error estable de los errores de dominio (por ejemplo
+     * STUDENT_NOT_FOUND). No se incluye en el resto de errores.
+     */
+    private final String code;
 
     /**
      * Ruta de la solicitud HTTP que causó el error.
-     * Útil para identificar el endpoint que generó el problema.
+     * Útil para identificar el endpoint que generó el problema. Se omite en
+     * las respuestas precalculadas de los errores de dominio.
+     */
+    private final String path;
+
+    /**
+     * Incumplimientos de las reglas de validación, uno por regla. Solo se
+     * incluye en los errores de validación de solicitudes.
      */
-    private String path;
+    private final List<FieldViolation> violations;
 
     /**
      * Constructor que inicializa una respuesta de error con la información básica.
@@ -69,6 +87,48 @@ public class ApiErrorResponse {
         this.error = status.getReasonPhrase(); // Obtiene la descripción del código de estado HTTP
         this.message = message; // Inicializa el mensaje descriptivo del error
         this.path = path; // Inicializa la ruta de la solicitud que causó el error
+        this.code = null;
+        this.violations = null;
+    }
+
+    private ApiErrorResponse(LocalDateTime timestamp, HttpStatus status, String code, String message,
+            String path, List<FieldViolation> violations) {
+        this.timestamp = timestamp;
+        this.status = status.value();
+        this.error = status.getReasonPhrase();
+        this.message = message;
+        this.path = path;
+        this.code = code;
+        this.violations = violations;
+    }
+
+    /**
+     * Crea una respuesta reutilizable entre solicitudes para un error de
+     * dominio, sin marca de tiempo ni ruta.
+     * 
+     * @param status Código de estado HTTP que representa el tipo de error
+     * @param code Código de error estable
+     * @param message Mensaje descriptivo del error específico
+     * @return Respuesta de error inmutable
+     */
+    public static ApiErrorResponse shared(HttpStatus status, String code, String message) {
+        return new ApiErrorResponse(null, status, code, message, null, null);
+    }
+
+    /**
+     * Crea la respuesta de un error de validación con la lista completa de
+     * incumplimientos.
+     * 
+     * @param status Código de estado HTTP que representa el tipo de error
+     * @param code Código de error estable
+     * @param message Mensaje descriptivo del error
+     * @param path Ruta de la solicitud que causó el error
+     * @param violations Incumplimientos detectados
+     * @return Respuesta de error con los incumplimientos
+     */
+    public static ApiErrorResponse withViolations(HttpStatus status, String code, String message, String path,
+            List<FieldViolation> violations) {
+        return new ApiErrorResponse(LocalDateTime.now(), status, code, message, path, violations);
     }
 
 
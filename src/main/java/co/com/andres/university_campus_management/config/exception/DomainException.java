@@ -0,0 +1,88 @@
+package co.com.andres.university_campus_management.config.exception;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.http.HttpStatus;
+
+/**
+ * Excepción base de los errores de dominio de la aplicación (recursos no
+ * encontrados, datos inválidos, conflictos, credenciales incorrectas).
+ *
+ * Estos errores forman parte del flujo normal de la API y se traducen siempre
+ * a la misma respuesta HTTP, por lo que no capturan la traza de la pila ni
+ * admiten excepciones suprimidas: crear una es tan barato como crear cualquier
+ * otro objeto. Cada tipo declara su código HTTP y un código de error estable,
+ * y el cuerpo {@link ApiErrorResponse} se construye una sola vez por tipo y se
+ * reutiliza en todas las respuestas.
+ *
+ * El cuerpo en caché se genera a partir de la primera instancia de cada
+ * tipo, así que solo sirve para mensajes fijos. Las subclases cuyo mensaje
+ * depende de la instancia (un límite configurado, los campos de un listado)
+ * usan el constructor con {@code fixedMessage = false}: siguen sin capturar
+ * la traza, pero reciben un cuerpo propio en cada respuesta.
+ *
+ * @author Andres
+ * @version 1.0
+ * @since 2024
+ */
+public abstract class DomainException extends RuntimeException {
+
+    /**
+     * Cuerpos de respuesta inmutables, uno por tipo de excepción.
+     */
+    private static final Map<Class<?>, ApiErrorResponse> RESPONSES = new ConcurrentHashMap<>();
+
+    private final HttpStatus status;
+    private final String code;
+    private final boolean fixedMessage;
+
+    /**
+     * @param status Código de estado HTTP de la respuesta
+     * @param code Código de error estable, pensado para los clientes de la API
+     * @param message Mensaje descriptivo del error, el mismo en todas las instancias
+     */
+    protected DomainException(HttpStatus status, String code, String message) {
+        this(status, code, message, true);
+    }
+
+    /**
+     * @param status Código de estado HTTP de la respuesta
+     * @param code Código de error estable, pensado para los clientes de la API
+     * @param message Mensaje descriptivo del error
+     * @param fixedMessage false si el mensaje cambia entre instancias del mismo
+     *        tipo; el cuerpo de la respuesta entonces no se guarda en caché
+     */
+    protected DomainException(HttpStatus status, String code, String message, boolean fixedMessage) {
+        super(message, null, false, false);
+        this.status = status;
+        this.code = code;
+        this.fixedMessage = fixedMessage;
+    }
+
+    public HttpStatus getStatus() {
+        return status;
+    }
+
+    public String getCode() {
+        return code;
+    }
+
+    /**
+     * Devuelve el cuerpo de respuesta precalculado para este tipo de excepción,
+     * o uno nuevo con el mensaje de esta instancia si el mensaje no es fijo.
+     *
+     * @return Respuesta de error inmutable
+     */
+    public ApiErrorResponse errorResponse() {
+        if (!fixedMessage) {
+            return ApiErrorResponse.shared(status, code, getMessage());
+        }
+        var response = RESPONSES.get(getClass());
+        if (response == null) {
+            response = RESPONSES.computeIfAbsent(getClass(),
+                    type -> ApiErrorResponse.shared(status, code, getMessage()));
+        }
+        return response;
+    }
+}
@@ -0,0 +1,18 @@
+package co.com.andres.university_campus_management.config.exception;
+
+/**
+ * Incumplimiento de una regla de validación sobre un campo de la solicitud.
+ * 
+ * Las instancias se crean una sola vez al definir las reglas y se reutilizan
+ * en todas las respuestas de error.
+ * 
+ * @param field Nombre del campo en el JSON de la solicitud
+ * @param code Código de error estable
+ * @param message Mensaje descriptivo del error
+ * 
+ * @author Andres
+ * @version 1.0
+ * @since 2024
+ */
+public record FieldViolation(String field, String code, String message) {
+}
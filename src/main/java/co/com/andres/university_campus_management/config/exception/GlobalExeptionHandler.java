@@ -1,31 +1,19 @@
 package co.com.andres.university_campus_management.config.exception;
 
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.validation.FieldError;
+import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.context.request.async.AsyncRequestNotUsableException;
 
-import co.com.andres.university_campus_management.config.exception.couseException.CourseByIdException;
-import co.com.andres.university_campus_management.config.exception.couseException.CourseCodeValidException;
-import co.com.andres.university_campus_management.config.exception.couseException.CourseMaxCapacityValidException;
-import co.com.andres.university_campus_management.config.exception.couseException.CourseWithCodeExistException;
-import co.com.andres.university_campus_management.config.exception.enrollmentException.EnrollmentByIdException;
-import co.com.andres.university_campus_management.config.exception.enrollmentException.EnrollmentByStateException;
-import co.com.andres.university_campus_management.config.exception.enrollmentException.EnrollmentWithDateValidException;
-import co.com.andres.university_campus_management.config.exception.enrollmentException.EnrollmentWithIdCourseValidException;
-import co.com.andres.university_campus_management.config.exception.enrollmentException.EnrollmentWithIdSudentValidException;
-import co.com.andres.university_campus_management.config.exception.professorException.ProfessorByIdException;
-import co.com.andres.university_campus_management.config.exception.professorException.ProfessorWithEmailExistException;
-import co.com.andres.university_campus_management.config.exception.professorException.ProfessorWithEmailValidException;
-import co.com.andres.university_campus_management.config.exception.professorException.ProfessorWithPhoneValidException;
-import co.com.andres.university_campus_management.config.exception.professorException.ProfessorWithRoleValidException;
-import co.com.andres.university_campus_management.config.exception.studentException.StudentByIdException;
-import co.com.andres.university_campus_management.config.exception.studentException.StudentNumberExistException;
-import co.com.andres.university_campus_management.config.exception.studentException.StudentWintEmailValidException;
-import co.com.andres.university_campus_management.config.exception.studentException.StudentWintNumberValidExeption;
-import co.com.andres.university_campus_management.config.exception.studentException.StudentWintPhoneValidException;
-import co.com.andres.university_campus_management.config.exception.studentException.StudentWithEmailExistException;
+import co.com.andres.university_campus_management.config.exception.authenticate.LoginThrottledException;
+import co.com.andres.university_campus_management.config.exception.validationException.RequestValidationException;
+import co.com.andres.university_campus_management.utils.LoginThrottle;
 import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
 
 /**
  * Manejador global de excepciones para la aplicación de gestión universitaria.
@@ -44,424 +32,92 @@ import jakarta.servlet.http.HttpServletRequest;
  * @since 2024
  */
 @ControllerAdvice
+@RequiredArgsConstructor
 public class GlobalExeptionHandler {
 
-        // ESTUDIANTES
+        // Limitador de intentos, usado para informar el tiempo de espera (Retry-After)
+        private final LoginThrottle loginThrottle;
 
-        /**
-         * Maneja excepciones de validación de formato de email.
-         * 
-         * Se activa cuando el email proporcionado no cumple con el formato requerido
-         * de dominio universitario (@universidad.com).
-         * 
-         * @param ex      La excepción EmailValidException capturada
-         * @param request La solicitud HTTP que generó la excepción
-         * @return ResponseEntity con código 400 (BAD_REQUEST) y detalles del error
-         */
-        @ExceptionHandler
-        public ResponseEntity<ApiErrorResponse> HandlerEmailValidException(StudentWintEmailValidException ex,
-                        HttpServletRequest request) {
-                return ResponseEntity.status(HttpStatus.BAD_REQUEST)
-                                .body(new ApiErrorResponse(HttpStatus.BAD_REQUEST, ex.getMessage(),
-                                                request.getRequestURI()));
-        }
-
-        /**
-         * Maneja excepciones de validación de formato de número de estudiante.
-         * 
-         * Se activa cuando el número de estudiante no cumple con el formato requerido
-         * (entre 8 y 10 dígitos numéricos).
-         * 
-         * @param ex      La excepción NumberValidExeption capturada
-         * @param request La solicitud HTTP que generó la excepción
-         * @return ResponseEntity con código 400 (BAD_REQUEST) y detalles del error
-         */
-        @ExceptionHandler
-        public ResponseEntity<ApiErrorResponse> HandlerNumberValidException(StudentWintNumberValidExeption ex,
-                        HttpServletRequest request) {
-                return ResponseEntity.status(HttpStatus.BAD_REQUEST)
-                                .body(new ApiErrorResponse(HttpStatus.BAD_REQUEST, ex.getMessage(),
-                                                request.getRequestURI()));
-        }
-
-        /**
-         * Maneja excepciones de validación de formato de teléfono.
-         * 
-         * Se activa cuando el número de teléfono no cumple con el formato requerido
-         * (7-15 dígitos, opcionalmente precedidos por '+').
-         * 
-         * @param ex      La excepción PhoneValidException capturada
-         * @param request La solicitud HTTP que generó la excepción
-         * @return ResponseEntity con código 400 (BAD_REQUEST) y detalles del error
-         */
-        @ExceptionHandler
-        public ResponseEntity<ApiErrorResponse> HandlerPhoneValidException(StudentWintPhoneValidException ex,
-                        HttpServletRequest request) {
-                return ResponseEntity.status(HttpStatus.BAD_REQUEST)
-                                .body(new ApiErrorResponse(HttpStatus.BAD_REQUEST, ex.getMessage(),
-                                                request.getRequestURI()));
-        }
-
-        /**
-         * Maneja excepciones cuando no se encuentra un estudiante por ID.
-         * 
-         * Se activa cuando se intenta acceder, actualizar o eliminar un estudiante
-         * con un ID que no existe en la base de datos.
-         * 
-         * @param ex      La excepción StudentByIdException capturada
-         * @param request La solicitud HTTP que generó la excepción
-         * @return ResponseEntity con código 404 (NOT_FOUND) y detalles del error
-         */
-        @ExceptionHandler
-        public ResponseEntity<ApiErrorResponse> HandlerStudentByIdException(StudentByIdException ex,
-                        HttpServletRequest request) {
-                return ResponseEntity.status(HttpStatus.NOT_FOUND)
-                                .body(new ApiErrorResponse(HttpStatus.NOT_FOUND, ex.getMessage(),
-                                                request.getRequestURI()));
-        }
-
-        /**
-         * Maneja excepciones cuando ya existe un estudiante con el mismo número.
-         * 
-         * Se activa cuando se intenta crear o actualizar un estudiante con un número
-         * de estudiante que ya está registrado en el sistema.
-         * 
-         * @param ex      La excepción StudentNumberExistException capturada
-         * @param request La solicitud HTTP que generó la excepción
-         * @return ResponseEntity con código 409 (CONFLICT) y detalles del error
-         */
-        @ExceptionHandler
-        public ResponseEntity<ApiErrorResponse> HandlerStudentNumberExistException(StudentNumberExistException ex,
-                        HttpServletRequest request) {
-                return ResponseEntity.status(HttpStatus.CONFLICT)
-                                .body(new ApiErrorResponse(HttpStatus.CONFLICT, ex.getMessage(),
-                                                request.getRequestURI()));
-        }
-
-        /**
-         * Maneja excepciones cuando ya existe un estudiante con el mismo email.
-         * 
-         * Se activa cuando se intenta crear o actualizar un estudiante con un email
-         * que ya está registrado en el sistema.
-         * 
-         * @param ex      La excepción StudentWithEmailExistException capturada
-         * @param request La solicitud HTTP que generó la excepción
-         * @return ResponseEntity con código 409 (CONFLICT) y detalles del error
-         */
-        @ExceptionHandler
-        public ResponseEntity<ApiErrorResponse> HandlerStudentWithEmailExistException(StudentWithEmailExistException ex,
-                        HttpServletRequest request) {
-                return ResponseEntity.status(HttpStatus.CONFLICT)
-                                .body(new ApiErrorResponse(HttpStatus.CONFLICT, ex.getMessage(),
-                                                request.getRequestURI()));
-        }
-
-        // CURSOS
-
-        /**
-         * Maneja excepciones cuando no se encuentra un curso por ID.
-         * 
-         * Se activa cuando se intenta acceder a un curso con un ID que no existe
-         * en el sistema.
-         * 
-         * @param ex      La excepción CourseByIdException capturada
-         * @param request La solicitud HTTP que generó la excepción
-         * @return ResponseEntity con código 404 (NOT_FOUND) y detalles del error
-         */
-        @ExceptionHandler
-        public ResponseEntity<ApiErrorResponse> handlerCourseByIdException(CourseByIdException ex,
-                        HttpServletRequest request) {
-                return ResponseEntity.status(HttpStatus.NOT_FOUND)
-                                .body(new ApiErrorResponse(HttpStatus.NOT_FOUND, ex.getMessage(),
-                                                request.getRequestURI()));
-        }
+        // ERRORES DE DOMINIO
 
         /**
-         * Maneja excepciones cuando ya existe un curso con el mismo código.
+         * Maneja las excepciones de dominio (recursos no encontrados, datos
+         * inválidos, conflictos y credenciales incorrectas).
          * 
-         * Se activa cuando se intenta crear o actualizar un curso con un código
-         * que ya está registrado en el sistema.
+         * Cada excepción declara su código HTTP y el cuerpo de la respuesta se
+         * reutiliza entre solicitudes, de modo que una ráfaga de errores (por
+         * ejemplo, consultas a IDs inexistentes) no crea un cuerpo nuevo por
+         * cada una.
          * 
-         * @param ex      La excepción CourseWithCodeExistException capturada
-         * @param request La solicitud HTTP que generó la excepción
-         * @return ResponseEntity con código 409 (CONFLICT) y detalles del error
+         * @param ex La excepción DomainException capturada
+         * @return ResponseEntity con el código de la excepción y el cuerpo precalculado
          */
         @ExceptionHandler
-        public ResponseEntity<ApiErrorResponse> handlerCourseWithCodeExistException(CourseWithCodeExistException ex,
-                        HttpServletRequest request) {
-                return ResponseEntity.status(HttpStatus.CONFLICT)
-                                .body(new ApiErrorResponse(HttpStatus.CONFLICT, ex.getMessage(),
-                                                request.getRequestURI()));
+        public ResponseEntity<ApiErrorResponse> handlerDomainException(DomainException ex) {
+                return ResponseEntity.status(ex.getStatus()).body(ex.errorResponse());
         }
 
-        /**
-         * Maneja excepciones de validación del código del curso.
-         * 
-         * Se activa cuando el código del curso no cumple con el formato requerido
-         * (3-4 letras mayúsculas seguido de un guión y 3 dígitos).
-         * 
-         * @param ex      La excepción CourseCodeValidException capturada
-         * @param request La solicitud HTTP que generó la excepción
-         * @return ResponseEntity con código 400 (BAD_REQUEST) y detalles del error
-         */
-        @ExceptionHandler
-        public ResponseEntity<ApiErrorResponse> handlerCourseCodeValidException(CourseCodeValidException ex,
-                        HttpServletRequest request) {
-                return ResponseEntity.status(HttpStatus.BAD_REQUEST)
-                                .body(new ApiErrorResponse(HttpStatus.BAD_REQUEST, ex.getMessage(),
-                                                request.getRequestURI()));
-        }
-
-        /**
-         * Maneja excepciones de validación de la capacidad máxima del curso.
-         * 
-         * Se activa cuando la capacidad máxima del curso no está dentro del rango
-         * permitido (entre 1 y 50 estudiantes).
-         * 
-         * @param ex      La excepción CourseMaxCapacityValidException capturada
-         * @param request La solicitud HTTP que generó la excepción
-         * @return ResponseEntity con código 400 (BAD_REQUEST) y detalles del error
-         */
-        @ExceptionHandler
-        public ResponseEntity<ApiErrorResponse> handlerCourseMaxCapacityValidException(
-                        CourseMaxCapacityValidException ex,
-                        HttpServletRequest request) {
-                return ResponseEntity.status(HttpStatus.BAD_REQUEST)
-                                .body(new ApiErrorResponse(HttpStatus.BAD_REQUEST, ex.getMessage(),
-                                                request.getRequestURI()));
-        }
-
-        // PROFESORES
-
-        /**
-         * Maneja excepciones cuando no se encuentra un profesor por ID.
-         * 
-         * Se activa cuando se intenta acceder, actualizar o eliminar un profesor
-         * con un ID que no existe en la base de datos.
-         * 
-         * @param ex      La excepción ProfessorByIdException capturada
-         * @param request La solicitud HTTP que generó la excepción
-         * @return ResponseEntity con código 404 (NOT_FOUND) y detalles del error
-         */
-        @ExceptionHandler
-        public ResponseEntity<ApiErrorResponse> handlerProfessorByIdException(ProfessorByIdException ex,
-                        HttpServletRequest request) {
-                return ResponseEntity.status(HttpStatus.NOT_FOUND)
-                                .body(new ApiErrorResponse(HttpStatus.NOT_FOUND, ex.getMessage(),
-                                                request.getRequestURI()));
-        }
+        // AUTHENTICACION 
 
-        /**
-         * Maneja excepciones cuando ya existe un profesor con el email proporcionado.
-         * 
-         * Se activa cuando se intenta crear o actualizar un profesor con un email
-         * que ya está registrado en el sistema.
-         * 
-         * @param ex      La excepción ProfessorWithEmailExistException capturada
-         * @param request La solicitud HTTP que generó la excepción
-         * @return ResponseEntity con código 409 (CONFLICT) y detalles del error
-         */
         @ExceptionHandler
-        public ResponseEntity<ApiErrorResponse> handlerProfessorWithEmailExistException(
-                        ProfessorWithEmailExistException ex,
-                        HttpServletRequest request) {
-                return ResponseEntity.status(HttpStatus.CONFLICT)
-                                .body(new ApiErrorResponse(HttpStatus.CONFLICT, ex.getMessage(),
-                                                request.getRequestURI()));
+        public ResponseEntity<ApiErrorResponse> handlerLoginThrottledException(LoginThrottledException ex) {
+                return ResponseEntity.status(ex.getStatus())
+                                .header(HttpHeaders.RETRY_AFTER, String.valueOf(loginThrottle.retryAfterSeconds()))
+                                .body(ex.errorResponse());
         }
 
-        /**
-         * Maneja excepciones de validación de formato de email del profesor.
-         * 
-         * Se activa cuando el email proporcionado no cumple con el formato requerido
-         * de dominio universitario (@universidad.com).
-         * 
-         * @param ex      La excepción ProfessorWithEmailValidException capturada
-         * @param request La solicitud HTTP que generó la excepción
-         * @return ResponseEntity con código 400 (BAD_REQUEST) y detalles del error
-         */
-        @ExceptionHandler
-        public ResponseEntity<ApiErrorResponse> handlerProfessorWithEmailValidException(
-                        ProfessorWithEmailValidException ex,
-                        HttpServletRequest request) {
-                return ResponseEntity.status(HttpStatus.BAD_REQUEST)
-                                .body(new ApiErrorResponse(HttpStatus.BAD_REQUEST, ex.getMessage(),
-                                                request.getRequestURI()));
-        }
+        // EXPORTACIONES
 
         /**
-         * Maneja excepciones de validación de formato de teléfono del profesor.
+         * Maneja la desconexión del cliente durante una exportación en streaming.
          * 
-         * Se activa cuando el número de teléfono no cumple con el formato requerido
-         * (7-15 dígitos, opcionalmente precedidos por '+').
+         * La respuesta ya está comprometida y la conexión cerrada, por lo que no
+         * se escribe ningún cuerpo de error.
          * 
-         * @param ex      La excepción ProfessorWithPhoneValidException capturada
-         * @param request La solicitud HTTP que generó la excepción
-         * @return ResponseEntity con código 400 (BAD_REQUEST) y detalles del error
+         * @param ex La excepción AsyncRequestNotUsableException capturada
          */
         @ExceptionHandler
-        public ResponseEntity<ApiErrorResponse> handlerProfessorWithPhoneValidException(
-                        ProfessorWithPhoneValidException ex,
-                        HttpServletRequest request) {
-                return ResponseEntity.status(HttpStatus.BAD_REQUEST)
-                                .body(new ApiErrorResponse(HttpStatus.BAD_REQUEST, ex.getMessage(),
-                                                request.getRequestURI()));
-        }
-
-        /**
-         * Maneja excepciones de validación de roles del profesor.
-         * 
-         * Se activa cuando los roles asignados al profesor no son válidos según
-         * las reglas de negocio del sistema (solo se permiten ROLE_PROFESSOR y ROLE_ADMIN).
-         * 
-         * @param ex      La excepción ProfessorWithRoleValidException capturada
-         * @param request La solicitud HTTP que generó la excepción
-         * @return ResponseEntity con código 400 (BAD_REQUEST) y detalles del error
-         */
-        @ExceptionHandler
-        public ResponseEntity<ApiErrorResponse> handlerProfessorWithRoleValidException(
-                        ProfessorWithRoleValidException ex,
-                        HttpServletRequest request) {
-                return ResponseEntity.status(HttpStatus.BAD_REQUEST)
-                                .body(new ApiErrorResponse(HttpStatus.BAD_REQUEST, ex.getMessage(),
-                                                request.getRequestURI()));
+        public void handlerAsyncRequestNotUsableException(AsyncRequestNotUsableException ex) {
         }
 
-        // INSCRIPCION
+        // VALIDACIONES
 
         /**
-         * Maneja excepciones cuando no se encuentra una inscripción por ID.
+         * Maneja la excepción cuando una solicitud incumple una o varias reglas
+         * de validación, devolviendo todos los incumplimientos en una sola
+         * respuesta.
          * 
-         * Se activa cuando se intenta acceder, actualizar o eliminar una inscripción
-         * con un ID que no existe en la base de datos.
-         * 
-         * @param ex      La excepción EnrollmentByIdException capturada
-         * @param request La solicitud HTTP que generó la excepción
-         * @return ResponseEntity con código 404 (NOT_FOUND) y detalles del error
-         */
-        @ExceptionHandler
-        public ResponseEntity<ApiErrorResponse> handlerEnrollmentByIdException(EnrollmentByIdException ex,
-                        HttpServletRequest request) {
-                return ResponseEntity.status(HttpStatus.NOT_FOUND)
-                                .body(new ApiErrorResponse(HttpStatus.NOT_FOUND, ex.getMessage(),
-                                                request.getRequestURI()));
-        }
-
-        /**
-         * Maneja excepciones cuando no se encuentran matrículas con el estado
-         * especificado.
-         * 
-         * Se activa cuando se intenta buscar matrículas con un estado que no existe
-         * o no hay matrículas registradas con ese estado en el sistema.
-         * 
-         * @param ex      La excepción EnrollmentByStateException capturada
+         * @param ex      La excepción RequestValidationException capturada
          * @param request La solicitud HTTP que generó la excepción
-         * @return ResponseEntity con código 404 (NOT_FOUND) y detalles del error
+         * @return ResponseEntity con código 400 (BAD_REQUEST) y la lista de incumplimientos
          */
         @ExceptionHandler
-        public ResponseEntity<ApiErrorResponse> handlerEnrollmentByStateException(EnrollmentByStateException ex,
-                        HttpServletRequest request) {
-                return ResponseEntity.status(HttpStatus.NOT_FOUND)
-                                .body(new ApiErrorResponse(HttpStatus.NOT_FOUND, ex.getMessage(),
-                                                request.getRequestURI()));
-        }
-
-        /**
-         * Maneja excepciones de validación de fecha de inscripción.
-         * 
-         * Se activa cuando la fecha de inscripción no cumple con el formato requerido
-         * o está fuera del período permitido.
-         * 
-         * @param ex      La excepción EnrollmentWithDateValidException capturada
-         * @param request La solicitud HTTP que generó la excepción
-         * @return ResponseEntity con código 400 (BAD_REQUEST) y detalles del error
-         */
-        @ExceptionHandler
-        public ResponseEntity<ApiErrorResponse> handlerEnrollmentNoCapacityException(
-                        EnrollmentWithDateValidException ex,
-                        HttpServletRequest request) {
-                return ResponseEntity.status(HttpStatus.BAD_REQUEST)
-                                .body(new ApiErrorResponse(HttpStatus.BAD_REQUEST, ex.getMessage(),
-                                                request.getRequestURI()));
-        }
-
-        /**
-         * Maneja excepciones de validación del ID del curso en inscripciones.
-         * 
-         * Se activa cuando el ID del curso proporcionado no es válido
-         * o no existe en el sistema.
-         * 
-         * @param ex      La excepción EnrollmentWithIdCourseValidException capturada
-         * @param request La solicitud HTTP que generó la excepción
-         * @return ResponseEntity con código 400 (BAD_REQUEST) y detalles del error
-         */
-        @ExceptionHandler
-        public ResponseEntity<ApiErrorResponse> handlerEnrollmentCourseIdValidException(
-                        EnrollmentWithIdCourseValidException ex,
-                        HttpServletRequest request) {
-                return ResponseEntity.status(HttpStatus.BAD_REQUEST)
-                                .body(new ApiErrorResponse(HttpStatus.BAD_REQUEST, ex.getMessage(),
-                                                request.getRequestURI()));
-        }
-
-        /**
-         * Maneja excepciones de validación del ID del estudiante en inscripciones.
-         * 
-         * Se activa cuando el ID del estudiante proporcionado no es válido
-         * o no existe en el sistema.
-         * 
-         * @param ex      La excepción EnrollmentWithIdSudentValidException capturada
-         * @param request La solicitud HTTP que generó la excepción
-         * @return ResponseEntity con código 400 (BAD_REQUEST) y detalles del error
-         */
-        @ExceptionHandler
-        public ResponseEntity<ApiErrorResponse> handlerEnrollmentStudentIdValidException(
-                        EnrollmentWithIdSudentValidException ex,
+        public ResponseEntity<ApiErrorResponse> handlerRequestValidationException(RequestValidationException ex,
                         HttpServletRequest request) {
                 return ResponseEntity.status(HttpStatus.BAD_REQUEST)
-                                .body(new ApiErrorResponse(HttpStatus.BAD_REQUEST, ex.getMessage(),
-                                                request.getRequestURI()));
+                                .body(ApiErrorResponse.withViolations(HttpStatus.BAD_REQUEST, ex.getCode(),
+                                                ex.getMessage(), request.getRequestURI(), ex.getViolations()));
         }
 
-
-
-        // AUTHENTICACION 
-
-
         /**
-         * Maneja la excepción cuando las credenciales del profesor son inválidas.
-         * 
-         * Se activa cuando el correo electrónico o la contraseña del profesor son incorrectos.
+         * Maneja las anotaciones de Bean Validation ({@code @Valid}) de los
+         * cuerpos de solicitud, con la misma respuesta que las reglas de
+         * {@code RequestValidator}; sin este manejador caerían en el error 500
+         * genérico.
          * 
-         * @param ex      La excepción InvalidCredentialsProfessorException capturada
+         * @param ex      La excepción MethodArgumentNotValidException capturada
          * @param request La solicitud HTTP que generó la excepción
-         * @return ResponseEntity con código 401 (UNAUTHORIZED) y detalles del error
+         * @return ResponseEntity con código 400 (BAD_REQUEST) y la lista de incumplimientos
          */
         @ExceptionHandler
-        public ResponseEntity<ApiErrorResponse> handlerInvalidCredentialsProfessorException(
-                        co.com.andres.university_campus_management.config.exception.authenticate.InvalidCredentialsProfessorException ex,
-                        HttpServletRequest request) {
-                return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
-                                .body(new ApiErrorResponse(HttpStatus.UNAUTHORIZED, ex.getMessage(),
-                                                request.getRequestURI()));
-        }
-
-        /**
-         * Maneja la excepción cuando las credenciales del estudiante son inválidas.
-         * 
-         * Se activa cuando el correo electrónico o la contraseña del estudiante son incorrectos.
-         * 
-         * @param ex      La excepción InvalidCredentialsStudentException capturada
-         * @param request La solicitud HTTP que generó la excepción
-         * @return ResponseEntity con código 401 (UNAUTHORIZED) y detalles del error
-         */
-        @ExceptionHandler
-        public ResponseEntity<ApiErrorResponse> handlerInvalidCredentialsStudentException(
-                        co.com.andres.university_campus_management.config.exception.authenticate.InvalidCredentialsStudentException ex,
-                        HttpServletRequest request) {
-                return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
-                                .body(new ApiErrorResponse(HttpStatus.UNAUTHORIZED, ex.getMessage(),
-                                                request.getRequestURI()));
+        public ResponseEntity<ApiErrorResponse> handlerMethodArgumentNotValidException(
+                        MethodArgumentNotValidException ex, HttpServletRequest request) {
+                var violations = ex.getBindingResult().getAllErrors().stream()
+                                .map(error -> new FieldViolation(
+                                                error instanceof FieldError field ? field.getField() : error.getObjectName(),
+                                                "VALIDATION_FAILED", error.getDefaultMessage()))
+                                .toList();
+                return handlerRequestValidationException(new RequestValidationException(violations), request);
         }
 
         // ERRORES DE SERVIDOR
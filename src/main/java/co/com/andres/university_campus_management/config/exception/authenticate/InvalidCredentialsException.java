@@ -0,0 +1,18 @@
+package co.com.andres.university_campus_management.config.exception.authenticate;
+
+import org.springframework.http.HttpStatus;
+
+import co.com.andres.university_campus_management.config.exception.DomainException;
+
+public class InvalidCredentialsException extends DomainException {
+
+    /**
+     * Constructor por defecto con mensaje predefinido en mayúsculas.
+     * Se utiliza en el login unificado cuando las credenciales son incorrectas,
+     * sin revelar si el email pertenece a un estudiante o a un profesor.
+     */
+    public InvalidCredentialsException() {
+        super(HttpStatus.UNAUTHORIZED, "INVALID_CREDENTIALS",
+                "EL CORREO ELECTRÓNICO O LA CONTRASEÑA SON INCORRECTOS");
+    }
+}
@@ -1,12 +1,17 @@
 package co.com.andres.university_campus_management.config.exception.authenticate;
 
-public class InvalidCredentialsProfessorException extends RuntimeException{
+import org.springframework.http.HttpStatus;
+
+import co.com.andres.university_campus_management.config.exception.DomainException;
+
+public class InvalidCredentialsProfessorException extends DomainException {
     
     /**
      * Constructor por defecto con mensaje predefinido en mayúsculas.
      * Se utiliza cuando las credenciales del profesor son incorrectas.
      */
     public InvalidCredentialsProfessorException() {
-        super("EL CORREO ELECTRÓNICO O LA CONTRASEÑA DEL PROFESOR SON INCORRECTOS");
+        super(HttpStatus.UNAUTHORIZED, "PROFESSOR_INVALID_CREDENTIALS",
+                "EL CORREO ELECTRÓNICO O LA CONTRASEÑA DEL PROFESOR SON INCORRECTOS");
     }
 }
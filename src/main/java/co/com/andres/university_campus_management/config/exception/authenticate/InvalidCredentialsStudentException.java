@@ -1,11 +1,16 @@
 package co.com.andres.university_campus_management.config.exception.authenticate;
 
-public class InvalidCredentialsStudentException extends RuntimeException {
+import org.springframework.http.HttpStatus;
+
+import co.com.andres.university_campus_management.config.exception.DomainException;
+
+public class InvalidCredentialsStudentException extends DomainException {
     /**
      * Constructor por defecto con mensaje predefinido en mayúsculas.
      * Se utiliza cuando las credenciales del estudiante son incorrectas.
      */
     public InvalidCredentialsStudentException() {
-        super("EL CORREO ELECTRÓNICO O LA CONTRASEÑA DEL ESTUDIANTE SON INCORRECTOS");
+        super(HttpStatus.UNAUTHORIZED, "STUDENT_INVALID_CREDENTIALS",
+                "EL CORREO ELECTRÓNICO O LA CONTRASEÑA DEL ESTUDIANTE SON INCORRECTOS");
     }
 }
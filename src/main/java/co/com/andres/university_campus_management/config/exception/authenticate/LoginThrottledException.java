@@ -0,0 +1,17 @@
+package co.com.andres.university_campus_management.config.exception.authenticate;
+
+import org.springframework.http.HttpStatus;
+
+import co.com.andres.university_campus_management.config.exception.DomainException;
+
+public class LoginThrottledException extends DomainException {
+
+    /**
+     * Constructor por defecto con mensaje predefinido en mayúsculas.
+     * Se utiliza cuando se superan los intentos de inicio de sesión permitidos.
+     */
+    public LoginThrottledException() {
+        super(HttpStatus.TOO_MANY_REQUESTS, "LOGIN_THROTTLED",
+                "DEMASIADOS INTENTOS DE INICIO DE SESIÓN, INTENTE DE NUEVO MÁS TARDE");
+    }
+}
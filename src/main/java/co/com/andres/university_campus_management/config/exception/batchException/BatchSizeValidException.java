@@ -0,0 +1,27 @@
+package co.com.andres.university_campus_management.config.exception.batchException;
+
+import org.springframework.http.HttpStatus;
+
+import co.com.andres.university_campus_management.config.exception.DomainException;
+
+/**
+ * Excepción personalizada que se lanza cuando una consulta por lote no
+ * contiene identificadores o supera el máximo permitido.
+ * 
+ * @author Andres
+ * @version 1.0
+ * @since 2024
+ */
+public class BatchSizeValidException extends DomainException {
+
+    /**
+     * Constructor que inicializa la excepción indicando el máximo de
+     * identificadores permitidos por lote.
+     * 
+     * @param maxIds Máximo de identificadores permitidos
+     */
+    public BatchSizeValidException(int maxIds) {
+        super(HttpStatus.BAD_REQUEST, "BATCH_SIZE_INVALID",
+                "EL LOTE DEBE CONTENER ENTRE 1 Y " + maxIds + " IDENTIFICADORES", false);
+    }
+}
@@ -1,25 +1,29 @@
 package co.com.andres.university_campus_management.config.exception.couseException;
 
+import org.springframework.http.HttpStatus;
+
+import co.com.andres.university_campus_management.config.exception.DomainException;
 
 /**
  * Excepción personalizada que se lanza cuando la capacidad máxima del curso
  * no cumple con los requisitos establecidos.
  * 
- * Esta excepción extiende RuntimeException y se utiliza para validar que la
+ * Esta excepción extiende DomainException y se utiliza para validar que la
  * capacidad máxima del curso esté dentro del rango permitido (entre 1 y 50 estudiantes).
  * 
  * @author Andres
  * @version 1.0
  * @since 2024
  */
-public class CourseMaxCapacityValidException extends RuntimeException {
+public class CourseMaxCapacityValidException extends DomainException {
     
     /**
      * Constructor por defecto que inicializa la excepción con un mensaje
      * descriptivo sobre el rango válido para la capacidad máxima del curso.
      */
     public CourseMaxCapacityValidException() {
-        super("LA CAPACIDAD MÁXIMA DEL CURSO NO ES VÁLIDA. DEBE ESTAR ENTRE 1 Y 50 ESTUDIANTES");
+        super(HttpStatus.BAD_REQUEST, "COURSE_CAPACITY_INVALID",
+                "LA CAPACIDAD MÁXIMA DEL CURSO NO ES VÁLIDA. DEBE ESTAR ENTRE 1 Y 50 ESTUDIANTES");
     }
 }
 
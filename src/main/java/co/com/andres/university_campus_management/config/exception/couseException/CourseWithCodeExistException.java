@@ -1,24 +1,29 @@
 package co.com.andres.university_campus_management.config.exception.couseException;
 
+import org.springframework.http.HttpStatus;
+
+import co.com.andres.university_campus_management.config.exception.DomainException;
+
 /**
  * Excepción personalizada que se lanza cuando se intenta registrar un curso
  * con un código que ya existe en el sistema.
  * 
- * Esta excepción extiende RuntimeException y se utiliza para manejar casos donde
+ * Esta excepción extiende DomainException y se utiliza para manejar casos donde
  * se viola la restricción de unicidad del código del curso en la base de datos.
  * 
  * @author Andres
  * @version 1.0
  * @since 2024
  */
-public class CourseWithCodeExistException extends RuntimeException {
+public class CourseWithCodeExistException extends DomainException {
 
     /**
      * Constructor por defecto que inicializa la excepción con un mensaje
      * descriptivo sobre el error de duplicación del código del curso.
      */
     public CourseWithCodeExistException() {
-        super("ESTE CÓDIGO DE CURSO YA SE ENCUENTRA REGISTRADO");
+        super(HttpStatus.CONFLICT, "COURSE_CODE_EXISTS",
+                "ESTE CÓDIGO DE CURSO YA SE ENCUENTRA REGISTRADO");
     }
 
 }
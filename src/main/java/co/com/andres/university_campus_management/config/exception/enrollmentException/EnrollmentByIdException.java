@@ -1,23 +1,28 @@
 package co.com.andres.university_campus_management.config.exception.enrollmentException;
 
+import org.springframework.http.HttpStatus;
+
+import co.com.andres.university_campus_management.config.exception.DomainException;
+
 /**
  * Excepción personalizada que se lanza cuando se intenta buscar una matrícula
  * con un ID que no existe en la base de datos.
  * 
- * Esta excepción extiende de RuntimeException para indicar un error en tiempo
+ * Esta excepción extiende de DomainException para indicar un error en tiempo
  * de ejecución relacionado con la búsqueda de datos.
  * 
  * @author Andres
  * @version 1.0
  * @since 2024
  */
-public class EnrollmentByIdException extends RuntimeException {
+public class EnrollmentByIdException extends DomainException {
     
     /**
      * Constructor por defecto que inicializa la excepción con un mensaje
      * descriptivo del error.
      */
     public EnrollmentByIdException() {
-        super("NO SE ENCONTRÓ UNA MATRÍCULA CON EL ID ESPECIFICADO");
+        super(HttpStatus.NOT_FOUND, "ENROLLMENT_NOT_FOUND",
+                "NO SE ENCONTRÓ UNA MATRÍCULA CON EL ID ESPECIFICADO");
     }
 }
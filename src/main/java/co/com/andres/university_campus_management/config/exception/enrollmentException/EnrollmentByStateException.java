@@ -1,5 +1,9 @@
 package co.com.andres.university_campus_management.config.exception.enrollmentException;
 
+import org.springframework.http.HttpStatus;
+
+import co.com.andres.university_campus_management.config.exception.DomainException;
+
 /**
  * Excepción lanzada cuando no se encuentran matrículas con un estado específico.
  * 
@@ -10,13 +14,14 @@ package co.com.andres.university_campus_management.config.exception.enrollmentEx
  * @version 1.0
  * @since 2024
  */
-public class EnrollmentByStateException extends RuntimeException {
+public class EnrollmentByStateException extends DomainException {
     
     /**
      * Constructor por defecto con mensaje de error.
      */
     public EnrollmentByStateException() {
-        super("NO SE ENCONTRARON MATRÍCULAS CON EL ESTADO ESPECIFICADO");
+        super(HttpStatus.NOT_FOUND, "ENROLLMENT_STATE_NOT_FOUND",
+                "NO SE ENCONTRARON MATRÍCULAS CON EL ESTADO ESPECIFICADO");
     }
     
     
@@ -1,24 +1,29 @@
 package co.com.andres.university_campus_management.config.exception.enrollmentException;
 
+import org.springframework.http.HttpStatus;
+
+import co.com.andres.university_campus_management.config.exception.DomainException;
+
 /**
  * Excepción personalizada que se lanza cuando se intenta crear una matrícula
  * con un ID de estudiante inválido o inexistente.
  * 
- * Esta excepción extiende de RuntimeException para indicar un error en tiempo
+ * Esta excepción extiende de DomainException para indicar un error en tiempo
  * de ejecución relacionado con la validación de datos de entrada.
  * 
  * @author Andres
  * @version 1.0
  * @since 2024
  */
-public class EnrollmentWithIdSudentValidException extends RuntimeException {
+public class EnrollmentWithIdSudentValidException extends DomainException {
     
     /**
      * Constructor por defecto que inicializa la excepción con un mensaje
      * descriptivo del error.
      */
     public EnrollmentWithIdSudentValidException() {
-        super("NO SE PUEDE CREAR UNA MATRÍCULA CON UN ID DE ESTUDIANTE INVÁLIDO");
+        super(HttpStatus.BAD_REQUEST, "ENROLLMENT_STUDENT_INVALID",
+                "NO SE PUEDE CREAR UNA MATRÍCULA CON UN ID DE ESTUDIANTE INVÁLIDO");
     }
 }
     
@@ -0,0 +1,24 @@
+package co.com.andres.university_campus_management.config.exception.exportException;
+
+import org.springframework.http.HttpStatus;
+
+import co.com.andres.university_campus_management.config.exception.DomainException;
+
+/**
+ * Excepción personalizada que se lanza cuando se solicita una exportación en
+ * un formato no soportado.
+ * 
+ * @author Andres
+ * @version 1.0
+ * @since 2024
+ */
+public class ExportFormatValidException extends DomainException {
+
+    /**
+     * Constructor por defecto con mensaje predefinido en mayúsculas.
+     */
+    public ExportFormatValidException() {
+        super(HttpStatus.BAD_REQUEST, "EXPORT_FORMAT_INVALID",
+                "EL FORMATO DE EXPORTACIÓN NO ES VÁLIDO. USE CSV O NDJSON");
+    }
+}
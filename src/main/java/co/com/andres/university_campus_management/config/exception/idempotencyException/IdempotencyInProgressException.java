@@ -0,0 +1,24 @@
+package co.com.andres.university_campus_management.config.exception.idempotencyException;
+
+import org.springframework.http.HttpStatus;
+
+import co.com.andres.university_campus_management.config.exception.DomainException;
+
+/**
+ * Excepción que se lanza cuando la solicitud original con la misma clave no
+ * termina dentro del tiempo de espera.
+ * 
+ * @author Andres
+ * @version 1.0
+ * @since 2024
+ */
+public class IdempotencyInProgressException extends DomainException {
+
+    /**
+     * Constructor por defecto con mensaje predefinido en mayúsculas.
+     */
+    public IdempotencyInProgressException() {
+        super(HttpStatus.CONFLICT, "IDEMPOTENCY_IN_PROGRESS",
+                "LA SOLICITUD CON ESTA CLAVE DE IDEMPOTENCIA TODAVÍA SE ESTÁ PROCESANDO");
+    }
+}
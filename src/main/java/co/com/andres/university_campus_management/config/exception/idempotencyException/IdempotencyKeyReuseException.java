@@ -0,0 +1,24 @@
+package co.com.andres.university_campus_management.config.exception.idempotencyException;
+
+import org.springframework.http.HttpStatus;
+
+import co.com.andres.university_campus_management.config.exception.DomainException;
+
+/**
+ * Excepción que se lanza cuando se reutiliza una clave de idempotencia con un
+ * cuerpo de solicitud distinto.
+ * 
+ * @author Andres
+ * @version 1.0
+ * @since 2024
+ */
+public class IdempotencyKeyReuseException extends DomainException {
+
+    /**
+     * Constructor por defecto con mensaje predefinido en mayúsculas.
+     */
+    public IdempotencyKeyReuseException() {
+        super(HttpStatus.UNPROCESSABLE_ENTITY, "IDEMPOTENCY_KEY_REUSED",
+                "LA CLAVE DE IDEMPOTENCIA YA SE UTILIZÓ CON UNA SOLICITUD DIFERENTE");
+    }
+}
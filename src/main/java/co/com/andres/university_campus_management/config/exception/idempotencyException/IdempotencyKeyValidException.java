@@ -0,0 +1,24 @@
+package co.com.andres.university_campus_management.config.exception.idempotencyException;
+
+import org.springframework.http.HttpStatus;
+
+import co.com.andres.university_campus_management.config.exception.DomainException;
+
+/**
+ * Excepción que se lanza cuando la cabecera Idempotency-Key está vacía o es
+ * demasiado larga.
+ * 
+ * @author Andres
+ * @version 1.0
+ * @since 2024
+ */
+public class IdempotencyKeyValidException extends DomainException {
+
+    /**
+     * Constructor por defecto con mensaje predefinido en mayúsculas.
+     */
+    public IdempotencyKeyValidException() {
+        super(HttpStatus.BAD_REQUEST, "IDEMPOTENCY_KEY_INVALID",
+                "LA CLAVE DE IDEMPOTENCIA NO ES VÁLIDA. DEBE TENER ENTRE 1 Y 255 CARACTERES");
+    }
+}
@@ -1,11 +1,16 @@
 package co.com.andres.university_campus_management.config.exception.professorException;
 
-public class CourseWithIdProfessorValidException  extends RuntimeException{
+import org.springframework.http.HttpStatus;
+
+import co.com.andres.university_campus_management.config.exception.DomainException;
+
+public class CourseWithIdProfessorValidException  extends DomainException {
     /**
      * Constructor por defecto que inicializa la excepción con un mensaje
      * descriptivo del error relacionado con el ID del profesor.
      */
     public CourseWithIdProfessorValidException() {
-        super("NO SE PUEDE CREAR O ACTUALIZAR UN CURSO CON UN ID DE PROFESOR INVÁLIDO");
+        super(HttpStatus.BAD_REQUEST, "COURSE_PROFESSOR_INVALID",
+                "NO SE PUEDE CREAR O ACTUALIZAR UN CURSO CON UN ID DE PROFESOR INVÁLIDO");
     }
 }
@@ -1,24 +1,29 @@
 package co.com.andres.university_campus_management.config.exception.professorException;
 
+import org.springframework.http.HttpStatus;
+
+import co.com.andres.university_campus_management.config.exception.DomainException;
+
 /**
  * Excepción personalizada que se lanza cuando se intenta buscar, actualizar o eliminar
  * un profesor con un ID que no existe en el sistema.
  * 
- * Esta excepción extiende RuntimeException para indicar que es una excepción
+ * Esta excepción extiende DomainException para indicar que es una excepción
  * no verificada que puede ser manejada de forma opcional.
  * 
  * @author Andres
  * @version 1.0
  * @since 2024
  */
-public class ProfessorByIdException extends RuntimeException {
+public class ProfessorByIdException extends DomainException {
 
     /**
      * Constructor por defecto que inicializa la excepción con un mensaje
      * descriptivo del error.
      */
     public ProfessorByIdException() {
-        super("EL PROFESOR CON ESTE ID NO EXISTE EN EL SISTEMA");
+        super(HttpStatus.NOT_FOUND, "PROFESSOR_NOT_FOUND",
+                "EL PROFESOR CON ESTE ID NO EXISTE EN EL SISTEMA");
     }
     
 }
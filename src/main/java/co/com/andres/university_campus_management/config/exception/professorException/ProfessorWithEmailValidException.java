@@ -1,24 +1,29 @@
 package co.com.andres.university_campus_management.config.exception.professorException;
 
+import org.springframework.http.HttpStatus;
+
+import co.com.andres.university_campus_management.config.exception.DomainException;
+
 /**
  * Excepción personalizada que se lanza cuando se intenta crear o actualizar
  * un profesor con un email que ya existe en el sistema.
  * 
- * Esta excepción extiende RuntimeException para indicar que es una excepción
+ * Esta excepción extiende DomainException para indicar que es una excepción
  * no verificada que puede ser manejada de forma opcional.
  * 
  * @author Andres
  * @version 1.0
  * @since 2024
  */
-public class ProfessorWithEmailValidException extends RuntimeException {
+public class ProfessorWithEmailValidException extends DomainException {
 
     /**
      * Constructor por defecto que inicializa la excepción con un mensaje
      * descriptivo del error.
      */
     public ProfessorWithEmailValidException() {
-        super("EL PROFESOR CON ESTE EMAIL YA EXISTE EN EL SISTEMA");
+        super(HttpStatus.BAD_REQUEST, "PROFESSOR_EMAIL_INVALID",
+                "EL PROFESOR CON ESTE EMAIL YA EXISTE EN EL SISTEMA");
     }
     
 }
@@ -1,24 +1,29 @@
 package co.com.andres.university_campus_management.config.exception.professorException;
 
+import org.springframework.http.HttpStatus;
+
+import co.com.andres.university_campus_management.config.exception.DomainException;
+
 /**
  * Excepción personalizada que se lanza cuando se intenta crear o actualizar
  * un profesor con un teléfono que ya existe en el sistema.
  * 
- * Esta excepción extiende RuntimeException para indicar que es una excepción
+ * Esta excepción extiende DomainException para indicar que es una excepción
  * no verificada que puede ser manejada de forma opcional.
  * 
  * @author Andres
  * @version 1.0
  * @since 2024
  */
-public class ProfessorWithPhoneValidException extends RuntimeException {
+public class ProfessorWithPhoneValidException extends DomainException {
 
     /**
      * Constructor por defecto que inicializa la excepción con un mensaje
      * descriptivo del error.
      */
     public ProfessorWithPhoneValidException() {
-        super("EL PROFESOR CON ESTE TELÉFONO YA EXISTE EN EL SISTEMA");
+        super(HttpStatus.BAD_REQUEST, "PROFESSOR_PHONE_INVALID",
+                "EL PROFESOR CON ESTE TELÉFONO YA EXISTE EN EL SISTEMA");
     }
     
 }
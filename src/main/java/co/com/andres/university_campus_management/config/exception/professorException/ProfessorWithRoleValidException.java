@@ -1,5 +1,9 @@
 package co.com.andres.university_campus_management.config.exception.professorException;
 
+import org.springframework.http.HttpStatus;
+
+import co.com.andres.university_campus_management.config.exception.DomainException;
+
 /**
  * Excepción personalizada que se lanza cuando se intenta asignar roles inválidos
  * (ROLE_PROFESSOR y ROLE_ADMIN) a los profesores en el sistema.
@@ -11,12 +15,13 @@ package co.com.andres.university_campus_management.config.exception.professorExc
  * @version 1.0
  * @since 2024
  */
-public class ProfessorWithRoleValidException extends RuntimeException {
+public class ProfessorWithRoleValidException extends DomainException {
 
     /**
      * Constructor que establece el mensaje de error específico para roles inválidos.
      */
     public ProfessorWithRoleValidException() {
-        super("LOS ROLES ASIGNADOS AL PROFESOR NO SON VÁLIDOS. SOLO SE PERMITEN: ROLE_PROFESSOR Y ROLE_ADMIN");
+        super(HttpStatus.BAD_REQUEST, "PROFESSOR_ROLE_INVALID",
+                "LOS ROLES ASIGNADOS AL PROFESOR NO SON VÁLIDOS. SOLO SE PERMITEN: ROLE_PROFESSOR Y ROLE_ADMIN");
     }
 }
@@ -0,0 +1,26 @@
+package co.com.andres.university_campus_management.config.exception.sparseException;
+
+import org.springframework.http.HttpStatus;
+
+import co.com.andres.university_campus_management.config.exception.DomainException;
+
+/**
+ * Excepción personalizada que se lanza cuando el parámetro {@code fields} de
+ * un listado está vacío o contiene campos que el listado no permite.
+ * 
+ * @author Andres
+ * @version 1.0
+ * @since 2024
+ */
+public class SparseFieldValidException extends DomainException {
+
+    /**
+     * Constructor que inicializa la excepción con los campos permitidos.
+     * 
+     * @param allowed Campos permitidos, separados por comas
+     */
+    public SparseFieldValidException(String allowed) {
+        super(HttpStatus.BAD_REQUEST, "FIELDS_INVALID",
+                "LOS CAMPOS SOLICITADOS NO SON VÁLIDOS. CAMPOS PERMITIDOS: " + allowed, false);
+    }
+}
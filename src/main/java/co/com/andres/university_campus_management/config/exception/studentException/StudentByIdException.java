@@ -1,10 +1,14 @@
 package co.com.andres.university_campus_management.config.exception.studentException;
 
+import org.springframework.http.HttpStatus;
+
+import co.com.andres.university_campus_management.config.exception.DomainException;
+
 /**
  * Excepción personalizada que se lanza cuando no se encuentra un estudiante
  * con el ID especificado en el sistema.
  * 
- * Esta excepción extiende RuntimeException y se utiliza para manejar casos donde
+ * Esta excepción extiende DomainException y se utiliza para manejar casos donde
  * se intenta acceder, actualizar o eliminar un estudiante que no existe en la
  * base de datos con el identificador proporcionado.
  * 
@@ -12,13 +16,14 @@ package co.com.andres.university_campus_management.config.exception.studentExcep
  * @version 1.0
  * @since 2024
  */
-public class StudentByIdException  extends RuntimeException{
+public class StudentByIdException  extends DomainException {
     
     /**
      * Constructor por defecto que inicializa la excepción con un mensaje
      * descriptivo sobre la no existencia del estudiante con el ID especificado.
      */
     public StudentByIdException(){
-        super("ESTUDIANTE CON ESE ID, NO ENCONTRADO");
+        super(HttpStatus.NOT_FOUND, "STUDENT_NOT_FOUND",
+                "ESTUDIANTE CON ESE ID, NO ENCONTRADO");
     }
 }
@@ -1,10 +1,14 @@
 package co.com.andres.university_campus_management.config.exception.studentException;
 
+import org.springframework.http.HttpStatus;
+
+import co.com.andres.university_campus_management.config.exception.DomainException;
+
 /**
  * Excepción personalizada que se lanza cuando se intenta registrar un estudiante
  * con un número de estudiante que ya existe en el sistema.
  * 
- * Esta excepción extiende RuntimeException y se utiliza para manejar casos donde
+ * Esta excepción extiende DomainException y se utiliza para manejar casos donde
  * se viola la restricción de unicidad del número de estudiante en la base de datos,
  * garantizando que cada estudiante tenga un número único en el sistema.
  * 
@@ -12,14 +16,15 @@ package co.com.andres.university_campus_management.config.exception.studentExcep
  * @version 1.0
  * @since 2024
  */
-public class StudentNumberExistException extends RuntimeException {
+public class StudentNumberExistException extends DomainException {
 
     /**
      * Constructor por defecto que inicializa la excepción con un mensaje
      * descriptivo sobre el error de duplicación del número de estudiante.
      */
     public StudentNumberExistException() {
-        super("ESTE NUMERO DE ESTUDIANTE YA SE ENCUENTRA REGISTRADO");
+        super(HttpStatus.CONFLICT, "STUDENT_NUMBER_EXISTS",
+                "ESTE NUMERO DE ESTUDIANTE YA SE ENCUENTRA REGISTRADO");
     }
 
 }
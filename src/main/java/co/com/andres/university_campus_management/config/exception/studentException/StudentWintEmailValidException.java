@@ -1,10 +1,14 @@
 package co.com.andres.university_campus_management.config.exception.studentException;
 
+import org.springframework.http.HttpStatus;
+
+import co.com.andres.university_campus_management.config.exception.DomainException;
+
 /**
  * Excepción personalizada que se lanza cuando el correo electrónico proporcionado
  * no cumple con el formato requerido de dominio universitario (@universidad.com).
  * 
- * Esta excepción extiende RuntimeException y se utiliza para validar que el
+ * Esta excepción extiende DomainException y se utiliza para validar que el
  * correo electrónico del estudiante termine correctamente según las políticas
  * de la universidad.
  * 
@@ -12,13 +16,14 @@ package co.com.andres.university_campus_management.config.exception.studentExcep
  * @version 1.0
  * @since 2024
  */
-public class StudentWintEmailValidException extends RuntimeException{
+public class StudentWintEmailValidException extends DomainException {
   
     /**
      * Constructor por defecto que inicializa la excepción con un mensaje
      * descriptivo sobre el formato requerido para el correo electrónico.
      */
     public StudentWintEmailValidException() {
-        super("EL CORREO ELECTRÓNICO NO ES VÁLIDO. DEBE TERMINAR EN @universidad.com");
+        super(HttpStatus.BAD_REQUEST, "STUDENT_EMAIL_INVALID",
+                "EL CORREO ELECTRÓNICO NO ES VÁLIDO. DEBE TERMINAR EN @universidad.com");
     }
 }
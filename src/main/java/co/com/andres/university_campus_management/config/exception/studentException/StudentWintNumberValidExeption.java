@@ -1,10 +1,14 @@
 package co.com.andres.university_campus_management.config.exception.studentException;
 
+import org.springframework.http.HttpStatus;
+
+import co.com.andres.university_campus_management.config.exception.DomainException;
+
 /**
  * Excepción personalizada que se lanza cuando el número de estudiante no cumple
  * con el formato requerido de validación.
  * 
- * Esta excepción extiende RuntimeException y se utiliza para validar que el
+ * Esta excepción extiende DomainException y se utiliza para validar que el
  * número de estudiante tenga entre 8 y 10 dígitos numéricos como se especifica
  * en los requisitos del sistema.
  * 
@@ -12,14 +16,15 @@ package co.com.andres.university_campus_management.config.exception.studentExcep
  * @version 1.0
  * @since 2024
  */
-public class StudentWintNumberValidExeption extends RuntimeException{
+public class StudentWintNumberValidExeption extends DomainException {
     
     /**
      * Constructor por defecto que inicializa la excepción con un mensaje
      * descriptivo sobre el formato requerido para el número de estudiante.
      */
     public StudentWintNumberValidExeption (){
-        super("EL NÚMERO DE ESTUDIANTE DEBE TENER ENTRE 8 Y 10 DÍGITOS NUMÉRICOS");
+        super(HttpStatus.BAD_REQUEST, "STUDENT_NUMBER_INVALID",
+                "EL NÚMERO DE ESTUDIANTE DEBE TENER ENTRE 8 Y 10 DÍGITOS NUMÉRICOS");
     }
     
 }
@@ -0,0 +1,50 @@
+package co.com.andres.university_campus_management.config.exception.validationException;
+
+import java.util.List;
+
+import co.com.andres.university_campus_management.config.exception.FieldViolation;
+
+/**
+ * Excepción que se lanza cuando una solicitud incumple una o varias reglas de
+ * validación.
+ * 
+ * Reúne todos los incumplimientos detectados en una sola pasada, de modo que
+ * el cliente recibe la lista completa en una única respuesta. Al igual que las
+ * excepciones de dominio, no captura la traza de la pila.
+ * 
+ * @author Andres
+ * @version 1.0
+ * @since 2024
+ */
+public class RequestValidationException extends RuntimeException {
+
+    private final List<FieldViolation> violations;
+
+    /**
+     * Constructor que recibe los incumplimientos detectados. Con un solo
+     * incumplimiento el mensaje es el de la regla; con varios, un resumen.
+     * 
+     * @param violations Incumplimientos detectados, al menos uno
+     */
+    public RequestValidationException(List<FieldViolation> violations) {
+        super(violations.size() == 1
+                ? violations.get(0).message()
+                : "LA SOLICITUD CONTIENE " + violations.size() + " ERRORES DE VALIDACIÓN",
+                null, false, false);
+        this.violations = violations;
+    }
+
+    public List<FieldViolation> getViolations() {
+        return violations;
+    }
+
+    /**
+     * Código del error: el de la regla incumplida si es una sola, o
+     * VALIDATION_FAILED si son varias.
+     * 
+     * @return Código de error estable
+     */
+    public String getCode() {
+        return violations.size() == 1 ? violations.get(0).code() : "VALIDATION_FAILED";
+    }
+}
@@ -0,0 +1,45 @@
+package co.com.andres.university_campus_management.config.tracing;
+
+import java.time.Instant;
+import java.util.Map;
+import java.util.TreeMap;
+
+import io.opentelemetry.api.trace.SpanId;
+import io.opentelemetry.sdk.trace.data.SpanData;
+
+/**
+ * Span terminado, tal como lo escriben los exportadores locales.
+ *
+ * @param traceId ID de la traza
+ * @param spanId ID del span
+ * @param parentSpanId ID del span padre, o null si es la raíz
+ * @param name Nombre del span (por ejemplo, StudentService.getById)
+ * @param kind Tipo de span (SERVER, CLIENT o INTERNAL)
+ * @param start Instante de inicio
+ * @param durationMs Duración en milisegundos
+ * @param status Estado (UNSET, OK o ERROR)
+ * @param attributes Atributos del span
+ *
+ * @author Andres
+ * @version 1.0
+ * @since 2024
+ */
+public record ExportedSpan(String traceId, String spanId, String parentSpanId, String name, String kind,
+        Instant start, double durationMs, String status, Map<String, String> attributes) {
+
+    /**
+     * Convierte un span del SDK de OpenTelemetry.
+     *
+     * @param span Span terminado
+     * @return Span exportado
+     */
+    public static ExportedSpan of(SpanData span) {
+        var attributes = new TreeMap<String, String>();
+        span.getAttributes().forEach((key, value) -> attributes.put(key.getKey(), String.valueOf(value)));
+        var parent = span.getParentSpanId();
+        return new ExportedSpan(span.getTraceId(), span.getSpanId(), SpanId.isValid(parent) ? parent : null,
+                span.getName(), span.getKind().name(), Instant.ofEpochSecond(0, span.getStartEpochNanos()),
+                (span.getEndEpochNanos() - span.getStartEpochNanos()) / 1_000_000.0,
+                span.getStatus().getStatusCode().name(), attributes);
+    }
+}
@@ -0,0 +1,125 @@
+package co.com.andres.university_campus_management.config.tracing;
+
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+
+import io.opentelemetry.sdk.common.CompletableResultCode;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import io.opentelemetry.sdk.trace.export.SpanExporter;
+
+/**
+ * Exportador que guarda en memoria los últimos spans terminados.
+ *
+ * Sirve de colector local en entornos sin backend de trazas: se consulta en
+ * {@code /actuator/traces}. Retiene como máximo {@code maxSpans} spans y
+ * descarta los más antiguos.
+ *
+ * @author Andres
+ * @version 1.0
+ * @since 2024
+ */
+public class InMemorySpanExporter implements SpanExporter {
+
+    private final int maxSpans;
+    private final ArrayDeque<ExportedSpan> spans;
+
+    /**
+     * Crea el exportador.
+     *
+     * @param maxSpans Número máximo de spans retenidos
+     */
+    public InMemorySpanExporter(int maxSpans) {
+        this.maxSpans = maxSpans;
+        this.spans = new ArrayDeque<>(Math.min(maxSpans, 1024));
+    }
+
+    /**
+     * Resumen de una traza retenida.
+     *
+     * @param traceId ID de la traza
+     * @param root Nombre del span raíz (o del primero retenido si la raíz ya se descartó)
+     * @param start Inicio de la traza
+     * @param durationMs Duración del span raíz en milisegundos
+     * @param spans Número de spans retenidos de la traza
+     */
+    public record TraceSummary(String traceId, String root, Instant start, double durationMs, int spans) {
+    }
+
+    @Override
+    public synchronized CompletableResultCode export(Collection<SpanData> batch) {
+        for (var span : batch) {
+            if (spans.size() == maxSpans) {
+                spans.removeFirst();
+            }
+            spans.addLast(ExportedSpan.of(span));
+        }
+        return CompletableResultCode.ofSuccess();
+    }
+
+    /**
+     * Devuelve todos los spans retenidos, del más antiguo al más reciente.
+     *
+     * @return Spans retenidos
+     */
+    public synchronized List<ExportedSpan> spans() {
+        return List.copyOf(spans);
+    }
+
+    /**
+     * Devuelve los spans retenidos de una traza, en orden de inicio.
+     *
+     * @param traceId ID de la traza
+     * @return Spans de la traza
+     */
+    public synchronized List<ExportedSpan> trace(String traceId) {
+        var result = new ArrayList<ExportedSpan>();
+        for (var span : spans) {
+            if (span.traceId().equals(traceId)) {
+                result.add(span);
+            }
+        }
+        result.sort((left, right) -> left.start().compareTo(right.start()));
+        return result;
+    }
+
+    /**
+     * Resume las trazas retenidas, de la más reciente a la más antigua.
+     *
+     * @return Resumen de cada traza
+     */
+    public synchronized List<TraceSummary> traces() {
+        var byTrace = new LinkedHashMap<String, List<ExportedSpan>>();
+        spans.descendingIterator().forEachRemaining(
+                span -> byTrace.computeIfAbsent(span.traceId(), key -> new ArrayList<>()).add(span));
+        var result = new ArrayList<TraceSummary>(byTrace.size());
+        byTrace.forEach((traceId, traceSpans) -> {
+            var root = traceSpans.stream()
+                    .filter(span -> span.parentSpanId() == null)
+                    .findFirst()
+                    .orElse(traceSpans.get(traceSpans.size() - 1));
+            result.add(new TraceSummary(traceId, root.name(), root.start(), root.durationMs(), traceSpans.size()));
+        });
+        return result;
+    }
+
+    /**
+     * Descarta los spans retenidos.
+     */
+    public synchronized void reset() {
+        spans.clear();
+    }
+
+    @Override
+    public CompletableResultCode flush() {
+        return CompletableResultCode.ofSuccess();
+    }
+
+    @Override
+    public CompletableResultCode shutdown() {
+        return CompletableResultCode.ofSuccess();
+    }
+}
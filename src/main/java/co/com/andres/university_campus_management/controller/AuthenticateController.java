@@ -35,6 +35,24 @@ public class AuthenticateController {
      */
     private final AuthenticateService authenticateService;
 
+    /**
+     * Endpoint de autenticación unificado para estudiantes y profesores.
+     * 
+     * Resuelve al usuario por email con una sola consulta y devuelve un token JWT
+     * con sus roles, sin que el cliente necesite saber si es estudiante o profesor.
+     * 
+     * @param body Solicitud de autenticación con email y contraseña
+     * @return Respuesta con el token JWT generado
+     */
+    @Operation(summary = "Autenticar usuario", description = "Recibe las credenciales de un estudiante o profesor y retorna un token JWT si la autenticación es exitosa.")
+    @ApiResponse(responseCode = "200", description = "Autenticación exitosa", content = @Content(schema = @Schema(implementation = AuthenticateResponse.class)))
+    @ApiResponse(responseCode = "401", description = "Credenciales inválidas")
+    @ApiResponse(responseCode = "429", description = "Demasiados intentos de inicio de sesión")
+    @PostMapping("/authenticate")
+    public AuthenticateResponse authenticate(@Valid @RequestBody AuthenticateRequest body) {
+        return authenticateService.login(body);
+    }
+
     /**
      * Endpoint para autenticar estudiantes.
      * 
@@ -15,9 +15,13 @@ import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
 
+import co.com.andres.university_campus_management.model.DTO.BatchRequest;
+import co.com.andres.university_campus_management.model.DTO.BatchResponse;
 import co.com.andres.university_campus_management.model.DTO.CourseRequest;
 import co.com.andres.university_campus_management.model.DTO.CourseResponse;
+import co.com.andres.university_campus_management.model.DTO.SparseRows;
 import co.com.andres.university_campus_management.service.CourseService;
+import co.com.andres.university_campus_management.utils.QueryBudget;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
@@ -64,6 +68,7 @@ public class CourseController {
     @ResponseStatus(HttpStatus.CREATED)
     @PostMapping
     @PreAuthorize("hasRole('ADMIN') or hasRole('PROFESSOR')")
+    @QueryBudget(3)
     public CourseResponse create(@Valid @RequestBody CourseRequest request) {
         return courseService.createCourse(request);
     }
@@ -87,6 +92,29 @@ public class CourseController {
         return courseService.getAllCourse();
     }
 
+    /**
+     * Obtiene la lista de cursos solo con los campos indicados en {@code fields}.
+     * 
+     * Se consultan y serializan únicamente las columnas pedidas; útil para
+     * listados livianos como selectores (por ejemplo {@code ?fields=id,name}).
+     * 
+     * @param fields Campos a incluir, separados por comas
+     * @return Lista de registros con los campos seleccionados
+     */
+    @Operation(summary = "Obtener todos los cursos (campos seleccionados)", description = "Devuelve solo los campos indicados en el parámetro fields")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Listado obtenido exitosamente"),
+            @ApiResponse(responseCode = "400", description = "Campos solicitados no válidos"),
+            @ApiResponse(responseCode = "500", description = "Error interno del servidor")
+    })
+    @PreAuthorize("hasRole('ADMIN') or hasRole('PROFESSOR') or hasRole('STUDENT')")
+    @ResponseStatus(HttpStatus.OK)
+    @GetMapping(params = "fields")
+    @QueryBudget(1)
+    public SparseRows getAll(@RequestParam("fields") String fields) {
+        return courseService.getAllCourse(fields);
+    }
+
     /**
      * Obtiene un curso específico por su ID.
      * 
@@ -103,10 +131,34 @@ public class CourseController {
     @ResponseStatus(HttpStatus.OK)
     @GetMapping("/{id}")
     @PreAuthorize("hasRole('ADMIN') or hasRole('PROFESSOR') or hasRole('STUDENT')")
+    @QueryBudget(1)
     public CourseResponse getById(@PathVariable("id") Long id) {
         return courseService.byIdCourse(id);
     }
 
+    /**
+     * Busca varios cursos por sus identificadores en una sola llamada.
+     * 
+     * Los cursos se devuelven en el orden de la solicitud y los
+     * identificadores inexistentes se listan aparte sin hacer fallar el lote.
+     * 
+     * @param batchRequest Identificadores a consultar
+     * @return BatchResponse con los cursos encontrados y los identificadores inexistentes
+     */
+    @Operation(summary = "Obtener cursos por lote", description = "Busca varios cursos por sus identificadores con una sola consulta")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Lote resuelto exitosamente"),
+            @ApiResponse(responseCode = "400", description = "El lote está vacío o supera el máximo de identificadores"),
+            @ApiResponse(responseCode = "500", description = "Error interno del servidor")
+    })
+    @PreAuthorize("hasAnyRole('ADMIN', 'PROFESSOR', 'STUDENT')")
+    @ResponseStatus(HttpStatus.OK)
+    @PostMapping("/batch")
+    @QueryBudget(1)
+    public BatchResponse<CourseResponse> getByIds(@RequestBody BatchRequest batchRequest) {
+        return courseService.getByIds(batchRequest.ids());
+    }
+
     /**
      * Actualiza la información de un curso existente.
      * 
@@ -126,6 +178,7 @@ public class CourseController {
     @ResponseStatus(HttpStatus.OK)
     @PutMapping("/{id}")
     @PreAuthorize("hasRole('ADMIN') or hasRole('PROFESSOR')")
+    @QueryBudget(3)
     public CourseResponse update( @Valid @PathVariable("id") Long id, @RequestBody CourseRequest courseRequest) {
         return courseService.updateCourse(id, courseRequest);
     }
@@ -145,6 +198,7 @@ public class CourseController {
     @ResponseStatus(HttpStatus.NO_CONTENT)
     @DeleteMapping("/{id}")
     @PreAuthorize("hasRole('ADMIN')")
+    @QueryBudget(1)
     public void delete(@PathVariable Long id) {
         courseService.deleteCourse(id);
     }
@@ -169,6 +223,30 @@ public class CourseController {
         return courseService.getByName(text);
     }
 
+    /**
+     * Obtiene los cursos cuyo nombre contiene el texto solo con los campos indicados en {@code fields}.
+     * 
+     * Se consultan y serializan únicamente las columnas pedidas; útil para
+     * listados livianos como selectores (por ejemplo {@code ?fields=id,name}).
+     * 
+     * @param text Texto a buscar en el nombre del curso
+     * @param fields Campos a incluir, separados por comas
+     * @return Lista de registros con los campos seleccionados
+     */
+    @Operation(summary = "Buscar cursos por nombre (campos seleccionados)", description = "Devuelve solo los campos indicados en el parámetro fields")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Listado obtenido exitosamente"),
+            @ApiResponse(responseCode = "400", description = "Campos solicitados no válidos"),
+            @ApiResponse(responseCode = "500", description = "Error interno del servidor")
+    })
+    @PreAuthorize("hasRole('ADMIN') or hasRole('PROFESSOR') or hasRole('STUDENT')")
+    @ResponseStatus(HttpStatus.OK)
+    @GetMapping(value = "/buscarNombre", params = "fields")
+    @QueryBudget(1)
+    public SparseRows getByName(@RequestParam("n") String text, @RequestParam("fields") String fields) {
+        return courseService.getByName(text, fields);
+    }
+
     /**
      * Busca cursos por código de curso (búsqueda parcial, ignorando mayúsculas/minúsculas).
      * 
@@ -188,5 +266,28 @@ public class CourseController {
         return courseService.getByCourseCode(text);
     }
 
+    /**
+     * Obtiene los cursos cuyo código contiene el texto solo con los campos indicados en {@code fields}.
+     * 
+     * Se consultan y serializan únicamente las columnas pedidas; útil para
+     * listados livianos como selectores (por ejemplo {@code ?fields=id,name}).
+     * 
+     * @param text Texto a buscar en el código del curso
+     * @param fields Campos a incluir, separados por comas
+     * @return Lista de registros con los campos seleccionados
+     */
+    @Operation(summary = "Buscar cursos por código (campos seleccionados)", description = "Devuelve solo los campos indicados en el parámetro fields")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Listado obtenido exitosamente"),
+            @ApiResponse(responseCode = "400", description = "Campos solicitados no válidos"),
+            @ApiResponse(responseCode = "500", description = "Error interno del servidor")
+    })
+    @ResponseStatus(HttpStatus.OK)
+    @GetMapping(value = "/buscarCode", params = "fields")
+    @QueryBudget(1)
+    public SparseRows getByCode(@RequestParam("c") String text, @RequestParam("fields") String fields) {
+        return courseService.getByCourseCode(text, fields);
+    }
+
 
 }
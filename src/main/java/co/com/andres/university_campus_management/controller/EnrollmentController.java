@@ -2,21 +2,31 @@ package co.com.andres.university_campus_management.controller;
 
 import java.util.List;
 
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import co.com.andres.university_campus_management.model.DTO.EnrollmentRequest;
 import co.com.andres.university_campus_management.model.DTO.EnrollmentResponse;
+import co.com.andres.university_campus_management.model.DTO.SparseRows;
 import co.com.andres.university_campus_management.model.entity.EnrollmentState;
+import co.com.andres.university_campus_management.service.CourseService;
 import co.com.andres.university_campus_management.service.EnrollmentService;
+import co.com.andres.university_campus_management.utils.ExportFormat;
+import co.com.andres.university_campus_management.utils.ExportResponses;
+import co.com.andres.university_campus_management.utils.QueryBudget;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
@@ -45,6 +55,7 @@ import lombok.RequiredArgsConstructor;
 public class EnrollmentController {
 
     private final EnrollmentService enrollmentService;
+    private final CourseService courseService;
 
     /**
      * Crea una nueva matrícula en el sistema.
@@ -62,6 +73,7 @@ public class EnrollmentController {
             @ApiResponse(responseCode = "403", description = "Acceso denegado"),
             @ApiResponse(responseCode = "500", description = "Error interno del servidor")
     })
+    @QueryBudget(3)
     public EnrollmentResponse create(@Valid @RequestBody EnrollmentRequest enrollmentRequest) {
         return enrollmentService.createEnrollment(enrollmentRequest);
     }
@@ -84,6 +96,29 @@ public class EnrollmentController {
         return enrollmentService.getAllEnrollments();
     }
 
+    /**
+     * Obtiene la lista de matrículas solo con los campos indicados en {@code fields}.
+     * 
+     * Se consultan y serializan únicamente las columnas pedidas; útil para
+     * listados livianos como selectores (por ejemplo {@code ?fields=id,course_id}).
+     * 
+     * @param fields Campos a incluir, separados por comas
+     * @return Lista de registros con los campos seleccionados
+     */
+    @Operation(summary = "Obtener todas las matrículas (campos seleccionados)", description = "Devuelve solo los campos indicados en el parámetro fields")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Listado obtenido exitosamente"),
+            @ApiResponse(responseCode = "400", description = "Campos solicitados no válidos"),
+            @ApiResponse(responseCode = "500", description = "Error interno del servidor")
+    })
+    @PreAuthorize("hasRole('ADMIN') or hasRole('PROFESSOR')")
+    @ResponseStatus(HttpStatus.OK)
+    @GetMapping(params = "fields")
+    @QueryBudget(1)
+    public SparseRows getAll(@RequestParam("fields") String fields) {
+        return enrollmentService.getAllEnrollments(fields);
+    }
+
     /**
      * Obtiene una matrícula por su identificador único.
      * 
@@ -100,6 +135,7 @@ public class EnrollmentController {
             @ApiResponse(responseCode = "404", description = "Matrícula no encontrada"),
             @ApiResponse(responseCode = "500", description = "Error interno del servidor")
     })
+    @QueryBudget(1)
     public EnrollmentResponse getById(@PathVariable Long idEnrollment) {
         return enrollmentService.getEnrollmentById(idEnrollment);
     }
@@ -120,6 +156,7 @@ public class EnrollmentController {
             @ApiResponse(responseCode = "404", description = "Matrícula no encontrada"),
             @ApiResponse(responseCode = "500", description = "Error interno del servidor")
     })
+    @QueryBudget(3)
     public EnrollmentResponse getByStudentId(@PathVariable Long idStudent) {
         return enrollmentService.getEnrollmentByStudentId(idStudent);
     }
@@ -140,6 +177,7 @@ public class EnrollmentController {
             @ApiResponse(responseCode = "404", description = "Matrícula no encontrada"),
             @ApiResponse(responseCode = "500", description = "Error interno del servidor")
     })
+    @QueryBudget(3)
     public EnrollmentResponse getByCourseId(@PathVariable Long idCourse) {
         return enrollmentService.getEnrollmentByCourseId(idCourse);
     }
@@ -159,6 +197,7 @@ public class EnrollmentController {
             @ApiResponse(responseCode = "404", description = "Matrícula no encontrada"),
             @ApiResponse(responseCode = "500", description = "Error interno del servidor")
     })
+    @QueryBudget(2)
     public void delete(@PathVariable Long id) {
         enrollmentService.deleteEnrollment(id);
     }
@@ -181,4 +220,86 @@ public class EnrollmentController {
     public List<EnrollmentResponse> getByState(@PathVariable EnrollmentState state) {
         return enrollmentService.getEnrollmentByState(state);
     }
+
+    /**
+     * Obtiene las matrículas con el estado especificado solo con los campos indicados en {@code fields}.
+     * 
+     * Se consultan y serializan únicamente las columnas pedidas; útil para
+     * listados livianos como selectores (por ejemplo {@code ?fields=id,course_id}).
+     * 
+     * @param state Estado de la matrícula a buscar (ACTIVE, CANCELLED, GRADUATED)
+     * @param fields Campos a incluir, separados por comas
+     * @return Lista de registros con los campos seleccionados
+     */
+    @Operation(summary = "Buscar matrículas por estado (campos seleccionados)", description = "Devuelve solo los campos indicados en el parámetro fields")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Listado obtenido exitosamente"),
+            @ApiResponse(responseCode = "400", description = "Campos solicitados no válidos"),
+            @ApiResponse(responseCode = "500", description = "Error interno del servidor")
+    })
+    @ResponseStatus(HttpStatus.OK)
+    @GetMapping(value = "/state/{state}", params = "fields")
+    @QueryBudget(1)
+    public SparseRows getByState(@PathVariable EnrollmentState state, @RequestParam("fields") String fields) {
+        return enrollmentService.getEnrollmentByState(state, fields);
+    }
+
+    /**
+     * Exporta todas las matrículas en streaming (CSV o NDJSON).
+     * 
+     * Las filas se leen con un cursor de la base de datos y se escriben a
+     * medida que llegan, comprimidas con gzip si el cliente lo acepta, sin
+     * cargar el listado completo en memoria.
+     * 
+     * @param format Formato de la exportación: csv (por defecto) o ndjson
+     * @param acceptEncoding Cabecera Accept-Encoding de la solicitud
+     * @return Respuesta con el archivo en streaming
+     */
+    @GetMapping("/export")
+    @PreAuthorize("hasRole('ADMIN') or hasRole('PROFESSOR')")
+    @Operation(summary = "Exportar matrículas", description = "Exporta todas las matrículas en CSV o NDJSON, en streaming y comprimidas con gzip si el cliente lo acepta")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Exportación en curso"),
+            @ApiResponse(responseCode = "400", description = "Formato de exportación no válido"),
+            @ApiResponse(responseCode = "403", description = "Acceso denegado"),
+            @ApiResponse(responseCode = "500", description = "Error interno del servidor")
+    })
+    @QueryBudget(1)
+    public ResponseEntity<StreamingResponseBody> export(
+            @RequestParam(value = "format", defaultValue = "csv") String format,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        var exportFormat = ExportFormat.from(format);
+        return ExportResponses.stream("matriculas", exportFormat, acceptEncoding,
+                out -> enrollmentService.exportEnrollments(exportFormat, out));
+    }
+
+    /**
+     * Exporta en streaming los estudiantes matriculados en un curso (CSV o NDJSON).
+     * 
+     * @param idCourse ID del curso
+     * @param format Formato de la exportación: csv (por defecto) o ndjson
+     * @param acceptEncoding Cabecera Accept-Encoding de la solicitud
+     * @return Respuesta con el archivo en streaming
+     */
+    @GetMapping("/course/{idCourse}/export")
+    @PreAuthorize("hasRole('ADMIN') or hasRole('PROFESSOR')")
+    @Operation(summary = "Exportar estudiantes de un curso", description = "Exporta la lista de estudiantes matriculados en un curso en CSV o NDJSON, en streaming")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Exportación en curso"),
+            @ApiResponse(responseCode = "400", description = "Formato de exportación no válido"),
+            @ApiResponse(responseCode = "403", description = "Acceso denegado"),
+            @ApiResponse(responseCode = "404", description = "Curso no encontrado"),
+            @ApiResponse(responseCode = "500", description = "Error interno del servidor")
+    })
+    @QueryBudget(2)
+    public ResponseEntity<StreamingResponseBody> exportRoster(
+            @PathVariable Long idCourse,
+            @RequestParam(value = "format", defaultValue = "csv") String format,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        var exportFormat = ExportFormat.from(format);
+        // Se valida el curso antes de empezar a escribir, para poder responder 404
+        courseService.byIdCourse(idCourse);
+        return ExportResponses.stream("curso-" + idCourse, exportFormat, acceptEncoding,
+                out -> enrollmentService.exportRoster(idCourse, exportFormat, out));
+    }
 }
@@ -12,9 +12,13 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
+import co.com.andres.university_campus_management.model.DTO.BatchRequest;
+import co.com.andres.university_campus_management.model.DTO.BatchResponse;
 import co.com.andres.university_campus_management.model.DTO.ProfessorRequest;
 import co.com.andres.university_campus_management.model.DTO.ProfessorResponse;
+import co.com.andres.university_campus_management.model.DTO.SparseRows;
 import co.com.andres.university_campus_management.service.ProfessorService;
+import co.com.andres.university_campus_management.utils.QueryBudget;
 import io.swagger.v3.oas.annotations.Operation;
 import org.springframework.web.bind.annotation.RequestBody;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -62,6 +66,7 @@ public class ProfessorController {
     @PreAuthorize("hasAnyRole('ADMIN')")
     @ResponseStatus(HttpStatus.CREATED)
     @PostMapping
+    @QueryBudget(5)
     public ProfessorResponse create(@Valid @RequestBody ProfessorRequest professorRequest) {
         return professorService.createProfessor(professorRequest);
     }
@@ -84,6 +89,29 @@ public class ProfessorController {
         return professorService.getAllProfessor();
     }
 
+    /**
+     * Obtiene la lista de profesores solo con los campos indicados en {@code fields}.
+     * 
+     * Se consultan y serializan únicamente las columnas pedidas; útil para
+     * listados livianos como selectores (por ejemplo {@code ?fields=id,name}).
+     * 
+     * @param fields Campos a incluir, separados por comas
+     * @return Lista de registros con los campos seleccionados
+     */
+    @Operation(summary = "Obtener todos los profesores (campos seleccionados)", description = "Devuelve solo los campos indicados en el parámetro fields")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Listado obtenido exitosamente"),
+            @ApiResponse(responseCode = "400", description = "Campos solicitados no válidos"),
+            @ApiResponse(responseCode = "500", description = "Error interno del servidor")
+    })
+    @PreAuthorize("hasAnyRole('ADMIN')")
+    @ResponseStatus(HttpStatus.OK)
+    @GetMapping(params = "fields")
+    @QueryBudget(1)
+    public SparseRows getAll(@RequestParam("fields") String fields) {
+        return professorService.getAllProfessor(fields);
+    }
+
     /**
      * Busca un profesor específico por su identificador único.
      * 
@@ -99,10 +127,34 @@ public class ProfessorController {
     @PreAuthorize("hasAnyRole('ADMIN', 'PROFESSOR')")
     @ResponseStatus(HttpStatus.OK)
     @GetMapping("/{id}")
+    @QueryBudget(1)
     public ProfessorResponse getByIdProfessor(@PathVariable("id") Long id) {
         return professorService.getById(id);
     }
 
+    /**
+     * Busca varios profesores por sus identificadores en una sola llamada.
+     * 
+     * Los profesores se devuelven en el orden de la solicitud y los
+     * identificadores inexistentes se listan aparte sin hacer fallar el lote.
+     * 
+     * @param batchRequest Identificadores a consultar
+     * @return BatchResponse con los profesores encontrados y los identificadores inexistentes
+     */
+    @Operation(summary = "Obtener profesores por lote", description = "Busca varios profesores por sus identificadores con una sola consulta")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Lote resuelto exitosamente"),
+            @ApiResponse(responseCode = "400", description = "El lote está vacío o supera el máximo de identificadores"),
+            @ApiResponse(responseCode = "500", description = "Error interno del servidor")
+    })
+    @PreAuthorize("hasAnyRole('ADMIN', 'PROFESSOR')")
+    @ResponseStatus(HttpStatus.OK)
+    @PostMapping("/batch")
+    @QueryBudget(1)
+    public BatchResponse<ProfessorResponse> getByIds(@RequestBody BatchRequest batchRequest) {
+        return professorService.getByIds(batchRequest.ids());
+    }
+
     /**
      * Actualiza la información de un profesor existente.
      * 
@@ -121,6 +173,7 @@ public class ProfessorController {
     @PreAuthorize("hasRole('ADMIN')")
     @ResponseStatus(HttpStatus.OK)
     @PutMapping("/{id}")
+    @QueryBudget(3)
     public ProfessorResponse update(@Valid @PathVariable("id") Long id, @RequestBody ProfessorRequest professorRequest) {
         return professorService.updateProfessor(id, professorRequest);
     }
@@ -139,6 +192,7 @@ public class ProfessorController {
     @PreAuthorize("hasAnyRole('ADMIN')")
     @ResponseStatus(HttpStatus.NO_CONTENT)
     @DeleteMapping("/{id}")
+    @QueryBudget(2)
     public void delete(@PathVariable("id") Long id) {
         professorService.deleteProfessor(id);
     }
@@ -159,4 +213,28 @@ public class ProfessorController {
     public List<ProfessorResponse> getByNameOrLastName(@RequestParam("b") String text) {
         return professorService.getByNameOtByLastName(text);
     }
+
+    /**
+     * Obtiene los profesores cuyo nombre o apellido contiene el texto solo con los campos indicados en {@code fields}.
+     * 
+     * Se consultan y serializan únicamente las columnas pedidas; útil para
+     * listados livianos como selectores (por ejemplo {@code ?fields=id,name}).
+     * 
+     * @param text Texto a buscar en nombre o apellido
+     * @param fields Campos a incluir, separados por comas
+     * @return Lista de registros con los campos seleccionados
+     */
+    @Operation(summary = "Buscar profesores por nombre o apellido (campos seleccionados)", description = "Devuelve solo los campos indicados en el parámetro fields")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Listado obtenido exitosamente"),
+            @ApiResponse(responseCode = "400", description = "Campos solicitados no válidos"),
+            @ApiResponse(responseCode = "500", description = "Error interno del servidor")
+    })
+    @PreAuthorize("hasAnyRole('ADMIN')")
+    @ResponseStatus(HttpStatus.OK)
+    @GetMapping(value = "/buscar", params = "fields")
+    @QueryBudget(1)
+    public SparseRows getByNameOrLastName(@RequestParam("b") String text, @RequestParam("fields") String fields) {
+        return professorService.getByNameOtByLastName(text, fields);
+    }
 }
@@ -15,9 +15,15 @@ import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
 
+import co.com.andres.university_campus_management.model.DTO.BatchRequest;
+import co.com.andres.university_campus_management.model.DTO.BatchResponse;
 import co.com.andres.university_campus_management.model.DTO.StudentResponse;
 import co.com.andres.university_campus_management.model.DTO.StudentRequest;
+import co.com.andres.university_campus_management.model.DTO.StudentDashboardResponse;
+import co.com.andres.university_campus_management.model.DTO.SparseRows;
+import co.com.andres.university_campus_management.service.StudentDashboardService;
 import co.com.andres.university_campus_management.service.StudentService;
+import co.com.andres.university_campus_management.utils.QueryBudget;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import io.swagger.v3.oas.annotations.Operation;
@@ -46,6 +52,7 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 public class StudentController {
 
     private final StudentService studentService;
+    private final StudentDashboardService studentDashboardService;
 
     /**
      * Crea un nuevo estudiante en el sistema.
@@ -63,6 +70,7 @@ public class StudentController {
     @PreAuthorize("hasAnyRole('ADMIN', 'PROFESSOR')")
     @ResponseStatus(HttpStatus.CREATED)
     @PostMapping
+    @QueryBudget(6)
     public StudentResponse create(@Valid @RequestBody StudentRequest studentRequest) {
         return studentService.createStudent(studentRequest);
     }
@@ -85,6 +93,29 @@ public class StudentController {
         return studentService.getAllStudent();
     }
 
+    /**
+     * Obtiene la lista de estudiantes solo con los campos indicados en {@code fields}.
+     * 
+     * Se consultan y serializan únicamente las columnas pedidas; útil para
+     * listados livianos como selectores (por ejemplo {@code ?fields=id,name}).
+     * 
+     * @param fields Campos a incluir, separados por comas
+     * @return Lista de registros con los campos seleccionados
+     */
+    @Operation(summary = "Obtener todos los estudiantes (campos seleccionados)", description = "Devuelve solo los campos indicados en el parámetro fields")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Listado obtenido exitosamente"),
+            @ApiResponse(responseCode = "400", description = "Campos solicitados no válidos"),
+            @ApiResponse(responseCode = "500", description = "Error interno del servidor")
+    })
+    @PreAuthorize("hasAnyRole('ADMIN', 'PROFESSOR')")
+    @ResponseStatus(HttpStatus.OK)
+    @GetMapping(params = "fields")
+    @QueryBudget(1)
+    public SparseRows getAll(@RequestParam("fields") String fields) {
+        return studentService.getAllStudent(fields);
+    }
+
     /**
      * Busca un estudiante específico por su identificador único.
      * 
@@ -100,10 +131,55 @@ public class StudentController {
     @PreAuthorize("hasAnyRole('ADMIN', 'PROFESSOR', 'STUDENT')")
     @ResponseStatus(HttpStatus.OK)
     @GetMapping("/{id}")
+    @QueryBudget(1)
     public StudentResponse getByIdStunt(@PathVariable("id") Long id) {
         return studentService.getById(id);
     }
 
+    /**
+     * Busca varios estudiantes por sus identificadores en una sola llamada.
+     * 
+     * Los estudiantes se devuelven en el orden de la solicitud y los
+     * identificadores inexistentes se listan aparte sin hacer fallar el lote.
+     * 
+     * @param batchRequest Identificadores a consultar
+     * @return BatchResponse con los estudiantes encontrados y los identificadores inexistentes
+     */
+    @Operation(summary = "Obtener estudiantes por lote", description = "Busca varios estudiantes por sus identificadores con una sola consulta")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Lote resuelto exitosamente"),
+            @ApiResponse(responseCode = "400", description = "El lote está vacío o supera el máximo de identificadores"),
+            @ApiResponse(responseCode = "500", description = "Error interno del servidor")
+    })
+    @PreAuthorize("hasAnyRole('ADMIN', 'PROFESSOR', 'STUDENT')")
+    @ResponseStatus(HttpStatus.OK)
+    @PostMapping("/batch")
+    @QueryBudget(1)
+    public BatchResponse<StudentResponse> getByIds(@RequestBody BatchRequest batchRequest) {
+        return studentService.getByIds(batchRequest.ids());
+    }
+
+    /**
+     * Obtiene la vista agregada de un estudiante: sus datos, matrículas, cursos
+     * y los profesores de esos cursos en una sola respuesta.
+     * 
+     * @param id Identificador único del estudiante
+     * @return StudentDashboardResponse con la vista agregada del estudiante
+     */
+    @Operation(summary = "Obtener vista agregada del estudiante", description = "Obtiene el estudiante junto con sus matrículas, cursos y profesores en una sola llamada")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Vista agregada obtenida exitosamente"),
+            @ApiResponse(responseCode = "404", description = "Estudiante no encontrado"),
+            @ApiResponse(responseCode = "500", description = "Error interno del servidor")
+    })
+    @PreAuthorize("hasAnyRole('ADMIN', 'PROFESSOR', 'STUDENT')")
+    @ResponseStatus(HttpStatus.OK)
+    @GetMapping("/{id}/dashboard")
+    @QueryBudget(4)
+    public StudentDashboardResponse getDashboard(@PathVariable("id") Long id) {
+        return studentDashboardService.getDashboard(id);
+    }
+
     /**
      * Actualiza la información de un estudiante existente.
      * 
@@ -122,6 +198,7 @@ public class StudentController {
     @PreAuthorize("hasAnyRole('ADMIN', 'PROFESSOR')")
     @ResponseStatus(HttpStatus.OK)
     @PutMapping("/{id}")
+    @QueryBudget(2)
     public StudentResponse update(@Valid @PathVariable("id") Long id, @RequestBody StudentRequest studentRequest) {
         return studentService.updateStudent(id, studentRequest);
     }
@@ -140,6 +217,7 @@ public class StudentController {
     @PreAuthorize("hasRole('ADMIN')")
     @ResponseStatus(HttpStatus.NO_CONTENT)
     @DeleteMapping("/{id}")
+    @QueryBudget(3)
     public void delete(@PathVariable("id") Long id) {
         studentService.deleteById(id);
     }
@@ -160,4 +238,28 @@ public class StudentController {
     public List<StudentResponse> getByNameOrLastName(@RequestParam("b") String text) {
         return studentService.getByNameOrLastName(text);
     }
+
+    /**
+     * Obtiene los estudiantes cuyo nombre o apellido contiene el texto solo con los campos indicados en {@code fields}.
+     * 
+     * Se consultan y serializan únicamente las columnas pedidas; útil para
+     * listados livianos como selectores (por ejemplo {@code ?fields=id,name}).
+     * 
+     * @param text Texto a buscar en nombre o apellido
+     * @param fields Campos a incluir, separados por comas
+     * @return Lista de registros con los campos seleccionados
+     */
+    @Operation(summary = "Buscar estudiantes por nombre o apellido (campos seleccionados)", description = "Devuelve solo los campos indicados en el parámetro fields")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Listado obtenido exitosamente"),
+            @ApiResponse(responseCode = "400", description = "Campos solicitados no válidos"),
+            @ApiResponse(responseCode = "500", description = "Error interno del servidor")
+    })
+    @PreAuthorize("hasAnyRole('ADMIN', 'PROFESSOR')")
+    @ResponseStatus(HttpStatus.OK)
+    @GetMapping(value = "/buscar", params = "fields")
+    @QueryBudget(1)
+    public SparseRows getByNameOrLastName(@RequestParam("b") String text, @RequestParam("fields") String fields) {
+        return studentService.getByNameOrLastName(text, fields);
+    }
 }
@@ -0,0 +1,206 @@
+package co.com.andres.university_campus_management.datagen;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.Collections;
+
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyIn;
+
+/**
+ * Escritura masiva de filas en una tabla.
+ *
+ * En PostgreSQL las filas se envían con {@code COPY ... FROM STDIN} en formato
+ * CSV, en bloques de {@value #COPY_BUFFER_BYTES} bytes y sin una sentencia por
+ * fila; en otras bases de datos (H2 en las pruebas) se usan inserciones por
+ * lotes de JDBC. Los valores se escriben con {@code toString()}, así que las
+ * fechas quedan en ISO y los enumerados por nombre; null es NULL.
+ *
+ * @author Andres
+ * @version 1.0
+ * @since 2024
+ */
+public abstract class BulkWriter implements AutoCloseable {
+
+    /**
+     * Tamaño del búfer que se envía en cada escritura de COPY.
+     */
+    static final int COPY_BUFFER_BYTES = 1 << 20;
+
+    /**
+     * Filas por lote en las inserciones de JDBC.
+     */
+    static final int BATCH_SIZE = 1000;
+
+    private long rows;
+
+    /**
+     * Abre un escritor para la tabla y columnas indicadas.
+     *
+     * @param connection Conexión sobre la que se escribe
+     * @param table Tabla de destino
+     * @param columns Columnas en el orden de los valores de cada fila
+     * @return COPY si la conexión es de PostgreSQL, inserciones por lotes si no
+     * @throws SQLException si no se puede iniciar la escritura
+     */
+    public static BulkWriter open(Connection connection, String table, String... columns) throws SQLException {
+        var columnList = String.join(", ", columns);
+        if (connection.isWrapperFor(PGConnection.class)) {
+            var copyIn = connection.unwrap(PGConnection.class).getCopyAPI()
+                    .copyIn("COPY " + table + " (" + columnList + ") FROM STDIN WITH (FORMAT csv)");
+            return new CopyWriter(copyIn);
+        }
+        var placeholders = String.join(", ", Collections.nCopies(columns.length, "?"));
+        return new BatchWriter(connection.prepareStatement(
+                "INSERT INTO " + table + " (" + columnList + ") VALUES (" + placeholders + ")"));
+    }
+
+    /**
+     * Ajusta la secuencia de la columna de identidad al mayor ID de la tabla,
+     * para que las inserciones posteriores de la aplicación no choquen con las
+     * filas cargadas con ID explícito.
+     *
+     * @param connection Conexión sobre la que se escribió
+     * @param table Tabla cargada
+     * @param column Columna de identidad
+     * @throws SQLException si no se puede ajustar la secuencia
+     */
+    public static void resetIdentity(Connection connection, String table, String column) throws SQLException {
+        try (var statement = connection.createStatement()) {
+            if (connection.isWrapperFor(PGConnection.class)) {
+                statement.execute("SELECT setval(pg_get_serial_sequence('" + table + "', '" + column + "'), "
+                        + "(SELECT COALESCE(MAX(" + column + "), 0) + 1 FROM " + table + "), false)");
+                return;
+            }
+            long next;
+            try (var resultSet = statement.executeQuery("SELECT COALESCE(MAX(" + column + "), 0) + 1 FROM " + table)) {
+                resultSet.next();
+                next = resultSet.getLong(1);
+            }
+            statement.execute("ALTER TABLE " + table + " ALTER COLUMN " + column + " RESTART WITH " + next);
+        }
+    }
+
+    /**
+     * Escribe una fila.
+     *
+     * @param values Valores en el orden de las columnas
+     * @throws SQLException si falla la escritura
+     */
+    public final void row(Object... values) throws SQLException {
+        write(values);
+        rows++;
+    }
+
+    /**
+     * Devuelve el número de filas escritas.
+     *
+     * @return Filas escritas
+     */
+    public final long rows() {
+        return rows;
+    }
+
+    /**
+     * Envía las filas pendientes y termina la escritura.
+     *
+     * @throws SQLException si falla el envío
+     */
+    @Override
+    public abstract void close() throws SQLException;
+
+    protected abstract void write(Object[] values) throws SQLException;
+
+    /**
+     * COPY en formato CSV sobre una conexión de PostgreSQL.
+     */
+    private static final class CopyWriter extends BulkWriter {
+
+        private final CopyIn copyIn;
+        private final StringBuilder buffer = new StringBuilder(COPY_BUFFER_BYTES + 4096);
+
+        private CopyWriter(CopyIn copyIn) {
+            this.copyIn = copyIn;
+        }
+
+        @Override
+        protected void write(Object[] values) throws SQLException {
+            for (int i = 0; i < values.length; i++) {
+                if (i > 0) {
+                    buffer.append(',');
+                }
+                if (values[i] != null) {
+                    appendCsv(values[i].toString());
+                }
+            }
+            buffer.append('\n');
+            if (buffer.length() >= COPY_BUFFER_BYTES) {
+                flush();
+            }
+        }
+
+        private void appendCsv(String value) {
+            if (value.isEmpty() || value.indexOf(',') >= 0 || value.indexOf('"') >= 0
+                    || value.indexOf('\n') >= 0 || value.indexOf('\r') >= 0) {
+                buffer.append('"').append(value.replace("\"", "\"\"")).append('"');
+            } else {
+                buffer.append(value);
+            }
+        }
+
+        private void flush() throws SQLException {
+            var bytes = buffer.toString().getBytes(StandardCharsets.UTF_8);
+            copyIn.writeToCopy(bytes, 0, bytes.length);
+            buffer.setLength(0);
+        }
+
+        @Override
+        public void close() throws SQLException {
+            try {
+                flush();
+                copyIn.endCopy();
+            } finally {
+                if (copyIn.isActive()) {
+                    copyIn.cancelCopy();
+                }
+            }
+        }
+    }
+
+    /**
+     * Inserciones por lotes de JDBC.
+     */
+    private static final class BatchWriter extends BulkWriter {
+
+        private final PreparedStatement statement;
+        private int pending;
+
+        private BatchWriter(PreparedStatement statement) {
+            this.statement = statement;
+        }
+
+        @Override
+        protected void write(Object[] values) throws SQLException {
+            for (int i = 0; i < values.length; i++) {
+                var value = values[i];
+                statement.setObject(i + 1, value instanceof Enum<?> constant ? constant.name() : value);
+            }
+            statement.addBatch();
+            if (++pending == BATCH_SIZE) {
+                statement.executeBatch();
+                pending = 0;
+            }
+        }
+
+        @Override
+        public void close() throws SQLException {
+            try (statement) {
+                if (pending > 0) {
+                    statement.executeBatch();
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,433 @@
+package co.com.andres.university_campus_management.datagen;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.text.Normalizer;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.SplittableRandom;
+
+import javax.sql.DataSource;
+
+import co.com.andres.university_campus_management.model.entity.EnrollmentState;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Generador determinista de datos sintéticos del campus para pruebas de
+ * escala.
+ *
+ * Con la misma semilla y fecha de referencia genera exactamente las mismas
+ * filas: profesores, cursos, estudiantes y matrículas, cada tipo con su propio
+ * generador aleatorio derivado de la semilla, de modo que cambiar la cantidad
+ * de un tipo no altera los demás. Las distribuciones buscan parecerse a un
+ * campus real:
+ * - nombres y apellidos con frecuencias de Zipf (unos pocos muy comunes), para
+ *   que las búsquedas por nombre devuelvan desde miles de filas hasta ninguna
+ * - popularidad de los cursos de Zipf: pocos cursos concentran las matrículas
+ * - la mayoría de las matrículas GRADUATED; las ACTIVE nunca superan la
+ *   capacidad del curso (las que no caben pasan a GRADUATED)
+ *
+ * Los valores cumplen las validaciones de los DTO: correos
+ * {@code @universidad.com}, teléfonos y números de estudiante con el formato
+ * esperado, códigos de curso {@code AAAA-999} y capacidades de 10 a 50. Las
+ * fechas de matrícula son pasadas (las ACTIVE, del periodo en curso), porque
+ * representan el histórico y no solicitudes nuevas. Todos los usuarios
+ * comparten el mismo hash de contraseña: calcular un BCrypt por fila haría la
+ * carga de millones de filas imposible.
+ *
+ * Las filas se añaden a las existentes con IDs explícitos a partir del mayor
+ * ID de cada tabla, en una sola transacción, con {@link BulkWriter} (COPY en
+ * PostgreSQL). Las tablas se escriben una tras otra, padres antes que hijas:
+ * una conexión solo admite un COPY a la vez.
+ *
+ * @author Andres
+ * @version 1.0
+ * @since 2024
+ */
+@Slf4j
+public class CampusDataGenerator {
+
+    /**
+     * Números de curso por departamento (de 100 a 999).
+     */
+    static final int COURSES_PER_DEPARTMENT = 900;
+
+    private static final List<Department> DEPARTMENTS = List.of(
+            new Department("MATE", "Matemáticas", "Cálculo Diferencial", "Cálculo Integral", "Álgebra Lineal",
+                    "Ecuaciones Diferenciales", "Estadística", "Matemáticas Discretas"),
+            new Department("PROG", "Ingeniería de Sistemas", "Programación Avanzada", "Estructuras de Datos",
+                    "Algoritmos", "Bases de Datos", "Sistemas Operativos", "Redes de Computadores",
+                    "Ingeniería de Software"),
+            new Department("FISI", "Física", "Física Mecánica", "Electricidad y Magnetismo", "Ondas y Óptica",
+                    "Física Moderna"),
+            new Department("QUIM", "Química", "Química General", "Química Orgánica", "Bioquímica", "Fisicoquímica"),
+            new Department("BIOL", "Biología", "Biología Celular", "Genética", "Ecología", "Microbiología"),
+            new Department("ECON", "Economía", "Microeconomía", "Macroeconomía", "Econometría", "Finanzas"),
+            new Department("ADMI", "Administración", "Contabilidad", "Mercadeo", "Gestión de Proyectos",
+                    "Recursos Humanos"),
+            new Department("DERE", "Derecho", "Derecho Constitucional", "Derecho Civil", "Derecho Penal",
+                    "Derecho Laboral"),
+            new Department("HIST", "Historia", "Historia de Colombia", "Historia Universal", "Historia del Arte"),
+            new Department("IDIO", "Idiomas", "Inglés", "Francés", "Portugués", "Alemán"),
+            new Department("PSIC", "Psicología", "Psicología General", "Psicología Social", "Neuropsicología"),
+            new Department("MEDI", "Medicina", "Anatomía", "Fisiología", "Farmacología", "Patología"));
+
+    private static final String[] FIRST_NAMES = {
+            "María", "José", "Luis", "Ana", "Carlos", "Juan", "Laura", "Andrés", "Camila", "Daniel",
+            "Valentina", "Santiago", "Sofía", "Alejandro", "Paula", "Miguel", "Daniela", "Sebastián", "Natalia",
+            "David", "Mariana", "Felipe", "Carolina", "Jorge", "Isabella", "Diego", "Gabriela", "Julián",
+            "Catalina", "Nicolás", "Juliana", "Mateo", "Andrea", "Samuel", "Lucía", "Esteban", "Manuela",
+            "Tomás", "Sara", "Óscar" };
+
+    private static final String[] LAST_NAMES = {
+            "García", "Rodríguez", "Martínez", "López", "González", "Hernández", "Pérez", "Sánchez", "Ramírez",
+            "Torres", "Flores", "Rivera", "Gómez", "Díaz", "Reyes", "Morales", "Jiménez", "Ruiz", "Álvarez",
+            "Romero", "Vargas", "Castro", "Ortiz", "Rojas", "Acevedo", "Moreno", "Muñoz", "Guerrero", "Mendoza",
+            "Cárdenas", "Restrepo", "Ospina", "Valencia", "Quintero", "Zapata", "Londoño", "Cardona", "Arango",
+            "Giraldo", "Castaño" };
+
+    private static final String[] STREETS = { "Calle", "Carrera", "Avenida", "Transversal", "Diagonal" };
+
+    private static final String[] LEVELS = { "", " II", " III", " IV" };
+
+    private static final long PROFESSOR_SALT = 0x9E3779B97F4A7C15L;
+    private static final long COURSE_SALT = 0xBF58476D1CE4E5B9L;
+    private static final long STUDENT_SALT = 0x94D049BB133111EBL;
+    private static final long ENROLLMENT_SALT = 0xD6E8FEB86659FD93L;
+
+    private static final double ACTIVE_SHARE = 0.10;
+    private static final double CANCELLED_SHARE = 0.08;
+    private static final long PROGRESS_ROWS = 1_000_000;
+
+    private final DataSource dataSource;
+    private final String passwordHash;
+
+    /**
+     * Crea el generador.
+     *
+     * @param dataSource Base de datos de destino
+     * @param passwordHash Hash de contraseña compartido por todos los usuarios generados
+     */
+    public CampusDataGenerator(DataSource dataSource, String passwordHash) {
+        this.dataSource = dataSource;
+        this.passwordHash = passwordHash;
+    }
+
+    /**
+     * Cantidades y semilla de una generación.
+     *
+     * @param seed Semilla de los generadores aleatorios
+     * @param professors Profesores a generar
+     * @param courses Cursos a generar
+     * @param students Estudiantes a generar
+     * @param enrollments Matrículas a generar
+     * @param referenceDate Fecha a partir de la cual se calculan las fechas de matrícula
+     */
+    public record Settings(long seed, int professors, int courses, int students, long enrollments,
+            LocalDate referenceDate) {
+
+        public Settings {
+            if (professors < 1 || courses < 1 || students < 1 || enrollments < 0) {
+                throw new IllegalArgumentException(
+                        "Se necesita al menos un profesor, un curso y un estudiante, y matrículas no negativas");
+            }
+            if (courses > DEPARTMENTS.size() * COURSES_PER_DEPARTMENT) {
+                throw new IllegalArgumentException("Como máximo se pueden generar "
+                        + DEPARTMENTS.size() * COURSES_PER_DEPARTMENT + " cursos con códigos válidos");
+            }
+        }
+    }
+
+    /**
+     * Resultado de una generación.
+     *
+     * @param professors Profesores generados
+     * @param courses Cursos generados
+     * @param students Estudiantes generados
+     * @param enrollments Matrículas generadas
+     * @param enrollmentStates Matrículas generadas por estado
+     * @param elapsed Duración de la carga
+     */
+    public record Summary(int professors, int courses, int students, long enrollments,
+            Map<EnrollmentState, Long> enrollmentStates, Duration elapsed) {
+    }
+
+    /**
+     * Mayor ID existente de cada tabla; los generados empiezan en el siguiente.
+     */
+    record Offsets(long professor, long course, long student, long enrollment) {
+    }
+
+    /**
+     * Abre el escritor de una tabla.
+     */
+    @FunctionalInterface
+    interface Tables {
+
+        BulkWriter open(String table, String... columns) throws SQLException;
+    }
+
+    /**
+     * Genera los datos y los añade a la base de datos en una sola transacción.
+     *
+     * @param settings Cantidades y semilla
+     * @return Resumen de la generación
+     * @throws SQLException si falla la carga; no se guarda nada
+     */
+    public Summary load(Settings settings) throws SQLException {
+        var started = System.nanoTime();
+        try (var connection = dataSource.getConnection()) {
+            connection.setAutoCommit(false);
+            try {
+                var offsets = new Offsets(maxId(connection, "professors", "id_professor"),
+                        maxId(connection, "courses", "id_course"),
+                        maxId(connection, "student", "id_student"),
+                        maxId(connection, "enrollments", "id_enrollment"));
+                var summary = generate(settings, offsets, courseCodes(connection),
+                        (table, columns) -> BulkWriter.open(connection, table, columns));
+                BulkWriter.resetIdentity(connection, "professors", "id_professor");
+                BulkWriter.resetIdentity(connection, "courses", "id_course");
+                BulkWriter.resetIdentity(connection, "student", "id_student");
+                BulkWriter.resetIdentity(connection, "enrollments", "id_enrollment");
+                connection.commit();
+                return new Summary(summary.professors(), summary.courses(), summary.students(),
+                        summary.enrollments(), summary.enrollmentStates(),
+                        Duration.ofNanos(System.nanoTime() - started));
+            } catch (SQLException | RuntimeException ex) {
+                connection.rollback();
+                throw ex;
+            }
+        }
+    }
+
+    /**
+     * Genera todas las filas y las escribe en las tablas.
+     *
+     * @param settings Cantidades y semilla
+     * @param offsets Mayor ID existente de cada tabla
+     * @param takenCodes Códigos de curso ya usados, que no se repiten
+     * @param tables Escritores de las tablas
+     * @return Resumen sin duración
+     * @throws SQLException si falla la escritura
+     */
+    Summary generate(Settings settings, Offsets offsets, Set<String> takenCodes, Tables tables)
+            throws SQLException {
+        var firstNames = new ZipfSampler(FIRST_NAMES.length, 1.0);
+        var lastNames = new ZipfSampler(LAST_NAMES.length, 1.1);
+
+        professors(settings, offsets, firstNames, lastNames, tables);
+        var capacities = courses(settings, offsets, takenCodes, tables);
+        students(settings, offsets, firstNames, lastNames, tables);
+        var states = enrollments(settings, offsets, capacities, tables);
+        return new Summary(settings.professors(), settings.courses(), settings.students(), settings.enrollments(),
+                states, Duration.ZERO);
+    }
+
+    private void professors(Settings settings, Offsets offsets, ZipfSampler firstNames, ZipfSampler lastNames,
+            Tables tables) throws SQLException {
+        var random = new SplittableRandom(settings.seed() ^ PROFESSOR_SALT);
+        try (var rows = tables.open("professors", "id_professor", "name", "last_name", "email", "phone", "address",
+                "password")) {
+            for (int i = 0; i < settings.professors(); i++) {
+                var id = offsets.professor() + i + 1;
+                var name = FIRST_NAMES[firstNames.sample(random)];
+                var lastName = LAST_NAMES[lastNames.sample(random)] + " " + LAST_NAMES[lastNames.sample(random)];
+                rows.row(id, name, lastName, "prof." + emailLocalPart(name, lastName) + id + "@universidad.com",
+                        "+573" + digits(random, 9), address(random), passwordHash);
+            }
+        }
+        // El primer profesor generado también es administrador
+        try (var roles = tables.open("professor_roles", "professor_id", "rol")) {
+            roles.row(offsets.professor() + 1, "ROLE_ADMIN");
+            for (int i = 0; i < settings.professors(); i++) {
+                roles.row(offsets.professor() + i + 1, "ROLE_PROFESSOR");
+            }
+        }
+        log.info("Datos sintéticos: {} profesores generados", settings.professors());
+    }
+
+    private int[] courses(Settings settings, Offsets offsets, Set<String> takenCodes, Tables tables)
+            throws SQLException {
+        var random = new SplittableRandom(settings.seed() ^ COURSE_SALT);
+        var capacities = new int[settings.courses()];
+        var candidate = 0;
+        try (var rows = tables.open("courses", "id_course", "name", "course_code", "description",
+                "maximun_capacity", "professor")) {
+            for (int i = 0; i < settings.courses(); i++) {
+                Department department;
+                String code;
+                do {
+                    department = DEPARTMENTS.get(candidate % DEPARTMENTS.size());
+                    code = department.code() + "-" + (100 + candidate / DEPARTMENTS.size());
+                    candidate++;
+                    if (candidate > DEPARTMENTS.size() * COURSES_PER_DEPARTMENT) {
+                        throw new IllegalArgumentException("No quedan códigos de curso libres para "
+                                + settings.courses() + " cursos");
+                    }
+                } while (takenCodes.contains(code));
+                var subject = department.subjects()[random.nextInt(department.subjects().length)];
+                var name = subject + LEVELS[random.nextInt(LEVELS.length)];
+                capacities[i] = 10 + 5 * random.nextInt(9);
+                var professor = offsets.professor() + random.nextInt(settings.professors()) + 1;
+                rows.row(offsets.course() + i + 1, name, code,
+                        "Curso de " + subject + " del departamento de " + department.name(), capacities[i], professor);
+            }
+        }
+        log.info("Datos sintéticos: {} cursos generados", settings.courses());
+        return capacities;
+    }
+
+    private void students(Settings settings, Offsets offsets, ZipfSampler firstNames, ZipfSampler lastNames,
+            Tables tables) throws SQLException {
+        var random = new SplittableRandom(settings.seed() ^ STUDENT_SALT);
+        try (var rows = tables.open("student", "id_student", "name", "last_name", "email", "address", "phone",
+                "student_number", "password")) {
+            for (int i = 0; i < settings.students(); i++) {
+                var id = offsets.student() + i + 1;
+                var name = FIRST_NAMES[firstNames.sample(random)];
+                if (random.nextDouble() < 0.35) {
+                    name += " " + FIRST_NAMES[firstNames.sample(random)];
+                }
+                var lastName = LAST_NAMES[lastNames.sample(random)] + " " + LAST_NAMES[lastNames.sample(random)];
+                var phone = random.nextDouble() < 0.10 ? "No especificado" : "3" + digits(random, 9);
+                rows.row(id, name, lastName, emailLocalPart(name, lastName) + id + "@universidad.com",
+                        address(random), phone, String.valueOf(1_000_000_000L + id), passwordHash);
+            }
+        }
+        try (var roles = tables.open("student_roles", "student_id", "rol")) {
+            for (int i = 0; i < settings.students(); i++) {
+                roles.row(offsets.student() + i + 1, "ROLE_STUDENT");
+            }
+        }
+        log.info("Datos sintéticos: {} estudiantes generados", settings.students());
+    }
+
+    private Map<EnrollmentState, Long> enrollments(Settings settings, Offsets offsets, int[] capacities,
+            Tables tables) throws SQLException {
+        var random = new SplittableRandom(settings.seed() ^ ENROLLMENT_SALT);
+        var popularity = new ZipfSampler(capacities.length, 1.0);
+        var courseByRank = shuffledIndexes(capacities.length, random);
+        var active = new int[capacities.length];
+        var states = new EnumMap<EnrollmentState, Long>(EnrollmentState.class);
+        for (var state : EnrollmentState.values()) {
+            states.put(state, 0L);
+        }
+        try (var rows = tables.open("enrollments", "id_enrollment", "student", "course", "enrollment_date",
+                "enrollment_state")) {
+            for (long i = 0; i < settings.enrollments(); i++) {
+                var course = courseByRank[popularity.sample(random)];
+                var student = offsets.student() + random.nextInt(settings.students()) + 1;
+                var roll = random.nextDouble();
+                EnrollmentState state;
+                LocalDate date;
+                if (roll < ACTIVE_SHARE && active[course] < capacities[course]) {
+                    active[course]++;
+                    state = EnrollmentState.ACTIVE;
+                    date = settings.referenceDate().minusDays(random.nextInt(120));
+                } else if (roll >= ACTIVE_SHARE && roll < ACTIVE_SHARE + CANCELLED_SHARE) {
+                    state = EnrollmentState.CANCELLED;
+                    date = settings.referenceDate().minusDays(30 + random.nextInt(1795));
+                } else {
+                    state = EnrollmentState.GRADUATED;
+                    date = settings.referenceDate().minusDays(180 + random.nextInt(1645));
+                }
+                rows.row(offsets.enrollment() + i + 1, student, offsets.course() + course + 1, date, state);
+                states.merge(state, 1L, Long::sum);
+                if ((i + 1) % PROGRESS_ROWS == 0) {
+                    log.info("Datos sintéticos: {} de {} matrículas", i + 1, settings.enrollments());
+                }
+            }
+        }
+        log.info("Datos sintéticos: {} matrículas generadas {}", settings.enrollments(), states);
+        return states;
+    }
+
+    private static long maxId(Connection connection, String table, String column) throws SQLException {
+        try (var statement = connection.createStatement();
+                var resultSet = statement.executeQuery("SELECT COALESCE(MAX(" + column + "), 0) FROM " + table)) {
+            resultSet.next();
+            return resultSet.getLong(1);
+        }
+    }
+
+    private static Set<String> courseCodes(Connection connection) throws SQLException {
+        var codes = new HashSet<String>();
+        try (var statement = connection.createStatement();
+                var resultSet = statement.executeQuery("SELECT course_code FROM courses")) {
+            while (resultSet.next()) {
+                codes.add(resultSet.getString(1));
+            }
+        }
+        return codes;
+    }
+
+    private static int[] shuffledIndexes(int size, SplittableRandom random) {
+        var indexes = new int[size];
+        Arrays.setAll(indexes, i -> i);
+        for (int i = size - 1; i > 0; i--) {
+            var j = random.nextInt(i + 1);
+            var swap = indexes[i];
+            indexes[i] = indexes[j];
+            indexes[j] = swap;
+        }
+        return indexes;
+    }
+
+    private static String emailLocalPart(String name, String lastName) {
+        var ascii = Normalizer.normalize(name.split(" ")[0] + "." + lastName.split(" ")[0], Normalizer.Form.NFD)
+                .replaceAll("\\p{M}", "");
+        return ascii.toLowerCase(Locale.ROOT);
+    }
+
+    private static String address(SplittableRandom random) {
+        return STREETS[random.nextInt(STREETS.length)] + " " + (1 + random.nextInt(200)) + " #"
+                + (1 + random.nextInt(150)) + "-" + (1 + random.nextInt(99));
+    }
+
+    private static String digits(SplittableRandom random, int count) {
+        var digits = new char[count];
+        for (int i = 0; i < count; i++) {
+            digits[i] = (char) ('0' + random.nextInt(10));
+        }
+        return new String(digits);
+    }
+
+    /**
+     * Departamento académico: prefijo de los códigos de curso y asignaturas.
+     */
+    private record Department(String code, String name, String... subjects) {
+    }
+
+    /**
+     * Muestreo de rangos con distribución de Zipf: el rango 0 es el más
+     * frecuente y la probabilidad del rango k es proporcional a 1/(k+1)^s.
+     */
+    static final class ZipfSampler {
+
+        private final double[] cumulative;
+
+        ZipfSampler(int size, double exponent) {
+            cumulative = new double[size];
+            var total = 0.0;
+            for (int k = 0; k < size; k++) {
+                total += 1.0 / Math.pow(k + 1, exponent);
+                cumulative[k] = total;
+            }
+            for (int k = 0; k < size; k++) {
+                cumulative[k] /= total;
+            }
+        }
+
+        int sample(SplittableRandom random) {
+            var index = Arrays.binarySearch(cumulative, random.nextDouble());
+            return Math.min(index >= 0 ? index : -index - 1, cumulative.length - 1);
+        }
+    }
+}
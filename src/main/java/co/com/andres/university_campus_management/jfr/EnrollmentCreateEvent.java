@@ -0,0 +1,56 @@
+package co.com.andres.university_campus_management.jfr;
+
+import co.com.andres.university_campus_management.config.exception.validationException.RequestValidationException;
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Evento de JFR de la creación de una matrícula.
+ *
+ * Resultados:
+ * - CREATED: la plaza se asignó y la matrícula quedó guardada
+ * - REJECTED: la solicitud incumplió alguna regla de validación
+ * - FAILED: cualquier otro error (por ejemplo, un curso o estudiante inexistente)
+ *
+ * @author Andres
+ * @version 1.0
+ * @since 2024
+ */
+@Name(EnrollmentCreateEvent.NAME)
+@Label("Creación de matrícula")
+@Category({ "University Campus", "Matrículas" })
+@Description("Duración y resultado de cada creación de matrícula")
+@StackTrace(false)
+@Enabled(false)
+public final class EnrollmentCreateEvent extends OperationEvent {
+
+    public static final String NAME = "university.EnrollmentCreate";
+
+    @Label("ID del curso")
+    long courseId;
+
+    /**
+     * Inicia el evento de una creación de matrícula.
+     *
+     * @param courseId ID del curso solicitado
+     * @return Evento iniciado
+     */
+    public static EnrollmentCreateEvent start(Long courseId) {
+        var event = new EnrollmentCreateEvent();
+        event.courseId = courseId != null ? courseId : 0;
+        event.begin();
+        return event;
+    }
+
+    @Override
+    protected String outcome(Throwable failure) {
+        if (failure == null) {
+            return "CREATED";
+        }
+        return failure instanceof RequestValidationException ? "REJECTED" : "FAILED";
+    }
+}
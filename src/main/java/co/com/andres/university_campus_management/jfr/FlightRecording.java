@@ -0,0 +1,100 @@
+package co.com.andres.university_campus_management.jfr;
+
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.time.Duration;
+import java.util.HashMap;
+
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Grabación de JFR con los eventos de negocio de la aplicación.
+ *
+ * Combina una configuración del JDK ("default" o "profile") con
+ * {@code jfr/university-campus.jfc}, que habilita los eventos propios. La
+ * grabación se guarda en disco con un máximo de antigüedad y tamaño, y se
+ * vuelca al archivo indicado al detenerse, también si la JVM termina antes.
+ *
+ * @author Andres
+ * @version 1.0
+ * @since 2024
+ */
+@Slf4j
+public class FlightRecording {
+
+    /**
+     * Configuración de los eventos propios, en el classpath.
+     */
+    public static final String SETTINGS = "jfr/university-campus.jfc";
+
+    private final Recording recording;
+    private final Path file;
+
+    /**
+     * Crea la grabación sin iniciarla.
+     *
+     * @param file Archivo .jfr donde se vuelca la grabación
+     * @param jdkSettings Configuración del JDK a combinar (default o profile)
+     * @param maxAge Antigüedad máxima de los datos retenidos
+     * @param maxSizeBytes Tamaño máximo de los datos retenidos
+     */
+    public FlightRecording(Path file, String jdkSettings, Duration maxAge, long maxSizeBytes) {
+        var settings = new HashMap<>(jdkConfiguration(jdkSettings).getSettings());
+        settings.putAll(campusConfiguration().getSettings());
+        this.file = file;
+        this.recording = new Recording(settings);
+        recording.setName("university-campus");
+        recording.setToDisk(true);
+        recording.setMaxAge(maxAge);
+        recording.setMaxSize(maxSizeBytes);
+        recording.setDumpOnExit(true);
+        try {
+            recording.setDestination(file);
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    /**
+     * Inicia la grabación.
+     */
+    public void start() {
+        recording.start();
+        log.info("Grabación JFR iniciada; se guardará en {}", file);
+    }
+
+    /**
+     * Detiene la grabación y la vuelca al archivo.
+     */
+    public void stop() {
+        recording.stop();
+        recording.close();
+        log.info("Grabación JFR guardada en {}", file);
+    }
+
+    private static Configuration jdkConfiguration(String name) {
+        try {
+            return Configuration.getConfiguration(name);
+        } catch (IOException | ParseException ex) {
+            throw new IllegalStateException("CONFIGURACIÓN JFR DEL JDK NO VÁLIDA: " + name, ex);
+        }
+    }
+
+    private static Configuration campusConfiguration() {
+        var resource = FlightRecording.class.getClassLoader().getResourceAsStream(SETTINGS);
+        if (resource == null) {
+            throw new IllegalStateException("NO SE ENCONTRÓ LA CONFIGURACIÓN JFR " + SETTINGS);
+        }
+        try (var reader = new InputStreamReader(resource, StandardCharsets.UTF_8)) {
+            return Configuration.create(reader);
+        } catch (IOException | ParseException ex) {
+            throw new IllegalStateException("CONFIGURACIÓN JFR NO VÁLIDA: " + SETTINGS, ex);
+        }
+    }
+}
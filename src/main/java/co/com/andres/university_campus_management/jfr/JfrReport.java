@@ -0,0 +1,144 @@
+package co.com.andres.university_campus_management.jfr;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+
+import jdk.jfr.consumer.RecordingFile;
+
+/**
+ * Resume una grabación de JFR por tipo de evento: cantidad y duración total,
+ * media, p50, p95 y máxima. Los eventos con campo "Resultado" (los de
+ * negocio) se desglosan además por resultado.
+ *
+ * Solo depende del JDK, así que se ejecuta sin arrancar la aplicación:
+ * {@code java -cp target/classes co.com.andres.university_campus_management.jfr.JfrReport grabacion.jfr [prefijo]}
+ * donde el prefijo opcional filtra los tipos, por ejemplo {@code university.}.
+ *
+ * @author Andres
+ * @version 1.0
+ * @since 2024
+ */
+public final class JfrReport {
+
+    private JfrReport() {
+    }
+
+    /**
+     * Resumen de un tipo de evento.
+     *
+     * @param type Nombre del tipo de evento
+     * @param count Número de eventos
+     * @param totalMs Duración total en milisegundos
+     * @param meanMs Duración media en milisegundos
+     * @param p50Ms Mediana de la duración en milisegundos
+     * @param p95Ms Percentil 95 de la duración en milisegundos
+     * @param maxMs Duración máxima en milisegundos
+     * @param outcomes Número de eventos por resultado (vacío si el evento no tiene resultado)
+     */
+    public record Summary(String type, long count, double totalMs, double meanMs, double p50Ms, double p95Ms,
+            double maxMs, Map<String, Long> outcomes) {
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 1) {
+            System.err.println("Uso: JfrReport <grabacion.jfr> [prefijo de tipo de evento]");
+            System.exit(2);
+        }
+        var summaries = summarize(Path.of(args[0]), args.length > 1 ? args[1] : "");
+        System.out.print(format(summaries));
+    }
+
+    /**
+     * Lee la grabación y resume cada tipo de evento.
+     *
+     * @param file Archivo .jfr
+     * @param prefix Prefijo de los tipos a incluir; vacío para todos
+     * @return Resúmenes ordenados por número de eventos, de mayor a menor
+     * @throws IOException si no se puede leer la grabación
+     */
+    public static List<Summary> summarize(Path file, String prefix) throws IOException {
+        var accumulators = new TreeMap<String, Accumulator>();
+        try (var recording = new RecordingFile(file)) {
+            while (recording.hasMoreEvents()) {
+                var event = recording.readEvent();
+                var type = event.getEventType().getName();
+                if (!type.startsWith(prefix)) {
+                    continue;
+                }
+                var outcome = event.hasField("outcome") ? event.getString("outcome") : null;
+                accumulators.computeIfAbsent(type, name -> new Accumulator())
+                        .add(event.getDuration().toNanos(), outcome);
+            }
+        }
+        var summaries = new ArrayList<Summary>(accumulators.size());
+        accumulators.forEach((type, accumulator) -> summaries.add(accumulator.summary(type)));
+        summaries.sort(Comparator.comparingLong(Summary::count).reversed());
+        return summaries;
+    }
+
+    /**
+     * Da formato de tabla a los resúmenes.
+     *
+     * @param summaries Resúmenes a mostrar
+     * @return Tabla de texto
+     */
+    public static String format(List<Summary> summaries) {
+        var out = new StringBuilder();
+        out.append(String.format(Locale.ROOT, "%-45s %10s %12s %10s %10s %10s %10s%n",
+                "Evento", "Cantidad", "Total ms", "Media ms", "p50 ms", "p95 ms", "Max ms"));
+        for (var summary : summaries) {
+            out.append(String.format(Locale.ROOT, "%-45s %10d %12.3f %10.3f %10.3f %10.3f %10.3f%n",
+                    summary.type(), summary.count(), summary.totalMs(), summary.meanMs(),
+                    summary.p50Ms(), summary.p95Ms(), summary.maxMs()));
+            summary.outcomes().forEach((outcome, count) -> out.append(String.format(Locale.ROOT,
+                    "  %-43s %10d%n", outcome, count)));
+        }
+        return out.toString();
+    }
+
+    /**
+     * Duraciones y resultados acumulados de un tipo de evento.
+     */
+    private static final class Accumulator {
+
+        private long[] durations = new long[64];
+        private int count;
+        private long total;
+        private final Map<String, Long> outcomes = new TreeMap<>();
+
+        void add(long nanos, String outcome) {
+            if (count == durations.length) {
+                durations = Arrays.copyOf(durations, count * 2);
+            }
+            durations[count++] = nanos;
+            total += nanos;
+            if (outcome != null) {
+                outcomes.merge(outcome, 1L, Long::sum);
+            }
+        }
+
+        Summary summary(String type) {
+            var sorted = Arrays.copyOf(durations, count);
+            Arrays.sort(sorted);
+            return new Summary(type, count, millis(total), millis(total / (double) count),
+                    millis(percentile(sorted, 0.50)), millis(percentile(sorted, 0.95)),
+                    millis(sorted[count - 1]), outcomes);
+        }
+
+        private static long percentile(long[] sorted, double quantile) {
+            int index = (int) Math.ceil(quantile * sorted.length) - 1;
+            return sorted[Math.max(index, 0)];
+        }
+
+        private static double millis(double nanos) {
+            return nanos / 1_000_000.0;
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package co.com.andres.university_campus_management.jfr;
+
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtException;
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Evento de JFR de la verificación del token JWT de una solicitud.
+ *
+ * Cubre el análisis, la verificación de la firma y la lectura de los claims
+ * que hace el filtro de autenticación. Resultados: VALID, REJECTED (firma
+ * correcta pero el token no corresponde o expiró), EXPIRED, INVALID (firma o
+ * formato incorrectos) y ERROR. No guarda el token ni el usuario.
+ *
+ * @author Andres
+ * @version 1.0
+ * @since 2024
+ */
+@Name(JwtVerificationEvent.NAME)
+@Label("Verificación de JWT")
+@Category({ "University Campus", "Autenticación" })
+@Description("Duración y resultado de la verificación del token JWT de cada solicitud")
+@StackTrace(false)
+@Enabled(false)
+public final class JwtVerificationEvent extends OperationEvent {
+
+    public static final String NAME = "university.JwtVerification";
+
+    private transient boolean valid;
+
+    /**
+     * Inicia el evento de una verificación de token.
+     *
+     * @return Evento iniciado
+     */
+    public static JwtVerificationEvent start() {
+        var event = new JwtVerificationEvent();
+        event.begin();
+        return event;
+    }
+
+    /**
+     * Registra si el token resultó válido para el usuario que declara.
+     *
+     * @param valid true si el token es válido
+     */
+    public void valid(boolean valid) {
+        this.valid = valid;
+    }
+
+    @Override
+    protected String outcome(Throwable failure) {
+        return switch (failure) {
+            case null -> valid ? "VALID" : "REJECTED";
+            case ExpiredJwtException ex -> "EXPIRED";
+            case JwtException ex -> "INVALID";
+            default -> "ERROR";
+        };
+    }
+}
@@ -0,0 +1,75 @@
+package co.com.andres.university_campus_management.jfr;
+
+import co.com.andres.university_campus_management.config.exception.authenticate.InvalidCredentialsException;
+import co.com.andres.university_campus_management.config.exception.authenticate.InvalidCredentialsProfessorException;
+import co.com.andres.university_campus_management.config.exception.authenticate.InvalidCredentialsStudentException;
+import co.com.andres.university_campus_management.config.exception.authenticate.LoginThrottledException;
+import co.com.andres.university_campus_management.model.entity.UserType;
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Evento de JFR de un intento de inicio de sesión.
+ *
+ * Guarda el endpoint usado (login, student o professor), el tipo de usuario
+ * (UNKNOWN si el email no existe o no se llegó a consultar) y el resultado:
+ * SUCCESS, INVALID_CREDENTIALS, THROTTLED o ERROR. No guarda el email.
+ *
+ * @author Andres
+ * @version 1.0
+ * @since 2024
+ */
+@Name(LoginEvent.NAME)
+@Label("Inicio de sesión")
+@Category({ "University Campus", "Autenticación" })
+@Description("Duración y resultado de cada intento de inicio de sesión, incluida la verificación BCrypt")
+@StackTrace(false)
+@Enabled(false)
+public final class LoginEvent extends OperationEvent {
+
+    public static final String NAME = "university.Login";
+
+    @Label("Endpoint")
+    String endpoint;
+
+    @Label("Tipo de usuario")
+    String userType = "UNKNOWN";
+
+    /**
+     * Inicia el evento de un intento de inicio de sesión.
+     *
+     * @param endpoint Endpoint usado: login, student o professor
+     * @return Evento iniciado
+     */
+    public static LoginEvent start(String endpoint) {
+        var event = new LoginEvent();
+        event.endpoint = endpoint;
+        event.begin();
+        return event;
+    }
+
+    /**
+     * Registra el tipo del usuario una vez resuelto.
+     *
+     * @param userType Tipo de usuario
+     */
+    public void userType(UserType userType) {
+        this.userType = userType.name();
+    }
+
+    @Override
+    protected String outcome(Throwable failure) {
+        return switch (failure) {
+            case null -> "SUCCESS";
+            case LoginThrottledException ex -> "THROTTLED";
+            case InvalidCredentialsException ex -> "INVALID_CREDENTIALS";
+            case InvalidCredentialsStudentException ex -> "INVALID_CREDENTIALS";
+            case InvalidCredentialsProfessorException ex -> "INVALID_CREDENTIALS";
+            default -> "ERROR";
+        };
+    }
+}
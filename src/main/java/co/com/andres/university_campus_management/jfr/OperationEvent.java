@@ -0,0 +1,62 @@
+package co.com.andres.university_campus_management.jfr;
+
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+
+/**
+ * Base de los eventos de JFR de las operaciones de negocio.
+ *
+ * Todos se usan igual: se crean con el método {@code start} de cada evento,
+ * se informa el fallo con {@link #failure(Throwable)} si lo hay y se cierran
+ * con {@link #finish()} en un bloque finally. Los campos solo se calculan si
+ * el evento se va a guardar ({@link #shouldCommit()}); con el evento
+ * deshabilitado, que es su estado por defecto fuera del perfil "jfr", el JIT
+ * reduce todo a unas pocas comprobaciones.
+ *
+ * Ningún evento guarda datos personales: ni emails, ni tokens, ni el texto de
+ * las búsquedas.
+ *
+ * @author Andres
+ * @version 1.0
+ * @since 2024
+ */
+public abstract class OperationEvent extends Event {
+
+    @Label("Resultado")
+    String outcome;
+
+    @Label("Excepción")
+    String exception;
+
+    private transient Throwable failure;
+
+    /**
+     * Registra el fallo de la operación.
+     *
+     * @param failure Excepción que interrumpió la operación
+     */
+    public void failure(Throwable failure) {
+        this.failure = failure;
+    }
+
+    /**
+     * Cierra el evento y lo guarda si la grabación lo tiene habilitado y
+     * supera su umbral.
+     */
+    public void finish() {
+        end();
+        if (shouldCommit()) {
+            exception = failure != null ? failure.getClass().getSimpleName() : null;
+            outcome = outcome(failure);
+            commit();
+        }
+    }
+
+    /**
+     * Resultado de la operación para la columna "Resultado".
+     *
+     * @param failure Excepción registrada, o null si la operación terminó bien
+     * @return Resultado en mayúsculas
+     */
+    protected abstract String outcome(Throwable failure);
+}
@@ -0,0 +1,84 @@
+package co.com.andres.university_campus_management.jfr;
+
+import java.util.function.Supplier;
+import java.util.function.ToIntFunction;
+
+import co.com.andres.university_campus_management.model.DTO.SparseRows;
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Evento de JFR de una búsqueda por texto o por estado.
+ *
+ * Guarda la entidad, el criterio (por ejemplo nameOrLastName o courseCode),
+ * si la respuesta es completa o con campos seleccionados (?fields=) y el
+ * número de resultados. El texto buscado no se guarda: puede ser un nombre.
+ * Resultados: OK o ERROR.
+ *
+ * @author Andres
+ * @version 1.0
+ * @since 2024
+ */
+@Name(SearchEvent.NAME)
+@Label("Búsqueda")
+@Category({ "University Campus", "Búsquedas" })
+@Description("Duración y número de resultados de las búsquedas por texto o estado")
+@StackTrace(false)
+@Enabled(false)
+public final class SearchEvent extends OperationEvent {
+
+    public static final String NAME = "university.Search";
+
+    @Label("Entidad")
+    String entity;
+
+    @Label("Criterio")
+    String criterion;
+
+    @Label("Campos seleccionados")
+    boolean sparse;
+
+    @Label("Resultados")
+    int results;
+
+    /**
+     * Ejecuta una búsqueda dentro del evento.
+     *
+     * @param <T> Tipo del resultado
+     * @param entity Entidad buscada (Student, Course, Professor, Enrollment)
+     * @param criterion Criterio de búsqueda
+     * @param search Búsqueda a ejecutar
+     * @param results Número de resultados de la búsqueda
+     * @return Resultado de la búsqueda
+     */
+    public static <T> T record(String entity, String criterion, Supplier<T> search, ToIntFunction<T> results) {
+        var event = new SearchEvent();
+        event.begin();
+        try {
+            var result = search.get();
+            if (event.isEnabled()) {
+                event.entity = entity;
+                event.criterion = criterion;
+                event.sparse = result instanceof SparseRows;
+                event.results = results.applyAsInt(result);
+            }
+            return result;
+        } catch (RuntimeException ex) {
+            event.entity = entity;
+            event.criterion = criterion;
+            event.failure(ex);
+            throw ex;
+        } finally {
+            event.finish();
+        }
+    }
+
+    @Override
+    protected String outcome(Throwable failure) {
+        return failure == null ? "OK" : "ERROR";
+    }
+}
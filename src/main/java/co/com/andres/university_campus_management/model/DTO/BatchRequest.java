@@ -0,0 +1,22 @@
+package co.com.andres.university_campus_management.model.DTO;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+/**
+ * DTO para las consultas por lote de identificadores.
+ * 
+ * @param ids Identificadores a consultar, en el orden en que se quieren recibir
+ */
+@Schema(description = "DTO para consultar varios registros por identificador")
+public record BatchRequest(
+
+    /**
+     * Identificadores a consultar.
+     */
+    @Schema(description = "Identificadores a consultar", example = "[3, 1, 2]")
+    @JsonProperty("ids")
+    long[] ids
+) {
+}
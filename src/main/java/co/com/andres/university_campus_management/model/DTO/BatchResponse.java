@@ -0,0 +1,36 @@
+package co.com.andres.university_campus_management.model.DTO;
+
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+/**
+ * DTO con el resultado de una consulta por lote.
+ * 
+ * Los registros encontrados se devuelven en el mismo orden de la solicitud y
+ * los identificadores inexistentes se listan aparte, sin hacer fallar el lote.
+ * 
+ * @param <T> Tipo de los registros devueltos
+ * @param results Registros encontrados, en el orden de la solicitud
+ * @param missing Identificadores que no existen, en el orden de la solicitud
+ */
+@Schema(description = "DTO para la respuesta de consultas por lote")
+public record BatchResponse<T>(
+
+    /**
+     * Registros encontrados, en el orden de la solicitud.
+     */
+    @Schema(description = "Registros encontrados, en el orden de la solicitud")
+    @JsonProperty("results")
+    List<T> results,
+
+    /**
+     * Identificadores solicitados que no existen.
+     */
+    @Schema(description = "Identificadores que no existen", example = "[2]")
+    @JsonProperty("missing")
+    long[] missing
+) {
+}
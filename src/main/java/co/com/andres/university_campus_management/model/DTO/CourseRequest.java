@@ -2,6 +2,7 @@ package co.com.andres.university_campus_management.model.DTO;
 
 import com.fasterxml.jackson.annotation.JsonProperty;
 
+import co.com.andres.university_campus_management.utils.FormatScanners;
 import io.swagger.v3.oas.annotations.media.Schema;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
@@ -80,7 +81,7 @@ public record CourseRequest(
      * @return true si el código es válido, false en caso contrario
      */
     public boolean isValidCourseCode() {
-        return courseCode != null && courseCode.matches("^[A-Z]{3,4}-\\d{3}$");
+        return FormatScanners.isCourseCode(courseCode);
     }
 
     /**
@@ -83,9 +83,10 @@ public record EnrollmentRequest(
      * @return true si la fecha es válida y tiene formato correcto, false en caso contrario
      */
     public boolean isValidEnrollmentDate() {
-        return enrollmentDate != null && 
+        // LocalDate.toString() solo produce yyyy-MM-dd para los años 0 a 9999
+        return enrollmentDate != null &&
                !enrollmentDate.isBefore(LocalDate.now()) &&
-               enrollmentDate.toString().matches("\\d{4}-\\d{2}-\\d{2}");
+               enrollmentDate.getYear() >= 0 && enrollmentDate.getYear() <= 9999;
     }
 }
 
@@ -4,6 +4,7 @@ import java.util.Set;
 
 import com.fasterxml.jackson.annotation.JsonProperty;
 
+import co.com.andres.university_campus_management.utils.FormatScanners;
 import io.swagger.v3.oas.annotations.media.Schema;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Size;
@@ -116,11 +117,13 @@ public record ProfessorRequest(
         return true; 
     }
 
-    Set<String> rolesValidos = Set.of("ROLE_PROFESSOR", "ROLE_ADMIN");
-
-    return roles.stream()
-        .map(rol -> rol.trim().toUpperCase())
-        .allMatch(rolesValidos::contains);
+    for (String rol : roles) {
+        var normalized = rol.trim();
+        if (!normalized.equalsIgnoreCase("ROLE_PROFESSOR") && !normalized.equalsIgnoreCase("ROLE_ADMIN")) {
+            return false;
+        }
+    }
+    return true;
 }
 
 
@@ -131,7 +134,7 @@ public record ProfessorRequest(
      * @return true si el email tiene formato válido, false en caso contrario
      */
     public boolean isValidEmail() {
-        return email.matches("^[A-Za-z0-9+_.-]+@universidad\\.com$");
+        return FormatScanners.isUniversityEmail(email);
     }
 
       /**
@@ -141,7 +144,7 @@ public record ProfessorRequest(
      * @return true si el teléfono tiene formato válido, false en caso contrario
      */
     public boolean isValidPhone() {
-        return phone != null && phone.matches("^\\+?[0-9]{7,20}$");
+        return FormatScanners.isPhone(phone);
     }
 
 }
@@ -0,0 +1,49 @@
+package co.com.andres.university_campus_management.model.DTO;
+
+import java.time.LocalDate;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import co.com.andres.university_campus_management.model.entity.EnrollmentState;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+/**
+ * DTO con una fila de la lista de estudiantes matriculados en un curso.
+ * 
+ * @param idEnrollment Identificador de la matrícula
+ * @param idStudent Identificador del estudiante
+ * @param studentNumber Número de estudiante
+ * @param name Nombre del estudiante
+ * @param lastName Apellido del estudiante
+ * @param email Correo electrónico del estudiante
+ * @param enrollmentDate Fecha de la matrícula
+ * @param enrollmentState Estado de la matrícula
+ */
+@Schema(description = "DTO para las filas de la lista de estudiantes de un curso")
+public record RosterEntry(
+
+    @JsonProperty("id_enrollment")
+    Long idEnrollment,
+
+    @JsonProperty("id_student")
+    Long idStudent,
+
+    @JsonProperty("student_number")
+    String studentNumber,
+
+    @JsonProperty("name")
+    String name,
+
+    @JsonProperty("last_name")
+    String lastName,
+
+    @JsonProperty("email")
+    String email,
+
+    @JsonProperty("enrollment_date")
+    LocalDate enrollmentDate,
+
+    @JsonProperty("enrollment_state")
+    EnrollmentState enrollmentState
+) {
+}
@@ -0,0 +1,62 @@
+package co.com.andres.university_campus_management.model.DTO;
+
+import java.io.IOException;
+import java.util.List;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonSerializable;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.jsontype.TypeSerializer;
+
+import co.com.andres.university_campus_management.utils.FieldCatalog.FieldSet;
+
+/**
+ * Respuesta de un listado con campos seleccionados ({@code ?fields=}).
+ * 
+ * Contiene las filas tal como las devuelve la consulta (solo las columnas
+ * pedidas) y se serializa directamente con los escritores precalculados del
+ * {@link FieldSet}, sin pasar por los DTO completos ni por reflexión.
+ */
+public final class SparseRows implements JsonSerializable {
+
+    private final FieldSet fieldSet;
+    private final List<Object[]> rows;
+
+    public SparseRows(FieldSet fieldSet, List<Object[]> rows) {
+        this.fieldSet = fieldSet;
+        this.rows = rows;
+    }
+
+    /**
+     * @return Número de filas del listado
+     */
+    public int size() {
+        return rows.size();
+    }
+
+    @Override
+    public void serialize(JsonGenerator generator, SerializerProvider provider) throws IOException {
+        var names = fieldSet.names();
+        var writers = fieldSet.writers();
+        generator.writeStartArray(rows, rows.size());
+        for (Object[] row : rows) {
+            generator.writeStartObject();
+            for (int i = 0; i < names.length; i++) {
+                generator.writeFieldName(names[i]);
+                if (row[i] == null) {
+                    generator.writeNull();
+                } else {
+                    writers[i].write(generator, row[i]);
+                }
+            }
+            generator.writeEndObject();
+        }
+        generator.writeEndArray();
+    }
+
+    @Override
+    public void serializeWithType(JsonGenerator generator, SerializerProvider provider, TypeSerializer typeSer)
+            throws IOException {
+        serialize(generator, provider);
+    }
+}
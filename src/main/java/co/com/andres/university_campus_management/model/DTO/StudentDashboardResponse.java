@@ -0,0 +1,52 @@
+package co.com.andres.university_campus_management.model.DTO;
+
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+/**
+ * DTO con la vista agregada de la página de inicio de un estudiante.
+ * 
+ * Reúne en una sola respuesta la información que el portal obtenía con
+ * varias llamadas: el estudiante, sus matrículas, los cursos matriculados
+ * y los profesores de esos cursos.
+ * 
+ * @param student Información del estudiante
+ * @param enrollments Matrículas del estudiante
+ * @param courses Cursos en los que está matriculado
+ * @param professors Profesores asignados a esos cursos
+ */
+@Schema(description = "DTO para la vista agregada del estudiante")
+public record StudentDashboardResponse(
+
+    /**
+     * Información del estudiante.
+     */
+    @Schema(description = "Información del estudiante")
+    @JsonProperty("student")
+    StudentResponse student,
+
+    /**
+     * Matrículas del estudiante.
+     */
+    @Schema(description = "Matrículas del estudiante")
+    @JsonProperty("enrollments")
+    List<EnrollmentResponse> enrollments,
+
+    /**
+     * Cursos en los que el estudiante está matriculado.
+     */
+    @Schema(description = "Cursos matriculados")
+    @JsonProperty("courses")
+    List<CourseResponse> courses,
+
+    /**
+     * Profesores de los cursos matriculados, sin repetir.
+     */
+    @Schema(description = "Profesores de los cursos matriculados")
+    @JsonProperty("professors")
+    List<ProfessorResponse> professors
+) {
+}
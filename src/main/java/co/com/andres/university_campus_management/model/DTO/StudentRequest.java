@@ -3,6 +3,7 @@ package co.com.andres.university_campus_management.model.DTO;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
 import co.com.andres.university_campus_management.model.entity.EnrollmentState;
+import co.com.andres.university_campus_management.utils.FormatScanners;
 import io.swagger.v3.oas.annotations.media.Schema;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Size;
@@ -153,7 +154,7 @@ public record StudentRequest(
      * @return true si el email tiene formato válido, false en caso contrario
      */
     public boolean isValidEmail() {
-        return email.matches("^[A-Za-z0-9+_.-]+@universidad\\.com$");
+        return FormatScanners.isUniversityEmail(email);
     }
 
     /**
@@ -163,7 +164,7 @@ public record StudentRequest(
      * @return true si el teléfono tiene formato válido, false en caso contrario
      */
     public boolean isValidPhone() {
-        return phone != null && phone.matches("^\\+?[0-9]{7,20}$");
+        return FormatScanners.isPhone(phone);
     }
 
     /**
@@ -174,7 +175,7 @@ public record StudentRequest(
      *         contrario
      */
     public boolean isValidStudentNumber() {
-        return studentNumber != null && studentNumber.matches("^[0-9]{8,10}$");
+        return FormatScanners.isDigits(studentNumber, 8, 10);
     }
 
 
@@ -1,5 +1,8 @@
 package co.com.andres.university_campus_management.model.entity;
 
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
@@ -17,6 +20,9 @@ import lombok.Data;
  * la información académica del curso, incluyendo su capacidad máxima
  * y la relación con el profesor asignado.
  * 
+ * Se guarda en la caché de segundo nivel (región "course"): los cursos
+ * cambian pocas veces por periodo y se leen en casi todas las solicitudes.
+ * 
  * @author Andres
  * @version 1.0
  * @since 2024
@@ -24,6 +30,7 @@ import lombok.Data;
 @Data
 @Table(name = "Courses")
 @Entity
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "course")
 public class Course {
 
     /**
@@ -0,0 +1,47 @@
+package co.com.andres.university_campus_management.model.entity;
+
+import java.time.Instant;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.Data;
+
+/**
+ * Registro de una solicitud de creación enviada con la cabecera
+ * Idempotency-Key.
+ *
+ * La clave primaria es la clave de idempotencia (junto con el usuario y la
+ * ruta), de modo que el primer registro insertado gana. Mientras la solicitud
+ * se procesa el estado es nulo; al terminar con éxito se guarda la respuesta
+ * para devolverla en los reintentos.
+ *
+ * @author Andres
+ * @version 1.0
+ * @since 2024
+ */
+@Entity
+@Table(name = "idempotency_records")
+@Data
+public class IdempotencyRecord {
+
+    @Id
+    @Column(name = "idempotency_key", length = 512)
+    private String idempotencyKey;
+
+    @Column(name = "request_hash", length = 64, nullable = false)
+    private String requestHash;
+
+    @Column(name = "status")
+    private Integer status;
+
+    @Column(name = "content_type")
+    private String contentType;
+
+    @Column(name = "body", columnDefinition = "text")
+    private String body;
+
+    @Column(name = "created_at", nullable = false)
+    private Instant createdAt;
+}
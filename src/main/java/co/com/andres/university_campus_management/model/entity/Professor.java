@@ -2,6 +2,9 @@ package co.com.andres.university_campus_management.model.entity;
 
 import java.util.Set;
 
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+
 import jakarta.persistence.CollectionTable;
 import jakarta.persistence.Column;
 import jakarta.persistence.ElementCollection;
@@ -19,6 +22,9 @@ import lombok.Data;
  * Esta clase mapea la tabla "Professors" en la base de datos y contiene
  * la información personal y de contacto del profesor.
  * 
+ * El profesor y sus roles se guardan en la caché de segundo nivel (regiones
+ * "professor" y "professor.roles").
+ * 
  * @author Andres
  * @version 1.0
  * @since 2024
@@ -26,6 +32,7 @@ import lombok.Data;
 @Data
 @Table(name = "Professors")
 @Entity
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "professor")
 public class Professor {
 
     /**
@@ -88,6 +95,7 @@ public class Professor {
      * Se carga de forma eager para optimizar consultas de autenticación y autorización.
      */
     @ElementCollection(fetch = FetchType.EAGER) 
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "professor.roles")
     @CollectionTable(
         name = "professor_roles", 
         joinColumns = @JoinColumn(name = "professor_id"))
@@ -0,0 +1,72 @@
+package co.com.andres.university_campus_management.model.entity;
+
+import org.hibernate.annotations.Immutable;
+import org.hibernate.annotations.Subselect;
+import org.hibernate.annotations.Synchronize;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.IdClass;
+import lombok.Data;
+
+/**
+ * Vista de solo lectura con las credenciales de estudiantes y profesores.
+ * 
+ * Une ambas tablas por email para que el login resuelva al usuario con una
+ * única consulta, sin conocer de antemano si es estudiante o profesor. El
+ * filtro por email se aplica en cada rama de la unión, por lo que la base de
+ * datos utiliza los índices únicos de email de cada tabla.
+ * 
+ * La base de datos no impide que un mismo email exista en ambas tablas: los
+ * servicios de estudiantes y profesores lo rechazan al crear o actualizar, y
+ * el login rechaza como credenciales inválidas un email que aparezca dos
+ * veces (por ejemplo, por dos altas simultáneas).
+ * 
+ * @author Andres
+ * @version 1.0
+ * @since 2024
+ */
+@Data
+@Entity
+@Immutable
+@Subselect("""
+    select s.email as email, s.password as password, 'STUDENT' as user_type, s.id_student as user_id
+      from student s
+    union all
+    select p.email as email, p.password as password, 'PROFESSOR' as user_type, p.id_professor as user_id
+      from professors p
+    """)
+@Synchronize({ "student", "professors" })
+@IdClass(UserCredentialId.class)
+public class UserCredential {
+
+    /**
+     * Correo electrónico del usuario, único dentro de cada población.
+     */
+    @Column(name = "email")
+    private String email;
+
+    /**
+     * Hash BCrypt de la contraseña del usuario.
+     */
+    @Column(name = "password")
+    private String password;
+
+    /**
+     * Población a la que pertenece el usuario.
+     */
+    @Id
+    @Enumerated(EnumType.STRING)
+    @Column(name = "user_type")
+    private UserType userType;
+
+    /**
+     * Identificador del usuario en su tabla de origen.
+     */
+    @Id
+    @Column(name = "user_id")
+    private Long userId;
+}
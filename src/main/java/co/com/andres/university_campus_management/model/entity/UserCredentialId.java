@@ -0,0 +1,29 @@
+package co.com.andres.university_campus_management.model.entity;
+
+import java.io.Serializable;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Clave de la vista de credenciales: población e identificador del usuario en
+ * su tabla de origen.
+ *
+ * El email no sirve como clave porque solo es único dentro de cada tabla; si
+ * se repitiera en ambas, Hibernate fusionaría las dos filas en una sola
+ * entidad.
+ *
+ * @author Andres
+ * @version 1.0
+ * @since 2024
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserCredentialId implements Serializable {
+
+    private UserType userType;
+
+    private Long userId;
+}
@@ -0,0 +1,21 @@
+package co.com.andres.university_campus_management.model.entity;
+
+/**
+ * Enum que identifica la población a la que pertenece un usuario con credenciales.
+ * 
+ * @author Andres
+ * @version 1.0
+ * @since 2024
+ */
+public enum UserType {
+
+    /**
+     * Usuario registrado en la tabla de estudiantes.
+     */
+    STUDENT,
+
+    /**
+     * Usuario registrado en la tabla de profesores.
+     */
+    PROFESSOR
+}
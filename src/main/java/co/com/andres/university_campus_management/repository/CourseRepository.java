@@ -1,12 +1,19 @@
 package co.com.andres.university_campus_management.repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import co.com.andres.university_campus_management.model.DTO.CourseResponse;
 import co.com.andres.university_campus_management.model.entity.Course;
+import jakarta.persistence.QueryHint;
 
 /**
  * Repositorio para la gestión de entidades Course.
@@ -22,9 +29,14 @@ public interface CourseRepository extends JpaRepository<Course, Long> {
     /**
      * Busca un curso por su código único.
      * 
+     * El resultado se guarda en la caché de consultas (región "course.byCode").
+     * 
      * @param code Código del curso a buscar
      * @return Optional que contiene el curso si existe, vacío en caso contrario
      */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = "course.byCode") })
     Optional<Course> findByCourseCode(String code);
 
     /**
@@ -43,5 +55,22 @@ public interface CourseRepository extends JpaRepository<Course, Long> {
      */
     List<Course> findByCourseCodeContainingIgnoreCase(String text);
 
+    /**
+     * Obtiene varios cursos por sus identificadores en una sola consulta IN.
+     * 
+     * Se proyecta directamente a CourseResponse leyendo la clave foránea del
+     * profesor, sin cargar la entidad Professor asociada.
+     * 
+     * @param ids Identificadores de los cursos
+     * @return Lista de cursos encontrados
+     */
+    @Query("""
+        select new co.com.andres.university_campus_management.model.DTO.CourseResponse(
+            c.idCourse, c.name, c.courseCode, c.description, c.maxCapacity, c.professor.idProfessor)
+          from Course c
+         where c.idCourse in :ids
+        """)
+    List<CourseResponse> findResponsesByIdIn(@Param("ids") Collection<Long> ids);
+
 }
 
@@ -2,12 +2,20 @@ package co.com.andres.university_campus_management.repository;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import co.com.andres.university_campus_management.model.DTO.EnrollmentResponse;
+import co.com.andres.university_campus_management.model.DTO.RosterEntry;
 import co.com.andres.university_campus_management.model.entity.Enrollment;
 import co.com.andres.university_campus_management.model.entity.EnrollmentState;
+import jakarta.persistence.QueryHint;
 
 /**
  * Repositorio para la gestión de entidades Enrollment.
@@ -44,7 +52,63 @@ public interface EnrollmentRepository extends JpaRepository<Enrollment, Long> {
      */
     List<Enrollment> findByEnrollmentState(EnrollmentState state);
 
-   
+    /**
+     * Obtiene todas las matrículas de un estudiante como proyección.
+     * 
+     * Lee directamente las claves foráneas de estudiante y curso, de modo que
+     * no se cargan las relaciones EAGER de cada matrícula (una sola consulta).
+     * 
+     * @param studentId Identificador del estudiante
+     * @return Lista de matrículas del estudiante ordenadas por fecha
+     */
+    @Query("""
+        select new co.com.andres.university_campus_management.model.DTO.EnrollmentResponse(
+            e.idEnrollment, e.student.idStudent, e.course.idCourse, e.enrollmentDate, e.enrollmentState)
+          from Enrollment e
+         where e.student.idStudent = :studentId
+         order by e.enrollmentDate, e.idEnrollment
+        """)
+    List<EnrollmentResponse> findResponsesByStudentId(@Param("studentId") Long studentId);
+
+    /**
+     * Recorre todas las matrículas con un cursor del servidor para exportarlas.
+     * 
+     * Las filas se leen por bloques de {@code fetchSize} y se proyectan a DTO,
+     * de modo que no se acumulan entidades en el contexto de persistencia.
+     * Debe consumirse dentro de una transacción y cerrarse al terminar.
+     * 
+     * @return Stream de matrículas ordenadas por ID
+     */
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("""
+        select new co.com.andres.university_campus_management.model.DTO.EnrollmentResponse(
+            e.idEnrollment, e.student.idStudent, e.course.idCourse, e.enrollmentDate, e.enrollmentState)
+          from Enrollment e
+         order by e.idEnrollment
+        """)
+    Stream<EnrollmentResponse> streamAllForExport();
 
-   
+    /**
+     * Recorre con un cursor del servidor los estudiantes matriculados en un curso.
+     * 
+     * @param courseId Identificador del curso
+     * @return Stream con la lista de estudiantes ordenada por apellido y nombre
+     */
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("""
+        select new co.com.andres.university_campus_management.model.DTO.RosterEntry(
+            e.idEnrollment, s.idStudent, s.studentNumber, s.name, s.lastName, s.email,
+            e.enrollmentDate, e.enrollmentState)
+          from Enrollment e
+          join e.student s
+         where e.course.idCourse = :courseId
+         order by s.lastName, s.name, e.idEnrollment
+        """)
+    Stream<RosterEntry> streamRosterForExport(@Param("courseId") Long courseId);
 }
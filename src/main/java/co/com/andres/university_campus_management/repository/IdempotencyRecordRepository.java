@@ -0,0 +1,117 @@
+package co.com.andres.university_campus_management.repository;
+
+import java.time.Instant;
+import java.util.Optional;
+
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import co.com.andres.university_campus_management.model.entity.IdempotencyRecord;
+import jakarta.persistence.QueryHint;
+
+/**
+ * Repositorio de los registros de idempotencia de las solicitudes de creación.
+ *
+ * @author Andres
+ * @version 1.0
+ * @since 2024
+ */
+@Repository
+public interface IdempotencyRecordRepository extends JpaRepository<IdempotencyRecord, String> {
+
+    /**
+     * Inserta el registro de una solicitud en curso si la clave no existe.
+     * Solo una de las solicitudes concurrentes con la misma clave lo consigue.
+     * La consulta declara la tabla que modifica para que Hibernate no vacíe
+     * toda la caché de segundo nivel al ejecutarla.
+     *
+     * @param key Clave de idempotencia
+     * @param requestHash Hash SHA-256 del cuerpo de la solicitud
+     * @param createdAt Instante de la solicitud
+     * @return 1 si se insertó el registro, 0 si la clave ya existía
+     */
+    @Modifying
+    @Transactional
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "idempotency_records"))
+    @Query(value = "INSERT INTO idempotency_records (idempotency_key, request_hash, created_at) "
+            + "VALUES (:key, :requestHash, :createdAt) ON CONFLICT DO NOTHING", nativeQuery = true)
+    int claim(@Param("key") String key, @Param("requestHash") String requestHash,
+            @Param("createdAt") Instant createdAt);
+
+    /**
+     * Lee el registro de una clave en el primario.
+     *
+     * La transacción de lectura y escritura evita que la consulta se envíe a
+     * una réplica: un registro recién insertado o completado podría no haber
+     * llegado todavía y la clave parecería libre.
+     *
+     * @param key Clave de idempotencia
+     * @return Registro de la clave, si existe
+     */
+    @Transactional
+    @Query("SELECT r FROM IdempotencyRecord r WHERE r.idempotencyKey = :key")
+    Optional<IdempotencyRecord> findOnPrimary(@Param("key") String key);
+
+    /**
+     * Guarda la respuesta de una solicitud completada.
+     *
+     * @param key Clave de idempotencia
+     * @param status Código de estado HTTP de la respuesta
+     * @param contentType Tipo de contenido de la respuesta
+     * @param body Cuerpo de la respuesta
+     * @return Número de registros actualizados
+     */
+    @Modifying
+    @Transactional
+    @Query("UPDATE IdempotencyRecord r SET r.status = :status, r.contentType = :contentType, r.body = :body "
+            + "WHERE r.idempotencyKey = :key")
+    int complete(@Param("key") String key, @Param("status") int status,
+            @Param("contentType") String contentType, @Param("body") String body);
+
+    /**
+     * Elimina el registro de una clave para permitir un nuevo intento.
+     *
+     * @param key Clave de idempotencia
+     * @return Número de registros eliminados
+     */
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM IdempotencyRecord r WHERE r.idempotencyKey = :key")
+    int release(@Param("key") String key);
+
+    /**
+     * Elimina el registro de una clave si está vencido: una solicitud en
+     * curso que no terminó dentro del plazo de su reserva o una respuesta
+     * almacenada fuera del tiempo de vida. Las condiciones se repiten en la
+     * sentencia para no borrar un registro que otra instancia acaba de
+     * insertar o completar.
+     *
+     * @param key Clave de idempotencia
+     * @param pendingBefore Instante límite para los registros en curso
+     * @param completedBefore Instante límite para las respuestas almacenadas
+     * @return Número de registros eliminados
+     */
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM IdempotencyRecord r WHERE r.idempotencyKey = :key "
+            + "AND ((r.status IS NULL AND r.createdAt < :pendingBefore) OR r.createdAt < :completedBefore)")
+    int releaseStale(@Param("key") String key, @Param("pendingBefore") Instant pendingBefore,
+            @Param("completedBefore") Instant completedBefore);
+
+    /**
+     * Elimina los registros creados antes del instante indicado.
+     *
+     * @param cutoff Instante límite
+     * @return Número de registros eliminados
+     */
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM IdempotencyRecord r WHERE r.createdAt < :cutoff")
+    int deleteExpired(@Param("cutoff") Instant cutoff);
+}
@@ -1,10 +1,15 @@
 package co.com.andres.university_campus_management.repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import co.com.andres.university_campus_management.model.entity.Professor;
 
@@ -38,4 +43,26 @@ public interface ProfessorRepository extends JpaRepository<Professor, Long> {
      */
     List<Professor> findByNameContainingIgnoreCaseOrLastNameContainingIgnoreCase(String text, String text2);
 
+    /**
+     * Actualiza únicamente el hash de la contraseña de un profesor.
+     * Se usa para recalcular hashes generados con un costo de BCrypt menor al actual.
+     * 
+     * @param id Identificador del profesor
+     * @param password Nuevo hash de la contraseña
+     * @return Número de filas actualizadas
+     */
+    @Transactional
+    @Modifying
+    @Query("update Professor e set e.password = :password where e.idProfessor = :id")
+    int updatePassword(@Param("id") Long id, @Param("password") String password);
+
+    /**
+     * Obtiene varios profesores con sus roles en una sola consulta IN.
+     * 
+     * @param ids Identificadores de los profesores
+     * @return Lista de profesores encontrados con los roles ya cargados
+     */
+    @Query("select distinct p from Professor p left join fetch p.roles where p.idProfessor in :ids")
+    List<Professor> findWithRolesByIdIn(@Param("ids") Collection<Long> ids);
+
 }
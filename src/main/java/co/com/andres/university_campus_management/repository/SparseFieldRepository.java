@@ -0,0 +1,52 @@
+package co.com.andres.university_campus_management.repository;
+
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.stereotype.Repository;
+
+import co.com.andres.university_campus_management.utils.FieldCatalog.FieldSet;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Repositorio para los listados con campos seleccionados ({@code ?fields=}).
+ * 
+ * Ejecuta la consulta JPQL generada por el catálogo de campos, que solo
+ * selecciona las columnas pedidas, y devuelve cada fila como un arreglo.
+ * 
+ * @author Andres
+ * @version 1.0
+ * @since 2024
+ */
+@Repository
+@RequiredArgsConstructor
+public class SparseFieldRepository {
+
+    private final EntityManager entityManager;
+
+    /**
+     * Obtiene todas las filas con las columnas del conjunto de campos.
+     * 
+     * @param fieldSet Conjunto de campos a seleccionar
+     * @return Filas con las columnas en el orden del conjunto
+     */
+    public List<Object[]> findRows(FieldSet fieldSet) {
+        return findRows(fieldSet, null, Map.of());
+    }
+
+    /**
+     * Obtiene las filas que cumplen la condición con las columnas del conjunto de campos.
+     * 
+     * @param fieldSet Conjunto de campos a seleccionar
+     * @param where Condición JPQL sobre el alias {@code e}, o null para no filtrar
+     * @param parameters Parámetros con nombre usados en la condición
+     * @return Filas con las columnas en el orden del conjunto
+     */
+    public List<Object[]> findRows(FieldSet fieldSet, String where, Map<String, Object> parameters) {
+        var jpql = where == null ? fieldSet.jpql() : fieldSet.jpql() + " where " + where;
+        var query = entityManager.createQuery(jpql, Object[].class);
+        parameters.forEach(query::setParameter);
+        return query.getResultList();
+    }
+}
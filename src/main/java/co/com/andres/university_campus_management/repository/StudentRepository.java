@@ -1,10 +1,15 @@
 package co.com.andres.university_campus_management.repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import co.com.andres.university_campus_management.model.entity.Student;
 
@@ -43,5 +48,27 @@ public interface StudentRepository extends JpaRepository<Student, Long> {
      * @return Lista de estudiantes que coinciden con el criterio de búsqueda
      */
     List<Student> findByNameContainingIgnoreCaseOrLastNameContainingIgnoreCase(String text, String text2);
-    
+
+    /**
+     * Actualiza únicamente el hash de la contraseña de un estudiante.
+     * Se usa para recalcular hashes generados con un costo de BCrypt menor al actual.
+     * 
+     * @param id Identificador del estudiante
+     * @param password Nuevo hash de la contraseña
+     * @return Número de filas actualizadas
+     */
+    @Transactional
+    @Modifying
+    @Query("update Student e set e.password = :password where e.idStudent = :id")
+    int updatePassword(@Param("id") Long id, @Param("password") String password);
+
+    /**
+     * Obtiene varios estudiantes con sus roles en una sola consulta IN.
+     * 
+     * @param ids Identificadores de los estudiantes
+     * @return Lista de estudiantes encontrados con los roles ya cargados
+     */
+    @Query("select distinct s from Student s left join fetch s.roles where s.idStudent in :ids")
+    List<Student> findWithRolesByIdIn(@Param("ids") Collection<Long> ids);
+
 }
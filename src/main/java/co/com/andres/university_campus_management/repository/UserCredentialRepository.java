@@ -0,0 +1,48 @@
+package co.com.andres.university_campus_management.repository;
+
+import java.util.List;
+
+import org.springframework.data.repository.Repository;
+
+import co.com.andres.university_campus_management.model.entity.UserCredential;
+import co.com.andres.university_campus_management.model.entity.UserCredentialId;
+import co.com.andres.university_campus_management.model.entity.UserType;
+
+/**
+ * Repositorio de solo lectura para las credenciales unificadas de estudiantes y profesores.
+ * 
+ * Extiende la interfaz marcadora {@link Repository}, que no expone métodos de
+ * escritura; el procesamiento AOT de Spring Data no admite
+ * {@code @RepositoryDefinition}.
+ * 
+ * @author Andres
+ * @version 1.0
+ * @since 2024
+ */
+public interface UserCredentialRepository extends Repository<UserCredential, UserCredentialId> {
+
+    /**
+     * Busca las credenciales de un email en ambas poblaciones. Se piden hasta
+     * dos filas para detectar un email registrado como estudiante y como
+     * profesor sin leer más de lo necesario.
+     * 
+     * @param email Email del usuario a buscar
+     * @return Credenciales encontradas: ninguna, una o dos si el email es ambiguo
+     */
+    List<UserCredential> findTop2ByEmail(String email);
+
+    /**
+     * Indica si el email pertenece a un usuario distinto del indicado, en
+     * cualquiera de las dos poblaciones.
+     * 
+     * @param email Email a comprobar
+     * @param userType Población del usuario que se crea o actualiza
+     * @param userId Identificador del usuario que se actualiza, o null al crear
+     * @return true si otro usuario ya usa el email
+     */
+    default boolean isEmailTaken(String email, UserType userType, Long userId) {
+        return findTop2ByEmail(email).stream()
+                .anyMatch(credential -> credential.getUserType() != userType
+                        || !credential.getUserId().equals(userId));
+    }
+}
@@ -14,6 +14,15 @@ import co.com.andres.university_campus_management.model.DTO.AuthenticateResponse
  * @since 2024
  */
 public interface AuthenticateService {
+
+    /**
+     * Realiza el proceso de login unificado, sin indicar si el usuario es
+     * estudiante o profesor.
+     * 
+     * @param request Solicitud de autenticación con email y contraseña
+     * @return Respuesta con el token JWT generado
+     */
+    AuthenticateResponse login(AuthenticateRequest request);
     
     /**
      * Realiza el proceso de login para estudiantes.
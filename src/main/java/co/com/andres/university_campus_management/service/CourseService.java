@@ -2,8 +2,10 @@ package co.com.andres.university_campus_management.service;
 
 import java.util.List;
 
+import co.com.andres.university_campus_management.model.DTO.BatchResponse;
 import co.com.andres.university_campus_management.model.DTO.CourseRequest;
 import co.com.andres.university_campus_management.model.DTO.CourseResponse;
+import co.com.andres.university_campus_management.model.DTO.SparseRows;
 
 /**
  * Interfaz de servicio para la gestión de cursos en el sistema universitario.
@@ -45,6 +47,15 @@ public interface CourseService {
      */
     List<CourseResponse> getAllCourse();
 
+    /**
+     * Obtiene los cursos solo con los campos indicados.
+     * 
+     * @param fields Campos a incluir, separados por comas, entre id_course (o id), name,
+     *         course_code, description, max_capacity y professor_id (por ejemplo id,course_code)
+     * @return SparseRows con las columnas seleccionadas de cada registro
+     */
+    SparseRows getAllCourse(String fields);
+
     /**
      * Actualiza la información de un curso existente.
      * 
@@ -69,6 +80,16 @@ public interface CourseService {
      */
     List<CourseResponse> getByName(String text);
 
+    /**
+     * Obtiene los cursos cuyo nombre contiene el texto solo con los campos indicados.
+     * 
+     * @param text Texto a buscar en el nombre del curso
+     * @param fields Campos a incluir, separados por comas, entre id_course (o id), name,
+     *         course_code, description, max_capacity y professor_id (por ejemplo id,course_code)
+     * @return SparseRows con las columnas seleccionadas de cada registro
+     */
+    SparseRows getByName(String text, String fields);
+
     /**
      * Busca cursos por código de curso.
      * 
@@ -77,6 +98,23 @@ public interface CourseService {
      */
     List<CourseResponse> getByCourseCode(String text);
 
+    /**
+     * Obtiene los cursos cuyo código contiene el texto solo con los campos indicados.
+     * 
+     * @param text Texto a buscar en el código del curso
+     * @param fields Campos a incluir, separados por comas, entre id_course (o id), name,
+     *         course_code, description, max_capacity y professor_id (por ejemplo id,course_code)
+     * @return SparseRows con las columnas seleccionadas de cada registro
+     */
+    SparseRows getByCourseCode(String text, String fields);
+
+    /**
+     * Busca varios cursos por sus identificadores en una sola consulta.
+     * 
+     * @param ids Identificadores a consultar
+     * @return BatchResponse con los cursos encontrados en el orden de la solicitud
+     *         y los identificadores inexistentes
+     */
+    BatchResponse<CourseResponse> getByIds(long[] ids);
 
-    
 }
@@ -1,11 +1,15 @@
 package co.com.andres.university_campus_management.service;
 
 
+import java.io.IOException;
+import java.io.OutputStream;
 import java.util.List;
 
 import co.com.andres.university_campus_management.model.DTO.EnrollmentRequest;
 import co.com.andres.university_campus_management.model.DTO.EnrollmentResponse;
+import co.com.andres.university_campus_management.model.DTO.SparseRows;
 import co.com.andres.university_campus_management.model.entity.EnrollmentState;
+import co.com.andres.university_campus_management.utils.ExportFormat;
 
 
 /**
@@ -40,6 +44,15 @@ public interface EnrollmentService {
      */
     List<EnrollmentResponse> getAllEnrollments();
 
+    /**
+     * Obtiene las matrículas solo con los campos indicados.
+     * 
+     * @param fields Campos a incluir, separados por comas, entre id_enrollment (o id), student_id,
+     *         course_id, enrollment_date y enrollment_state (por ejemplo id,course_id)
+     * @return SparseRows con las columnas seleccionadas de cada registro
+     */
+    SparseRows getAllEnrollments(String fields);
+
     /**
      * Obtiene una matrícula por el ID del estudiante.
      * 
@@ -79,4 +92,35 @@ public interface EnrollmentService {
      * @return List<EnrollmentResponse> Lista de matrículas con el estado especificado
      */
     List<EnrollmentResponse> getEnrollmentByState(EnrollmentState state);
+
+    /**
+     * Obtiene las matrículas con el estado especificado solo con los campos indicados.
+     * 
+     * @param state Estado de la matrícula a buscar (ACTIVE, CANCELLED, GRADUATED)
+     * @param fields Campos a incluir, separados por comas, entre id_enrollment (o id), student_id,
+     *         course_id, enrollment_date y enrollment_state (por ejemplo id,course_id)
+     * @return SparseRows con las columnas seleccionadas de cada registro
+     */
+    SparseRows getEnrollmentByState(EnrollmentState state, String fields);
+
+    /**
+     * Exporta todas las matrículas en streaming al flujo de salida.
+     * 
+     * @param format Formato de la exportación (CSV o NDJSON)
+     * @param out Flujo de salida
+     * @return Número de matrículas exportadas
+     * @throws IOException si falla la escritura o el cliente cierra la conexión
+     */
+    long exportEnrollments(ExportFormat format, OutputStream out) throws IOException;
+
+    /**
+     * Exporta en streaming la lista de estudiantes matriculados en un curso.
+     * 
+     * @param idCourse ID del curso
+     * @param format Formato de la exportación (CSV o NDJSON)
+     * @param out Flujo de salida
+     * @return Número de filas exportadas
+     * @throws IOException si falla la escritura o el cliente cierra la conexión
+     */
+    long exportRoster(Long idCourse, ExportFormat format, OutputStream out) throws IOException;
 }
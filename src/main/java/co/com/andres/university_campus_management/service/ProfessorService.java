@@ -2,8 +2,10 @@ package co.com.andres.university_campus_management.service;
 
 import java.util.List;
 
+import co.com.andres.university_campus_management.model.DTO.BatchResponse;
 import co.com.andres.university_campus_management.model.DTO.ProfessorRequest;
 import co.com.andres.university_campus_management.model.DTO.ProfessorResponse;
+import co.com.andres.university_campus_management.model.DTO.SparseRows;
 
 /**
  * Interfaz de servicio para la gestión de profesores en el sistema universitario.
@@ -37,6 +39,15 @@ public interface ProfessorService {
      */
     List<ProfessorResponse> getAllProfessor();
 
+    /**
+     * Obtiene los profesores solo con los campos indicados.
+     * 
+     * @param fields Campos a incluir, separados por comas, entre id_professor (o id), name,
+     *         last_name, email, phone y address (por ejemplo id,email)
+     * @return SparseRows con las columnas seleccionadas de cada registro
+     */
+    SparseRows getAllProfessor(String fields);
+
     /**
      * Busca un profesor por su identificador único.
      * 
@@ -68,6 +79,24 @@ public interface ProfessorService {
      * @return Lista de ProfessorResponse con los profesores que coinciden con la búsqueda
      */
     List<ProfessorResponse> getByNameOtByLastName(String text);
-    
+
+    /**
+     * Obtiene los profesores que coinciden con la búsqueda por nombre o apellido solo con los campos indicados.
+     * 
+     * @param text Texto a buscar en el nombre o apellido del profesor
+     * @param fields Campos a incluir, separados por comas, entre id_professor (o id), name,
+     *         last_name, email, phone y address (por ejemplo id,email)
+     * @return SparseRows con las columnas seleccionadas de cada registro
+     */
+    SparseRows getByNameOtByLastName(String text, String fields);
+
+    /**
+     * Busca varios profesores por sus identificadores en una sola consulta.
+     * 
+     * @param ids Identificadores a consultar
+     * @return BatchResponse con los profesores encontrados en el orden de la solicitud
+     *         y los identificadores inexistentes
+     */
+    BatchResponse<ProfessorResponse> getByIds(long[] ids);
+
 }
-  
\ No newline at end of file
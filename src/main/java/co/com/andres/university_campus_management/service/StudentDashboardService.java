@@ -0,0 +1,21 @@
+package co.com.andres.university_campus_management.service;
+
+import co.com.andres.university_campus_management.model.DTO.StudentDashboardResponse;
+
+/**
+ * Interfaz de servicio para la vista agregada de un estudiante.
+ * 
+ * @author Andres
+ * @version 1.0
+ * @since 2024
+ */
+public interface StudentDashboardService {
+
+    /**
+     * Obtiene el estudiante junto con sus matrículas, cursos y profesores.
+     * 
+     * @param studentId Identificador único del estudiante
+     * @return StudentDashboardResponse con la vista agregada del estudiante
+     */
+    StudentDashboardResponse getDashboard(Long studentId);
+}
@@ -2,8 +2,10 @@ package co.com.andres.university_campus_management.service;
 
 import java.util.List;
 
+import co.com.andres.university_campus_management.model.DTO.BatchResponse;
 import co.com.andres.university_campus_management.model.DTO.StudentResponse;
 import co.com.andres.university_campus_management.model.DTO.StudentRequest;
+import co.com.andres.university_campus_management.model.DTO.SparseRows;
 
 /**
  * Interfaz de servicio para la gestión de estudiantes en el sistema universitario.
@@ -37,6 +39,15 @@ public interface StudentService {
      */
     List<StudentResponse> getAllStudent();
 
+    /**
+     * Obtiene los estudiantes solo con los campos indicados.
+     * 
+     * @param fields Campos a incluir, separados por comas, entre id_student (o id), name,
+     *         last_name, email, address, phone y student_number (por ejemplo id,student_number)
+     * @return SparseRows con las columnas seleccionadas de cada registro
+     */
+    SparseRows getAllStudent(String fields);
+
     /**
      * Busca un estudiante por su identificador único.
      * 
@@ -70,4 +81,23 @@ public interface StudentService {
     */
     List<StudentResponse> getByNameOrLastName(String text);
 
+    /**
+     * Obtiene los estudiantes que coinciden con la búsqueda por nombre o apellido solo con los campos indicados.
+     * 
+     * @param text Texto a buscar en el nombre o apellido del estudiante
+     * @param fields Campos a incluir, separados por comas, entre id_student (o id), name,
+     *         last_name, email, address, phone y student_number (por ejemplo id,student_number)
+     * @return SparseRows con las columnas seleccionadas de cada registro
+     */
+    SparseRows getByNameOrLastName(String text, String fields);
+
+    /**
+     * Busca varios estudiantes por sus identificadores en una sola consulta.
+     * 
+     * @param ids Identificadores a consultar
+     * @return BatchResponse con los estudiantes encontrados en el orden de la solicitud
+     *         y los identificadores inexistentes
+     */
+    BatchResponse<StudentResponse> getByIds(long[] ids);
+
 }
@@ -2,20 +2,32 @@ package co.com.andres.university_campus_management.service.impl;
 
 import java.util.Optional;
 import java.util.Set;
+import java.util.UUID;
+import java.util.function.Consumer;
 
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
+import co.com.andres.university_campus_management.config.exception.authenticate.InvalidCredentialsException;
 import co.com.andres.university_campus_management.config.exception.authenticate.InvalidCredentialsProfessorException;
 import co.com.andres.university_campus_management.config.exception.authenticate.InvalidCredentialsStudentException;
+import co.com.andres.university_campus_management.config.exception.authenticate.LoginThrottledException;
+import co.com.andres.university_campus_management.jfr.LoginEvent;
 import co.com.andres.university_campus_management.model.DTO.AuthenticateRequest;
 import co.com.andres.university_campus_management.model.DTO.AuthenticateResponse;
 import co.com.andres.university_campus_management.repository.ProfessorRepository;
+import co.com.andres.university_campus_management.model.entity.UserCredential;
+import co.com.andres.university_campus_management.model.entity.UserType;
 import co.com.andres.university_campus_management.repository.StudentRepository;
+import co.com.andres.university_campus_management.repository.UserCredentialRepository;
 import co.com.andres.university_campus_management.service.AuthenticateService;
 import co.com.andres.university_campus_management.utils.JwtUtil;
+import co.com.andres.university_campus_management.utils.LoginThrottle;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class AuthenticateServiceImpl implements AuthenticateService {
@@ -28,23 +40,135 @@ public class AuthenticateServiceImpl implements AuthenticateService {
     private final PasswordEncoder passwordEncoder;
     // Utilidad para manejo de JWT
     private final JwtUtil jwtUtil;
+    // Limitador de intentos de inicio de sesión
+    private final LoginThrottle loginThrottle;
+    // Repositorio de credenciales unificadas de estudiantes y profesores
+    private final UserCredentialRepository credentialRepository;
+    // Hash de relleno para emails inexistentes, calculado con el costo actual
+    private String dummyHash;
+
+    /**
+     * Calcula el hash de relleno al arrancar, con el mismo costo que los hashes reales,
+     * para que un email inexistente cueste lo mismo que una contraseña incorrecta.
+     */
+    @PostConstruct
+    void initDummyHash() {
+        dummyHash = passwordEncoder.encode(UUID.randomUUID().toString());
+    }
+
+    /**
+     * Realiza el proceso de login unificado para estudiantes y profesores.
+     * Resuelve al usuario con una sola consulta por email y ejecuta exactamente una
+     * verificación BCrypt por intento: si el email no existe se verifica contra un
+     * hash de relleno para que el tiempo de respuesta no revele su existencia.
+     * Un email registrado a la vez como estudiante y como profesor se trata
+     * como inexistente: no se sabe contra qué usuario verificar la contraseña.
+     * No abre una transacción a propósito: la verificación BCrypt tarda cientos
+     * de milisegundos y no debe retener una conexión; cada consulta usa la
+     * transacción corta de su repositorio.
+     */
+    @Override
+    public AuthenticateResponse login(AuthenticateRequest request) {
+        var event = LoginEvent.start("login");
+        try {
+            checkThrottle(request);
+            var credential = uniqueCredential(request.email());
+            credential.ifPresent(found -> event.userType(found.getUserType()));
+            var hash = credential.map(UserCredential::getPassword).orElse(dummyHash);
+            boolean matches = passwordEncoder.matches(request.password(), hash);
+            if (credential.isEmpty() || !matches) {
+                throw new InvalidCredentialsException();
+            }
+
+            var user = credential.get();
+            return switch (user.getUserType()) {
+                case STUDENT -> {
+                    rehashIfNeeded(hash, request.password(),
+                        newHash -> estudianteRepository.updatePassword(user.getUserId(), newHash));
+                    yield estudianteRepository.findById(user.getUserId())
+                        .map(stud -> generateToken(stud.getEmail(), stud.getRoles()))
+                        .orElseThrow(() -> new InvalidCredentialsException());
+                }
+                case PROFESSOR -> {
+                    rehashIfNeeded(hash, request.password(),
+                        newHash -> profesorRepository.updatePassword(user.getUserId(), newHash));
+                    yield profesorRepository.findById(user.getUserId())
+                        .map(prof -> generateToken(prof.getEmail(), prof.getRoles()))
+                        .orElseThrow(() -> new InvalidCredentialsException());
+                }
+            };
+        } catch (RuntimeException ex) {
+            event.failure(ex);
+            throw ex;
+        } finally {
+            event.finish();
+        }
+    }
 
     /**
      * Realiza el proceso de login para estudiantes.
      * Si no se encuentra el usuario o la contraseña es incorrecta, lanza una excepción.
+     * Si el email superó los intentos permitidos, se rechaza sin consultar la base de datos.
      */
     public AuthenticateResponse logginStudent(AuthenticateRequest request) {
-        return autenticarStudent(request)
-            .orElseThrow(() -> new InvalidCredentialsStudentException());
+        var event = LoginEvent.start("student");
+        event.userType(UserType.STUDENT);
+        try {
+            checkThrottle(request);
+            return autenticarStudent(request)
+                .orElseThrow(() -> new InvalidCredentialsStudentException());
+        } catch (RuntimeException ex) {
+            event.failure(ex);
+            throw ex;
+        } finally {
+            event.finish();
+        }
     }
 
     /**
      * Realiza el proceso de login para profesores.
      * Si no se encuentra el usuario o la contraseña es incorrecta, lanza una excepción.
+     * Si el email superó los intentos permitidos, se rechaza sin consultar la base de datos.
      */
     public AuthenticateResponse logginProfessor(AuthenticateRequest request) {
-        return autenticarProfessor(request)
-            .orElseThrow(() -> new InvalidCredentialsProfessorException());
+        var event = LoginEvent.start("professor");
+        event.userType(UserType.PROFESSOR);
+        try {
+            checkThrottle(request);
+            return autenticarProfessor(request)
+                .orElseThrow(() -> new InvalidCredentialsProfessorException());
+        } catch (RuntimeException ex) {
+            event.failure(ex);
+            throw ex;
+        } finally {
+            event.finish();
+        }
+    }
+
+    /**
+     * Registra el intento para el email y lo rechaza si supera el límite.
+     * Se ejecuta antes de cualquier consulta al repositorio o verificación BCrypt.
+     * @param request Solicitud de autenticación
+     * @throws LoginThrottledException si el email superó los intentos permitidos
+     */
+    private void checkThrottle(AuthenticateRequest request) {
+        if (!loginThrottle.tryAcquireEmail(request.email())) {
+            throw new LoginThrottledException();
+        }
+    }
+
+    /**
+     * Obtiene las credenciales del email si pertenecen a un único usuario.
+     * @param email Email con el que se intenta iniciar sesión
+     * @return Optional con las credenciales, vacío si el email no existe o es ambiguo
+     */
+    private Optional<UserCredential> uniqueCredential(String email) {
+        var credentials = credentialRepository.findTop2ByEmail(email);
+        if (credentials.size() > 1) {
+            log.warn("Inicio de sesión rechazado: el email está registrado como estudiante y como profesor");
+            return Optional.empty();
+        }
+        return credentials.stream().findFirst();
     }
 
     /**
@@ -56,7 +180,11 @@ public class AuthenticateServiceImpl implements AuthenticateService {
         // Busca el estudiante por email y verifica la contraseña
         return estudianteRepository.findByEmail(request.email())
             .filter(stud -> passwordEncoder.matches(request.password(), stud.getPassword()))
-            .map(stud -> generateToken(stud.getEmail(), stud.getRoles()));
+            .map(stud -> {
+                rehashIfNeeded(stud.getPassword(), request.password(),
+                    hash -> estudianteRepository.updatePassword(stud.getIdStudent(), hash));
+                return generateToken(stud.getEmail(), stud.getRoles());
+            });
     }
 
     /**
@@ -68,7 +196,31 @@ public class AuthenticateServiceImpl implements AuthenticateService {
         // Busca el profesor por email y verifica la contraseña
         return profesorRepository.findByEmail(request.email())
             .filter(prof -> passwordEncoder.matches(request.password(), prof.getPassword()))
-            .map(prof -> generateToken(prof.getEmail(), prof.getRoles()));
+            .map(prof -> {
+                rehashIfNeeded(prof.getPassword(), request.password(),
+                    hash -> profesorRepository.updatePassword(prof.getIdProfessor(), hash));
+                return generateToken(prof.getEmail(), prof.getRoles());
+            });
+    }
+
+    /**
+     * Recalcula el hash de la contraseña si fue generado con un costo de BCrypt
+     * menor al actual. Se invoca solo tras un login exitoso, cuando se conoce la
+     * contraseña en claro, para que los hashes converjan al nuevo costo sin
+     * forzar un restablecimiento masivo. Un fallo al guardar no impide el login.
+     * @param storedHash Hash almacenado actualmente
+     * @param rawPassword Contraseña en claro verificada
+     * @param update Acción que persiste el nuevo hash
+     */
+    private void rehashIfNeeded(String storedHash, String rawPassword, Consumer<String> update) {
+        if (!passwordEncoder.upgradeEncoding(storedHash)) {
+            return;
+        }
+        try {
+            update.accept(passwordEncoder.encode(rawPassword));
+        } catch (RuntimeException ex) {
+            log.warn("No se pudo actualizar el hash de la contraseña: {}", ex.getMessage());
+        }
     }
 
     /**
@@ -1,19 +1,32 @@
 package co.com.andres.university_campus_management.service.impl;
 
 import java.util.List;
+import java.util.Map;
 
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import co.com.andres.university_campus_management.config.exception.couseException.CourseByIdException;
 import co.com.andres.university_campus_management.config.exception.couseException.CourseCodeValidException;
 import co.com.andres.university_campus_management.config.exception.couseException.CourseMaxCapacityValidException;
 import co.com.andres.university_campus_management.config.exception.couseException.CourseWithCodeExistException;
 import co.com.andres.university_campus_management.config.exception.professorException.CourseWithIdProfessorValidException;
+import co.com.andres.university_campus_management.config.exception.sparseException.SparseFieldValidException;
+import co.com.andres.university_campus_management.config.exception.validationException.RequestValidationException;
+import co.com.andres.university_campus_management.jfr.SearchEvent;
 import co.com.andres.university_campus_management.mapper.CourseMapper;
+import co.com.andres.university_campus_management.model.DTO.BatchResponse;
 import co.com.andres.university_campus_management.model.DTO.CourseRequest;
 import co.com.andres.university_campus_management.model.DTO.CourseResponse;
+import co.com.andres.university_campus_management.model.DTO.SparseRows;
 import co.com.andres.university_campus_management.repository.CourseRepository;
+import co.com.andres.university_campus_management.repository.SparseFieldRepository;
 import co.com.andres.university_campus_management.service.CourseService;
+import co.com.andres.university_campus_management.utils.BatchLookup;
+import co.com.andres.university_campus_management.utils.FieldCatalog;
+import co.com.andres.university_campus_management.utils.RequestValidator;
+import co.com.andres.university_campus_management.utils.SingleFlight;
+import co.com.andres.university_campus_management.utils.FieldCatalog.Kind;
 import lombok.RequiredArgsConstructor;
 
 /**
@@ -31,8 +44,32 @@ import lombok.RequiredArgsConstructor;
 @RequiredArgsConstructor
 public class CourseServiceImpl implements CourseService {
 
+    /**
+     * Campos que los listados de cursos permiten seleccionar con ?fields=.
+     */
+    private static final FieldCatalog FIELDS = FieldCatalog.of("Course")
+            .field("id_course", "idCourse", Kind.NUMBER)
+            .field("name", "name", Kind.TEXT)
+            .field("course_code", "courseCode", Kind.TEXT)
+            .field("description", "description", Kind.TEXT)
+            .field("max_capacity", "maxCapacity", Kind.NUMBER)
+            .field("professor_id", "professor.idProfessor", Kind.NUMBER)
+            .alias("id", "id_course");
+
+    /**
+     * Reglas de validación de las solicitudes de creación y actualización.
+     */
+    private static final RequestValidator<CourseRequest> COURSE_RULES = RequestValidator.<CourseRequest>builder()
+            .rule("course_code", CourseRequest::isValidCourseCode, new CourseCodeValidException())
+            .rule("professor_id", CourseRequest::isValidProfessorId, new CourseWithIdProfessorValidException())
+            .rule("maximum_capacity", CourseRequest::isValidMaxCapacity, new CourseMaxCapacityValidException())
+            .build();
+
     private final CourseRepository courseRepository;
     private final CourseMapper courseMapper;
+    private final SparseFieldRepository sparseFieldRepository;
+    private final BatchLookup batchLookup;
+    private final SingleFlight singleFlight;
 
     /**
      * Crea un nuevo curso en el sistema.
@@ -42,25 +79,13 @@ public class CourseServiceImpl implements CourseService {
      * 
      * @param courseRequest Datos del curso a crear
      * @return CourseResponse con la información del curso creado
-     * @throws CourseCodeValidException si el formato del código del curso no es válido
-     * @throws CourseMaxCapacityValidException si la capacidad máxima no está en el rango permitido
+     * @throws RequestValidationException si la solicitud incumple alguna regla de validación
      */
     @Override
+    @Transactional
     public CourseResponse createCourse(CourseRequest courseRequest) {
-        // Validar formato del código del curso
-        if (!courseRequest.isValidCourseCode()) {
-            throw new CourseCodeValidException();
-        }
-        
-        // Validar si el ID del profesor es válido
-        if (!courseRequest.isValidProfessorId()) {
-            throw new CourseWithIdProfessorValidException();
-        }
-
-        // Validar capacidad máxima del curso
-        if (!courseRequest.isValidMaxCapacity()) {
-            throw new CourseMaxCapacityValidException();
-        }
+        // Validar todas las reglas de la solicitud en una sola pasada
+        COURSE_RULES.check(courseRequest);
 
         var entity = courseMapper.toEntity(courseRequest);
         var newCourse = courseRepository.save(entity);
@@ -74,24 +99,43 @@ public class CourseServiceImpl implements CourseService {
      * @return Lista de todos los cursos disponibles
      */
     @Override
+    @Transactional(readOnly = true)
     public List<CourseResponse> getAllCourse() {
         return courseRepository.findAll().stream()
                 .map(courseMapper::toResponse)
                 .toList();
     }
 
+    /**
+     * Obtiene los cursos solo con los campos indicados.
+     * 
+     * @param fields Campos a incluir, separados por comas, entre id_course (o id), name,
+     *         course_code, description, max_capacity y professor_id (por ejemplo id,course_code)
+     * @return SparseRows con las columnas seleccionadas de cada registro
+     * @throws SparseFieldValidException si algún campo no está permitido
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public SparseRows getAllCourse(String fields) {
+        var fieldSet = FIELDS.resolve(fields);
+        return new SparseRows(fieldSet, sparseFieldRepository.findRows(fieldSet));
+    }
+
     /**
      * Busca un curso por su identificador único.
      * 
+     * Las búsquedas concurrentes del mismo curso comparten una sola consulta.
+     * 
      * @param id Identificador único del curso
      * @return CourseResponse con la información del curso encontrado
      * @throws CourseByIdException si no se encuentra un curso con el ID especificado
      */
     @Override
+    @Transactional(readOnly = true)
     public CourseResponse byIdCourse(Long id) {
-        return courseRepository.findById(id)
+        return singleFlight.load("course.byId", id, () -> courseRepository.findById(id)
                 .map(courseMapper::toResponse)
-                .orElseThrow(() -> new CourseByIdException());
+                .orElseThrow(() -> new CourseByIdException()));
     }
 
     /**
@@ -104,10 +148,10 @@ public class CourseServiceImpl implements CourseService {
      * @param courseRequest Nuevos datos del curso
      * @return CourseResponse con la información actualizada del curso
      * @throws CourseByIdException si no se encuentra un curso con el ID especificado
-     * @throws CourseCodeValidException si el formato del código del curso no es válido
-     * @throws CourseMaxCapacityValidException si la capacidad máxima no está en el rango permitido
+     * @throws RequestValidationException si la solicitud incumple alguna regla de validación
      */
     @Override
+    @Transactional
     public CourseResponse updateCourse(Long id, CourseRequest courseRequest) {
         var getId = courseRepository.findById(id);
 
@@ -115,20 +159,8 @@ public class CourseServiceImpl implements CourseService {
             throw new CourseByIdException();
         }
 
-        // Validar si el ID del profesor es válido
-        if (!courseRequest.isValidProfessorId()) {
-            throw new CourseWithIdProfessorValidException();
-        }
-
-        // Validar formato del código del curso
-        if (!courseRequest.isValidCourseCode()) {
-            throw new CourseCodeValidException();
-        }
-
-        // Validar capacidad máxima del curso
-        if (!courseRequest.isValidMaxCapacity()) {
-            throw new CourseMaxCapacityValidException();
-        }
+        // Validar todas las reglas de la solicitud en una sola pasada
+        COURSE_RULES.check(courseRequest);
 
         // Validar si el curso ya está registrado, pero debe ignorar el del mismo ID (actualización)
         var existingCourse = courseRepository.findByCourseCode(courseRequest.courseCode());
@@ -140,6 +172,7 @@ public class CourseServiceImpl implements CourseService {
         entity.setIdCourse(getId.get().getIdCourse());
 
         var update = courseRepository.save(entity);
+        singleFlight.forget("course.byId", id);
 
         return courseMapper.toResponse(update);
     }
@@ -151,6 +184,7 @@ public class CourseServiceImpl implements CourseService {
      * @throws CourseByIdException si no se encuentra un curso con el ID especificado
      */
     @Override
+    @Transactional
     public void deleteCourse(Long id) {
         var getId = courseRepository.findById(id);
         if (!getId.isPresent()) {
@@ -158,6 +192,7 @@ public class CourseServiceImpl implements CourseService {
         }
         var course = getId.get();
         courseRepository.delete(course);
+        singleFlight.forget("course.byId", id);
     }
 
     /**
@@ -169,10 +204,32 @@ public class CourseServiceImpl implements CourseService {
      * @return Lista de cursos que coinciden con la búsqueda
      */
     @Override
+    @Transactional(readOnly = true)
     public List<CourseResponse> getByName(String text) {
-        return courseRepository.findByNameContainingIgnoreCase(text).stream()
-                .map(courseMapper::toResponse)
-                .toList();
+        return SearchEvent.record("Course", "name",
+                () -> courseRepository.findByNameContainingIgnoreCase(text).stream()
+                        .map(courseMapper::toResponse)
+                        .toList(),
+                List::size);
+    }
+
+    /**
+     * Obtiene los cursos cuyo nombre contiene el texto solo con los campos indicados.
+     * 
+     * @param text Texto a buscar en el nombre del curso
+     * @param fields Campos a incluir, separados por comas, entre id_course (o id), name,
+     *         course_code, description, max_capacity y professor_id (por ejemplo id,course_code)
+     * @return SparseRows con las columnas seleccionadas de cada registro
+     * @throws SparseFieldValidException si algún campo no está permitido
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public SparseRows getByName(String text, String fields) {
+        var fieldSet = FIELDS.resolve(fields);
+        return SearchEvent.record("Course", "name",
+                () -> new SparseRows(fieldSet, sparseFieldRepository.findRows(fieldSet,
+                        "locate(lower(:text), lower(e.name)) > 0", Map.of("text", text))),
+                SparseRows::size);
     }
 
     /**
@@ -184,9 +241,47 @@ public class CourseServiceImpl implements CourseService {
      * @return Lista de cursos que coinciden con la búsqueda
      */
     @Override
+    @Transactional(readOnly = true)
     public List<CourseResponse> getByCourseCode(String text) {
-        return courseRepository.findByCourseCodeContainingIgnoreCase(text).stream()
-                .map(courseMapper::toResponse)
-                .toList();
+        return SearchEvent.record("Course", "courseCode",
+                () -> courseRepository.findByCourseCodeContainingIgnoreCase(text).stream()
+                        .map(courseMapper::toResponse)
+                        .toList(),
+                List::size);
+    }
+
+    /**
+     * Obtiene los cursos cuyo código contiene el texto solo con los campos indicados.
+     * 
+     * @param text Texto a buscar en el código del curso
+     * @param fields Campos a incluir, separados por comas, entre id_course (o id), name,
+     *         course_code, description, max_capacity y professor_id (por ejemplo id,course_code)
+     * @return SparseRows con las columnas seleccionadas de cada registro
+     * @throws SparseFieldValidException si algún campo no está permitido
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public SparseRows getByCourseCode(String text, String fields) {
+        var fieldSet = FIELDS.resolve(fields);
+        return SearchEvent.record("Course", "courseCode",
+                () -> new SparseRows(fieldSet, sparseFieldRepository.findRows(fieldSet,
+                        "locate(lower(:text), lower(e.courseCode)) > 0", Map.of("text", text))),
+                SparseRows::size);
+    }
+
+    /**
+     * Busca varios cursos por sus identificadores.
+     * 
+     * Se ejecuta una sola consulta IN con los identificadores distintos; los
+     * inexistentes se devuelven aparte en lugar de hacer fallar el lote.
+     * 
+     * @param ids Identificadores a consultar
+     * @return BatchResponse con los cursos encontrados y los identificadores inexistentes
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public BatchResponse<CourseResponse> getByIds(long[] ids) {
+        // Proyección directa: no se carga el profesor EAGER de cada curso
+        return batchLookup.resolve(ids, courseRepository::findResponsesByIdIn, CourseResponse::idCourse);
     }
 }
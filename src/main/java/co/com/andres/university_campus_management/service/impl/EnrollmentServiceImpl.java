@@ -1,8 +1,12 @@
 package co.com.andres.university_campus_management.service.impl;
 
+import java.io.IOException;
+import java.io.OutputStream;
 import java.util.List;
+import java.util.Map;
 
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import co.com.andres.university_campus_management.config.exception.couseException.CourseByIdException;
 import co.com.andres.university_campus_management.config.exception.enrollmentException.EnrollmentByIdException;
@@ -11,12 +15,24 @@ import co.com.andres.university_campus_management.config.exception.enrollmentExc
 import co.com.andres.university_campus_management.config.exception.enrollmentException.EnrollmentWithIdCourseValidException;
 import co.com.andres.university_campus_management.config.exception.enrollmentException.EnrollmentWithIdSudentValidException;
 import co.com.andres.university_campus_management.config.exception.studentException.StudentByIdException;
+import co.com.andres.university_campus_management.config.exception.sparseException.SparseFieldValidException;
+import co.com.andres.university_campus_management.config.exception.validationException.RequestValidationException;
+import co.com.andres.university_campus_management.jfr.EnrollmentCreateEvent;
+import co.com.andres.university_campus_management.jfr.SearchEvent;
 import co.com.andres.university_campus_management.mapper.EnrollmentMapper;
 import co.com.andres.university_campus_management.model.DTO.EnrollmentRequest;
 import co.com.andres.university_campus_management.model.DTO.EnrollmentResponse;
+import co.com.andres.university_campus_management.model.DTO.SparseRows;
 import co.com.andres.university_campus_management.model.entity.EnrollmentState;
 import co.com.andres.university_campus_management.repository.EnrollmentRepository;
+import co.com.andres.university_campus_management.repository.SparseFieldRepository;
 import co.com.andres.university_campus_management.service.EnrollmentService;
+import co.com.andres.university_campus_management.utils.ExportFormat;
+import co.com.andres.university_campus_management.utils.FieldCatalog;
+import co.com.andres.university_campus_management.utils.RequestValidator;
+import co.com.andres.university_campus_management.utils.FieldCatalog.Kind;
+import co.com.andres.university_campus_management.utils.RowStreamWriter;
+import co.com.andres.university_campus_management.utils.SingleFlight;
 import lombok.RequiredArgsConstructor;
 
 /**
@@ -34,8 +50,44 @@ import lombok.RequiredArgsConstructor;
 @RequiredArgsConstructor
 public class EnrollmentServiceImpl implements EnrollmentService {
 
+    /**
+     * Campos que los listados de matrículas permiten seleccionar con ?fields=.
+     */
+    private static final FieldCatalog FIELDS = FieldCatalog.of("Enrollment")
+            .field("id_enrollment", "idEnrollment", Kind.NUMBER)
+            .field("student_id", "student.idStudent", Kind.NUMBER)
+            .field("course_id", "course.idCourse", Kind.NUMBER)
+            .field("enrollment_date", "enrollmentDate", Kind.DATE)
+            .field("enrollment_state", "enrollmentState", Kind.ENUM)
+            .alias("id", "id_enrollment");
+
+    /**
+     * Reglas de validación de las solicitudes de matrícula.
+     */
+    private static final RequestValidator<EnrollmentRequest> ENROLLMENT_RULES = RequestValidator.<EnrollmentRequest>builder()
+            .rule("course", EnrollmentRequest::isValidIdCourse, new EnrollmentWithIdCourseValidException())
+            .rule("student", EnrollmentRequest::isValidIdStudent, new EnrollmentWithIdSudentValidException())
+            .rule("enrollment_date", EnrollmentRequest::isValidEnrollmentDate, new EnrollmentWithDateValidException())
+            .build();
+
+    /**
+     * Columnas de la exportación de matrículas.
+     */
+    private static final String[] EXPORT_COLUMNS = {
+            "id_enrollment", "student_id", "course_id", "enrollment_date", "enrollment_state" };
+
+    /**
+     * Columnas de la exportación de estudiantes de un curso.
+     */
+    private static final String[] ROSTER_COLUMNS = {
+            "id_enrollment", "id_student", "student_number", "name", "last_name", "email",
+            "enrollment_date", "enrollment_state" };
+
     private final EnrollmentMapper enrollmentMapper;
     private final EnrollmentRepository enrollmentRepository;
+    private final SparseFieldRepository sparseFieldRepository;
+    private final RowStreamWriter rowStreamWriter;
+    private final SingleFlight singleFlight;
 
     /**
      * Crea una nueva matrícula en el sistema.
@@ -45,33 +97,30 @@ public class EnrollmentServiceImpl implements EnrollmentService {
      * 
      * @param enrollmentRequest Datos de la matrícula a crear
      * @return EnrollmentResponse con la información de la matrícula creada
-     * @throws EnrollmentWithIdCourseValidException si el ID del curso no es válido
-     * @throws EnrollmentWithIdSudentValidException si el ID del estudiante no es válido
-     * @throws EnrollmentWithDateValidException si la fecha de matrícula no es válida
+     * @throws RequestValidationException si la solicitud incumple alguna regla de validación
      */
     @Override
+    @Transactional
     public EnrollmentResponse createEnrollment(EnrollmentRequest enrollmentRequest) {
-        // Validación del ID del curso
-        if (!enrollmentRequest.isValidIdCourse()) {
-            throw new EnrollmentWithIdCourseValidException();
-        }
+        var event = EnrollmentCreateEvent.start(enrollmentRequest.course());
+        try {
+            // Validar todas las reglas de la solicitud en una sola pasada
+            ENROLLMENT_RULES.check(enrollmentRequest);
 
-        // Validación del ID del estudiante
-        if (!enrollmentRequest.isValidIdStudent()) {
-            throw new EnrollmentWithIdSudentValidException();
-        }
+            // Conversión a entidad y guardado en base de datos
+            var entity = enrollmentMapper.toEntity(enrollmentRequest);
+            var newEnrollment = enrollmentRepository.save(entity);
+            singleFlight.forget("enrollment.byCourse", enrollmentRequest.course());
+            singleFlight.forget("enrollment.byStudent", enrollmentRequest.student());
 
-        // Validación de la fecha de matrícula
-        if (!enrollmentRequest.isValidEnrollmentDate()) {
-            throw new EnrollmentWithDateValidException();
+            // Retorno de la respuesta mapeada
+            return enrollmentMapper.toResponse(newEnrollment);
+        } catch (RuntimeException ex) {
+            event.failure(ex);
+            throw ex;
+        } finally {
+            event.finish();
         }
-
-        // Conversión a entidad y guardado en base de datos
-        var entity = enrollmentMapper.toEntity(enrollmentRequest);
-        var newEnrollment = enrollmentRepository.save(entity);
-
-        // Retorno de la respuesta mapeada
-        return enrollmentMapper.toResponse(newEnrollment);
     }
 
     /**
@@ -80,24 +129,44 @@ public class EnrollmentServiceImpl implements EnrollmentService {
      * @return Lista de todas las matrículas registradas
      */
     @Override
+    @Transactional(readOnly = true)
     public List<EnrollmentResponse> getAllEnrollments() {
         return enrollmentRepository.findAll().stream()
                 .map(enrollmentMapper::toResponse)
                 .toList();
     }
 
+    /**
+     * Obtiene las matrículas solo con los campos indicados.
+     * 
+     * @param fields Campos a incluir, separados por comas, entre id_enrollment (o id), student_id,
+     *         course_id, enrollment_date y enrollment_state (por ejemplo id,course_id)
+     * @return SparseRows con las columnas seleccionadas de cada registro
+     * @throws SparseFieldValidException si algún campo no está permitido
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public SparseRows getAllEnrollments(String fields) {
+        var fieldSet = FIELDS.resolve(fields);
+        return new SparseRows(fieldSet, sparseFieldRepository.findRows(fieldSet));
+    }
+
     /**
      * Busca una matrícula por su ID específico.
      * 
+     * Las búsquedas concurrentes de la misma matrícula comparten una sola consulta.
+     * 
      * @param idEnrollment ID de la matrícula a buscar
      * @return EnrollmentResponse con la información de la matrícula encontrada
      * @throws EnrollmentByIdException si no se encuentra una matrícula con el ID especificado
      */
     @Override
+    @Transactional(readOnly = true)
     public EnrollmentResponse getEnrollmentById(Long idEnrollment) {
-        return enrollmentRepository.findById(idEnrollment)
-                .map(enrollmentMapper::toResponse)
-                .orElseThrow(() -> new EnrollmentByIdException());
+        return singleFlight.load("enrollment.byId", idEnrollment,
+                () -> enrollmentRepository.findById(idEnrollment)
+                        .map(enrollmentMapper::toResponse)
+                        .orElseThrow(() -> new EnrollmentByIdException()));
     }
 
     /**
@@ -108,10 +177,12 @@ public class EnrollmentServiceImpl implements EnrollmentService {
      * @throws CourseByIdException si no se encuentra una matrícula para el curso especificado
      */
     @Override
+    @Transactional(readOnly = true)
     public EnrollmentResponse getEnrollmentByCourseId(Long idCourse) {
-        return enrollmentRepository.findByCourse_idCourse(idCourse)
-                .map(enrollmentMapper::toResponse)
-                .orElseThrow(() -> new CourseByIdException());
+        return singleFlight.load("enrollment.byCourse", idCourse,
+                () -> enrollmentRepository.findByCourse_idCourse(idCourse)
+                        .map(enrollmentMapper::toResponse)
+                        .orElseThrow(() -> new CourseByIdException()));
     }
 
     /**
@@ -122,10 +193,12 @@ public class EnrollmentServiceImpl implements EnrollmentService {
      * @throws StudentByIdException si no se encuentra una matrícula para el estudiante especificado
      */
     @Override
+    @Transactional(readOnly = true)
     public EnrollmentResponse getEnrollmentByStudentId(Long idStudent) {
-        return enrollmentRepository.findByStudent_idStudent(idStudent)
-                .map(enrollmentMapper::toResponse)
-                .orElseThrow(() -> new StudentByIdException());
+        return singleFlight.load("enrollment.byStudent", idStudent,
+                () -> enrollmentRepository.findByStudent_idStudent(idStudent)
+                        .map(enrollmentMapper::toResponse)
+                        .orElseThrow(() -> new StudentByIdException()));
     }
 
     
@@ -136,11 +209,19 @@ public class EnrollmentServiceImpl implements EnrollmentService {
      * @throws EnrollmentByIdException si no se encuentra una matrícula con el ID especificado
      */
     @Override
+    @Transactional
     public void deleteEnrollment(Long idEnrollment) {
         var existingEnrollment = enrollmentRepository.findById(idEnrollment)
                 .orElseThrow(() -> new EnrollmentByIdException());
 
         enrollmentRepository.delete(existingEnrollment);
+        singleFlight.forget("enrollment.byId", idEnrollment);
+        if (existingEnrollment.getCourse() != null) {
+            singleFlight.forget("enrollment.byCourse", existingEnrollment.getCourse().getIdCourse());
+        }
+        if (existingEnrollment.getStudent() != null) {
+            singleFlight.forget("enrollment.byStudent", existingEnrollment.getStudent().getIdStudent());
+        }
     }
 
     /**
@@ -150,17 +231,84 @@ public class EnrollmentServiceImpl implements EnrollmentService {
      * @return Lista de matrículas con el estado especificado
      */
     @Override
+    @Transactional(readOnly = true)
     public List<EnrollmentResponse> getEnrollmentByState(EnrollmentState state) {
-        var enrollments = enrollmentRepository.findByEnrollmentState(state);
-        
-        if (enrollments.isEmpty()) {
-            throw new EnrollmentByStateException();
-        }
-        
-        return enrollments.stream()
-                .map(enrollmentMapper::toResponse)
-                .toList();
+        return SearchEvent.record("Enrollment", "state", () -> {
+            var enrollments = enrollmentRepository.findByEnrollmentState(state);
+
+            if (enrollments.isEmpty()) {
+                throw new EnrollmentByStateException();
+            }
+
+            return enrollments.stream()
+                    .map(enrollmentMapper::toResponse)
+                    .toList();
+        }, List::size);
     }
+
+    /**
+     * Obtiene las matrículas con el estado especificado solo con los campos indicados.
+     * 
+     * @param state Estado de la matrícula a buscar (ACTIVE, CANCELLED, GRADUATED)
+     * @param fields Campos a incluir, separados por comas, entre id_enrollment (o id), student_id,
+     *         course_id, enrollment_date y enrollment_state (por ejemplo id,course_id)
+     * @return SparseRows con las columnas seleccionadas de cada registro
+     * @throws SparseFieldValidException si algún campo no está permitido
+     * @throws EnrollmentByStateException si no hay matrículas con ese estado
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public SparseRows getEnrollmentByState(EnrollmentState state, String fields) {
+        var fieldSet = FIELDS.resolve(fields);
+        return SearchEvent.record("Enrollment", "state", () -> {
+            var rows = sparseFieldRepository.findRows(fieldSet, "e.enrollmentState = :state", Map.of("state", state));
+
+            if (rows.isEmpty()) {
+                throw new EnrollmentByStateException();
+            }
+
+            return new SparseRows(fieldSet, rows);
+        }, SparseRows::size);
     }
 
+    /**
+     * Exporta todas las matrículas leyendo la base de datos con un cursor.
+     * 
+     * La transacción de solo lectura mantiene abierto el cursor mientras se
+     * escribe; al cerrar el Stream (también cuando el cliente se desconecta y
+     * la escritura falla) se cierra el ResultSet y se detiene la consulta.
+     * 
+     * @param format Formato de la exportación (CSV o NDJSON)
+     * @param out Flujo de salida
+     * @return Número de matrículas exportadas
+     * @throws IOException si falla la escritura o el cliente cierra la conexión
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public long exportEnrollments(ExportFormat format, OutputStream out) throws IOException {
+        try (var rows = enrollmentRepository.streamAllForExport()) {
+            return rowStreamWriter.write(format, out, EXPORT_COLUMNS, rows, enrollment -> new Object[] {
+                    enrollment.idEnrollment(), enrollment.studentId(), enrollment.courseId(),
+                    enrollment.enrollmentDate(), enrollment.enrollmentState() });
+        }
+    }
 
+    /**
+     * Exporta los estudiantes matriculados en un curso leyendo con un cursor.
+     * 
+     * @param idCourse ID del curso
+     * @param format Formato de la exportación (CSV o NDJSON)
+     * @param out Flujo de salida
+     * @return Número de filas exportadas
+     * @throws IOException si falla la escritura o el cliente cierra la conexión
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public long exportRoster(Long idCourse, ExportFormat format, OutputStream out) throws IOException {
+        try (var rows = enrollmentRepository.streamRosterForExport(idCourse)) {
+            return rowStreamWriter.write(format, out, ROSTER_COLUMNS, rows, entry -> new Object[] {
+                    entry.idEnrollment(), entry.idStudent(), entry.studentNumber(), entry.name(),
+                    entry.lastName(), entry.email(), entry.enrollmentDate(), entry.enrollmentState() });
+        }
+    }
+}
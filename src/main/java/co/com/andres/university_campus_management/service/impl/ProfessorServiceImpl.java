@@ -1,20 +1,34 @@
 package co.com.andres.university_campus_management.service.impl;
 
 import java.util.List;
+import java.util.Map;
 
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import co.com.andres.university_campus_management.config.exception.professorException.ProfessorByIdException;
 import co.com.andres.university_campus_management.config.exception.professorException.ProfessorWithEmailExistException;
 import co.com.andres.university_campus_management.config.exception.professorException.ProfessorWithEmailValidException;
 import co.com.andres.university_campus_management.config.exception.professorException.ProfessorWithPhoneValidException;
 import co.com.andres.university_campus_management.config.exception.professorException.ProfessorWithRoleValidException;
+import co.com.andres.university_campus_management.config.exception.sparseException.SparseFieldValidException;
+import co.com.andres.university_campus_management.config.exception.validationException.RequestValidationException;
+import co.com.andres.university_campus_management.jfr.SearchEvent;
 import co.com.andres.university_campus_management.mapper.ProfessorMapper;
+import co.com.andres.university_campus_management.model.DTO.BatchResponse;
 import co.com.andres.university_campus_management.model.DTO.ProfessorRequest;
 import co.com.andres.university_campus_management.model.DTO.ProfessorResponse;
+import co.com.andres.university_campus_management.model.DTO.SparseRows;
+import co.com.andres.university_campus_management.model.entity.UserType;
 import co.com.andres.university_campus_management.repository.ProfessorRepository;
+import co.com.andres.university_campus_management.repository.UserCredentialRepository;
+import co.com.andres.university_campus_management.repository.SparseFieldRepository;
 import co.com.andres.university_campus_management.service.ProfessorService;
+import co.com.andres.university_campus_management.utils.BatchLookup;
+import co.com.andres.university_campus_management.utils.FieldCatalog;
+import co.com.andres.university_campus_management.utils.RequestValidator;
+import co.com.andres.university_campus_management.utils.FieldCatalog.Kind;
 import lombok.RequiredArgsConstructor;
 
 /**
@@ -25,8 +39,42 @@ import lombok.RequiredArgsConstructor;
 @Service
 public class ProfessorServiceImpl implements ProfessorService {
 
+    /**
+     * Campos que los listados de profesores permiten seleccionar con ?fields=.
+     */
+    private static final FieldCatalog FIELDS = FieldCatalog.of("Professor")
+            .field("id_professor", "idProfessor", Kind.NUMBER)
+            .field("name", "name", Kind.TEXT)
+            .field("last_name", "lastName", Kind.TEXT)
+            .field("email", "email", Kind.TEXT)
+            .field("phone", "phone", Kind.TEXT)
+            .field("address", "address", Kind.TEXT)
+            .alias("id", "id_professor");
+
+    /**
+     * Reglas de validación de las solicitudes de actualización; los roles no se
+     * validan porque la actualización conserva los roles originales.
+     */
+    private static final RequestValidator<ProfessorRequest> PROFESSOR_UPDATE_RULES = professorRules().build();
+
+    /**
+     * Reglas de validación de las solicitudes de creación.
+     */
+    private static final RequestValidator<ProfessorRequest> PROFESSOR_CREATE_RULES = professorRules()
+            .rule("roles", ProfessorRequest::isValidRoles, new ProfessorWithRoleValidException())
+            .build();
+
+    private static RequestValidator.Builder<ProfessorRequest> professorRules() {
+        return RequestValidator.<ProfessorRequest>builder()
+                .rule("email", ProfessorRequest::isValidEmail, new ProfessorWithEmailValidException())
+                .rule("phone", ProfessorRequest::isValidPhone, new ProfessorWithPhoneValidException());
+    }
+
     private final ProfessorRepository professorRepository;
+    private final UserCredentialRepository credentialRepository;
     private final ProfessorMapper professorMapper;
+    private final SparseFieldRepository sparseFieldRepository;
+    private final BatchLookup batchLookup;
     private final PasswordEncoder passwordEncoder;
 
     /**
@@ -34,29 +82,17 @@ public class ProfessorServiceImpl implements ProfessorService {
      * 
      * @param professorRequest Datos del profesor a crear
      * @return ProfessorResponse con los datos del profesor creado
-     * @throws ProfessorWithEmailValidException si el email no es válido
-     * @throws ProfessorWithPhoneValidException si el teléfono no es válido
-     * @throws ProfessorWithEmailExistException si el email ya existe
+     * @throws RequestValidationException si la solicitud incumple alguna regla de validación
+     * @throws ProfessorWithEmailExistException si el email ya existe como profesor o estudiante
      */
     @Override
+    @Transactional
     public ProfessorResponse createProfessor(ProfessorRequest professorRequest) {
-        // Validar formato del email
-        if (!professorRequest.isValidEmail()) {
-            throw new ProfessorWithEmailValidException();
-        }
-
-        if (!professorRequest.isValidRoles()) {
-            throw new ProfessorWithRoleValidException();
-        }
-
-        // Validar formato del teléfono
-        if (!professorRequest.isValidPhone()) {
-            throw new ProfessorWithPhoneValidException();
-        }
+        // Validar todas las reglas de la solicitud en una sola pasada
+        PROFESSOR_CREATE_RULES.check(professorRequest);
 
-        // Verificar que el email no exista en la base de datos
-        var emailProfessor = professorRepository.findByEmail(professorRequest.email());
-        if (emailProfessor.isPresent()) {
+        // Verificar que el email no exista como profesor ni como estudiante
+        if (credentialRepository.isEmailTaken(professorRequest.email(), UserType.PROFESSOR, null)) {
             throw new ProfessorWithEmailExistException();
         }
 
@@ -75,12 +111,28 @@ public class ProfessorServiceImpl implements ProfessorService {
      * @return Lista de todos los profesores
      */
     @Override
+    @Transactional(readOnly = true)
     public List<ProfessorResponse> getAllProfessor() {
         return professorRepository.findAll().stream()
                 .map(professorMapper::toResponse)
                 .toList();
     }
 
+    /**
+     * Obtiene los profesores solo con los campos indicados.
+     * 
+     * @param fields Campos a incluir, separados por comas, entre id_professor (o id), name,
+     *         last_name, email, phone y address (por ejemplo id,email)
+     * @return SparseRows con las columnas seleccionadas de cada registro
+     * @throws SparseFieldValidException si algún campo no está permitido
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public SparseRows getAllProfessor(String fields) {
+        var fieldSet = FIELDS.resolve(fields);
+        return new SparseRows(fieldSet, sparseFieldRepository.findRows(fieldSet));
+    }
+
     /**
      * Busca un profesor por su ID.
      * 
@@ -89,6 +141,7 @@ public class ProfessorServiceImpl implements ProfessorService {
      * @throws ProfessorByIdException si el profesor no existe
      */
     @Override
+    @Transactional(readOnly = true)
     public ProfessorResponse getById(Long id) {
         return professorRepository.findById(id)
                 .map(professorMapper::toResponse)
@@ -102,6 +155,7 @@ public class ProfessorServiceImpl implements ProfessorService {
      * @throws ProfessorByIdException si el profesor no existe
      */
     @Override
+    @Transactional
     public void deleteProfessor(Long id) {
         var professorId = professorRepository.findById(id);
         if (!professorId.isPresent()) {
@@ -119,11 +173,11 @@ public class ProfessorServiceImpl implements ProfessorService {
      * @param professorRequest Nuevos datos del profesor
      * @return ProfessorResponse con los datos actualizados
      * @throws ProfessorByIdException           si el profesor no existe
-     * @throws ProfessorWithEmailValidException si el email no es válido
-     * @throws ProfessorWithPhoneValidException si el teléfono no es válido
-     * @throws ProfessorWithEmailExistException si el email ya existe
+     * @throws RequestValidationException si la solicitud incumple alguna regla de validación
+     * @throws ProfessorWithEmailExistException si el email ya existe como profesor o estudiante
      */
     @Override
+    @Transactional
     public ProfessorResponse updateProfessor(Long id, ProfessorRequest professorRequest) {
         // Verificar que el profesor existe
         var idExist = professorRepository.findById(id);
@@ -131,19 +185,11 @@ public class ProfessorServiceImpl implements ProfessorService {
             throw new ProfessorByIdException();
         }
 
-        // Validar formato del email
-        if (!professorRequest.isValidEmail()) {
-            throw new ProfessorWithEmailValidException();
-        }
+        // Validar todas las reglas de la solicitud en una sola pasada
+        PROFESSOR_UPDATE_RULES.check(professorRequest);
 
-        // Validar formato del teléfono
-        if (!professorRequest.isValidPhone()) {
-            throw new ProfessorWithPhoneValidException();
-        }
-
-        // Verificar que el email no exista en otro profesor (excluyendo el actual)
-        var emailProfessor = professorRepository.findByEmail(professorRequest.email());
-        if (emailProfessor.isPresent() && !emailProfessor.get().getIdProfessor().equals(id)) {
+        // Verificar que el email no pertenezca a otro profesor (excluyendo el actual) ni a un estudiante
+        if (credentialRepository.isEmailTaken(professorRequest.email(), UserType.PROFESSOR, id)) {
             throw new ProfessorWithEmailExistException();
         }
         
@@ -172,10 +218,51 @@ public class ProfessorServiceImpl implements ProfessorService {
      * @return Lista de profesores que coinciden con la búsqueda
      */
     @Override
+    @Transactional(readOnly = true)
     public List<ProfessorResponse> getByNameOtByLastName(String text) {
-        return professorRepository.findByNameContainingIgnoreCaseOrLastNameContainingIgnoreCase(text, text)
-                .stream()
-                .map(professorMapper::toResponse)
-                .toList();
+        return SearchEvent.record("Professor", "nameOrLastName",
+                () -> professorRepository.findByNameContainingIgnoreCaseOrLastNameContainingIgnoreCase(text, text)
+                        .stream()
+                        .map(professorMapper::toResponse)
+                        .toList(),
+                List::size);
+    }
+
+    /**
+     * Obtiene los profesores cuyo nombre o apellido contiene el texto solo con los campos indicados.
+     * 
+     * @param text Texto a buscar en nombre o apellido
+     * @param fields Campos a incluir, separados por comas, entre id_professor (o id), name,
+     *         last_name, email, phone y address (por ejemplo id,email)
+     * @return SparseRows con las columnas seleccionadas de cada registro
+     * @throws SparseFieldValidException si algún campo no está permitido
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public SparseRows getByNameOtByLastName(String text, String fields) {
+        var fieldSet = FIELDS.resolve(fields);
+        return SearchEvent.record("Professor", "nameOrLastName",
+                () -> new SparseRows(fieldSet, sparseFieldRepository.findRows(fieldSet,
+                        "locate(lower(:text), lower(e.name)) > 0 or locate(lower(:text), lower(e.lastName)) > 0", Map.of("text", text))),
+                SparseRows::size);
+    }
+
+    /**
+     * Busca varios profesores por sus identificadores.
+     * 
+     * Se ejecuta una sola consulta IN con los identificadores distintos; los
+     * inexistentes se devuelven aparte en lugar de hacer fallar el lote.
+     * 
+     * @param ids Identificadores a consultar
+     * @return BatchResponse con los profesores encontrados y los identificadores inexistentes
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public BatchResponse<ProfessorResponse> getByIds(long[] ids) {
+        return batchLookup.resolve(ids,
+                found -> professorRepository.findWithRolesByIdIn(found).stream()
+                        .map(professorMapper::toResponse)
+                        .toList(),
+                ProfessorResponse::idProfessor);
     }
 }
@@ -0,0 +1,133 @@
+package co.com.andres.university_campus_management.service.impl;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import co.com.andres.university_campus_management.config.exception.studentException.StudentByIdException;
+import co.com.andres.university_campus_management.mapper.ProfessorMapper;
+import co.com.andres.university_campus_management.mapper.StudentMapper;
+import co.com.andres.university_campus_management.model.DTO.CourseResponse;
+import co.com.andres.university_campus_management.model.DTO.EnrollmentResponse;
+import co.com.andres.university_campus_management.model.DTO.ProfessorResponse;
+import co.com.andres.university_campus_management.model.DTO.StudentDashboardResponse;
+import co.com.andres.university_campus_management.model.DTO.StudentResponse;
+import co.com.andres.university_campus_management.repository.CourseRepository;
+import co.com.andres.university_campus_management.repository.EnrollmentRepository;
+import co.com.andres.university_campus_management.repository.ProfessorRepository;
+import co.com.andres.university_campus_management.repository.StudentRepository;
+import co.com.andres.university_campus_management.service.StudentDashboardService;
+import co.com.andres.university_campus_management.utils.QueryCounter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Implementación del servicio de la vista agregada del estudiante.
+ * 
+ * La vista se construye siempre con cuatro consultas, sin importar cuántos
+ * cursos tenga el estudiante:
+ * 1. El estudiante con sus roles
+ * 2. Sus matrículas (proyección, sin cargar relaciones)
+ * 3. Los cursos matriculados (una consulta IN)
+ * 4. Los profesores de esos cursos con sus roles (una consulta IN)
+ * 
+ * La consulta del estudiante no depende de las demás, así que se ejecuta en
+ * un hilo virtual en paralelo con la cadena matrículas → cursos → profesores.
+ * Cada rama corre en su propia transacción de solo lectura: las transacciones
+ * no se propagan entre hilos, y así la cadena usa una sola conexión para sus
+ * tres consultas.
+ * 
+ * @author Andres
+ * @version 1.0
+ * @since 2024
+ */
+@Service
+@RequiredArgsConstructor
+public class StudentDashboardServiceImpl implements StudentDashboardService {
+
+    private final StudentRepository studentRepository;
+    private final EnrollmentRepository enrollmentRepository;
+    private final CourseRepository courseRepository;
+    private final ProfessorRepository professorRepository;
+    private final StudentMapper studentMapper;
+    private final ProfessorMapper professorMapper;
+    private final ExecutorService fanOutExecutor;
+    private final PlatformTransactionManager transactionManager;
+
+    /**
+     * Obtiene la vista agregada del estudiante.
+     * 
+     * @param studentId Identificador único del estudiante
+     * @return StudentDashboardResponse con estudiante, matrículas, cursos y profesores
+     * @throws StudentByIdException si no existe un estudiante con el ID especificado
+     */
+    @Override
+    public StudentDashboardResponse getDashboard(Long studentId) {
+        var readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+        var student = CompletableFuture.supplyAsync(
+                QueryCounter.propagate(() -> readOnly.execute(status -> findStudent(studentId))), fanOutExecutor);
+        var courses = CompletableFuture.supplyAsync(
+                QueryCounter.propagate(() -> readOnly.execute(status -> findCourses(studentId))), fanOutExecutor);
+
+        try {
+            var studentResponse = student.join();
+            var enrolledCourses = courses.join();
+            return new StudentDashboardResponse(studentResponse,
+                    enrolledCourses.enrollments(), enrolledCourses.courses(), enrolledCourses.professors());
+        } catch (CompletionException e) {
+            // Se relanza la excepción original para que la maneje GlobalExeptionHandler
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private StudentResponse findStudent(Long studentId) {
+        return studentRepository.findById(studentId)
+                .map(studentMapper::toResponse)
+                .orElseThrow(StudentByIdException::new);
+    }
+
+    private EnrolledCourses findCourses(Long studentId) {
+        var enrollments = enrollmentRepository.findResponsesByStudentId(studentId);
+        if (enrollments.isEmpty()) {
+            return new EnrolledCourses(List.of(), List.of(), List.of());
+        }
+
+        var courseIds = enrollments.stream()
+                .map(EnrollmentResponse::courseId)
+                .filter(Objects::nonNull)
+                .distinct()
+                .toList();
+        var courses = courseRepository.findResponsesByIdIn(courseIds);
+
+        var professorIds = courses.stream()
+                .map(CourseResponse::professorId)
+                .filter(Objects::nonNull)
+                .distinct()
+                .toList();
+        var professors = professorIds.isEmpty()
+                ? List.<ProfessorResponse>of()
+                : professorRepository.findWithRolesByIdIn(professorIds).stream()
+                        .map(professorMapper::toResponse)
+                        .toList();
+
+        return new EnrolledCourses(enrollments, courses, professors);
+    }
+
+    /**
+     * Resultado de la cadena matrículas → cursos → profesores.
+     */
+    private record EnrolledCourses(
+            List<EnrollmentResponse> enrollments,
+            List<CourseResponse> courses,
+            List<ProfessorResponse> professors) {
+    }
+}
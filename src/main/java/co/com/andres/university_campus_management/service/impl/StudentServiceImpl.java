@@ -1,9 +1,11 @@
 package co.com.andres.university_campus_management.service.impl;
 
 import java.util.List;
+import java.util.Map;
 
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import co.com.andres.university_campus_management.config.exception.studentException.StudentWintEmailValidException;
 import co.com.andres.university_campus_management.config.exception.studentException.StudentWintNumberValidExeption;
@@ -11,11 +13,24 @@ import co.com.andres.university_campus_management.config.exception.studentExcept
 import co.com.andres.university_campus_management.config.exception.studentException.StudentByIdException;
 import co.com.andres.university_campus_management.config.exception.studentException.StudentNumberExistException;
 import co.com.andres.university_campus_management.config.exception.studentException.StudentWithEmailExistException;
+import co.com.andres.university_campus_management.config.exception.sparseException.SparseFieldValidException;
+import co.com.andres.university_campus_management.config.exception.validationException.RequestValidationException;
+import co.com.andres.university_campus_management.jfr.SearchEvent;
 import co.com.andres.university_campus_management.mapper.StudentMapper;
+import co.com.andres.university_campus_management.model.DTO.BatchResponse;
 import co.com.andres.university_campus_management.model.DTO.StudentRequest;
 import co.com.andres.university_campus_management.model.DTO.StudentResponse;
+import co.com.andres.university_campus_management.model.DTO.SparseRows;
+import co.com.andres.university_campus_management.model.entity.UserType;
 import co.com.andres.university_campus_management.repository.StudentRepository;
+import co.com.andres.university_campus_management.repository.UserCredentialRepository;
+import co.com.andres.university_campus_management.repository.SparseFieldRepository;
 import co.com.andres.university_campus_management.service.StudentService;
+import co.com.andres.university_campus_management.utils.BatchLookup;
+import co.com.andres.university_campus_management.utils.FieldCatalog;
+import co.com.andres.university_campus_management.utils.RequestValidator;
+import co.com.andres.university_campus_management.utils.SingleFlight;
+import co.com.andres.university_campus_management.utils.FieldCatalog.Kind;
 import lombok.RequiredArgsConstructor;
 
 /**
@@ -33,9 +48,37 @@ import lombok.RequiredArgsConstructor;
 @RequiredArgsConstructor
 public class StudentServiceImpl implements StudentService {
 
+    /**
+     * Campos que los listados de estudiantes permiten seleccionar con ?fields=.
+     */
+    private static final FieldCatalog FIELDS = FieldCatalog.of("Student")
+            .field("id_student", "idStudent", Kind.NUMBER)
+            .field("name", "name", Kind.TEXT)
+            .field("last_name", "lastName", Kind.TEXT)
+            .field("email", "email", Kind.TEXT)
+            .field("address", "address", Kind.TEXT)
+            .field("phone", "phone", Kind.TEXT)
+            .field("student_number", "studentNumber", Kind.TEXT)
+            .alias("id", "id_student");
+
+    /**
+     * Reglas de validación de las solicitudes de creación y actualización. El
+     * teléfono solo se valida cuando se informa.
+     */
+    private static final RequestValidator<StudentRequest> STUDENT_RULES = RequestValidator.<StudentRequest>builder()
+            .rule("email", StudentRequest::isValidEmail, new StudentWintEmailValidException())
+            .rule("phone", request -> "No especificado".equals(request.phone()) || request.isValidPhone(),
+                    new StudentWintPhoneValidException())
+            .rule("student_Number", StudentRequest::isValidStudentNumber, new StudentWintNumberValidExeption())
+            .build();
+
     private final StudentRepository studentRepository;
+    private final UserCredentialRepository credentialRepository;
     private final StudentMapper studentMapper;
+    private final SparseFieldRepository sparseFieldRepository;
+    private final BatchLookup batchLookup;
     private final PasswordEncoder passwordEncoder;
+    private final SingleFlight singleFlight;
 
     /**
      * Crea un nuevo estudiante en el sistema con validaciones completas.
@@ -46,33 +89,18 @@ public class StudentServiceImpl implements StudentService {
      * 
      * @param studentRequest Datos del estudiante a crear
      * @return StudentResponse con la información del estudiante creado
-     * @throws StudentWintEmailValidException si el formato del email no es válido
-     * @throws StudentWintPhoneValidException si el formato del teléfono no es válido
-     * @throws StudentWintNumberValidExeption si el formato del número de estudiante no es válido
-     * @throws StudentWithEmailExistException si el email ya existe en el sistema
+     * @throws RequestValidationException si la solicitud incumple alguna regla de validación
+     * @throws StudentWithEmailExistException si el email ya existe como estudiante o profesor
      * @throws StudentNumberExistException si el número de estudiante ya existe en el sistema
      */
     @Override
+    @Transactional
     public StudentResponse createStudent(StudentRequest studentRequest) {
-        // Validar formato del email
-        if (!studentRequest.isValidEmail()) {
-            throw new StudentWintEmailValidException();
-        }
-
-        // Validar formato del teléfono si está presente
-        if (studentRequest.phone() != null && !studentRequest.phone().equals("No especificado")
-                && !studentRequest.isValidPhone()) {
-            throw new StudentWintPhoneValidException();
-        }
+        // Validar todas las reglas de la solicitud en una sola pasada
+        STUDENT_RULES.check(studentRequest);
 
-        // Validar formato del número de estudiante
-        if (!studentRequest.isValidStudentNumber()) {
-            throw new StudentWintNumberValidExeption();
-        }
-
-        // Verificar si el email ya existe
-        var emailStudent = studentRepository.findByEmail(studentRequest.email());
-        if (emailStudent.isPresent()) {
+        // Verificar que el email no exista como estudiante ni como profesor
+        if (credentialRepository.isEmailTaken(studentRequest.email(), UserType.STUDENT, null)) {
             throw new StudentWithEmailExistException();
         }
 
@@ -96,24 +124,43 @@ public class StudentServiceImpl implements StudentService {
      * @return Lista de estudiantes transformada a DTOs de respuesta
      */
     @Override
+    @Transactional(readOnly = true)
     public List<StudentResponse> getAllStudent() {
         return studentRepository.findAll().stream()
                 .map(studentMapper::toResponse)
                 .toList();
     }
 
+    /**
+     * Obtiene los estudiantes solo con los campos indicados.
+     * 
+     * @param fields Campos a incluir, separados por comas, entre id_student (o id), name,
+     *         last_name, email, address, phone y student_number (por ejemplo id,student_number)
+     * @return SparseRows con las columnas seleccionadas de cada registro
+     * @throws SparseFieldValidException si algún campo no está permitido
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public SparseRows getAllStudent(String fields) {
+        var fieldSet = FIELDS.resolve(fields);
+        return new SparseRows(fieldSet, sparseFieldRepository.findRows(fieldSet));
+    }
+
     /**
      * Busca un estudiante específico por su identificador único.
      * 
+     * Las búsquedas concurrentes del mismo estudiante comparten una sola consulta.
+     * 
      * @param id Identificador único del estudiante
      * @return StudentResponse con la información del estudiante encontrado
      * @throws StudentByIdException si no se encuentra un estudiante con el ID especificado
      */
     @Override
+    @Transactional(readOnly = true)
     public StudentResponse getById(Long id) {
-        return studentRepository.findById(id)
+        return singleFlight.load("student.byId", id, () -> studentRepository.findById(id)
                 .map(studentMapper::toResponse)
-                .orElseThrow(() -> new StudentByIdException());
+                .orElseThrow(() -> new StudentByIdException()));
     }
 
     /**
@@ -127,11 +174,11 @@ public class StudentServiceImpl implements StudentService {
      * @param studentRequest Nuevos datos del estudiante
      * @return StudentResponse con la información actualizada del estudiante
      * @throws StudentByIdException si no se encuentra un estudiante con el ID especificado
-     * @throws StudentWintEmailValidException si el formato del email no es válido
-     * @throws StudentWintPhoneValidException si el formato del teléfono no es válido
-     * @throws StudentWintNumberValidExeption si el formato del número de estudiante no es válido
+     * @throws RequestValidationException si la solicitud incumple alguna regla de validación
+     * @throws StudentWithEmailExistException si el email pertenece a otro estudiante o a un profesor
      */
     @Override
+    @Transactional
     public StudentResponse updateStudent(Long id, StudentRequest studentRequest) {
 
         var idStudent = studentRepository.findById(id);
@@ -139,20 +186,12 @@ public class StudentServiceImpl implements StudentService {
             throw new StudentByIdException();
         }
 
-        // Validar formato del email
-        if (!studentRequest.isValidEmail()) {
-            throw new StudentWintEmailValidException();
-        }
-
-        // Validar formato del teléfono si está presente
-        if (studentRequest.phone() != null && !studentRequest.phone().equals("No especificado")
-                && !studentRequest.isValidPhone()) {
-            throw new StudentWintPhoneValidException();
-        }
+        // Validar todas las reglas de la solicitud en una sola pasada
+        STUDENT_RULES.check(studentRequest);
 
-        // Validar formato del número de estudiante
-        if (!studentRequest.isValidStudentNumber()) {
-            throw new StudentWintNumberValidExeption();
+        // Verificar que el email no pertenezca a otro estudiante ni a un profesor
+        if (credentialRepository.isEmailTaken(studentRequest.email(), UserType.STUDENT, id)) {
+            throw new StudentWithEmailExistException();
         }
 
         // Se mapea el DTO a la entidad y se conservan el ID y los roles originales del estudiante
@@ -168,6 +207,7 @@ public class StudentServiceImpl implements StudentService {
         }
 
         var update = studentRepository.save(entity);
+        singleFlight.forget("student.byId", id);
         return studentMapper.toResponse(update);
     }
 
@@ -178,6 +218,7 @@ public class StudentServiceImpl implements StudentService {
      * @throws StudentByIdException si no se encuentra un estudiante con el ID especificado
      */
     @Override
+    @Transactional
     public void deleteById(Long id) {
         var idStudent = studentRepository.findById(id);
         if (!idStudent.isPresent()) {
@@ -185,6 +226,7 @@ public class StudentServiceImpl implements StudentService {
         }
         var student = idStudent.get();
         studentRepository.delete(student);
+        singleFlight.forget("student.byId", id);
 
     }
 
@@ -198,12 +240,51 @@ public class StudentServiceImpl implements StudentService {
      * @return Lista de estudiantes que coinciden con la búsqueda
      */
     @Override
+    @Transactional(readOnly = true)
     public List<StudentResponse> getByNameOrLastName(String text) {
+        return SearchEvent.record("Student", "nameOrLastName",
+                () -> studentRepository.findByNameContainingIgnoreCaseOrLastNameContainingIgnoreCase(text, text)
+                        .stream()
+                        .map(studentMapper::toResponse)
+                        .toList(),
+                List::size);
+    }
 
-        return studentRepository.findByNameContainingIgnoreCaseOrLastNameContainingIgnoreCase(text, text)
-                .stream()
-                .map(studentMapper::toResponse)
-                .toList();
+    /**
+     * Obtiene los estudiantes cuyo nombre o apellido contiene el texto solo con los campos indicados.
+     * 
+     * @param text Texto a buscar en nombre o apellido
+     * @param fields Campos a incluir, separados por comas, entre id_student (o id), name,
+     *         last_name, email, address, phone y student_number (por ejemplo id,student_number)
+     * @return SparseRows con las columnas seleccionadas de cada registro
+     * @throws SparseFieldValidException si algún campo no está permitido
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public SparseRows getByNameOrLastName(String text, String fields) {
+        var fieldSet = FIELDS.resolve(fields);
+        return SearchEvent.record("Student", "nameOrLastName",
+                () -> new SparseRows(fieldSet, sparseFieldRepository.findRows(fieldSet,
+                        "locate(lower(:text), lower(e.name)) > 0 or locate(lower(:text), lower(e.lastName)) > 0", Map.of("text", text))),
+                SparseRows::size);
     }
 
+    /**
+     * Busca varios estudiantes por sus identificadores.
+     * 
+     * Se ejecuta una sola consulta IN con los identificadores distintos; los
+     * inexistentes se devuelven aparte en lugar de hacer fallar el lote.
+     * 
+     * @param ids Identificadores a consultar
+     * @return BatchResponse con los estudiantes encontrados y los identificadores inexistentes
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public BatchResponse<StudentResponse> getByIds(long[] ids) {
+        return batchLookup.resolve(ids,
+                found -> studentRepository.findWithRolesByIdIn(found).stream()
+                        .map(studentMapper::toResponse)
+                        .toList(),
+                StudentResponse::idStudent);
+    }
 }
@@ -0,0 +1,107 @@
+package co.com.andres.university_campus_management.utils;
+
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Resultado de la calibración del costo de BCrypt en la máquina actual.
+ *
+ * Al arrancar se mide el tiempo de hash para costos crecientes y se elige el
+ * mayor costo cuyo tiempo no supera la latencia objetivo, sin bajar nunca del
+ * costo mínimo configurado. El costo queda registrado en cada hash
+ * ({@code $2a$<costo>$...}), lo que permite detectar en el login los hashes
+ * generados con un costo menor y volver a calcularlos.
+ *
+ * @param strength Costo elegido para los nuevos hashes
+ * @param targetMillis Latencia objetivo por hash en milisegundos
+ * @param pinned true si el costo fue fijado por configuración y no se midió
+ * @param measurements Tiempo medido en milisegundos por cada costo evaluado
+ * @param calibratedAt Instante en que se realizó la calibración
+ *
+ * @author Andres
+ * @version 1.0
+ * @since 2024
+ */
+@Slf4j
+public record BCryptCalibration(
+        int strength,
+        long targetMillis,
+        boolean pinned,
+        Map<Integer, Long> measurements,
+        Instant calibratedAt) {
+
+    /**
+     * Contraseña de muestra utilizada para medir el tiempo de hash.
+     */
+    private static final String SAMPLE_PASSWORD = "calibracion-bcrypt-2024";
+
+    /**
+     * Número de mediciones por costo; se toma la mediana.
+     */
+    private static final int SAMPLES = 3;
+
+    /**
+     * Crea una calibración con un costo fijado por configuración.
+     *
+     * @param strength Costo configurado
+     * @return Calibración sin mediciones
+     */
+    public static BCryptCalibration pinned(int strength) {
+        log.info("Costo de BCrypt fijado por configuración: {}", strength);
+        return new BCryptCalibration(strength, 0, true, Map.of(), Instant.now());
+    }
+
+    /**
+     * Mide el tiempo de hash para costos entre el mínimo y el máximo y elige el
+     * mayor que cumple la latencia objetivo.
+     *
+     * Como cada incremento de costo duplica el tiempo, la medición se detiene en
+     * cuanto el siguiente costo superaría previsiblemente el objetivo.
+     *
+     * @param targetMillis Latencia objetivo por hash en milisegundos
+     * @param minStrength Costo mínimo permitido
+     * @param maxStrength Costo máximo permitido
+     * @return Calibración con el costo elegido y las mediciones realizadas
+     */
+    public static BCryptCalibration measure(long targetMillis, int minStrength, int maxStrength) {
+        // Calentamiento para que la primera medición no incluya la compilación JIT
+        new BCryptPasswordEncoder(minStrength).encode(SAMPLE_PASSWORD);
+
+        var measurements = new LinkedHashMap<Integer, Long>();
+        int chosen = minStrength;
+        for (int strength = minStrength; strength <= maxStrength; strength++) {
+            long millis = medianMillis(new BCryptPasswordEncoder(strength));
+            measurements.put(strength, millis);
+            if (millis > targetMillis) {
+                break;
+            }
+            chosen = strength;
+            if (millis * 2 > targetMillis) {
+                break;
+            }
+        }
+
+        log.info("Calibración de BCrypt: costo {} para un objetivo de {} ms (mediciones: {})",
+                chosen, targetMillis, measurements);
+        return new BCryptCalibration(chosen, targetMillis, false,
+                Collections.unmodifiableMap(measurements), Instant.now());
+    }
+
+    private static long medianMillis(BCryptPasswordEncoder encoder) {
+        long[] samples = new long[SAMPLES];
+        for (int i = 0; i < SAMPLES; i++) {
+            long start = System.nanoTime();
+            encoder.encode(SAMPLE_PASSWORD);
+            samples[i] = (System.nanoTime() - start) / 1_000_000;
+        }
+        Arrays.sort(samples);
+        return samples[SAMPLES / 2];
+    }
+}
@@ -0,0 +1,84 @@
+package co.com.andres.university_campus_management.utils;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.ToLongFunction;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import co.com.andres.university_campus_management.config.exception.batchException.BatchSizeValidException;
+import co.com.andres.university_campus_management.model.DTO.BatchResponse;
+
+/**
+ * Resuelve consultas por lote de identificadores con una sola consulta.
+ * 
+ * Los identificadores se reciben como {@code long[]}, se ordenan y se
+ * eliminan los repetidos antes de consultar. Los registros encontrados se
+ * ordenan por identificador en un arreglo paralelo, de modo que cada
+ * identificador de la solicitud se resuelve con una búsqueda binaria sin
+ * construir mapas intermedios.
+ * 
+ * @author Andres
+ * @version 1.0
+ * @since 2024
+ */
+@Component
+public class BatchLookup {
+
+    private final int maxIds;
+
+    public BatchLookup(@Value("${batch.max-ids:500}") int maxIds) {
+        this.maxIds = maxIds;
+    }
+
+    /**
+     * Consulta un lote de identificadores y arma la respuesta en el orden de la
+     * solicitud.
+     * 
+     * @param <T> Tipo de los registros devueltos
+     * @param ids Identificadores solicitados
+     * @param loader Consulta que recibe los identificadores distintos y devuelve los registros existentes
+     * @param idOf Función que obtiene el identificador de un registro
+     * @return BatchResponse con los registros encontrados y los identificadores inexistentes
+     * @throws BatchSizeValidException si el lote está vacío o supera el máximo permitido
+     */
+    public <T> BatchResponse<T> resolve(long[] ids,
+                                        Function<List<Long>, List<T>> loader,
+                                        ToLongFunction<T> idOf) {
+        if (ids == null || ids.length == 0 || ids.length > maxIds) {
+            throw new BatchSizeValidException(maxIds);
+        }
+
+        long[] distinct = Arrays.stream(ids).sorted().distinct().toArray();
+        var found = new ArrayList<>(loader.apply(Arrays.stream(distinct).boxed().toList()));
+        found.sort(Comparator.comparingLong(idOf));
+
+        long[] foundIds = new long[found.size()];
+        for (int i = 0; i < foundIds.length; i++) {
+            foundIds[i] = idOf.applyAsLong(found.get(i));
+        }
+
+        var results = new ArrayList<T>(ids.length);
+        long[] missing = new long[distinct.length];
+        int missingCount = 0;
+        boolean[] reported = new boolean[distinct.length];
+        for (long id : ids) {
+            int index = Arrays.binarySearch(foundIds, id);
+            if (index >= 0) {
+                results.add(found.get(index));
+                continue;
+            }
+            // Cada identificador inexistente se informa una sola vez
+            int slot = Arrays.binarySearch(distinct, id);
+            if (!reported[slot]) {
+                reported[slot] = true;
+                missing[missingCount++] = id;
+            }
+        }
+        return new BatchResponse<>(results, Arrays.copyOf(missing, missingCount));
+    }
+}
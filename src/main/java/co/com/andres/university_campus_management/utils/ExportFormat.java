@@ -0,0 +1,60 @@
+package co.com.andres.university_campus_management.utils;
+
+import java.nio.charset.StandardCharsets;
+
+import org.springframework.http.MediaType;
+
+import co.com.andres.university_campus_management.config.exception.exportException.ExportFormatValidException;
+
+/**
+ * Formatos disponibles para las exportaciones en streaming.
+ * 
+ * @author Andres
+ * @version 1.0
+ * @since 2024
+ */
+public enum ExportFormat {
+
+    /**
+     * Valores separados por comas, con una fila de encabezado.
+     */
+    CSV(new MediaType("text", "csv", StandardCharsets.UTF_8), "csv"),
+
+    /**
+     * Un objeto JSON por línea.
+     */
+    NDJSON(MediaType.parseMediaType("application/x-ndjson"), "ndjson");
+
+    private final MediaType mediaType;
+    private final String extension;
+
+    ExportFormat(MediaType mediaType, String extension) {
+        this.mediaType = mediaType;
+        this.extension = extension;
+    }
+
+    public MediaType mediaType() {
+        return mediaType;
+    }
+
+    public String extension() {
+        return extension;
+    }
+
+    /**
+     * Obtiene el formato a partir del parámetro de la solicitud, sin distinguir
+     * mayúsculas de minúsculas.
+     * 
+     * @param value Valor del parámetro format
+     * @return Formato correspondiente
+     * @throws ExportFormatValidException si el formato no está soportado
+     */
+    public static ExportFormat from(String value) {
+        for (ExportFormat format : values()) {
+            if (format.extension.equalsIgnoreCase(value.trim())) {
+                return format;
+            }
+        }
+        throw new ExportFormatValidException();
+    }
+}
@@ -0,0 +1,172 @@
+package co.com.andres.university_campus_management.utils;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+
+import co.com.andres.university_campus_management.config.exception.sparseException.SparseFieldValidException;
+
+/**
+ * Catálogo de los campos que un listado permite seleccionar con {@code ?fields=}.
+ * 
+ * Cada campo asocia su nombre en el JSON de respuesta con la ruta JPQL de la
+ * columna y con un escritor de Jackson según su tipo. A partir de una lista de
+ * campos se construye (una sola vez por combinación) un {@link FieldSet} con
+ * la consulta que selecciona solo esas columnas y los escritores ya resueltos,
+ * de modo que serializar cada fila no requiere reflexión.
+ * 
+ * Solo se exponen campos escalares; las colecciones (como los roles) se
+ * obtienen con los listados completos.
+ * 
+ * @author Andres
+ * @version 1.0
+ * @since 2024
+ */
+public final class FieldCatalog {
+
+    /**
+     * Tipo de columna y forma de escribirla en el JSON.
+     */
+    public enum Kind {
+        NUMBER((generator, value) -> generator.writeNumber(((Number) value).longValue())),
+        TEXT((generator, value) -> generator.writeString((String) value)),
+        DATE((generator, value) -> generator.writeString(value.toString())),
+        ENUM((generator, value) -> generator.writeString(((Enum<?>) value).name()));
+
+        private final ColumnWriter writer;
+
+        Kind(ColumnWriter writer) {
+            this.writer = writer;
+        }
+    }
+
+    /**
+     * Escribe el valor no nulo de una columna en el generador JSON.
+     */
+    @FunctionalInterface
+    public interface ColumnWriter {
+        void write(JsonGenerator generator, Object value) throws IOException;
+    }
+
+    /**
+     * Conjunto de campos ya resuelto: consulta JPQL y escritores por columna.
+     * 
+     * @param jpql Consulta que selecciona solo las columnas pedidas (alias {@code e})
+     * @param names Nombres de los campos en el JSON, en el orden de las columnas
+     * @param writers Escritor de cada columna
+     */
+    public record FieldSet(String jpql, SerializedString[] names, ColumnWriter[] writers) {
+    }
+
+    private record Field(String path, Kind kind) {
+    }
+
+    private final String entity;
+    private final Map<String, Field> fields = new LinkedHashMap<>();
+    private final Map<String, String> aliases = new LinkedHashMap<>();
+    private final Map<String, FieldSet> cache = new ConcurrentHashMap<>();
+
+    private FieldCatalog(String entity) {
+        this.entity = entity;
+    }
+
+    /**
+     * Crea un catálogo para la entidad indicada.
+     * 
+     * @param entity Nombre JPQL de la entidad
+     * @return Catálogo vacío al que se agregan los campos
+     */
+    public static FieldCatalog of(String entity) {
+        return new FieldCatalog(entity);
+    }
+
+    /**
+     * Agrega un campo al catálogo.
+     * 
+     * @param name Nombre del campo en el JSON de respuesta
+     * @param path Ruta JPQL de la columna, relativa a la entidad
+     * @param kind Tipo de la columna
+     * @return El mismo catálogo
+     */
+    public FieldCatalog field(String name, String path, Kind kind) {
+        fields.put(name, new Field(path, kind));
+        return this;
+    }
+
+    /**
+     * Agrega un nombre alternativo para un campo (por ejemplo "id").
+     * 
+     * @param alias Nombre alternativo aceptado en {@code ?fields=}
+     * @param name Nombre del campo en el JSON de respuesta
+     * @return El mismo catálogo
+     */
+    public FieldCatalog alias(String alias, String name) {
+        aliases.put(alias, name);
+        return this;
+    }
+
+    /**
+     * Resuelve el parámetro {@code fields} a un conjunto de campos.
+     * 
+     * Los campos se devuelven en el orden del catálogo y sin repetir, por lo
+     * que distintas formas de pedir los mismos campos comparten el conjunto
+     * cacheado; la caché queda acotada por las combinaciones posibles.
+     * 
+     * @param requested Lista de campos separada por comas
+     * @return Conjunto de campos con su consulta y escritores
+     * @throws SparseFieldValidException si la lista está vacía o contiene campos desconocidos
+     */
+    public FieldSet resolve(String requested) {
+        var selected = new boolean[fields.size()];
+        var names = new ArrayList<>(fields.keySet());
+        boolean any = false;
+        for (String token : requested.split(",")) {
+            var name = token.trim();
+            if (name.isEmpty()) {
+                continue;
+            }
+            int index = names.indexOf(aliases.getOrDefault(name, name));
+            if (index < 0) {
+                throw new SparseFieldValidException(allowed());
+            }
+            selected[index] = true;
+            any = true;
+        }
+        if (!any) {
+            throw new SparseFieldValidException(allowed());
+        }
+
+        var key = new StringBuilder(selected.length);
+        for (boolean flag : selected) {
+            key.append(flag ? '1' : '0');
+        }
+        return cache.computeIfAbsent(key.toString(), k -> build(names, selected));
+    }
+
+    private FieldSet build(List<String> names, boolean[] selected) {
+        var columns = new ArrayList<String>();
+        var jsonNames = new ArrayList<SerializedString>();
+        var writers = new ArrayList<ColumnWriter>();
+        for (int i = 0; i < selected.length; i++) {
+            if (!selected[i]) {
+                continue;
+            }
+            var field = fields.get(names.get(i));
+            columns.add("e." + field.path());
+            jsonNames.add(new SerializedString(names.get(i)));
+            writers.add(field.kind().writer);
+        }
+        var jpql = "select " + String.join(", ", columns) + " from " + entity + " e";
+        return new FieldSet(jpql, jsonNames.toArray(SerializedString[]::new), writers.toArray(ColumnWriter[]::new));
+    }
+
+    private String allowed() {
+        return String.join(", ", fields.keySet());
+    }
+}
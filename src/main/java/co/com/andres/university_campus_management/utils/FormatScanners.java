@@ -0,0 +1,113 @@
+package co.com.andres.university_campus_management.utils;
+
+/**
+ * Comprobaciones de formato escritas a mano, equivalentes a las expresiones
+ * regulares que usaban los DTO de solicitud.
+ * 
+ * Recorren la cadena una sola vez, sin compilar patrones ni crear objetos,
+ * y devuelven false para valores nulos.
+ * 
+ * @author Andres
+ * @version 1.0
+ * @since 2024
+ */
+public final class FormatScanners {
+
+    /**
+     * Dominio obligatorio de los correos institucionales.
+     */
+    private static final String UNIVERSITY_DOMAIN = "@universidad.com";
+
+    private FormatScanners() {
+    }
+
+    /**
+     * Equivale a {@code ^[A-Za-z0-9+_.-]+@universidad\.com$}.
+     * 
+     * @param email Correo electrónico a comprobar
+     * @return true si es un correo institucional válido
+     */
+    public static boolean isUniversityEmail(String email) {
+        if (email == null) {
+            return false;
+        }
+        int local = email.length() - UNIVERSITY_DOMAIN.length();
+        if (local < 1 || !email.endsWith(UNIVERSITY_DOMAIN)) {
+            return false;
+        }
+        for (int i = 0; i < local; i++) {
+            char c = email.charAt(i);
+            if (!isAsciiLetterOrDigit(c) && c != '+' && c != '_' && c != '.' && c != '-') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Equivale a {@code ^\+?[0-9]{7,20}$}.
+     * 
+     * @param phone Teléfono a comprobar
+     * @return true si el teléfono tiene formato válido
+     */
+    public static boolean isPhone(String phone) {
+        if (phone == null) {
+            return false;
+        }
+        int start = !phone.isEmpty() && phone.charAt(0) == '+' ? 1 : 0;
+        return isDigits(phone, start, 7, 20);
+    }
+
+    /**
+     * Equivale a {@code ^[0-9]{min,max}$}.
+     * 
+     * @param value Cadena a comprobar
+     * @param min Cantidad mínima de dígitos
+     * @param max Cantidad máxima de dígitos
+     * @return true si la cadena contiene solo dígitos y su longitud está en el rango
+     */
+    public static boolean isDigits(String value, int min, int max) {
+        return value != null && isDigits(value, 0, min, max);
+    }
+
+    /**
+     * Equivale a {@code ^[A-Z]{3,4}-\d{3}$}.
+     * 
+     * @param code Código de curso a comprobar
+     * @return true si el código tiene formato válido
+     */
+    public static boolean isCourseCode(String code) {
+        if (code == null) {
+            return false;
+        }
+        int dash = code.length() - 4;
+        if (dash < 3 || dash > 4 || code.charAt(dash) != '-') {
+            return false;
+        }
+        for (int i = 0; i < dash; i++) {
+            char c = code.charAt(i);
+            if (c < 'A' || c > 'Z') {
+                return false;
+            }
+        }
+        return isDigits(code, dash + 1, 3, 3);
+    }
+
+    private static boolean isDigits(String value, int start, int min, int max) {
+        int length = value.length() - start;
+        if (length < min || length > max) {
+            return false;
+        }
+        for (int i = start; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c < '0' || c > '9') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isAsciiLetterOrDigit(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9');
+    }
+}
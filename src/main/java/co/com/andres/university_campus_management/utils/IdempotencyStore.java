@@ -0,0 +1,280 @@
+package co.com.andres.university_campus_management.utils;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import co.com.andres.university_campus_management.config.exception.idempotencyException.IdempotencyInProgressException;
+import co.com.andres.university_campus_management.config.exception.idempotencyException.IdempotencyKeyReuseException;
+import co.com.andres.university_campus_management.repository.IdempotencyRecordRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.ServletException;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Almacén de las respuestas de las solicitudes de creación con clave de
+ * idempotencia.
+ *
+ * Cada clave se resuelve en este orden:
+ * <ol>
+ * <li>Caché en memoria acotada (LRU) con las respuestas más recientes.</li>
+ * <li>Solicitudes en curso en esta instancia: un duplicado concurrente espera
+ * a que termine la original y recibe su respuesta.</li>
+ * <li>Tabla {@code idempotency_records}: la primera solicitud que inserta la
+ * clave gana; un duplicado en otra instancia espera consultando el registro
+ * en el primario.</li>
+ * </ol>
+ * Solo se guardan las respuestas 2xx; si la solicitud falla se elimina el
+ * registro para que el cliente pueda reintentar con la misma clave.
+ *
+ * Un registro en curso es una reserva con plazo ({@code idempotency.lease},
+ * independiente del tiempo de vida de las respuestas): si la instancia que la
+ * tomó se cae sin completarla ni liberarla, la reserva vence y el siguiente
+ * reintento procesa la solicitud. El plazo debe superar la duración de la
+ * solicitud de creación más lenta; si una solicitud lo excede, un duplicado
+ * puede volver a ejecutarla.
+ *
+ * Publica el contador {@code idempotency.requests}, etiquetado por resultado
+ * (executed, replayed).
+ *
+ * @author Andres
+ * @version 1.0
+ * @since 2024
+ */
+@Slf4j
+@Component
+public class IdempotencyStore {
+
+    /**
+     * Intervalo de consulta del registro cuando la solicitud original se
+     * procesa en otra instancia.
+     */
+    private static final long POLL_INTERVAL_MS = 50;
+
+    private final IdempotencyRecordRepository repository;
+    private final Duration ttl;
+    private final Duration lease;
+    private final Duration waitTimeout;
+    private final Map<String, StoredResponse> cache;
+    private final Map<String, CompletableFuture<StoredResponse>> inFlight = new ConcurrentHashMap<>();
+
+    private final Counter executed;
+    private final Counter replayed;
+
+    public IdempotencyStore(IdempotencyRecordRepository repository, MeterRegistry meterRegistry,
+            @Value("${idempotency.ttl:24h}") Duration ttl,
+            @Value("${idempotency.lease:2m}") Duration lease,
+            @Value("${idempotency.wait-timeout:30s}") Duration waitTimeout,
+            @Value("${idempotency.cache-size:10000}") int cacheSize) {
+        this.repository = repository;
+        this.ttl = ttl;
+        this.lease = lease;
+        this.waitTimeout = waitTimeout;
+        this.cache = Collections.synchronizedMap(new LinkedHashMap<>(256, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, StoredResponse> eldest) {
+                return size() > cacheSize;
+            }
+        });
+        this.executed = requests(meterRegistry, "executed");
+        this.replayed = requests(meterRegistry, "replayed");
+    }
+
+    private static Counter requests(MeterRegistry registry, String outcome) {
+        return Counter.builder("idempotency.requests")
+                .tag("outcome", outcome)
+                .description("Solicitudes de creación con clave de idempotencia")
+                .register(registry);
+    }
+
+    /**
+     * Respuesta almacenada de una solicitud.
+     *
+     * @param requestHash Hash SHA-256 del cuerpo de la solicitud original
+     * @param status Código de estado HTTP
+     * @param contentType Tipo de contenido
+     * @param body Cuerpo de la respuesta
+     * @param createdAt Instante de la solicitud original
+     */
+    public record StoredResponse(String requestHash, int status, String contentType, String body,
+            Instant createdAt) {
+
+        boolean storable() {
+            return status >= 200 && status < 300;
+        }
+    }
+
+    /**
+     * Resultado de una solicitud con clave de idempotencia.
+     *
+     * @param response Respuesta de la solicitud
+     * @param replayed true si la respuesta es la almacenada de una solicitud anterior
+     */
+    public record Outcome(StoredResponse response, boolean replayed) {
+    }
+
+    /**
+     * Acción que procesa la solicitud original y devuelve su respuesta.
+     */
+    @FunctionalInterface
+    public interface Action {
+        StoredResponse run() throws IOException, ServletException;
+    }
+
+    /**
+     * Ejecuta la acción una sola vez por clave y devuelve la respuesta
+     * almacenada en los reintentos.
+     *
+     * @param key Clave de idempotencia, ya acotada por usuario y ruta
+     * @param requestHash Hash SHA-256 del cuerpo de la solicitud
+     * @param action Procesamiento de la solicitud original
+     * @return Respuesta ejecutada o repetida
+     * @throws IdempotencyKeyReuseException si la clave se usó con otro cuerpo
+     * @throws IdempotencyInProgressException si la solicitud original no termina a tiempo
+     */
+    public Outcome execute(String key, String requestHash, Action action) throws IOException, ServletException {
+        long deadline = System.nanoTime() + waitTimeout.toNanos();
+        while (true) {
+            var cached = cache.get(key);
+            if (cached != null && !expired(cached.createdAt())) {
+                return replay(cached, requestHash);
+            }
+
+            var mine = new CompletableFuture<StoredResponse>();
+            var other = inFlight.putIfAbsent(key, mine);
+            if (other != null) {
+                var response = await(other, deadline);
+                if (response != null) {
+                    return replay(response, requestHash);
+                }
+                // La solicitud original falló: este reintento pasa a procesarla
+                continue;
+            }
+
+            StoredResponse published = null;
+            try {
+                var existing = claim(key, requestHash, deadline);
+                if (existing != null) {
+                    published = existing;
+                    cache.put(key, existing);
+                    return replay(existing, requestHash);
+                }
+                published = run(key, action);
+                executed.increment();
+                return new Outcome(published, false);
+            } finally {
+                inFlight.remove(key, mine);
+                mine.complete(published != null && published.storable() ? published : null);
+            }
+        }
+    }
+
+    /**
+     * Elimina los registros vencidos de la tabla.
+     */
+    @Scheduled(fixedDelayString = "${idempotency.purge-interval-ms:3600000}")
+    public void purgeExpired() {
+        int deleted = repository.deleteExpired(Instant.now().minus(ttl));
+        if (deleted > 0) {
+            log.info("Registros de idempotencia vencidos eliminados: {}", deleted);
+        }
+    }
+
+    /**
+     * Inserta el registro de la clave o devuelve la respuesta ya almacenada.
+     *
+     * @return null si esta solicitud ganó la clave; la respuesta almacenada en otro caso
+     */
+    private StoredResponse claim(String key, String requestHash, long deadline) {
+        while (true) {
+            if (repository.claim(key, requestHash, Instant.now()) == 1) {
+                return null;
+            }
+            var record = repository.findOnPrimary(key).orElse(null);
+            if (record != null) {
+                var now = Instant.now();
+                if (record.getStatus() == null ? record.getCreatedAt().isBefore(now.minus(lease))
+                        : expired(record.getCreatedAt())) {
+                    // Reserva abandonada o respuesta vencida: se libera y se vuelve a intentar
+                    if (repository.releaseStale(key, now.minus(lease), now.minus(ttl)) > 0
+                            && record.getStatus() == null) {
+                        log.warn("Reserva de idempotencia abandonada liberada: {}", key);
+                    }
+                    continue;
+                }
+                if (record.getStatus() != null) {
+                    return new StoredResponse(record.getRequestHash(), record.getStatus(), record.getContentType(),
+                            record.getBody(), record.getCreatedAt());
+                }
+            }
+            // La solicitud original se procesa en otra instancia, o su registro se
+            // liberó entre la inserción y la lectura: se espera antes de reintentar
+            if (System.nanoTime() > deadline) {
+                throw new IdempotencyInProgressException();
+            }
+            sleep();
+        }
+    }
+
+    private StoredResponse run(String key, Action action) throws IOException, ServletException {
+        StoredResponse response = null;
+        try {
+            response = action.run();
+            return response;
+        } finally {
+            if (response != null && response.storable()) {
+                repository.complete(key, response.status(), response.contentType(), response.body());
+                cache.put(key, response);
+            } else {
+                repository.release(key);
+            }
+        }
+    }
+
+    private Outcome replay(StoredResponse response, String requestHash) {
+        if (!response.requestHash().equals(requestHash)) {
+            throw new IdempotencyKeyReuseException();
+        }
+        replayed.increment();
+        return new Outcome(response, true);
+    }
+
+    private StoredResponse await(CompletableFuture<StoredResponse> future, long deadline) {
+        try {
+            return future.get(Math.max(deadline - System.nanoTime(), 0), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException ex) {
+            throw new IdempotencyInProgressException();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IdempotencyInProgressException();
+        } catch (ExecutionException ex) {
+            return null;
+        }
+    }
+
+    private boolean expired(Instant createdAt) {
+        return createdAt.isBefore(Instant.now().minus(ttl));
+    }
+
+    private static void sleep() {
+        try {
+            Thread.sleep(POLL_INTERVAL_MS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IdempotencyInProgressException();
+        }
+    }
+}
@@ -0,0 +1,137 @@
+package co.com.andres.university_campus_management.utils;
+
+import java.util.Locale;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Control de intentos de inicio de sesión por email y por IP del cliente.
+ *
+ * Mantiene dos limitadores de ventana deslizante en memoria y publica
+ * métricas de intentos permitidos y rechazados en
+ * {@code login.throttle.requests}, etiquetadas por tipo de clave y resultado.
+ * Se consulta antes de cualquier acceso a repositorios o verificación BCrypt.
+ *
+ * Si un limitador está lleno el intento se rechaza: una ráfaga de emails o
+ * IPs distintos no puede desactivar el límite. Las claves expiradas se
+ * liberan en el barrido periódico, no en la solicitud.
+ *
+ * @author Andres
+ * @version 1.0
+ * @since 2024
+ */
+@Slf4j
+@Component
+public class LoginThrottle {
+
+    private final SlidingWindowRateLimiter emailLimiter;
+    private final SlidingWindowRateLimiter ipLimiter;
+    private final long windowMillis;
+
+    private final Counter emailAllowed;
+    private final Counter emailThrottled;
+    private final Counter ipAllowed;
+    private final Counter ipThrottled;
+    private final Counter untracked;
+
+    public LoginThrottle(MeterRegistry meterRegistry,
+            @Value("${login.throttle.window-ms:60000}") long windowMillis,
+            @Value("${login.throttle.buckets:6}") int buckets,
+            @Value("${login.throttle.max-per-email:5}") int maxPerEmail,
+            @Value("${login.throttle.max-per-ip:20}") int maxPerIp,
+            @Value("${login.throttle.max-keys:100000}") int maxKeys) {
+        this.windowMillis = windowMillis;
+        this.emailLimiter = new SlidingWindowRateLimiter(maxPerEmail, windowMillis, buckets, maxKeys);
+        this.ipLimiter = new SlidingWindowRateLimiter(maxPerIp, windowMillis, buckets, maxKeys);
+
+        this.emailAllowed = requests(meterRegistry, "email", "allowed");
+        this.emailThrottled = requests(meterRegistry, "email", "throttled");
+        this.ipAllowed = requests(meterRegistry, "ip", "allowed");
+        this.ipThrottled = requests(meterRegistry, "ip", "throttled");
+        this.untracked = Counter.builder("login.throttle.untracked")
+                .description("Intentos rechazados por falta de espacio en el limitador")
+                .register(meterRegistry);
+
+        Gauge.builder("login.throttle.keys", emailLimiter, SlidingWindowRateLimiter::trackedKeys)
+                .tag("key", "email")
+                .description("Claves rastreadas en memoria")
+                .register(meterRegistry);
+        Gauge.builder("login.throttle.keys", ipLimiter, SlidingWindowRateLimiter::trackedKeys)
+                .tag("key", "ip")
+                .description("Claves rastreadas en memoria")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Registra un intento de inicio de sesión desde una IP.
+     *
+     * @param ip Dirección IP del cliente
+     * @return true si el intento está dentro del límite
+     */
+    public boolean tryAcquireIp(String ip) {
+        return record(ipLimiter.tryAcquire(ip), ipAllowed, ipThrottled);
+    }
+
+    /**
+     * Registra un intento de inicio de sesión para un email.
+     * El email se normaliza para que mayúsculas o espacios no evadan el límite;
+     * las solicitudes sin email comparten una misma clave.
+     *
+     * @param email Email con el que se intenta iniciar sesión
+     * @return true si el intento está dentro del límite
+     */
+    public boolean tryAcquireEmail(String email) {
+        var key = email == null ? "" : email.trim().toLowerCase(Locale.ROOT);
+        return record(emailLimiter.tryAcquire(key), emailAllowed, emailThrottled);
+    }
+
+    /**
+     * Tiempo en segundos que un cliente debería esperar antes de reintentar.
+     *
+     * @return Duración de la ventana en segundos
+     */
+    public long retryAfterSeconds() {
+        return Math.max(1, windowMillis / 1000);
+    }
+
+    /**
+     * Elimina periódicamente las claves sin actividad reciente.
+     */
+    @Scheduled(fixedDelayString = "${login.throttle.sweep-interval-ms:30000}")
+    public void evictExpired() {
+        int removed = emailLimiter.evictExpired() + ipLimiter.evictExpired();
+        if (removed > 0) {
+            log.debug("Limitador de inicio de sesión: {} claves expiradas eliminadas", removed);
+        }
+    }
+
+    private boolean record(SlidingWindowRateLimiter.Decision decision, Counter allowed, Counter throttled) {
+        switch (decision) {
+            case THROTTLED -> {
+                throttled.increment();
+                return false;
+            }
+            case UNTRACKED -> {
+                untracked.increment();
+                return false;
+            }
+            default -> allowed.increment();
+        }
+        return true;
+    }
+
+    private static Counter requests(MeterRegistry meterRegistry, String key, String outcome) {
+        return Counter.builder("login.throttle.requests")
+                .tag("key", key)
+                .tag("outcome", outcome)
+                .description("Intentos de inicio de sesión evaluados por el limitador")
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,35 @@
+package co.com.andres.university_campus_management.utils;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Declara cuántas sentencias SQL puede ejecutar un endpoint por solicitud.
+ *
+ * Si una solicitud supera el presupuesto se registra una advertencia con el
+ * endpoint, el número de sentencias y la más repetida. Los endpoints sin esta
+ * anotación usan {@code query-budget.default}.
+ *
+ * El presupuesto cubre toda la solicitud, filtros incluidos: en los POST de
+ * creación debe dejar sitio a las dos sentencias de la cabecera
+ * {@code Idempotency-Key}.
+ *
+ * @author Andres
+ * @version 1.0
+ * @since 2024
+ */
+@Documented
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface QueryBudget {
+
+    /**
+     * Número máximo de sentencias por solicitud.
+     *
+     * @return Presupuesto de sentencias
+     */
+    int value();
+}
@@ -0,0 +1,158 @@
+package co.com.andres.university_campus_management.utils;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Contador de las sentencias SQL ejecutadas durante una solicitud.
+ *
+ * El filtro de solicitudes abre un contador y lo asocia al hilo; el DataSource
+ * de medición registra en él cada sentencia ejecutada en ese hilo. Guarda el
+ * número de sentencias, el tiempo total en base de datos y cuántas veces se
+ * repitió cada SQL, que es lo que delata un N+1: la misma consulta preparada
+ * ejecutada una vez por cada fila de otra.
+ *
+ * El trabajo que la solicitud reparte en otros hilos solo se cuenta si la
+ * tarea se envuelve con {@link #propagate(Supplier)}.
+ *
+ * @author Andres
+ * @version 1.0
+ * @since 2024
+ */
+public final class QueryCounter {
+
+    private static final ThreadLocal<QueryCounter> CURRENT = new ThreadLocal<>();
+
+    private final LongAdder count = new LongAdder();
+    private final LongAdder nanos = new LongAdder();
+    private final Map<String, LongAdder> statements = new ConcurrentHashMap<>();
+
+    /**
+     * Abre un contador nuevo y lo asocia al hilo actual.
+     *
+     * @return Contador abierto
+     */
+    public static QueryCounter start() {
+        var counter = new QueryCounter();
+        CURRENT.set(counter);
+        return counter;
+    }
+
+    /**
+     * Desasocia el contador del hilo actual.
+     */
+    public static void stop() {
+        CURRENT.remove();
+    }
+
+    /**
+     * Contador asociado al hilo actual, si lo hay.
+     *
+     * @return Contador de la solicitud en curso
+     */
+    public static Optional<QueryCounter> current() {
+        return Optional.ofNullable(CURRENT.get());
+    }
+
+    /**
+     * Registra una sentencia en el contador del hilo actual, si lo hay.
+     *
+     * @param sql Sentencia SQL
+     * @param elapsedNanos Duración en nanosegundos
+     */
+    public static void record(String sql, long elapsedNanos) {
+        var counter = CURRENT.get();
+        if (counter == null) {
+            return;
+        }
+        counter.count.increment();
+        counter.nanos.add(elapsedNanos);
+        if (sql != null) {
+            counter.statements.computeIfAbsent(sql, key -> new LongAdder()).increment();
+        }
+    }
+
+    /**
+     * Envuelve una tarea que se ejecutará en otro hilo para que sus
+     * sentencias se sumen al contador de la solicitud actual.
+     *
+     * @param <T> Tipo del resultado
+     * @param task Tarea a envolver
+     * @return Tarea que usa el contador del hilo que la creó
+     */
+    public static <T> Supplier<T> propagate(Supplier<T> task) {
+        var counter = CURRENT.get();
+        if (counter == null) {
+            return task;
+        }
+        return () -> {
+            var previous = CURRENT.get();
+            CURRENT.set(counter);
+            try {
+                return task.get();
+            } finally {
+                if (previous == null) {
+                    CURRENT.remove();
+                } else {
+                    CURRENT.set(previous);
+                }
+            }
+        };
+    }
+
+    /**
+     * Variante de {@link #propagate(Supplier)} para tareas sin resultado.
+     *
+     * @param task Tarea a envolver
+     * @return Tarea que usa el contador del hilo que la creó
+     */
+    public static Runnable propagate(Runnable task) {
+        var propagated = propagate(() -> {
+            task.run();
+            return null;
+        });
+        return propagated::get;
+    }
+
+    /**
+     * Número de sentencias ejecutadas.
+     *
+     * @return Sentencias ejecutadas
+     */
+    public long count() {
+        return count.sum();
+    }
+
+    /**
+     * Tiempo total en base de datos, en milisegundos.
+     *
+     * @return Tiempo en base de datos
+     */
+    public double databaseMillis() {
+        return nanos.sum() / 1_000_000.0;
+    }
+
+    /**
+     * Veces que se ejecutó cada sentencia.
+     *
+     * @return Ejecuciones por SQL
+     */
+    public Map<String, Long> statements() {
+        var result = new LinkedHashMap<String, Long>();
+        statements.forEach((sql, executions) -> result.put(sql, executions.sum()));
+        return result;
+    }
+
+    /**
+     * Sentencia que más veces se repitió, con su número de ejecuciones.
+     *
+     * @return Sentencia más repetida, si se ejecutó alguna
+     */
+    public Optional<Map.Entry<String, Long>> mostRepeated() {
+        return statements().entrySet().stream().max(Map.Entry.comparingByValue());
+    }
+}
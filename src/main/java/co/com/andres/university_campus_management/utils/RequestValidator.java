@@ -0,0 +1,111 @@
+package co.com.andres.university_campus_management.utils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Predicate;
+
+import co.com.andres.university_campus_management.config.exception.DomainException;
+import co.com.andres.university_campus_management.config.exception.FieldViolation;
+import co.com.andres.university_campus_management.config.exception.validationException.RequestValidationException;
+
+/**
+ * Conjunto de reglas de validación de un DTO de solicitud, definido una sola
+ * vez y reutilizado en todas las solicitudes.
+ *
+ * Cada regla asocia un campo, una comprobación y el error de dominio que la
+ * describe; el incumplimiento correspondiente se crea al definir la regla.
+ * La validación evalúa todas las reglas en una sola pasada y solo reserva
+ * memoria cuando alguna falla.
+ *
+ * Ejemplo:
+ * <pre>
+ * RequestValidator.&lt;CourseRequest&gt;builder()
+ *         .rule("course_code", r -&gt; FormatScanners.isCourseCode(r.courseCode()), new CourseCodeValidException())
+ *         .build();
+ * </pre>
+ *
+ * @param <T> Tipo del DTO de solicitud
+ *
+ * @author Andres
+ * @version 1.0
+ * @since 2024
+ */
+public final class RequestValidator<T> {
+
+    private final List<Predicate<T>> checks;
+    private final List<FieldViolation> violations;
+
+    private RequestValidator(List<Predicate<T>> checks, List<FieldViolation> violations) {
+        this.checks = checks;
+        this.violations = violations;
+    }
+
+    public static <T> Builder<T> builder() {
+        return new Builder<>();
+    }
+
+    /**
+     * Evalúa todas las reglas sobre la solicitud.
+     *
+     * @param request Solicitud a validar
+     * @return Incumplimientos detectados, o una lista vacía si la solicitud es válida
+     */
+    public List<FieldViolation> validate(T request) {
+        List<FieldViolation> found = null;
+        for (int i = 0; i < checks.size(); i++) {
+            if (!checks.get(i).test(request)) {
+                if (found == null) {
+                    found = new ArrayList<>(checks.size() - i);
+                }
+                found.add(violations.get(i));
+            }
+        }
+        return found == null ? List.of() : found;
+    }
+
+    /**
+     * Valida la solicitud y lanza una excepción con todos los incumplimientos
+     * si alguna regla falla.
+     *
+     * @param request Solicitud a validar
+     * @throws RequestValidationException si la solicitud incumple alguna regla
+     */
+    public void check(T request) {
+        var found = validate(request);
+        if (!found.isEmpty()) {
+            throw new RequestValidationException(found);
+        }
+    }
+
+    /**
+     * Constructor de las reglas de un DTO.
+     *
+     * @param <T> Tipo del DTO de solicitud
+     */
+    public static final class Builder<T> {
+
+        private final List<Predicate<T>> checks = new ArrayList<>();
+        private final List<FieldViolation> violations = new ArrayList<>();
+
+        private Builder() {
+        }
+
+        /**
+         * Agrega una regla.
+         *
+         * @param field Nombre del campo en el JSON de la solicitud
+         * @param check Comprobación que debe cumplir la solicitud
+         * @param error Error de dominio del que se toman el código y el mensaje
+         * @return El mismo constructor
+         */
+        public Builder<T> rule(String field, Predicate<T> check, DomainException error) {
+            checks.add(check);
+            violations.add(new FieldViolation(field, error.getCode(), error.getMessage()));
+            return this;
+        }
+
+        public RequestValidator<T> build() {
+            return new RequestValidator<>(List.copyOf(checks), List.copyOf(violations));
+        }
+    }
+}
@@ -0,0 +1,162 @@
+package co.com.andres.university_campus_management.utils;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Escribe filas de un {@link Stream} en CSV o NDJSON a medida que se leen.
+ * 
+ * Cada fila se escribe y se descarta antes de leer la siguiente, por lo que
+ * la memoria usada no depende del número de filas. La salida se vacía cada
+ * {@value #FLUSH_EVERY} filas para que el cliente reciba datos de forma
+ * continua; si el cliente corta la conexión, la siguiente escritura lanza una
+ * IOException que detiene el recorrido del cursor.
+ * 
+ * @author Andres
+ * @version 1.0
+ * @since 2024
+ */
+@Component
+@RequiredArgsConstructor
+public class RowStreamWriter {
+
+    /**
+     * Número de filas entre cada vaciado de la salida.
+     */
+    private static final int FLUSH_EVERY = 500;
+
+    private final ObjectMapper objectMapper;
+
+    /**
+     * Escribe todas las filas en el formato indicado.
+     * 
+     * @param <T> Tipo de las filas
+     * @param format Formato de salida
+     * @param out Flujo de salida (no se cierra)
+     * @param columns Nombres de las columnas, en el orden de los valores
+     * @param rows Filas a escribir
+     * @param values Función que obtiene los valores de cada fila
+     * @return Número de filas escritas
+     * @throws IOException si falla la escritura, por ejemplo porque el cliente cerró la conexión
+     */
+    public <T> long write(ExportFormat format, OutputStream out, String[] columns,
+                          Stream<T> rows, Function<T, Object[]> values) throws IOException {
+        return switch (format) {
+            case CSV -> writeCsv(out, columns, rows, values);
+            case NDJSON -> writeNdjson(out, columns, rows, values);
+        };
+    }
+
+    private <T> long writeCsv(OutputStream out, String[] columns, Stream<T> rows,
+                              Function<T, Object[]> values) throws IOException {
+        Writer writer = new OutputStreamWriter(out, StandardCharsets.UTF_8);
+        writeCsvLine(writer, columns);
+
+        long count = 0;
+        var iterator = rows.iterator();
+        while (iterator.hasNext()) {
+            writeCsvLine(writer, values.apply(iterator.next()));
+            if (++count % FLUSH_EVERY == 0) {
+                writer.flush();
+            }
+        }
+        writer.flush();
+        return count;
+    }
+
+    private void writeCsvLine(Writer writer, Object[] values) throws IOException {
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            if (values[i] != null) {
+                writeCsvValue(writer, values[i].toString());
+            }
+        }
+        writer.write("\r\n");
+    }
+
+    /**
+     * Escribe un valor CSV (RFC 4180): se encierra entre comillas solo si
+     * contiene comas, comillas o saltos de línea.
+     */
+    private void writeCsvValue(Writer writer, String value) throws IOException {
+        boolean quote = false;
+        for (int i = 0; i < value.length() && !quote; i++) {
+            char c = value.charAt(i);
+            quote = c == ',' || c == '"' || c == '\n' || c == '\r';
+        }
+        if (!quote) {
+            writer.write(value);
+            return;
+        }
+        writer.write('"');
+        writer.write(value.replace("\"", "\"\""));
+        writer.write('"');
+    }
+
+    private <T> long writeNdjson(OutputStream out, String[] columns, Stream<T> rows,
+                                 Function<T, Object[]> values) throws IOException {
+        var names = new SerializedString[columns.length];
+        for (int i = 0; i < columns.length; i++) {
+            names[i] = new SerializedString(columns[i]);
+        }
+
+        long count = 0;
+        try (JsonGenerator generator = objectMapper.createGenerator(out)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            generator.setRootValueSeparator(new SerializedString("\n"));
+            var iterator = rows.iterator();
+            while (iterator.hasNext()) {
+                var row = values.apply(iterator.next());
+                generator.writeStartObject();
+                for (int i = 0; i < names.length; i++) {
+                    generator.writeFieldName(names[i]);
+                    writeJsonValue(generator, row[i]);
+                }
+                generator.writeEndObject();
+                if (++count % FLUSH_EVERY == 0) {
+                    generator.flush();
+                }
+            }
+            // Termina la última línea; una exportación vacía queda vacía
+            if (count > 0) {
+                generator.writeRaw('\n');
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Escribe directamente los tipos habituales y delega el resto (fechas,
+     * por ejemplo) en los serializadores de Jackson.
+     */
+    private void writeJsonValue(JsonGenerator generator, Object value) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+        } else if (value instanceof String text) {
+            generator.writeString(text);
+        } else if (value instanceof Long number) {
+            generator.writeNumber(number);
+        } else if (value instanceof Integer number) {
+            generator.writeNumber(number);
+        } else if (value instanceof Enum<?> constant) {
+            generator.writeString(constant.name());
+        } else {
+            generator.writeObject(value);
+        }
+    }
+}
@@ -0,0 +1,178 @@
+package co.com.andres.university_campus_management.utils;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BooleanSupplier;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import co.com.andres.university_campus_management.config.datasource.ReplicaRoutingDataSource;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Agrupa las consultas idénticas concurrentes (single-flight).
+ *
+ * La primera solicitud de una clave ejecuta la consulta; las que llegan
+ * mientras sigue en curso esperan su resultado en lugar de lanzar otra
+ * consulta igual. No se mantiene ningún bloqueo durante la consulta: el
+ * registro de la consulta en curso es un {@link CompletableFuture} en un mapa
+ * concurrente, y se elimina en cuanto termina, por lo que no actúa como caché.
+ * Si la consulta falla, todas las solicitudes agrupadas reciben la misma
+ * excepción.
+ *
+ * Los resultados se comparten entre solicitudes, así que deben tratarse como
+ * inmutables (los DTO de respuesta son records).
+ *
+ * Con réplicas de lectura, un usuario que acaba de escribir lee del primario
+ * mientras que la consulta en curso de otro usuario puede venir de una
+ * réplica atrasada. Esas solicitudes no se agrupan: ejecutan su propia
+ * consulta sin unirse a la que está en curso ni publicarla.
+ *
+ * Publica por grupo los contadores {@code singleflight.requests} (outcome =
+ * executed, shared o bypassed) y el indicador
+ * {@code singleflight.coalescing.ratio}, la fracción de solicitudes que
+ * reutilizaron una consulta en curso.
+ *
+ * @author Andres
+ * @version 1.0
+ * @since 2024
+ */
+@Component
+public class SingleFlight {
+
+    private final MeterRegistry meterRegistry;
+    private final BooleanSupplier readsOwnWrites;
+    private final Map<Key, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+    private final Map<String, GroupMetrics> metrics = new ConcurrentHashMap<>();
+
+    @Autowired
+    public SingleFlight(MeterRegistry meterRegistry, ObjectProvider<ReplicaRoutingDataSource> routing) {
+        this(meterRegistry, () -> {
+            var routingDataSource = routing.getIfAvailable();
+            return routingDataSource != null && routingDataSource.wroteRecently();
+        });
+    }
+
+    /**
+     * @param meterRegistry Registro de métricas
+     * @param readsOwnWrites Indica si la solicitud actual debe leer sus propias
+     *        escrituras y, por tanto, no agruparse
+     */
+    SingleFlight(MeterRegistry meterRegistry, BooleanSupplier readsOwnWrites) {
+        this.meterRegistry = meterRegistry;
+        this.readsOwnWrites = readsOwnWrites;
+    }
+
+    private record Key(String group, Object id) {
+    }
+
+    /**
+     * Contadores de un grupo de consultas.
+     */
+    private static final class GroupMetrics {
+
+        private final Counter executed;
+        private final Counter shared;
+        private final Counter bypassed;
+
+        GroupMetrics(MeterRegistry registry, String group) {
+            this.executed = requests(registry, group, "executed");
+            this.shared = requests(registry, group, "shared");
+            this.bypassed = requests(registry, group, "bypassed");
+            Gauge.builder("singleflight.coalescing.ratio", this, GroupMetrics::ratio)
+                    .tag("group", group)
+                    .description("Fracción de solicitudes que reutilizaron una consulta en curso")
+                    .register(registry);
+        }
+
+        private static Counter requests(MeterRegistry registry, String group, String outcome) {
+            return Counter.builder("singleflight.requests")
+                    .tag("group", group)
+                    .tag("outcome", outcome)
+                    .description("Solicitudes de lectura agrupadas por consulta en curso")
+                    .register(registry);
+        }
+
+        double ratio() {
+            double total = executed.count() + shared.count() + bypassed.count();
+            return total == 0 ? 0 : shared.count() / total;
+        }
+    }
+
+    /**
+     * Devuelve el resultado de la consulta en curso para la clave o la ejecuta
+     * si no hay ninguna.
+     *
+     * @param <V> Tipo del resultado
+     * @param group Nombre del grupo de consultas (por ejemplo, course.byId)
+     * @param id Identificador de la consulta dentro del grupo
+     * @param loader Consulta a ejecutar
+     * @return Resultado de la consulta, propio o compartido
+     */
+    @SuppressWarnings("unchecked")
+    public <V> V load(String group, Object id, Supplier<V> loader) {
+        var groupMetrics = metrics.computeIfAbsent(group, name -> new GroupMetrics(meterRegistry, name));
+        if (readsOwnWrites.getAsBoolean()) {
+            groupMetrics.bypassed.increment();
+            return loader.get();
+        }
+        var key = new Key(group, id);
+        var mine = new CompletableFuture<Object>();
+        var existing = inFlight.putIfAbsent(key, mine);
+
+        if (existing != null) {
+            groupMetrics.shared.increment();
+            try {
+                return (V) existing.join();
+            } catch (CompletionException ex) {
+                if (ex.getCause() instanceof RuntimeException cause) {
+                    throw cause;
+                }
+                throw ex;
+            }
+        }
+
+        groupMetrics.executed.increment();
+        try {
+            V value = loader.get();
+            mine.complete(value);
+            return value;
+        } catch (RuntimeException | Error ex) {
+            mine.completeExceptionally(ex);
+            throw ex;
+        } finally {
+            inFlight.remove(key, mine);
+        }
+    }
+
+    /**
+     * Desvincula la consulta en curso de una clave, de modo que las
+     * solicitudes posteriores a una escritura no reciban un resultado leído
+     * antes de ella. Dentro de una transacción se repite al terminarla, para
+     * descartar también las consultas iniciadas antes de confirmar.
+     *
+     * @param group Nombre del grupo de consultas
+     * @param id Identificador de la consulta dentro del grupo
+     */
+    public void forget(String group, Object id) {
+        var key = new Key(group, id);
+        inFlight.remove(key);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    inFlight.remove(key);
+                }
+            });
+        }
+    }
+}
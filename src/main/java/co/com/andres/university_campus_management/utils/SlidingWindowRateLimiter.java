@@ -0,0 +1,187 @@
+package co.com.andres.university_campus_management.utils;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.LongSupplier;
+
+/**
+ * Limitador de intentos basado en una ventana deslizante por clave.
+ *
+ * Cada clave (por ejemplo un email o una IP) tiene una ventana dividida en
+ * sub-ventanas de igual duración. Cada sub-ventana guarda en un único long
+ * el número de la sub-ventana (bits altos) y el contador (bits bajos), de modo
+ * que se actualiza con un compareAndSet sin necesidad de bloqueos.
+ *
+ * La memoria está acotada por el número máximo de claves: cuando se alcanza
+ * el límite la nueva clave no se rastrea y quien usa el limitador decide
+ * cómo tratarla. Las ventanas expiradas solo se eliminan en
+ * {@link #evictExpired()}, pensado para un barrido periódico, de modo que
+ * una ráfaga de claves nuevas no recorre el mapa completo en cada intento.
+ *
+ * @author Andres
+ * @version 1.0
+ * @since 2024
+ */
+public class SlidingWindowRateLimiter {
+
+    /**
+     * Bits reservados para el contador dentro de cada sub-ventana.
+     */
+    private static final int COUNT_BITS = 24;
+
+    /**
+     * Máscara para extraer el contador de una sub-ventana.
+     */
+    private static final long COUNT_MASK = (1L << COUNT_BITS) - 1;
+
+    /**
+     * Resultado de registrar un intento.
+     */
+    public enum Decision {
+        /** El intento está dentro del límite. */
+        ALLOWED,
+        /** El intento supera el límite de la ventana. */
+        THROTTLED,
+        /** No hay espacio para rastrear la clave hasta el siguiente barrido. */
+        UNTRACKED
+    }
+
+    private final int limit;
+    private final int buckets;
+    private final long bucketMillis;
+    private final int maxKeys;
+    private final LongSupplier clock;
+    private final long origin;
+    private final ConcurrentHashMap<String, Window> windows = new ConcurrentHashMap<>();
+
+    /**
+     * Crea un limitador con reloj del sistema.
+     *
+     * @param limit Número máximo de intentos permitidos dentro de la ventana
+     * @param windowMillis Duración total de la ventana en milisegundos
+     * @param buckets Número de sub-ventanas en que se divide la ventana
+     * @param maxKeys Número máximo de claves rastreadas simultáneamente
+     */
+    public SlidingWindowRateLimiter(int limit, long windowMillis, int buckets, int maxKeys) {
+        this(limit, windowMillis, buckets, maxKeys, System::currentTimeMillis);
+    }
+
+    /**
+     * Crea un limitador con un reloj personalizado.
+     *
+     * @param limit Número máximo de intentos permitidos dentro de la ventana
+     * @param windowMillis Duración total de la ventana en milisegundos
+     * @param buckets Número de sub-ventanas en que se divide la ventana
+     * @param maxKeys Número máximo de claves rastreadas simultáneamente
+     * @param clock Fuente de tiempo en milisegundos
+     */
+    public SlidingWindowRateLimiter(int limit, long windowMillis, int buckets, int maxKeys, LongSupplier clock) {
+        if (limit < 1 || buckets < 1 || maxKeys < 1 || windowMillis < buckets) {
+            throw new IllegalArgumentException("Configuración inválida del limitador de intentos");
+        }
+        this.limit = limit;
+        this.buckets = buckets;
+        this.bucketMillis = windowMillis / buckets;
+        this.maxKeys = maxKeys;
+        this.clock = clock;
+        this.origin = clock.getAsLong();
+    }
+
+    /**
+     * Registra un intento para la clave y decide si se permite.
+     *
+     * @param key Clave a la que se asocia el intento
+     * @return Decisión tomada para el intento
+     */
+    public Decision tryAcquire(String key) {
+        long epoch = currentEpoch();
+        var window = windows.get(key);
+        if (window == null) {
+            if (windows.size() >= maxKeys) {
+                return Decision.UNTRACKED;
+            }
+            var created = new Window(buckets);
+            var existing = windows.putIfAbsent(key, created);
+            window = existing != null ? existing : created;
+        }
+        return window.record(epoch) <= limit ? Decision.ALLOWED : Decision.THROTTLED;
+    }
+
+    /**
+     * Elimina las ventanas cuya última actividad quedó fuera de la ventana deslizante.
+     *
+     * @return Número de claves eliminadas
+     */
+    public int evictExpired() {
+        long epoch = currentEpoch();
+        int before = windows.size();
+        windows.values().removeIf(window -> epoch - window.lastEpoch >= buckets);
+        return before - windows.size();
+    }
+
+    /**
+     * Número de claves rastreadas actualmente.
+     *
+     * @return Cantidad de ventanas activas en memoria
+     */
+    public int trackedKeys() {
+        return windows.size();
+    }
+
+    /**
+     * Calcula el índice de la sub-ventana actual relativo al instante de creación.
+     *
+     * @return Número de la sub-ventana actual
+     */
+    private long currentEpoch() {
+        return (clock.getAsLong() - origin) / bucketMillis;
+    }
+
+    /**
+     * Ventana deslizante de una clave: un arreglo circular de sub-ventanas.
+     */
+    private final class Window {
+
+        private final AtomicLongArray slots;
+        private volatile long lastEpoch;
+
+        private Window(int buckets) {
+            this.slots = new AtomicLongArray(buckets);
+        }
+
+        /**
+         * Incrementa la sub-ventana actual y devuelve el total de la ventana.
+         *
+         * @param epoch Número de la sub-ventana actual
+         * @return Intentos registrados dentro de la ventana, incluido este
+         */
+        private long record(long epoch) {
+            int index = (int) (epoch % buckets);
+            while (true) {
+                long current = slots.get(index);
+                long next;
+                if ((current >>> COUNT_BITS) == epoch) {
+                    if ((current & COUNT_MASK) == COUNT_MASK) {
+                        break;
+                    }
+                    next = current + 1;
+                } else {
+                    next = (epoch << COUNT_BITS) | 1;
+                }
+                if (slots.compareAndSet(index, current, next)) {
+                    break;
+                }
+            }
+            lastEpoch = epoch;
+
+            long total = 0;
+            for (int i = 0; i < buckets; i++) {
+                long slot = slots.get(i);
+                if (epoch - (slot >>> COUNT_BITS) < buckets) {
+                    total += slot & COUNT_MASK;
+                }
+            }
+            return total;
+        }
+    }
+}
@@ -0,0 +1,336 @@
+package co.com.andres.university_campus_management.utils;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Pattern;
+
+import org.slf4j.MDC;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Registro de las sentencias SQL lentas y ranking de las consultas más lentas.
+ *
+ * Recibe cada sentencia ejecutada a través del DataSource con su duración,
+ * filas y el método de repositorio que la lanzó, y:
+ * - Acumula estadísticas por consulta normalizada (literales y listas IN
+ *   colapsados) en una ventana rotatoria de {@code slow-query.window-ms}; el
+ *   ranking combina la ventana actual y la anterior
+ * - Escribe en el logger {@code slow-query}, como una línea JSON, cada
+ *   sentencia que supera {@code slow-query.threshold-ms}. La escritura la hace
+ *   un hilo propio a partir de una cola acotada: el hilo de la solicitud nunca
+ *   espera al log y, si la cola está llena, la entrada se descarta y se cuenta
+ *
+ * Publica los contadores {@code slow.query.logged} y {@code slow.query.dropped}.
+ *
+ * @author Andres
+ * @version 1.0
+ * @since 2024
+ */
+@Slf4j(topic = "slow-query")
+@Component
+public class SlowQueryLog {
+
+    /**
+     * Longitud máxima del SQL escrito en cada entrada del log.
+     */
+    private static final int MAX_SQL_LENGTH = 2000;
+
+    /**
+     * Máximo de SQL distintos cuya forma normalizada se recuerda.
+     */
+    private static final int MAX_NORMALIZED_CACHE = 4096;
+
+    private static final Pattern STRING_LITERAL = Pattern.compile("'(?:[^']|'')*'");
+    private static final Pattern NUMBER_LITERAL = Pattern.compile("(?<![\\w.])-?\\d+(?:\\.\\d+)?\\b");
+    private static final Pattern IN_LIST = Pattern.compile("\\(\\s*\\?(?:\\s*,\\s*\\?)+\\s*\\)");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private static final String APP_PACKAGE = "co.com.andres.university_campus_management.";
+    private static final String DATASOURCE_PACKAGE = APP_PACKAGE + "config.datasource.";
+
+    /**
+     * Método de repositorio en curso en el hilo actual.
+     */
+    private static final ThreadLocal<String> ORIGIN = new ThreadLocal<>();
+
+    private final ObjectMapper objectMapper;
+    private final long thresholdNanos;
+    private final int topN;
+    private final int maxDistinct;
+    private final BlockingQueue<SlowQuery> queue;
+    private final Map<String, String> normalized = new ConcurrentHashMap<>();
+    private final Thread writer;
+
+    private volatile Map<String, QueryStats> current = new ConcurrentHashMap<>();
+    private volatile Map<String, QueryStats> previous = Map.of();
+
+    private final Counter logged;
+    private final Counter dropped;
+
+    public SlowQueryLog(ObjectMapper objectMapper, MeterRegistry meterRegistry,
+            @Value("${slow-query.threshold-ms:200}") long thresholdMillis,
+            @Value("${slow-query.top-n:20}") int topN,
+            @Value("${slow-query.max-distinct:1000}") int maxDistinct,
+            @Value("${slow-query.queue-size:1024}") int queueSize) {
+        this.objectMapper = objectMapper;
+        this.thresholdNanos = TimeUnit.MILLISECONDS.toNanos(thresholdMillis);
+        this.topN = topN;
+        this.maxDistinct = maxDistinct;
+        this.queue = new ArrayBlockingQueue<>(queueSize);
+        this.logged = Counter.builder("slow.query.logged")
+                .description("Sentencias lentas escritas en el log")
+                .register(meterRegistry);
+        this.dropped = Counter.builder("slow.query.dropped")
+                .description("Sentencias lentas descartadas por tener la cola del log llena")
+                .register(meterRegistry);
+        this.writer = Thread.ofPlatform().name("slow-query-log").daemon().start(this::drain);
+    }
+
+    /**
+     * Sentencia lenta tal como se escribe en el log.
+     *
+     * @param timestamp Instante en que terminó la sentencia
+     * @param durationMs Duración en milisegundos
+     * @param rows Filas leídas o modificadas
+     * @param origin Método de repositorio (o de la aplicación) que la lanzó
+     * @param thread Hilo que la ejecutó
+     * @param traceId Traza de la solicitud que la ejecutó, si había una activa
+     * @param sql Sentencia SQL
+     */
+    public record SlowQuery(Instant timestamp, double durationMs, long rows, String origin, String thread,
+            String traceId, String sql) {
+    }
+
+    /**
+     * Estadísticas de una consulta normalizada.
+     *
+     * @param query Consulta normalizada
+     * @param count Ejecuciones
+     * @param totalMs Tiempo total en milisegundos
+     * @param meanMs Tiempo medio en milisegundos
+     * @param maxMs Tiempo máximo en milisegundos
+     * @param rows Filas totales
+     * @param origin Último método que la lanzó
+     */
+    public record QueryRanking(String query, long count, double totalMs, double meanMs, double maxMs, long rows,
+            String origin) {
+    }
+
+    /**
+     * Acumulador de una consulta normalizada dentro de una ventana.
+     */
+    private static final class QueryStats {
+
+        private final LongAdder count = new LongAdder();
+        private final LongAdder totalNanos = new LongAdder();
+        private final LongAdder rows = new LongAdder();
+        private final AtomicLong maxNanos = new AtomicLong();
+        private volatile String origin;
+
+        void add(long elapsedNanos, long rowCount, String from) {
+            count.increment();
+            totalNanos.add(elapsedNanos);
+            rows.add(rowCount);
+            maxNanos.accumulateAndGet(elapsedNanos, Math::max);
+            if (from != null) {
+                origin = from;
+            }
+        }
+    }
+
+    /**
+     * Marca el método de repositorio que se está ejecutando en el hilo actual.
+     * Las llamadas anidadas conservan el método más externo.
+     *
+     * @param origin Repositorio y método (por ejemplo, CourseRepository.findAll)
+     * @return Valor anterior, que debe pasarse a {@link #exit(String)}
+     */
+    public static String enter(String origin) {
+        var previousOrigin = ORIGIN.get();
+        if (previousOrigin == null) {
+            ORIGIN.set(origin);
+        }
+        return previousOrigin;
+    }
+
+    /**
+     * Restaura el método de repositorio anterior al terminar la llamada.
+     *
+     * @param previousOrigin Valor devuelto por {@link #enter(String)}
+     */
+    public static void exit(String previousOrigin) {
+        if (previousOrigin == null) {
+            ORIGIN.remove();
+        }
+    }
+
+    /**
+     * Registra una sentencia ejecutada.
+     *
+     * Se llama en el hilo que ejecutó la sentencia, para poder identificar el
+     * método que la lanzó.
+     *
+     * @param sql Sentencia SQL
+     * @param elapsedNanos Duración en nanosegundos
+     * @param rows Filas leídas o modificadas
+     */
+    public void record(String sql, long elapsedNanos, long rows) {
+        if (sql == null) {
+            return;
+        }
+        boolean slow = elapsedNanos >= thresholdNanos;
+        var origin = ORIGIN.get();
+        if (origin == null && slow) {
+            origin = callerFromStack();
+        }
+
+        var query = normalize(sql);
+        var stats = current.get(query);
+        if (stats == null && current.size() < maxDistinct) {
+            stats = current.computeIfAbsent(query, key -> new QueryStats());
+        }
+        if (stats != null) {
+            stats.add(elapsedNanos, rows, origin);
+        }
+
+        if (slow) {
+            var entry = new SlowQuery(Instant.now(), elapsedNanos / 1_000_000.0, rows, origin,
+                    Thread.currentThread().getName(), MDC.get("traceId"),
+                    sql.length() > MAX_SQL_LENGTH ? sql.substring(0, MAX_SQL_LENGTH) : sql);
+            if (!queue.offer(entry)) {
+                dropped.increment();
+            }
+        }
+    }
+
+    /**
+     * Devuelve las consultas normalizadas más lentas de la ventana actual y la
+     * anterior, ordenadas por tiempo máximo.
+     *
+     * @return Ranking de las consultas más lentas
+     */
+    public List<QueryRanking> top() {
+        var merged = new HashMap<String, QueryRanking>();
+        for (var window : List.of(previous, current)) {
+            window.forEach((query, stats) -> merged.merge(query, ranking(query, stats), SlowQueryLog::combine));
+        }
+        var ranking = new ArrayList<>(merged.values());
+        ranking.sort(Comparator.comparingDouble(QueryRanking::maxMs).reversed());
+        return ranking.size() > topN ? List.copyOf(ranking.subList(0, topN)) : ranking;
+    }
+
+    /**
+     * Descarta las estadísticas acumuladas.
+     */
+    public void reset() {
+        previous = Map.of();
+        current = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Cierra la ventana actual: pasa a ser la anterior y se abre una nueva.
+     */
+    @Scheduled(fixedDelayString = "${slow-query.window-ms:900000}",
+            initialDelayString = "${slow-query.window-ms:900000}")
+    public void rotate() {
+        previous = current;
+        current = new ConcurrentHashMap<>();
+    }
+
+    @PreDestroy
+    void stop() {
+        writer.interrupt();
+    }
+
+    private void drain() {
+        try {
+            while (true) {
+                write(queue.take());
+            }
+        } catch (InterruptedException ex) {
+            // Al cerrar la aplicación se escriben las entradas pendientes
+            SlowQuery pending;
+            while ((pending = queue.poll()) != null) {
+                write(pending);
+            }
+        }
+    }
+
+    private void write(SlowQuery entry) {
+        try {
+            log.warn(objectMapper.writeValueAsString(entry));
+            logged.increment();
+        } catch (JsonProcessingException ex) {
+            log.warn("No se pudo serializar la sentencia lenta: {}", ex.getMessage());
+        }
+    }
+
+    private String normalize(String sql) {
+        var cached = normalized.get(sql);
+        if (cached != null) {
+            return cached;
+        }
+        var result = STRING_LITERAL.matcher(sql).replaceAll("?");
+        result = NUMBER_LITERAL.matcher(result).replaceAll("?");
+        result = IN_LIST.matcher(result).replaceAll("(?)");
+        result = WHITESPACE.matcher(result).replaceAll(" ").trim();
+        if (normalized.size() < MAX_NORMALIZED_CACHE) {
+            normalized.put(sql, result);
+        }
+        return result;
+    }
+
+    private static QueryRanking ranking(String query, QueryStats stats) {
+        long count = stats.count.sum();
+        double totalMs = stats.totalNanos.sum() / 1_000_000.0;
+        return new QueryRanking(query, count, totalMs, count == 0 ? 0 : totalMs / count,
+                stats.maxNanos.get() / 1_000_000.0, stats.rows.sum(), stats.origin);
+    }
+
+    private static QueryRanking combine(QueryRanking older, QueryRanking newer) {
+        long count = older.count() + newer.count();
+        double totalMs = older.totalMs() + newer.totalMs();
+        return new QueryRanking(newer.query(), count, totalMs, count == 0 ? 0 : totalMs / count,
+                Math.max(older.maxMs(), newer.maxMs()), older.rows() + newer.rows(),
+                newer.origin() != null ? newer.origin() : older.origin());
+    }
+
+    /**
+     * Primer método de la aplicación en la pila, fuera del DataSource. Solo se
+     * usa para las sentencias lentas que no vienen de un repositorio de Spring
+     * Data.
+     */
+    private static String callerFromStack() {
+        return StackWalker.getInstance().walk(frames -> frames
+                .filter(frame -> frame.getClassName().startsWith(APP_PACKAGE)
+                        && !frame.getClassName().startsWith(DATASOURCE_PACKAGE)
+                        && !frame.getClassName().equals(SlowQueryLog.class.getName()))
+                .findFirst()
+                .map(frame -> simpleName(frame.getClassName()) + "." + frame.getMethodName())
+                .orElse(null));
+    }
+
+    private static String simpleName(String className) {
+        return className.substring(className.lastIndexOf('.') + 1);
+    }
+}
@@ -0,0 +1,72 @@
+package co.com.andres.university_campus_management;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.Set;
+import java.util.UUID;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.aot.AotDetector;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import co.com.andres.university_campus_management.utils.JwtUtil;
+
+/**
+ * Arranca el contexto generado por el procesamiento AOT de Spring, para que
+ * un bean que AOT no sepa procesar rompa el build y no el despliegue.
+ *
+ * El perfil "test" no sirve aquí porque con AOT los perfiles quedan fijados
+ * en la compilación; la base de datos H2 se pasa como argumentos.
+ *
+ * Solo se ejecuta con el perfil Maven aot: {@code mvn -Paot test}
+ */
+@Tag("aot")
+class AotApplicationContextTest {
+
+	@AfterEach
+	void disableAot() {
+		System.clearProperty(AotDetector.AOT_ENABLED);
+	}
+
+	@Test
+	void aotContextStartsAndServesRequests() throws Exception {
+		assertThat(Class.forName(UniversityCampusManagementApplication.class.getName()
+				+ "__ApplicationContextInitializer")).isNotNull();
+
+		System.setProperty(AotDetector.AOT_ENABLED, "true");
+		// El inicializador AOT se busca por la clase principal, que si no se deduciría de la pila (surefire)
+		var application = new SpringApplication(UniversityCampusManagementApplication.class);
+		application.setMainApplicationClass(UniversityCampusManagementApplication.class);
+		try (ConfigurableApplicationContext context = application.run(
+				"--server.port=0",
+				"--spring.datasource.url=jdbc:h2:mem:" + UUID.randomUUID() + ";MODE=PostgreSQL;DB_CLOSE_DELAY=-1",
+				"--spring.datasource.username=sa",
+				"--spring.datasource.password=",
+				"--spring.datasource.driver-class-name=org.h2.Driver",
+				"--spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+				"--spring.jpa.hibernate.ddl-auto=create-drop",
+				"--security.bcrypt.strength=4")) {
+
+			var baseUrl = "http://localhost:" + context.getEnvironment().getProperty("local.server.port");
+			var token = context.getBean(JwtUtil.class).generateToken("admin@universidad.com", Set.of("ROLE_ADMIN"));
+			try (var client = HttpClient.newHttpClient()) {
+				var health = client.send(HttpRequest.newBuilder(URI.create(baseUrl + "/actuator/health")).build(),
+						HttpResponse.BodyHandlers.ofString());
+				assertThat(health.statusCode()).isEqualTo(200);
+
+				var courses = client.send(HttpRequest.newBuilder(URI.create(baseUrl + "/api/curso"))
+						.header("Authorization", "Bearer " + token)
+						.build(), HttpResponse.BodyHandlers.ofString());
+				assertThat(courses.statusCode()).isEqualTo(200);
+				assertThat(courses.body()).isEqualTo("[]");
+			}
+		}
+	}
+}
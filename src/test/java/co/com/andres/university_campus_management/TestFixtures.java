@@ -0,0 +1,66 @@
+package co.com.andres.university_campus_management;
+
+import java.time.LocalDate;
+import java.util.Set;
+
+import co.com.andres.university_campus_management.model.entity.Course;
+import co.com.andres.university_campus_management.model.entity.Enrollment;
+import co.com.andres.university_campus_management.model.entity.EnrollmentState;
+import co.com.andres.university_campus_management.model.entity.Professor;
+import co.com.andres.university_campus_management.model.entity.Student;
+
+/**
+ * Entidades válidas y sin guardar para las pruebas de integración. Solo
+ * reciben los datos que cada prueba necesita distinguir; el resto es fijo.
+ */
+public final class TestFixtures {
+
+	private TestFixtures() {
+	}
+
+	public static Professor professor(String name, String email) {
+		var professor = new Professor();
+		professor.setName(name);
+		professor.setLastName("Rojas");
+		professor.setEmail(email);
+		professor.setAddress("Calle 123");
+		professor.setPassword("secreto");
+		professor.setRoles(Set.of("ROLE_PROFESSOR"));
+		return professor;
+	}
+
+	public static Course course(String name, String code, Professor professor) {
+		var course = new Course();
+		course.setName(name);
+		course.setCourseCode(code);
+		course.setDescription("Curso de prueba");
+		course.setMaxCapacity(30);
+		course.setProfessor(professor);
+		return course;
+	}
+
+	public static Student student(String name, String email, String studentNumber) {
+		return student(name, "Rojas", email, studentNumber);
+	}
+
+	public static Student student(String name, String lastName, String email, String studentNumber) {
+		var student = new Student();
+		student.setName(name);
+		student.setLastName(lastName);
+		student.setEmail(email);
+		student.setAddress("Calle 123");
+		student.setStudentNumber(studentNumber);
+		student.setPassword("secreto");
+		student.setRoles(Set.of("ROLE_STUDENT"));
+		return student;
+	}
+
+	public static Enrollment enrollment(Student student, Course course) {
+		var enrollment = new Enrollment();
+		enrollment.setStudent(student);
+		enrollment.setCourse(course);
+		enrollment.setEnrollmentDate(LocalDate.now());
+		enrollment.setEnrollmentState(EnrollmentState.ACTIVE);
+		return enrollment;
+	}
+}
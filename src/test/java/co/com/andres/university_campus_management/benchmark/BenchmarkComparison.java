@@ -0,0 +1,231 @@
+package co.com.andres.university_campus_management.benchmark;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Compara un resultado JSON de JMH con la línea base guardada y marca las
+ * regresiones.
+ *
+ * Un benchmark es una regresión cuando empeora más que el umbral (más lento en
+ * los modos de tiempo, menos operaciones por segundo en {@code thrpt}) y los
+ * intervalos de error de ambas mediciones no se solapan, para no marcar el
+ * ruido. Con una línea base de puntuación 0 el cambio relativo es infinito en
+ * el sentido en que se movió la medición. Los benchmarks sin línea base o con
+ * otra unidad se listan sin compararse.
+ *
+ * Uso: {@code BenchmarkComparison <línea base> <resultado> [umbral]}, con el
+ * umbral como fracción (0.10 por defecto). Termina con código 1 si hay
+ * regresiones y con código 2 si falta alguno de los archivos. La línea base
+ * solo se escribe de forma explícita, con la propiedad de sistema
+ * {@code jmh.updateBaseline=true}: copia el resultado actual sin comparar.
+ * Desde Maven:
+ * {@code mvn -Pbenchmark test-compile exec:exec@compare -Djmh.threshold=0.05}
+ * y {@code mvn -Pbenchmark test-compile exec:exec@compare -Djmh.updateBaseline}
+ *
+ * Está en las fuentes de prueba, y no en {@code src/jmh/java}, para que sus
+ * pruebas se ejecuten sin el perfil {@code benchmark}.
+ */
+public final class BenchmarkComparison {
+
+	/**
+	 * Propiedad de sistema que reemplaza la línea base por el resultado actual.
+	 */
+	static final String UPDATE_BASELINE = "jmh.updateBaseline";
+
+	private BenchmarkComparison() {
+	}
+
+	/**
+	 * Medición de un benchmark con sus parámetros.
+	 *
+	 * @param key Nombre del benchmark con sus parámetros
+	 * @param mode Modo de JMH (thrpt, avgt, sample, ss)
+	 * @param score Puntuación
+	 * @param error Error de la puntuación (0 si JMH no lo calculó)
+	 * @param unit Unidad de la puntuación
+	 */
+	public record Score(String key, String mode, double score, double error, String unit) {
+
+		boolean higherIsBetter() {
+			return "thrpt".equals(mode);
+		}
+	}
+
+	/**
+	 * Resultado de comparar un benchmark con su línea base.
+	 *
+	 * @param key Nombre del benchmark con sus parámetros
+	 * @param baseline Medición de la línea base (null si no existe)
+	 * @param current Medición actual
+	 * @param change Cambio relativo, positivo cuando empeora
+	 * @param verdict REGRESSION, IMPROVEMENT, SAME, NEW o UNIT_CHANGED
+	 */
+	public record Comparison(String key, Score baseline, Score current, double change, String verdict) {
+	}
+
+	public static void main(String[] args) throws IOException {
+		System.exit(run(args));
+	}
+
+	/**
+	 * Ejecuta la comparación o la actualización de la línea base.
+	 *
+	 * @param args Línea base, resultado y umbral opcional
+	 * @return Código de salida: 0 sin regresiones, 1 con regresiones y 2 si
+	 *         faltan argumentos o archivos
+	 * @throws IOException si no se pueden leer o escribir los archivos
+	 */
+	static int run(String[] args) throws IOException {
+		if (args.length < 2) {
+			System.err.println("Uso: BenchmarkComparison <línea base> <resultado> [umbral]");
+			return 2;
+		}
+		var baselineFile = Path.of(args[0]);
+		var currentFile = Path.of(args[1]);
+		var threshold = args.length > 2 ? Double.parseDouble(args[2]) : 0.10;
+		if (!Files.exists(currentFile)) {
+			System.err.println("No existe el resultado " + currentFile + "; ejecute primero los benchmarks");
+			return 2;
+		}
+		if (Boolean.getBoolean(UPDATE_BASELINE)) {
+			if (baselineFile.getParent() != null) {
+				Files.createDirectories(baselineFile.getParent());
+			}
+			Files.copy(currentFile, baselineFile, StandardCopyOption.REPLACE_EXISTING);
+			System.out.println("Línea base " + baselineFile + " actualizada a partir de " + currentFile);
+			return 0;
+		}
+		if (!Files.exists(baselineFile)) {
+			System.err.println("No existe la línea base " + baselineFile + "; para crearla con el resultado actual "
+					+ "use -D" + UPDATE_BASELINE + "=true");
+			return 2;
+		}
+
+		var comparisons = compare(read(baselineFile), read(currentFile), threshold);
+		System.out.print(format(comparisons, threshold));
+		var regressions = comparisons.stream().filter(c -> c.verdict().equals("REGRESSION")).count();
+		if (regressions > 0) {
+			System.out.println(regressions + " regresión(es) respecto a " + baselineFile);
+			return 1;
+		}
+		return 0;
+	}
+
+	/**
+	 * Lee un resultado de JMH en formato JSON ({@code -rf json}).
+	 *
+	 * @param file Archivo de resultados
+	 * @return Mediciones por benchmark y parámetros, en el orden del archivo
+	 * @throws IOException si no se puede leer el archivo
+	 */
+	public static Map<String, Score> read(Path file) throws IOException {
+		var scores = new LinkedHashMap<String, Score>();
+		for (var result : new ObjectMapper().readTree(file.toFile())) {
+			var key = key(result);
+			var metric = result.path("primaryMetric");
+			var error = metric.path("scoreError").asDouble();
+			scores.put(key, new Score(key, result.path("mode").asText(), metric.path("score").asDouble(),
+					Double.isNaN(error) ? 0 : error, metric.path("scoreUnit").asText()));
+		}
+		return scores;
+	}
+
+	/**
+	 * Compara cada medición actual con la de la línea base.
+	 *
+	 * @param baseline Mediciones de la línea base
+	 * @param current Mediciones actuales
+	 * @param threshold Empeoramiento relativo tolerado
+	 * @return Comparación de cada benchmark actual
+	 */
+	public static List<Comparison> compare(Map<String, Score> baseline, Map<String, Score> current,
+			double threshold) {
+		var comparisons = new ArrayList<Comparison>(current.size());
+		for (var score : current.values()) {
+			var base = baseline.get(score.key());
+			if (base == null) {
+				comparisons.add(new Comparison(score.key(), null, score, 0, "NEW"));
+				continue;
+			}
+			if (!base.unit().equals(score.unit()) || !base.mode().equals(score.mode())) {
+				comparisons.add(new Comparison(score.key(), base, score, 0, "UNIT_CHANGED"));
+				continue;
+			}
+			var worsening = score.higherIsBetter()
+					? base.score() - score.score()
+					: score.score() - base.score();
+			var change = relativeChange(worsening, base.score());
+			var separated = score.higherIsBetter()
+					? score.score() + score.error() < base.score() - base.error()
+					: score.score() - score.error() > base.score() + base.error();
+			var improved = score.higherIsBetter()
+					? score.score() - score.error() > base.score() + base.error()
+					: score.score() + score.error() < base.score() - base.error();
+			String verdict;
+			if (change > threshold && separated) {
+				verdict = "REGRESSION";
+			} else if (change < -threshold && improved) {
+				verdict = "IMPROVEMENT";
+			} else {
+				verdict = "SAME";
+			}
+			comparisons.add(new Comparison(score.key(), base, score, change, verdict));
+		}
+		return comparisons;
+	}
+
+	/**
+	 * Cambio relativo a la línea base. Con una línea base de 0 no hay
+	 * proporción: cualquier movimiento es infinito en su sentido.
+	 */
+	private static double relativeChange(double worsening, double baseScore) {
+		if (baseScore == 0) {
+			return worsening == 0 ? 0 : Math.copySign(Double.POSITIVE_INFINITY, worsening);
+		}
+		return worsening / baseScore;
+	}
+
+	/**
+	 * Formatea las comparaciones como tabla de texto.
+	 *
+	 * @param comparisons Comparaciones
+	 * @param threshold Umbral usado
+	 * @return Tabla con una fila por benchmark
+	 */
+	public static String format(List<Comparison> comparisons, double threshold) {
+		var width = comparisons.stream().mapToInt(c -> c.key().length()).max().orElse(9);
+		var out = new StringBuilder();
+		out.append(String.format(Locale.ROOT, "%-" + width + "s %14s %14s %10s  %-12s %s%n",
+				"Benchmark", "Línea base", "Actual", "Cambio", "Unidad", "Veredicto"));
+		for (var c : comparisons) {
+			var base = c.baseline() == null ? "-" : String.format(Locale.ROOT, "%.3f", c.baseline().score());
+			var change = c.baseline() == null ? "-" : String.format(Locale.ROOT, "%+.1f%%", c.change() * 100);
+			out.append(String.format(Locale.ROOT, "%-" + width + "s %14s %14.3f %10s  %-12s %s%n",
+					c.key(), base, c.current().score(), change, c.current().unit(), c.verdict()));
+		}
+		out.append(String.format(Locale.ROOT, "Umbral: %.0f%% (cambio positivo = peor)%n", threshold * 100));
+		return out.toString();
+	}
+
+	private static String key(JsonNode result) {
+		var params = new TreeMap<String, String>();
+		for (var field : result.path("params").properties()) {
+			params.put(field.getKey(), field.getValue().asText());
+		}
+		var name = result.path("benchmark").asText();
+		name = name.substring(name.lastIndexOf('.', name.lastIndexOf('.') - 1) + 1);
+		return params.isEmpty() ? name : name + params;
+	}
+}
@@ -0,0 +1,127 @@
+package co.com.andres.university_campus_management.benchmark;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.offset;
+import static org.assertj.core.api.Assertions.tuple;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import co.com.andres.university_campus_management.benchmark.BenchmarkComparison.Comparison;
+import co.com.andres.university_campus_management.benchmark.BenchmarkComparison.Score;
+
+class BenchmarkComparisonTest {
+
+	private static final String RESULT = """
+			[{"benchmark":"co.com.andres.university_campus_management.benchmark.JwtBenchmark.validate",
+			  "mode":"avgt","params":{"claims":"3"},
+			  "primaryMetric":{"score":12.5,"scoreError":0.4,"scoreUnit":"us/op"}}]
+			""";
+
+	@TempDir
+	private Path dir;
+
+	@Test
+	void regressionMustExceedTheThreshold() {
+		assertThat(compare(avgt(100, 1), avgt(115, 1)).verdict()).isEqualTo("REGRESSION");
+		assertThat(compare(avgt(100, 1), avgt(108, 1)).verdict()).isEqualTo("SAME");
+		assertThat(compare(avgt(100, 1), avgt(115, 1)).change()).isCloseTo(0.15, offset(1e-9));
+	}
+
+	@Test
+	void overlappingErrorIntervalsAreNoise() {
+		// 115 ± 20 llega hasta 95, dentro de 100 ± 1
+		assertThat(compare(avgt(100, 1), avgt(115, 20)).verdict()).isEqualTo("SAME");
+		assertThat(compare(avgt(100, 10), avgt(115, 6)).verdict()).isEqualTo("SAME");
+		assertThat(compare(avgt(100, 10), avgt(115, 6)).change()).isCloseTo(0.15, offset(1e-9));
+		assertThat(compare(avgt(100, 1), avgt(85, 20)).verdict()).isEqualTo("SAME");
+	}
+
+	@Test
+	void throughputIsBetterWhenHigher() {
+		var slower = compare(thrpt(100, 1), thrpt(80, 1));
+		assertThat(slower.verdict()).isEqualTo("REGRESSION");
+		assertThat(slower.change()).isCloseTo(0.20, offset(1e-9));
+
+		var faster = compare(thrpt(100, 1), thrpt(120, 1));
+		assertThat(faster.verdict()).isEqualTo("IMPROVEMENT");
+		assertThat(faster.change()).isCloseTo(-0.20, offset(1e-9));
+
+		// En avgt la misma caída de la puntuación es una mejora
+		assertThat(compare(avgt(100, 1), avgt(80, 1)).verdict()).isEqualTo("IMPROVEMENT");
+		assertThat(compare(avgt(100, 1), avgt(120, 1)).verdict()).isEqualTo("REGRESSION");
+	}
+
+	@Test
+	void zeroBaselineScoreDoesNotDivideByZero() {
+		var slower = compare(avgt(0, 0), avgt(5, 1));
+		assertThat(slower.change()).isEqualTo(Double.POSITIVE_INFINITY);
+		assertThat(slower.verdict()).isEqualTo("REGRESSION");
+
+		var unchanged = compare(avgt(0, 0), avgt(0, 0));
+		assertThat(unchanged.change()).isZero();
+		assertThat(unchanged.verdict()).isEqualTo("SAME");
+
+		var faster = compare(thrpt(0, 0), thrpt(5, 1));
+		assertThat(faster.change()).isEqualTo(Double.NEGATIVE_INFINITY);
+		assertThat(faster.verdict()).isEqualTo("IMPROVEMENT");
+
+		assertThat(BenchmarkComparison.format(List.of(slower, unchanged, faster), 0.10))
+				.contains("+Infinity%").contains("-Infinity%").doesNotContain("NaN");
+	}
+
+	@Test
+	void unknownOrChangedBenchmarksAreNotCompared() {
+		var current = Map.of("b", new Score("b", "avgt", 1, 0, "ms/op"), "c", new Score("c", "avgt", 1, 0, "us/op"));
+		var comparisons = BenchmarkComparison.compare(Map.of("c", new Score("c", "avgt", 1, 0, "ns/op")), current,
+				0.10);
+
+		assertThat(comparisons).extracting(Comparison::key, Comparison::verdict)
+				.containsExactlyInAnyOrder(tuple("b", "NEW"), tuple("c", "UNIT_CHANGED"));
+	}
+
+	@Test
+	void missingBaselineFailsUnlessUpdateIsExplicit() throws IOException {
+		var baseline = dir.resolve("jmh/baseline.json");
+		var result = Files.writeString(dir.resolve("jmh-result.json"), RESULT);
+		String[] args = { baseline.toString(), result.toString(), "0.10" };
+
+		assertThat(BenchmarkComparison.run(args)).isEqualTo(2);
+		assertThat(baseline).doesNotExist();
+
+		System.setProperty(BenchmarkComparison.UPDATE_BASELINE, "true");
+		try {
+			assertThat(BenchmarkComparison.run(args)).isZero();
+		} finally {
+			System.clearProperty(BenchmarkComparison.UPDATE_BASELINE);
+		}
+		assertThat(baseline).hasContent(RESULT);
+		assertThat(BenchmarkComparison.read(baseline)).containsKey("JwtBenchmark.validate{claims=3}");
+
+		// Con la línea base ya creada se compara
+		assertThat(BenchmarkComparison.run(args)).isZero();
+		Files.writeString(result, RESULT.replace("12.5", "20.0"));
+		assertThat(BenchmarkComparison.run(args)).isEqualTo(1);
+	}
+
+	private static Comparison compare(Score baseline, Score current) {
+		var comparisons = BenchmarkComparison.compare(Map.of(baseline.key(), baseline),
+				Map.of(current.key(), current), 0.10);
+		assertThat(comparisons).hasSize(1);
+		return comparisons.get(0);
+	}
+
+	private static Score avgt(double score, double error) {
+		return new Score("Bench.avgt", "avgt", score, error, "us/op");
+	}
+
+	private static Score thrpt(double score, double error) {
+		return new Score("Bench.thrpt", "thrpt", score, error, "ops/s");
+	}
+}
@@ -0,0 +1,96 @@
+package co.com.andres.university_campus_management.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+
+import co.com.andres.university_campus_management.model.DTO.AuthenticateRequest;
+import co.com.andres.university_campus_management.model.entity.Professor;
+import co.com.andres.university_campus_management.model.entity.Student;
+import co.com.andres.university_campus_management.repository.ProfessorRepository;
+import co.com.andres.university_campus_management.repository.StudentRepository;
+import co.com.andres.university_campus_management.service.AuthenticateService;
+
+/**
+ * Con el costo fijado en 5, los hashes de costo 4 almacenados se recalculan
+ * en el primer login correcto y no vuelven a tocarse en los siguientes.
+ */
+@SpringBootTest(properties = "security.bcrypt.strength=5")
+@ActiveProfiles("test")
+class BCryptCalibrationEndpointTest {
+
+	private static final String PASSWORD = "Campus2024!";
+
+	@Autowired
+	private BCryptCalibrationEndpoint endpoint;
+
+	@Autowired
+	private AuthenticateService authenticateService;
+
+	@Autowired
+	private StudentRepository studentRepository;
+
+	@Autowired
+	private ProfessorRepository professorRepository;
+
+	@Test
+	void pinnedStrengthSkipsMeasuring() {
+		var calibration = endpoint.calibration();
+
+		assertThat(calibration.strength()).isEqualTo(5);
+		assertThat(calibration.pinned()).isTrue();
+		assertThat(calibration.measurements()).isEmpty();
+	}
+
+	@Test
+	void studentLoginRewritesLowerCostHashExactlyOnce() {
+		var student = new Student();
+		student.setName("Rehash");
+		student.setLastName("Estudiante");
+		student.setEmail("rehash.estudiante@universidad.com");
+		student.setAddress("Calle 1");
+		student.setStudentNumber("2024999001");
+		student.setPassword(new BCryptPasswordEncoder(4).encode(PASSWORD));
+		student.setRoles(new HashSet<>(Set.of("ROLE_STUDENT")));
+		var id = studentRepository.save(student).getIdStudent();
+		var request = new AuthenticateRequest(student.getEmail(), PASSWORD);
+
+		authenticateService.login(request);
+		var rehashed = studentRepository.findById(id).orElseThrow().getPassword();
+		assertThat(rehashed).startsWith("$2a$05$");
+
+		// Un nuevo hash usaría otra sal: si el segundo login lo reescribiera, cambiaría
+		authenticateService.login(request);
+		authenticateService.logginStudent(request);
+		assertThat(studentRepository.findById(id).orElseThrow().getPassword()).isEqualTo(rehashed);
+	}
+
+	@Test
+	void professorLoginRewritesLowerCostHashExactlyOnce() {
+		var professor = new Professor();
+		professor.setName("Rehash");
+		professor.setLastName("Profesor");
+		professor.setEmail("rehash.profesor@universidad.com");
+		professor.setPhone("3001234567");
+		professor.setAddress("Calle 2");
+		professor.setPassword(new BCryptPasswordEncoder(4).encode(PASSWORD));
+		professor.setRoles(new HashSet<>(Set.of("ROLE_PROFESSOR")));
+		var id = professorRepository.save(professor).getIdProfessor();
+		var request = new AuthenticateRequest(professor.getEmail(), PASSWORD);
+
+		authenticateService.logginProfessor(request);
+		var rehashed = professorRepository.findById(id).orElseThrow().getPassword();
+		assertThat(rehashed).startsWith("$2a$05$");
+
+		authenticateService.logginProfessor(request);
+		authenticateService.login(request);
+		assertThat(professorRepository.findById(id).orElseThrow().getPassword()).isEqualTo(rehashed);
+	}
+}
@@ -0,0 +1,81 @@
+package co.com.andres.university_campus_management.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.ExecutorService;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.scheduling.annotation.AsyncConfigurer;
+import org.springframework.test.context.ActiveProfiles;
+
+import co.com.andres.university_campus_management.utils.QueryCounter;
+
+/**
+ * El ejecutor de fan-out no sustituye a applicationTaskExecutor: Spring Boot
+ * lo sigue creando, con el decorador del contador, para @Async y Spring MVC.
+ */
+class ExecutorConfigurationTest {
+
+	@Nested
+	@SpringBootTest
+	@ActiveProfiles("test")
+	class PlatformThreads {
+
+		@Autowired
+		@Qualifier("applicationTaskExecutor")
+		private AsyncTaskExecutor applicationTaskExecutor;
+
+		@Autowired
+		private ExecutorService fanOutExecutor;
+
+		@Autowired
+		private AsyncConfigurer asyncConfigurer;
+
+		@Test
+		void asyncTasksUseTheBootExecutor() throws Exception {
+			assertThat(asyncConfigurer.getAsyncExecutor()).isSameAs(applicationTaskExecutor);
+			assertThat(applicationTaskExecutor).isNotSameAs(fanOutExecutor);
+			assertThat(applicationTaskExecutor.submit(() -> Thread.currentThread().isVirtual()).get()).isFalse();
+		}
+
+		@Test
+		void tasksAddToTheCounterOfTheRequest() throws Exception {
+			assertThat(recordedFromTask(applicationTaskExecutor)).isEqualTo(1);
+		}
+	}
+
+	@Nested
+	@SpringBootTest(properties = "spring.threads.virtual.enabled=true")
+	@ActiveProfiles("test")
+	class VirtualThreads {
+
+		@Autowired
+		@Qualifier("applicationTaskExecutor")
+		private AsyncTaskExecutor applicationTaskExecutor;
+
+		@Autowired
+		private AsyncConfigurer asyncConfigurer;
+
+		@Test
+		void asyncTasksRunOnVirtualThreads() throws Exception {
+			assertThat(asyncConfigurer.getAsyncExecutor()).isSameAs(applicationTaskExecutor);
+			assertThat(applicationTaskExecutor.submit(() -> Thread.currentThread().isVirtual()).get()).isTrue();
+			assertThat(recordedFromTask(applicationTaskExecutor)).isEqualTo(1);
+		}
+	}
+
+	private static long recordedFromTask(AsyncTaskExecutor executor) throws Exception {
+		var counter = QueryCounter.start();
+		try {
+			executor.submit(() -> QueryCounter.record("select 1", 1_000)).get();
+		} finally {
+			QueryCounter.stop();
+		}
+		return counter.count();
+	}
+}
@@ -0,0 +1,183 @@
+package co.com.andres.university_campus_management.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import co.com.andres.university_campus_management.config.exception.idempotencyException.IdempotencyInProgressException;
+import co.com.andres.university_campus_management.repository.IdempotencyRecordRepository;
+import co.com.andres.university_campus_management.repository.ProfessorRepository;
+import co.com.andres.university_campus_management.utils.IdempotencyStore;
+import co.com.andres.university_campus_management.utils.IdempotencyStore.StoredResponse;
+import co.com.andres.university_campus_management.utils.JwtUtil;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.ReadListener;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class IdempotencyFilterTest {
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Autowired
+	private JwtUtil jwtUtil;
+
+	@Autowired
+	private ProfessorRepository professorRepository;
+
+	@Autowired
+	private IdempotencyRecordRepository idempotencyRecordRepository;
+
+	@Test
+	void retryReplaysStoredResponseWithoutCreatingAgain() throws Exception {
+		var first = mockMvc.perform(createProfessor("retry-1", "reintento@universidad.com"))
+				.andExpect(status().isCreated())
+				.andReturn().getResponse().getContentAsString();
+
+		mockMvc.perform(createProfessor("retry-1", "reintento@universidad.com"))
+				.andExpect(status().isCreated())
+				.andExpect(header().string(IdempotencyFilter.REPLAYED_HEADER, "true"))
+				.andExpect(content().json(first));
+
+		assertThat(professorRepository.findAll())
+				.filteredOn(professor -> professor.getEmail().equals("reintento@universidad.com"))
+				.hasSize(1);
+	}
+
+	@Test
+	void reusingKeyWithDifferentBodyIsRejected() throws Exception {
+		mockMvc.perform(createProfessor("reuse-1", "original@universidad.com"))
+				.andExpect(status().isCreated());
+
+		mockMvc.perform(createProfessor("reuse-1", "otro@universidad.com"))
+				.andExpect(status().isUnprocessableEntity())
+				.andExpect(jsonPath("$.code").value("IDEMPOTENCY_KEY_REUSED"));
+	}
+
+	@Test
+	void concurrentDuplicatesWaitForTheOriginalRequest() throws Exception {
+		var tasks = new ArrayList<Callable<Integer>>();
+		for (int i = 0; i < 8; i++) {
+			tasks.add(() -> mockMvc.perform(createProfessor("concurrent-1", "concurrente@universidad.com"))
+					.andReturn().getResponse().getStatus());
+		}
+
+		try (var executor = Executors.newFixedThreadPool(8)) {
+			for (var result : executor.invokeAll(tasks)) {
+				assertThat(result.get()).isEqualTo(201);
+			}
+		}
+
+		assertThat(professorRepository.findAll())
+				.filteredOn(professor -> professor.getEmail().equals("concurrente@universidad.com"))
+				.hasSize(1);
+	}
+
+	@Test
+	void abandonedClaimIsProcessedAgainAfterItsLease() throws Exception {
+		// La instancia que tomó la clave se cayó hace cinco minutos sin completarla ni liberarla
+		idempotencyRecordRepository.claim("abandoned-1", "hash", Instant.now().minus(5, ChronoUnit.MINUTES));
+		var runs = new AtomicInteger();
+
+		var outcome = store(Duration.ofSeconds(5)).execute("abandoned-1", "hash", () -> {
+			runs.incrementAndGet();
+			return new StoredResponse("hash", 201, MediaType.APPLICATION_JSON_VALUE, "{}", Instant.now());
+		});
+
+		assertThat(outcome.replayed()).isFalse();
+		assertThat(runs).hasValue(1);
+		assertThat(idempotencyRecordRepository.findOnPrimary("abandoned-1").orElseThrow().getStatus())
+				.isEqualTo(201);
+	}
+
+	@Test
+	void claimWithinItsLeaseIsAwaitedUntilTheDeadline() {
+		idempotencyRecordRepository.claim("pending-1", "hash", Instant.now());
+		var runs = new AtomicInteger();
+
+		assertThatThrownBy(() -> store(Duration.ofMillis(200)).execute("pending-1", "hash", () -> {
+			runs.incrementAndGet();
+			return null;
+		})).isInstanceOf(IdempotencyInProgressException.class);
+
+		assertThat(runs).hasValue(0);
+		assertThat(idempotencyRecordRepository.findOnPrimary("pending-1").orElseThrow().getStatus()).isNull();
+	}
+
+	@Test
+	void cachedBodySupportsNonBlockingReads() throws IOException {
+		var body = "{\"name\": \"Luis\"}".getBytes(StandardCharsets.UTF_8);
+		var input = new IdempotencyFilter.CachedBodyRequest(new MockHttpServletRequest(), body).getInputStream();
+		var events = new ArrayList<String>();
+		var read = new byte[body.length];
+
+		input.setReadListener(new ReadListener() {
+			@Override
+			public void onDataAvailable() throws IOException {
+				events.add("data");
+				int offset = 0;
+				while (input.isReady() && !input.isFinished()) {
+					offset += input.read(read, offset, read.length - offset);
+				}
+			}
+
+			@Override
+			public void onAllDataRead() {
+				events.add("all");
+			}
+
+			@Override
+			public void onError(Throwable error) {
+				events.add("error");
+			}
+		});
+
+		assertThat(events).isEqualTo(List.of("data", "all"));
+		assertThat(read).isEqualTo(body);
+	}
+
+	private IdempotencyStore store(Duration waitTimeout) {
+		return new IdempotencyStore(idempotencyRecordRepository, new SimpleMeterRegistry(), Duration.ofHours(24),
+				Duration.ofMinutes(2), waitTimeout, 100);
+	}
+
+	private MockHttpServletRequestBuilder createProfessor(String key, String email) {
+		var token = jwtUtil.generateToken("admin@universidad.com", Set.of("ROLE_ADMIN"));
+		return post("/api/profesor")
+				.header("Authorization", "Bearer " + token)
+				.header(IdempotencyFilter.IDEMPOTENCY_KEY_HEADER, key)
+				.contentType(MediaType.APPLICATION_JSON)
+				.content("""
+						{"name": "Luis", "last_name": "Rojas", "email": "%s", "phone": "3001234567",
+						 "address": "Calle 123", "password": "Profesor2024!"}
+						""".formatted(email));
+	}
+}
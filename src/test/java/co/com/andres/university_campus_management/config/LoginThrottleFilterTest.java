@@ -0,0 +1,147 @@
+package co.com.andres.university_campus_management.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import co.com.andres.university_campus_management.config.exception.GlobalExeptionHandler;
+import co.com.andres.university_campus_management.controller.AuthenticateController;
+import co.com.andres.university_campus_management.repository.ProfessorRepository;
+import co.com.andres.university_campus_management.repository.StudentRepository;
+import co.com.andres.university_campus_management.repository.UserCredentialRepository;
+import co.com.andres.university_campus_management.service.impl.AuthenticateServiceImpl;
+import co.com.andres.university_campus_management.utils.JwtUtil;
+import co.com.andres.university_campus_management.utils.LoginThrottle;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Recorre filtro, controlador, servicio y manejador de errores con
+ * repositorios simulados, para comprobar que un intento limitado responde 429
+ * con Retry-After sin llegar a los repositorios. Cada prueba usa un limitador
+ * nuevo: 3 intentos por IP, 2 por email y 4 claves como máximo.
+ */
+class LoginThrottleFilterTest {
+
+	private final StudentRepository studentRepository = mock(StudentRepository.class);
+	private final ProfessorRepository professorRepository = mock(ProfessorRepository.class);
+	private final UserCredentialRepository credentialRepository = mock(UserCredentialRepository.class);
+
+	private LoginThrottle loginThrottle;
+	private MockMvc mockMvc;
+
+	@BeforeEach
+	void setUp() {
+		loginThrottle = new LoginThrottle(new SimpleMeterRegistry(), 60_000, 6, 2, 3, 4);
+		var service = new AuthenticateServiceImpl(studentRepository, professorRepository,
+				new BCryptPasswordEncoder(4), new JwtUtil(), loginThrottle, credentialRepository);
+		ReflectionTestUtils.invokeMethod(service, "initDummyHash");
+		mockMvc = MockMvcBuilders.standaloneSetup(new AuthenticateController(service))
+				.setControllerAdvice(new GlobalExeptionHandler(loginThrottle))
+				.addFilters(new LoginThrottleFilter(loginThrottle, new ObjectMapper()))
+				.build();
+	}
+
+	@Test
+	void ipOverLimitIsRejectedBeforeReadingBody() throws Exception {
+		for (int i = 0; i < 3; i++) {
+			mockMvc.perform(login("/authenticate", "10.0.0.1", "ip" + i + "@universidad.com"))
+					.andExpect(status().isUnauthorized());
+		}
+		clearInvocations(credentialRepository);
+
+		mockMvc.perform(login("/authenticate", "10.0.0.1", "otro@universidad.com"))
+				.andExpect(status().isTooManyRequests())
+				.andExpect(header().string(HttpHeaders.RETRY_AFTER, "60"))
+				.andExpect(jsonPath("$.status").value(429));
+		verifyNoInteractions(credentialRepository, studentRepository, professorRepository);
+	}
+
+	@Test
+	void emailOverLimitIsRejectedBeforeRepositoryLookup() throws Exception {
+		mockMvc.perform(login("/authenticate", "10.0.0.1", "ana@universidad.com"))
+				.andExpect(status().isUnauthorized());
+		mockMvc.perform(login("/authenticate", "10.0.0.2", " ANA@universidad.com"))
+				.andExpect(status().isUnauthorized());
+		verify(credentialRepository, times(2)).findTop2ByEmail(anyString());
+		clearInvocations(credentialRepository);
+
+		mockMvc.perform(login("/authenticate", "10.0.0.3", "ana@universidad.com"))
+				.andExpect(status().isTooManyRequests())
+				.andExpect(header().string(HttpHeaders.RETRY_AFTER, "60"));
+		mockMvc.perform(login("/authenticate/estudiante", "10.0.0.3", "ana@universidad.com"))
+				.andExpect(status().isTooManyRequests())
+				.andExpect(header().string(HttpHeaders.RETRY_AFTER, "60"));
+		verifyNoInteractions(credentialRepository, studentRepository, professorRepository);
+	}
+
+	@Test
+	void fullKeyTableFailsClosed() throws Exception {
+		// Cuatro IPs y cuatro emails distintos llenan ambos limitadores
+		for (int i = 0; i < 4; i++) {
+			mockMvc.perform(login("/authenticate", "10.0.1." + i, "lleno" + i + "@universidad.com"))
+					.andExpect(status().isUnauthorized());
+		}
+		clearInvocations(credentialRepository);
+
+		mockMvc.perform(login("/authenticate", "10.0.1.9", "nuevo@universidad.com"))
+				.andExpect(status().isTooManyRequests())
+				.andExpect(header().string(HttpHeaders.RETRY_AFTER, "60"));
+		mockMvc.perform(login("/authenticate", "10.0.1.0", "nuevo@universidad.com"))
+				.andExpect(status().isTooManyRequests())
+				.andExpect(header().string(HttpHeaders.RETRY_AFTER, "60"));
+		verifyNoInteractions(credentialRepository, studentRepository, professorRepository);
+	}
+
+	@Test
+	void missingEmailIsBadRequestNotServerError() throws Exception {
+		mockMvc.perform(post("/authenticate").servletPath("/authenticate")
+				.with(request -> {
+					request.setRemoteAddr("10.0.2.1");
+					return request;
+				})
+				.contentType(MediaType.APPLICATION_JSON)
+				.content("{\"password\": \"secreto\"}"))
+				.andExpect(status().isBadRequest())
+				.andExpect(jsonPath("$.violations[0].field").value("email"));
+		verifyNoInteractions(credentialRepository);
+	}
+
+	@Test
+	void serviceToleratesNullEmail() {
+		// Las llamadas internas no pasan por la validación del controlador
+		for (int i = 0; i < 2; i++) {
+			loginThrottle.tryAcquireEmail(null);
+		}
+		assertThat(loginThrottle.tryAcquireEmail(null)).isFalse();
+	}
+
+	private static MockHttpServletRequestBuilder login(String path, String ip, String email) {
+		return post(path).servletPath(path)
+				.with(request -> {
+					request.setRemoteAddr(ip);
+					return request;
+				})
+				.contentType(MediaType.APPLICATION_JSON)
+				.content("{\"email\": \"" + email + "\", \"password\": \"secreto\"}");
+	}
+}
@@ -0,0 +1,86 @@
+package co.com.andres.university_campus_management.config;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Set;
+
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import co.com.andres.university_campus_management.utils.JwtUtil;
+
+/**
+ * Con credencial de scraper, Prometheus lee /actuator/prometheus con HTTP
+ * Basic sin un JWT de administrador, y esa credencial no abre nada más.
+ */
+@SpringBootTest(properties = {
+		"security.scrape.username=prometheus",
+		"security.scrape.password=secreto-del-scraper" })
+@AutoConfigureMockMvc
+@AutoConfigureObservability(tracing = false)
+@ActiveProfiles("test")
+class PrometheusScrapeTest {
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Autowired
+	private JwtUtil jwtUtil;
+
+	@Test
+	void scrapeCredentialReadsPrometheus() throws Exception {
+		mockMvc.perform(get("/actuator/prometheus").header(HttpHeaders.AUTHORIZATION,
+				basic("prometheus", "secreto-del-scraper")))
+				.andExpect(status().isOk())
+				.andExpect(content().string(Matchers.containsString("jvm_memory_used_bytes")))
+				.andExpect(header().doesNotExist(HttpHeaders.SET_COOKIE));
+	}
+
+	@Test
+	void missingOrWrongCredentialIsUnauthorized() throws Exception {
+		mockMvc.perform(get("/actuator/prometheus"))
+				.andExpect(status().isUnauthorized())
+				.andExpect(header().string(HttpHeaders.WWW_AUTHENTICATE, Matchers.startsWith("Basic")));
+		mockMvc.perform(get("/actuator/prometheus").header(HttpHeaders.AUTHORIZATION,
+				basic("prometheus", "incorrecta")))
+				.andExpect(status().isUnauthorized());
+	}
+
+	@Test
+	void adminTokenStillReadsPrometheus() throws Exception {
+		var admin = jwtUtil.generateToken("admin@universidad.com", Set.of("ROLE_ADMIN"));
+		var student = jwtUtil.generateToken("ana@universidad.com", Set.of("ROLE_STUDENT"));
+
+		mockMvc.perform(get("/actuator/prometheus").header(HttpHeaders.AUTHORIZATION, "Bearer " + admin))
+				.andExpect(status().isOk());
+		mockMvc.perform(get("/actuator/prometheus").header(HttpHeaders.AUTHORIZATION, "Bearer " + student))
+				.andExpect(status().isForbidden());
+	}
+
+	@Test
+	void scrapeCredentialDoesNotOpenOtherEndpoints() throws Exception {
+		var scraper = basic("prometheus", "secreto-del-scraper");
+
+		mockMvc.perform(get("/actuator/metrics").header(HttpHeaders.AUTHORIZATION, scraper))
+				.andExpect(status().isForbidden());
+		mockMvc.perform(get("/api/estudiante").header(HttpHeaders.AUTHORIZATION, scraper))
+				.andExpect(status().isForbidden());
+	}
+
+	private static String basic(String username, String password) {
+		return "Basic " + Base64.getEncoder()
+				.encodeToString((username + ":" + password).getBytes(StandardCharsets.UTF_8));
+	}
+}
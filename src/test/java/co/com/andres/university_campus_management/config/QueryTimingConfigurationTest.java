@@ -0,0 +1,75 @@
+package co.com.andres.university_campus_management.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import co.com.andres.university_campus_management.config.datasource.QueryTimingDataSource;
+import co.com.andres.university_campus_management.utils.QueryCounter;
+import co.com.andres.university_campus_management.utils.SlowQueryLog;
+
+/**
+ * El DataSource de medición alimenta tanto el registro de sentencias lentas
+ * como el presupuesto de sentencias: sigue instalado mientras alguno esté
+ * activo.
+ */
+class QueryTimingConfigurationTest {
+
+	@Nested
+	@SpringBootTest(properties = { "slow-query.enabled=false", "slow-query.threshold-ms=0" })
+	@ActiveProfiles("test")
+	class SlowQueryLogDisabled {
+
+		@Autowired
+		private DataSource dataSource;
+
+		@Autowired
+		private SlowQueryLog slowQueryLog;
+
+		@Autowired
+		private ApplicationContext context;
+
+		@Test
+		void queryBudgetStillCountsStatements() throws Exception {
+			assertThat(context.getBeansOfType(QueryBudgetFilter.class)).hasSize(1);
+			assertThat(dataSource.isWrapperFor(QueryTimingDataSource.class)).isTrue();
+			slowQueryLog.reset();
+
+			var counter = QueryCounter.start();
+			try {
+				new JdbcTemplate(dataSource).queryForObject("select count(*) from student", Long.class);
+			} finally {
+				QueryCounter.stop();
+			}
+
+			assertThat(counter.count()).isEqualTo(1);
+			assertThat(slowQueryLog.top()).isEmpty();
+		}
+	}
+
+	@Nested
+	@SpringBootTest(properties = { "slow-query.enabled=false", "query-budget.enabled=false" })
+	@ActiveProfiles("test")
+	class BothDisabled {
+
+		@Autowired
+		private DataSource dataSource;
+
+		@Autowired
+		private ApplicationContext context;
+
+		@Test
+		void statementsAreNotTimed() throws Exception {
+			assertThat(context.getBeansOfType(QueryBudgetFilter.class)).isEmpty();
+			assertThat(dataSource.isWrapperFor(QueryTimingDataSource.class)).isFalse();
+		}
+	}
+}
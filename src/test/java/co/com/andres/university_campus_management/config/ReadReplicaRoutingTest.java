@@ -0,0 +1,284 @@
+package co.com.andres.university_campus_management.config;
+
+import static co.com.andres.university_campus_management.TestFixtures.course;
+import static co.com.andres.university_campus_management.TestFixtures.professor;
+import static co.com.andres.university_campus_management.TestFixtures.student;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import javax.cache.CacheManager;
+import javax.sql.DataSource;
+
+import org.hibernate.SessionFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+
+import co.com.andres.university_campus_management.config.datasource.ReplicaLagMonitor;
+import co.com.andres.university_campus_management.config.datasource.ReplicaRoutingDataSource;
+import co.com.andres.university_campus_management.model.DTO.StudentResponse;
+import co.com.andres.university_campus_management.model.entity.Course;
+import co.com.andres.university_campus_management.repository.CourseRepository;
+import co.com.andres.university_campus_management.repository.ProfessorRepository;
+import co.com.andres.university_campus_management.repository.StudentRepository;
+import co.com.andres.university_campus_management.service.StudentService;
+import co.com.andres.university_campus_management.utils.IdempotencyStore;
+import co.com.andres.university_campus_management.utils.SingleFlight;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.servlet.http.Cookie;
+
+/**
+ * Primario y réplica son dos bases H2 en memoria independientes. La
+ * "replicación" es una copia del primario a la réplica con SCRIPT, tras la
+ * cual los nombres se cambian solo en la réplica para saber de dónde se leyó.
+ */
+@SpringBootTest(properties = {
+		"datasource.replica.urls=jdbc:h2:mem:replica-${random.uuid};MODE=PostgreSQL;DB_CLOSE_DELAY=-1",
+		"datasource.replica.lag-query=SELECT lag_ms FROM replication_lag",
+		"datasource.replica.lag-check-interval-ms=3600000",
+		"datasource.replica.max-lag-ms=5000",
+		"datasource.replica.sticky-window-ms=60000",
+		"spring.jpa.properties.hibernate.generate_statistics=true" })
+@ActiveProfiles("test")
+class ReadReplicaRoutingTest {
+
+	@Autowired
+	private ReplicaRoutingDataSource routingDataSource;
+
+	@Autowired
+	private ReplicaLagMonitor lagMonitor;
+
+	@Autowired
+	private StudentService studentService;
+
+	@Autowired
+	private StudentRepository studentRepository;
+
+	@Autowired
+	private IdempotencyStore idempotencyStore;
+
+	@Autowired
+	private SingleFlight singleFlight;
+
+	@Autowired
+	private ProfessorRepository professorRepository;
+
+	@Autowired
+	private CourseRepository courseRepository;
+
+	@Autowired
+	private EntityManagerFactory entityManagerFactory;
+
+	@Autowired
+	private PlatformTransactionManager transactionManager;
+
+	@Autowired
+	private CacheManager hibernateCacheManager;
+
+	private JdbcTemplate primary;
+	private JdbcTemplate replica;
+
+	@BeforeEach
+	void setUp() {
+		primary = new JdbcTemplate((DataSource) routingDataSource.getResolvedDataSources()
+				.get(ReplicaRoutingDataSource.PRIMARY));
+		replica = new JdbcTemplate((DataSource) routingDataSource.getResolvedDataSources()
+				.get(routingDataSource.replicaKeys().get(0)));
+
+		if (studentRepository.count() == 0) {
+			studentRepository.save(student("Primario", "primario@universidad.com", "2024000001"));
+		}
+		replicate();
+	}
+
+	@AfterEach
+	void clearUser() {
+		SecurityContextHolder.clearContext();
+		RequestContextHolder.resetRequestAttributes();
+	}
+
+	private void replicate() {
+		replica.execute("DROP ALL OBJECTS");
+		for (var statement : primary.queryForList("SCRIPT", String.class)) {
+			replica.execute(statement);
+		}
+		replica.update("UPDATE student SET name = 'Replica'");
+		replica.execute("CREATE TABLE replication_lag (lag_ms BIGINT)");
+		replica.update("INSERT INTO replication_lag VALUES (0)");
+		lagMonitor.refresh();
+	}
+
+	@Test
+	void readOnlyServiceMethodsReadFromTheReplica() {
+		assertThat(names(studentService.getAllStudent())).containsOnly("Replica");
+	}
+
+	@Test
+	void userReadsOwnWritesFromThePrimary() {
+		SecurityContextHolder.getContext().setAuthentication(
+				new UsernamePasswordAuthenticationToken("ana@universidad.com", null, List.of()));
+		studentRepository.save(student("Primario", "ana" + System.nanoTime() + "@universidad.com",
+				String.valueOf(System.nanoTime()).substring(0, 10)));
+
+		assertThat(names(studentService.getAllStudent())).containsOnly("Primario");
+
+		SecurityContextHolder.getContext().setAuthentication(
+				new UsernamePasswordAuthenticationToken("otro@universidad.com", null, List.of()));
+		assertThat(names(studentService.getAllStudent())).containsOnly("Replica");
+	}
+
+	@Test
+	void laggingReplicaFallsBackToThePrimary() {
+		replica.update("UPDATE replication_lag SET lag_ms = 60000");
+		lagMonitor.refresh();
+
+		assertThat(names(studentService.getAllStudent())).containsOnly("Primario");
+	}
+
+	@Test
+	void idempotencyRecordsAreReadFromThePrimary() throws Exception {
+		// Completado en el primario y todavía no replicado
+		var key = "replica-" + System.nanoTime();
+		primary.update("INSERT INTO idempotency_records (idempotency_key, request_hash, status, content_type, body, "
+				+ "created_at) VALUES (?, 'hash', 201, 'application/json', '{}', ?)", key, Timestamp.from(Instant.now()));
+
+		var outcome = idempotencyStore.execute(key, "hash", () -> {
+			throw new AssertionError("La solicitud original ya se completó");
+		});
+
+		assertThat(outcome.replayed()).isTrue();
+		assertThat(outcome.response().status()).isEqualTo(201);
+	}
+
+	@Test
+	void writeCookieRoutesReadsToThePrimaryOnAnyInstance() {
+		var write = new MockHttpServletResponse();
+		RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest(), write));
+		SecurityContextHolder.getContext().setAuthentication(
+				new UsernamePasswordAuthenticationToken("eva@universidad.com", null, List.of()));
+		studentRepository.save(student("Primario", "eva" + System.nanoTime() + "@universidad.com",
+				String.valueOf(System.nanoTime()).substring(0, 10)));
+
+		var setCookie = write.getHeader(HttpHeaders.SET_COOKIE);
+		assertThat(setCookie).startsWith(ReplicaRoutingDataSource.LAST_WRITE_COOKIE + "=").contains("Max-Age=60");
+		var cookie = write.getCookie(ReplicaRoutingDataSource.LAST_WRITE_COOKIE);
+
+		// Otra instancia no tiene la escritura en memoria: un usuario sin escrituras en esta la simula
+		SecurityContextHolder.getContext().setAuthentication(
+				new UsernamePasswordAuthenticationToken("instancia@universidad.com", null, List.of()));
+		var read = new MockHttpServletRequest();
+		read.setCookies(new Cookie(cookie.getName(), cookie.getValue()));
+		RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(read));
+		assertThat(names(studentService.getAllStudent())).containsOnly("Primario");
+
+		RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+		assertThat(names(studentService.getAllStudent())).containsOnly("Replica");
+	}
+
+	@Test
+	void userWhoJustWroteDoesNotJoinAnInFlightLoad() throws Exception {
+		var loading = new CountDownLatch(1);
+		var release = new CountDownLatch(1);
+		// Lectura en curso de otro usuario, que podría venir de la réplica
+		var other = CompletableFuture.supplyAsync(() -> singleFlight.load("test.byId", 1L, () -> {
+			loading.countDown();
+			try {
+				release.await(5, TimeUnit.SECONDS);
+			} catch (InterruptedException ex) {
+				Thread.currentThread().interrupt();
+			}
+			return "Replica";
+		}));
+		assertThat(loading.await(5, TimeUnit.SECONDS)).isTrue();
+
+		try {
+			SecurityContextHolder.getContext().setAuthentication(
+					new UsernamePasswordAuthenticationToken("luz@universidad.com", null, List.of()));
+			studentRepository.save(student("Primario", "luz" + System.nanoTime() + "@universidad.com",
+					String.valueOf(System.nanoTime()).substring(0, 10)));
+
+			assertThat(singleFlight.load("test.byId", 1L, () -> "Primario")).isEqualTo("Primario");
+		} finally {
+			release.countDown();
+		}
+		assertThat(other.get(5, TimeUnit.SECONDS)).isEqualTo("Replica");
+	}
+
+	@Test
+	void replicaReadsDoNotFillTheSecondLevelCache() {
+		var professor = professorRepository.save(professor("Luis", "cache" + System.nanoTime() + "@universidad.com"));
+		var course = courseRepository.save(course("Primario", "R" + (System.nanoTime() % 1_000_000), professor));
+		replicate();
+		replica.update("UPDATE courses SET name = 'Replica'");
+
+		var sessionFactory = entityManagerFactory.unwrap(SessionFactory.class);
+		sessionFactory.getCache().evictAllRegions();
+		var statistics = sessionFactory.getStatistics();
+		statistics.clear();
+
+		var id = course.getIdCourse();
+		var code = course.getCourseCode();
+		assertThat(readOnlyName(() -> courseRepository.findById(id))).isEqualTo("Replica");
+		assertThat(readOnlyName(() -> courseRepository.findByCourseCode(code))).isEqualTo("Replica");
+		assertThat(sessionFactory.getCache().containsEntity(Course.class, course.getIdCourse())).isFalse();
+		assertThat(statistics.getSecondLevelCachePutCount()).isZero();
+		// Hibernate sí guarda los identificadores de la consulta, pero por poco tiempo
+		for (var region : List.of("course.byCode", "default-query-results-region")) {
+			assertThat(cacheConfiguration(region).getExpireAfterWrite()).as(region)
+					.hasValue(Duration.ofSeconds(30).toNanos());
+		}
+
+		// Con la réplica atrasada se lee del primario, que sí rellena la caché
+		replica.update("UPDATE replication_lag SET lag_ms = 60000");
+		lagMonitor.refresh();
+		assertThat(readOnlyName(() -> courseRepository.findById(id))).isEqualTo("Primario");
+		assertThat(sessionFactory.getCache().containsEntity(Course.class, course.getIdCourse())).isTrue();
+	}
+
+	/**
+	 * JCache pide la clase de la configuración como literal, que no admite
+	 * parámetros de tipo: la conversión es inevitablemente no comprobada.
+	 */
+	@SuppressWarnings("unchecked")
+	private CaffeineConfiguration<Object, Object> cacheConfiguration(String region) {
+		return hibernateCacheManager.getCache(region, Object.class, Object.class)
+				.getConfiguration(CaffeineConfiguration.class);
+	}
+
+	/**
+	 * Como en los servicios: la consulta se ejecuta en una transacción de solo lectura.
+	 */
+	private String readOnlyName(Supplier<Optional<Course>> query) {
+		var readOnly = new TransactionTemplate(transactionManager);
+		readOnly.setReadOnly(true);
+		return readOnly.execute(status -> query.get().orElseThrow().getName());
+	}
+
+	private static List<String> names(List<StudentResponse> students) {
+		return students.stream().map(StudentResponse::name).toList();
+	}
+}
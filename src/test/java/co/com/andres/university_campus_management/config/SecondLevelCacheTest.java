@@ -0,0 +1,95 @@
+package co.com.andres.university_campus_management.config;
+
+import static co.com.andres.university_campus_management.TestFixtures.course;
+import static co.com.andres.university_campus_management.TestFixtures.professor;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Instant;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import co.com.andres.university_campus_management.model.entity.Course;
+import co.com.andres.university_campus_management.repository.CourseRepository;
+import co.com.andres.university_campus_management.repository.IdempotencyRecordRepository;
+import co.com.andres.university_campus_management.repository.ProfessorRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@ActiveProfiles("test")
+class SecondLevelCacheTest {
+
+	@Autowired
+	private CourseRepository courseRepository;
+
+	@Autowired
+	private ProfessorRepository professorRepository;
+
+	@Autowired
+	private IdempotencyRecordRepository idempotencyRecordRepository;
+
+	@Autowired
+	private EntityManagerFactory entityManagerFactory;
+
+	@Autowired
+	private MeterRegistry meterRegistry;
+
+	private Statistics statistics;
+	private Course course;
+
+	@BeforeEach
+	void setUp() {
+		var professor = professorRepository.save(professor("Luis", "cache" + System.nanoTime() + "@universidad.com"));
+		course = course("Programación", "C" + (System.nanoTime() % 1_000_000), professor);
+		course = courseRepository.save(course);
+
+		var sessionFactory = entityManagerFactory.unwrap(SessionFactory.class);
+		sessionFactory.getCache().evictAllRegions();
+		statistics = sessionFactory.getStatistics();
+	}
+
+	@Test
+	void cachedEntityReadsIssueNoSql() {
+		courseRepository.findById(course.getIdCourse()).orElseThrow();
+
+		statistics.clear();
+		var cached = courseRepository.findById(course.getIdCourse()).orElseThrow();
+
+		assertThat(statistics.getPrepareStatementCount()).isZero();
+		assertThat(cached.getProfessor().getRoles()).containsExactly("ROLE_PROFESSOR");
+		assertThat(statistics.getDomainDataRegionStatistics("course").getHitCount()).isEqualTo(1);
+		assertThat(statistics.getDomainDataRegionStatistics("professor").getHitCount()).isEqualTo(1);
+		assertThat(statistics.getDomainDataRegionStatistics("professor.roles").getHitCount()).isEqualTo(1);
+		assertThat(meterRegistry.get("cache.gets").tag("cache", "course").tag("result", "hit")
+				.functionCounter().count()).isPositive();
+	}
+
+	@Test
+	void cachedQueryByCodeIssuesNoSql() {
+		courseRepository.findByCourseCode(course.getCourseCode()).orElseThrow();
+
+		statistics.clear();
+		var cached = courseRepository.findByCourseCode(course.getCourseCode()).orElseThrow();
+
+		assertThat(cached.getIdCourse()).isEqualTo(course.getIdCourse());
+		assertThat(statistics.getPrepareStatementCount()).isZero();
+		assertThat(statistics.getQueryCacheHitCount()).isEqualTo(1);
+	}
+
+	@Test
+	void idempotencyClaimDoesNotEvictTheCache() {
+		courseRepository.findById(course.getIdCourse()).orElseThrow();
+		idempotencyRecordRepository.claim("cache-" + System.nanoTime(), "hash", Instant.now());
+
+		statistics.clear();
+		courseRepository.findById(course.getIdCourse()).orElseThrow();
+
+		assertThat(statistics.getPrepareStatementCount()).isZero();
+	}
+}
@@ -0,0 +1,86 @@
+package co.com.andres.university_campus_management.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import co.com.andres.university_campus_management.config.exception.studentException.StudentByIdException;
+import co.com.andres.university_campus_management.service.StudentService;
+import co.com.andres.university_campus_management.utils.JwtUtil;
+import io.micrometer.core.instrument.MeterRegistry;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@AutoConfigureObservability(tracing = false)
+@ActiveProfiles("test")
+class ServiceMetricsTest {
+
+	@Autowired
+	private StudentService studentService;
+
+	@Autowired
+	private MeterRegistry meterRegistry;
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Autowired
+	private JwtUtil jwtUtil;
+
+	@Test
+	void serviceCallsAreTimedByInterfaceAndMethod() {
+		studentService.getAllStudent();
+		studentService.getAllStudent();
+
+		var timer = meterRegistry.find(ServiceMetricsInterceptor.METRIC_NAME)
+				.tags("service", "StudentService", "method", "getAllStudent", "state", "SUCCESS", "exception", "none")
+				.timer();
+		assertThat(timer).isNotNull();
+		assertThat(timer.count()).isGreaterThanOrEqualTo(2);
+	}
+
+	@Test
+	void failedCallsAreTaggedWithTheException() {
+		assertThatThrownBy(() -> studentService.getById(987654L)).isInstanceOf(StudentByIdException.class);
+
+		var timer = meterRegistry.find(ServiceMetricsInterceptor.METRIC_NAME)
+				.tags("service", "StudentService", "method", "getById", "state", "ERROR",
+						"exception", "StudentByIdException")
+				.timer();
+		assertThat(timer).isNotNull();
+		assertThat(timer.count()).isEqualTo(1);
+	}
+
+	@Test
+	void prometheusScrapeIncludesServiceRepositoryPoolAndJvmMetrics() throws Exception {
+		studentService.getAllStudent();
+		var token = jwtUtil.generateToken("admin@universidad.com", Set.of("ROLE_ADMIN"));
+
+		var scrape = mockMvc.perform(get("/actuator/prometheus").header("Authorization", "Bearer " + token))
+				.andExpect(status().isOk())
+				.andReturn().getResponse().getContentAsString();
+
+		assertThat(scrape)
+				.contains("service_invocations_seconds_bucket{")
+				.contains("spring_data_repository_invocations_seconds_bucket{")
+				.contains("hikaricp_connections_active")
+				.contains("jvm_gc_memory_allocated_bytes_total")
+				.contains("jvm_gc_pause_seconds");
+	}
+
+	@Test
+	void prometheusScrapeRequiresAdmin() throws Exception {
+		mockMvc.perform(get("/actuator/prometheus")).andExpect(status().isForbidden());
+	}
+}
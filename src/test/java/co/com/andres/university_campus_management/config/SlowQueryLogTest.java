@@ -0,0 +1,73 @@
+package co.com.andres.university_campus_management.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+import java.time.Duration;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import co.com.andres.university_campus_management.config.datasource.QueryTimingDataSource;
+import co.com.andres.university_campus_management.repository.StudentRepository;
+import co.com.andres.university_campus_management.utils.SlowQueryLog;
+import co.com.andres.university_campus_management.utils.SlowQueryLog.QueryRanking;
+import io.micrometer.core.instrument.MeterRegistry;
+
+@SpringBootTest(properties = "slow-query.threshold-ms=0")
+@ActiveProfiles("test")
+class SlowQueryLogTest {
+
+	@Autowired
+	private SlowQueryLog slowQueryLog;
+
+	@Autowired
+	private DataSource dataSource;
+
+	@Autowired
+	private StudentRepository studentRepository;
+
+	@Autowired
+	private MeterRegistry meterRegistry;
+
+	@BeforeEach
+	void setUp() {
+		slowQueryLog.reset();
+	}
+
+	@Test
+	void statementsAreTimedAndAttributedToTheRepositoryMethod() throws Exception {
+		assertThat(dataSource.isWrapperFor(QueryTimingDataSource.class)).isTrue();
+		double logged = meterRegistry.counter("slow.query.logged").count();
+
+		studentRepository.findAll();
+
+		assertThat(slowQueryLog.top())
+				.filteredOn(ranking -> ranking.query().contains("from student"))
+				.extracting(QueryRanking::origin)
+				.contains("StudentRepository.findAll");
+		await().atMost(Duration.ofSeconds(5))
+				.until(() -> meterRegistry.counter("slow.query.logged").count() > logged);
+	}
+
+	@Test
+	void literalsAndInListsAreNormalized() {
+		var jdbcTemplate = new JdbcTemplate(dataSource);
+		jdbcTemplate.queryForList("SELECT name FROM student WHERE id_student IN (1, 2, 3) AND name = 'Ana'");
+		jdbcTemplate.queryForList("SELECT name FROM student WHERE id_student IN (4, 5) AND name = 'Luis'");
+
+		assertThat(slowQueryLog.top())
+				.filteredOn(ranking -> ranking.query().startsWith("SELECT name FROM student"))
+				.singleElement()
+				.satisfies(ranking -> {
+					assertThat(ranking.query()).isEqualTo("SELECT name FROM student WHERE id_student IN (?) AND name = ?");
+					assertThat(ranking.count()).isEqualTo(2);
+				});
+	}
+}
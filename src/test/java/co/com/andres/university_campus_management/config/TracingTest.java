@@ -0,0 +1,131 @@
+package co.com.andres.university_campus_management.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import co.com.andres.university_campus_management.config.tracing.ExportedSpan;
+import co.com.andres.university_campus_management.config.tracing.FileSpanExporter;
+import co.com.andres.university_campus_management.config.tracing.InMemorySpanExporter;
+import co.com.andres.university_campus_management.utils.JwtUtil;
+import io.opentelemetry.sdk.trace.SdkTracerProvider;
+import io.opentelemetry.sdk.trace.export.SimpleSpanProcessor;
+
+@SpringBootTest(properties = "management.tracing.sampling.probability=1.0")
+@AutoConfigureMockMvc
+@AutoConfigureObservability
+@ActiveProfiles("test")
+class TracingTest {
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Autowired
+	private JwtUtil jwtUtil;
+
+	@Autowired
+	private InMemorySpanExporter exporter;
+
+	@Autowired
+	private SdkTracerProvider tracerProvider;
+
+	@Autowired
+	private ObjectMapper objectMapper;
+
+	@TempDir
+	private Path directory;
+
+	@Test
+	void requestIsTracedAcrossSecurityControllerServiceAndJdbc() throws Exception {
+		var token = jwtUtil.generateToken("admin@universidad.com", Set.of("ROLE_ADMIN"));
+		var traceparent = "00-4bf92f3577b34da6a3ce929d0e0e4736-00f067aa0ba902b7-01";
+
+		mockMvc.perform(get("/api/curso")
+				.header("Authorization", "Bearer " + token)
+				.header("traceparent", traceparent))
+				.andExpect(status().isOk());
+		tracerProvider.forceFlush().join(10, TimeUnit.SECONDS);
+
+		var spans = exporter.trace("4bf92f3577b34da6a3ce929d0e0e4736");
+		var names = spans.stream().map(ExportedSpan::name).toList();
+		assertThat(names).contains("http get /api/curso", "jwt.verification",
+				"course-controller.get-all", "course-service.get-all-course", "jdbc select");
+		assertThat(names).anyMatch(name -> name.startsWith("security filterchain"));
+		assertThat(names).anyMatch(name -> name.startsWith("authorize method"));
+
+		var byId = spans.stream().collect(Collectors.toMap(ExportedSpan::spanId, Function.identity()));
+		var jdbc = spans.stream().filter(span -> span.name().equals("jdbc select")).findFirst().orElseThrow();
+		assertThat(jdbc.attributes()).containsKey("db.statement");
+		assertThat(ancestors(jdbc, byId)).contains("course-service.get-all-course", "course-controller.get-all",
+				"http get /api/curso");
+	}
+
+	@Test
+	void traceEndpointListsTraces() throws Exception {
+		var token = jwtUtil.generateToken("admin@universidad.com", Set.of("ROLE_ADMIN"));
+		mockMvc.perform(get("/api/curso").header("Authorization", "Bearer " + token))
+				.andExpect(status().isOk());
+		tracerProvider.forceFlush().join(10, TimeUnit.SECONDS);
+
+		var summaries = exporter.traces();
+		assertThat(summaries).isNotEmpty();
+		var traceId = summaries.get(0).traceId();
+		mockMvc.perform(get("/actuator/traces/" + traceId).header("Authorization", "Bearer " + token))
+				.andExpect(status().isOk());
+	}
+
+	@Test
+	void fileExporterWritesOneJsonSpanPerLine() throws Exception {
+		var file = directory.resolve("traces.jsonl");
+		try (var provider = SdkTracerProvider.builder()
+				.addSpanProcessor(SimpleSpanProcessor.create(new FileSpanExporter(objectMapper, file)))
+				.build()) {
+			var tracer = provider.get("test");
+			var parent = tracer.spanBuilder("parent").startSpan();
+			try (var scope = parent.makeCurrent()) {
+				tracer.spanBuilder("child").setAttribute("db.rows", "3").startSpan().end();
+			}
+			parent.end();
+		}
+
+		var lines = Files.readAllLines(file);
+		assertThat(lines).hasSize(2);
+		var child = objectMapper.readValue(lines.get(0), ExportedSpan.class);
+		var parent = objectMapper.readValue(lines.get(1), ExportedSpan.class);
+		assertThat(child.name()).isEqualTo("child");
+		assertThat(child.parentSpanId()).isEqualTo(parent.spanId());
+		assertThat(child.traceId()).isEqualTo(parent.traceId());
+		assertThat(child.attributes()).containsEntry("db.rows", "3");
+	}
+
+	private static List<String> ancestors(ExportedSpan span, Map<String, ExportedSpan> byId) {
+		var names = new ArrayList<String>();
+		var current = byId.get(span.parentSpanId());
+		while (current != null) {
+			names.add(current.name());
+			current = current.parentSpanId() != null ? byId.get(current.parentSpanId()) : null;
+		}
+		return names;
+	}
+}
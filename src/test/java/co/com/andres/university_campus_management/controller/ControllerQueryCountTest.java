@@ -0,0 +1,436 @@
+package co.com.andres.university_campus_management.controller;
+
+import static co.com.andres.university_campus_management.TestFixtures.course;
+import static co.com.andres.university_campus_management.TestFixtures.enrollment;
+import static co.com.andres.university_campus_management.TestFixtures.professor;
+import static co.com.andres.university_campus_management.TestFixtures.student;
+import static co.com.andres.university_campus_management.utils.QueryCountMatchers.noStatementRepeatedMoreThan;
+import static co.com.andres.university_campus_management.utils.QueryCountMatchers.queryCount;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.util.Set;
+
+import org.hibernate.SessionFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import co.com.andres.university_campus_management.config.QueryBudgetFilter;
+import co.com.andres.university_campus_management.model.entity.Course;
+import co.com.andres.university_campus_management.model.entity.Enrollment;
+import co.com.andres.university_campus_management.model.entity.EnrollmentState;
+import co.com.andres.university_campus_management.model.entity.Professor;
+import co.com.andres.university_campus_management.model.entity.Student;
+import co.com.andres.university_campus_management.repository.CourseRepository;
+import co.com.andres.university_campus_management.repository.EnrollmentRepository;
+import co.com.andres.university_campus_management.repository.ProfessorRepository;
+import co.com.andres.university_campus_management.repository.StudentRepository;
+import co.com.andres.university_campus_management.utils.JwtUtil;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Número exacto de sentencias SQL de cada endpoint de estudiantes, cursos,
+ * profesores y matrículas, con la caché de segundo nivel vacía y dos filas de
+ * cada entidad. Un cambio en un número es un cambio en el coste del endpoint:
+ * si sube, casi siempre es una asociación que se carga fila a fila.
+ */
+@SpringBootTest(properties = "query-budget.repeated-threshold=2")
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class ControllerQueryCountTest {
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Autowired
+	private JwtUtil jwtUtil;
+
+	@Autowired
+	private ProfessorRepository professorRepository;
+
+	@Autowired
+	private CourseRepository courseRepository;
+
+	@Autowired
+	private StudentRepository studentRepository;
+
+	@Autowired
+	private EnrollmentRepository enrollmentRepository;
+
+	@Autowired
+	private EntityManagerFactory entityManagerFactory;
+
+	@Autowired
+	private MeterRegistry meterRegistry;
+
+	private Professor professor;
+	private Professor otherProfessor;
+	private Course course;
+	private Course otherCourse;
+	private Student student;
+	private Student otherStudent;
+	private Enrollment enrollment;
+
+	@BeforeEach
+	void setUp() {
+		enrollmentRepository.deleteAll();
+		courseRepository.deleteAll();
+		studentRepository.deleteAll();
+		professorRepository.deleteAll();
+
+		professor = professorRepository.save(professor("Luis", "luis@universidad.com"));
+		otherProfessor = professorRepository.save(professor("Marta", "marta@universidad.com"));
+		course = courseRepository.save(course("Programación", "PROG-101", professor));
+		otherCourse = courseRepository.save(course("Bases de datos", "BDAT-201", otherProfessor));
+		student = studentRepository.save(student("Ana", "ana@universidad.com", "2024000001"));
+		otherStudent = studentRepository.save(student("Pedro", "pedro@universidad.com", "2024000002"));
+		enrollment = enrollmentRepository.save(enrollment(student, course));
+		enrollmentRepository.save(enrollment(otherStudent, otherCourse));
+
+		entityManagerFactory.unwrap(SessionFactory.class).getCache().evictAllRegions();
+	}
+
+	// Estudiantes
+
+	@Test
+	void studentCreate() throws Exception {
+		perform(post("/api/estudiante").contentType(MediaType.APPLICATION_JSON).content("""
+				{"name": "Eva", "last_name": "Rojas", "email": "eva@universidad.com", "address": "Calle 123",
+				 "student_Number": "2024000003", "password": "Estudiante2024!"}
+				"""))
+				.andExpect(status().isCreated())
+				.andExpect(queryCount(4));
+	}
+
+	@Test
+	void studentGetAll() throws Exception {
+		perform(get("/api/estudiante")).andExpect(status().isOk()).andExpect(queryCount(3));
+	}
+
+	@Test
+	void studentGetAllFields() throws Exception {
+		perform(get("/api/estudiante").param("fields", "id,name")).andExpect(status().isOk())
+				.andExpect(queryCount(1));
+	}
+
+	@Test
+	void studentGetById() throws Exception {
+		perform(get("/api/estudiante/{id}", student.getIdStudent())).andExpect(status().isOk())
+				.andExpect(queryCount(1));
+	}
+
+	@Test
+	void studentGetByIds() throws Exception {
+		perform(batch("/api/estudiante/batch", student.getIdStudent(), otherStudent.getIdStudent()))
+				.andExpect(status().isOk())
+				.andExpect(queryCount(1));
+	}
+
+	@Test
+	void studentDashboard() throws Exception {
+		perform(get("/api/estudiante/{id}/dashboard", student.getIdStudent())).andExpect(status().isOk())
+				.andExpect(queryCount(4));
+	}
+
+	@Test
+	void studentUpdate() throws Exception {
+		perform(put("/api/estudiante/{id}", student.getIdStudent()).contentType(MediaType.APPLICATION_JSON).content("""
+				{"name": "Ana María", "last_name": "Rojas", "email": "ana@universidad.com", "address": "Calle 123",
+				 "student_Number": "2024000001", "password": "Estudiante2024!"}
+				"""))
+				.andExpect(status().isOk())
+				// Búsqueda por ID, email en ambas poblaciones y actualización
+				.andExpect(queryCount(3));
+	}
+
+	@Test
+	void studentDelete() throws Exception {
+		enrollmentRepository.deleteAll();
+		perform(delete("/api/estudiante/{id}", otherStudent.getIdStudent())).andExpect(status().is2xxSuccessful())
+				.andExpect(queryCount(3));
+	}
+
+	@Test
+	void studentSearch() throws Exception {
+		perform(get("/api/estudiante/buscar").param("b", "a")).andExpect(status().isOk())
+				.andExpect(queryCount(3));
+	}
+
+	@Test
+	void studentSearchFields() throws Exception {
+		perform(get("/api/estudiante/buscar").param("b", "a").param("fields", "id,name")).andExpect(status().isOk())
+				.andExpect(queryCount(1));
+	}
+
+	// Cursos
+
+	@Test
+	void courseCreate() throws Exception {
+		perform(post("/api/curso").contentType(MediaType.APPLICATION_JSON).content("""
+				{"name": "Redes", "course_code": "REDE-301", "professor_id": %d, "maximum_capacity": 30}
+				""".formatted(professor.getIdProfessor())))
+				.andExpect(status().isCreated())
+				.andExpect(queryCount(1));
+	}
+
+	@Test
+	void courseGetAll() throws Exception {
+		perform(get("/api/curso")).andExpect(status().isOk()).andExpect(queryCount(3));
+	}
+
+	@Test
+	void courseGetAllFields() throws Exception {
+		perform(get("/api/curso").param("fields", "id,name")).andExpect(status().isOk())
+				.andExpect(queryCount(1));
+	}
+
+	@Test
+	void courseGetById() throws Exception {
+		perform(get("/api/curso/{id}", course.getIdCourse())).andExpect(status().isOk())
+				.andExpect(queryCount(1));
+		// La segunda lectura sale de la caché de segundo nivel
+		perform(get("/api/curso/{id}", course.getIdCourse())).andExpect(status().isOk())
+				.andExpect(queryCount(0));
+	}
+
+	@Test
+	void courseGetByIds() throws Exception {
+		perform(batch("/api/curso/batch", course.getIdCourse(), otherCourse.getIdCourse()))
+				.andExpect(status().isOk())
+				.andExpect(queryCount(1));
+	}
+
+	@Test
+	void courseUpdate() throws Exception {
+		perform(put("/api/curso/{id}", course.getIdCourse()).contentType(MediaType.APPLICATION_JSON).content("""
+				{"name": "Programación I", "course_code": "PROG-101", "professor_id": %d, "maximum_capacity": 40}
+				""".formatted(otherProfessor.getIdProfessor())))
+				.andExpect(status().isOk())
+				.andExpect(queryCount(3));
+	}
+
+	@Test
+	void courseDelete() throws Exception {
+		enrollmentRepository.deleteAll();
+		perform(delete("/api/curso/{id}", otherCourse.getIdCourse())).andExpect(status().is2xxSuccessful())
+				.andExpect(queryCount(1));
+	}
+
+	@Test
+	void courseSearchByName() throws Exception {
+		perform(get("/api/curso/buscarNombre").param("n", "a")).andExpect(status().isOk())
+				.andExpect(queryCount(3));
+	}
+
+	@Test
+	void courseSearchByNameFields() throws Exception {
+		perform(get("/api/curso/buscarNombre").param("n", "a").param("fields", "id,name"))
+				.andExpect(status().isOk())
+				.andExpect(queryCount(1));
+	}
+
+	@Test
+	void courseSearchByCode() throws Exception {
+		perform(get("/api/curso/buscarCode").param("c", "-")).andExpect(status().isOk())
+				.andExpect(queryCount(3));
+	}
+
+	@Test
+	void courseSearchByCodeFields() throws Exception {
+		perform(get("/api/curso/buscarCode").param("c", "-").param("fields", "id,course_code"))
+				.andExpect(status().isOk())
+				.andExpect(queryCount(1));
+	}
+
+	// Profesores
+
+	@Test
+	void professorCreate() throws Exception {
+		perform(post("/api/profesor").contentType(MediaType.APPLICATION_JSON).content("""
+				{"name": "Sara", "last_name": "Gómez", "email": "sara@universidad.com", "phone": "3001234567",
+				 "address": "Calle 123",
+				 "password": "Profesor2024!"}
+				"""))
+				.andExpect(status().isCreated())
+				.andExpect(queryCount(3));
+	}
+
+	@Test
+	void professorGetAll() throws Exception {
+		perform(get("/api/profesor")).andExpect(status().isOk()).andExpect(queryCount(3));
+	}
+
+	@Test
+	void professorGetAllFields() throws Exception {
+		perform(get("/api/profesor").param("fields", "id,name")).andExpect(status().isOk())
+				.andExpect(queryCount(1));
+	}
+
+	@Test
+	void professorGetById() throws Exception {
+		perform(get("/api/profesor/{id}", professor.getIdProfessor())).andExpect(status().isOk())
+				.andExpect(queryCount(1));
+	}
+
+	@Test
+	void professorGetByIds() throws Exception {
+		perform(batch("/api/profesor/batch", professor.getIdProfessor(), otherProfessor.getIdProfessor()))
+				.andExpect(status().isOk())
+				.andExpect(queryCount(1));
+	}
+
+	@Test
+	void professorUpdate() throws Exception {
+		perform(put("/api/profesor/{id}", professor.getIdProfessor()).contentType(MediaType.APPLICATION_JSON)
+				.content("""
+						{"name": "Luis Carlos", "last_name": "Rojas", "email": "luis@universidad.com",
+						 "phone": "3001234567", "address": "Calle 123", "password": "Profesor2024!"}
+						"""))
+				.andExpect(status().isOk())
+				.andExpect(queryCount(3));
+	}
+
+	@Test
+	void professorDelete() throws Exception {
+		enrollmentRepository.deleteAll();
+		courseRepository.delete(otherCourse);
+		perform(delete("/api/profesor/{id}", otherProfessor.getIdProfessor())).andExpect(status().is2xxSuccessful())
+				.andExpect(queryCount(2));
+	}
+
+	@Test
+	void professorSearch() throws Exception {
+		perform(get("/api/profesor/buscar").param("b", "a")).andExpect(status().isOk())
+				.andExpect(queryCount(3));
+	}
+
+	@Test
+	void professorSearchFields() throws Exception {
+		perform(get("/api/profesor/buscar").param("b", "a").param("fields", "id,name")).andExpect(status().isOk())
+				.andExpect(queryCount(1));
+	}
+
+	// Matrículas
+
+	@Test
+	void enrollmentCreate() throws Exception {
+		var newStudent = studentRepository.save(student("Eva", "eva@universidad.com", "2024000003"));
+		perform(post("/api/inscripcion").contentType(MediaType.APPLICATION_JSON).content("""
+				{"student": %d, "course": %d}
+				""".formatted(newStudent.getIdStudent(), course.getIdCourse())))
+				.andExpect(status().isCreated())
+				.andExpect(queryCount(1));
+	}
+
+	@Test
+	void enrollmentGetAll() throws Exception {
+		perform(get("/api/inscripcion")).andExpect(status().isOk()).andExpect(queryCount(5));
+	}
+
+	@Test
+	void enrollmentGetAllFields() throws Exception {
+		perform(get("/api/inscripcion").param("fields", "id,enrollment_state")).andExpect(status().isOk())
+				.andExpect(queryCount(1));
+	}
+
+	@Test
+	void enrollmentGetById() throws Exception {
+		perform(get("/api/inscripcion/{id}", enrollment.getIdEnrollment())).andExpect(status().isOk())
+				.andExpect(queryCount(1));
+	}
+
+	@Test
+	void enrollmentGetByStudent() throws Exception {
+		perform(get("/api/inscripcion/student/{id}", student.getIdStudent())).andExpect(status().isOk())
+				.andExpect(queryCount(3));
+	}
+
+	@Test
+	void enrollmentGetByCourse() throws Exception {
+		perform(get("/api/inscripcion/course/{id}", course.getIdCourse())).andExpect(status().isOk())
+				.andExpect(queryCount(3));
+	}
+
+	@Test
+	void enrollmentDelete() throws Exception {
+		perform(delete("/api/inscripcion/{id}", enrollment.getIdEnrollment())).andExpect(status().is2xxSuccessful())
+				.andExpect(queryCount(2));
+	}
+
+	@Test
+	void enrollmentGetByState() throws Exception {
+		perform(get("/api/inscripcion/state/{state}", EnrollmentState.ACTIVE)).andExpect(status().isOk())
+				.andExpect(queryCount(5));
+	}
+
+	@Test
+	void enrollmentGetByStateFields() throws Exception {
+		perform(get("/api/inscripcion/state/{state}", EnrollmentState.ACTIVE).param("fields", "id,course_id"))
+				.andExpect(status().isOk())
+				.andExpect(queryCount(1));
+	}
+
+	@Test
+	void enrollmentExport() throws Exception {
+		var result = perform(get("/api/inscripcion/export")).andExpect(request().asyncStarted()).andReturn();
+		mockMvc.perform(asyncDispatch(result)).andExpect(status().isOk());
+		queryCount(1).match(result);
+	}
+
+	@Test
+	void enrollmentRosterExport() throws Exception {
+		var result = perform(get("/api/inscripcion/course/{id}/export", course.getIdCourse()))
+				.andExpect(request().asyncStarted()).andReturn();
+		mockMvc.perform(asyncDispatch(result)).andExpect(status().isOk());
+		queryCount(2).match(result);
+	}
+
+	// Cabeceras y detección de N+1
+
+	@Test
+	void responsesCarryTheQueryCountHeaders() throws Exception {
+		perform(get("/api/estudiante/{id}", student.getIdStudent()))
+				.andExpect(header().string(QueryBudgetFilter.QUERY_COUNT_HEADER, "1"))
+				.andExpect(header().exists(QueryBudgetFilter.DB_TIME_HEADER))
+				.andExpect(noStatementRepeatedMoreThan(1));
+	}
+
+	@Test
+	void repeatedStatementsAreReportedAsNPlusOne() throws Exception {
+		var detected = meterRegistry.counter("query.repeated.detected", "endpoint", "GET /api/estudiante");
+		double before = detected.count();
+
+		perform(get("/api/estudiante")).andExpect(status().isOk());
+
+		assertThat(detected.count()).isEqualTo(before + 1);
+	}
+
+	private ResultActions perform(MockHttpServletRequestBuilder request) throws Exception {
+		var token = jwtUtil.generateToken("admin@universidad.com", Set.of("ROLE_ADMIN"));
+		return mockMvc.perform(request.header("Authorization", "Bearer " + token));
+	}
+
+	private static MockHttpServletRequestBuilder batch(String path, Long... ids) {
+		var body = new StringBuilder("{\"ids\": [");
+		for (int i = 0; i < ids.length; i++) {
+			body.append(i > 0 ? ", " : "").append(ids[i]);
+		}
+		return post(path).contentType(MediaType.APPLICATION_JSON).content(body.append("]}").toString());
+	}
+}
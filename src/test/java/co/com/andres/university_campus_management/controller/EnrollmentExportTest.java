@@ -0,0 +1,241 @@
+package co.com.andres.university_campus_management.controller;
+
+import static co.com.andres.university_campus_management.TestFixtures.course;
+import static co.com.andres.university_campus_management.TestFixtures.enrollment;
+import static co.com.andres.university_campus_management.TestFixtures.professor;
+import static co.com.andres.university_campus_management.TestFixtures.student;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.Set;
+import java.util.zip.GZIPInputStream;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.zaxxer.hikari.HikariDataSource;
+
+import co.com.andres.university_campus_management.model.entity.Course;
+import co.com.andres.university_campus_management.model.entity.Enrollment;
+import co.com.andres.university_campus_management.repository.CourseRepository;
+import co.com.andres.university_campus_management.repository.EnrollmentRepository;
+import co.com.andres.university_campus_management.repository.ProfessorRepository;
+import co.com.andres.university_campus_management.repository.StudentRepository;
+import co.com.andres.university_campus_management.service.EnrollmentService;
+import co.com.andres.university_campus_management.utils.ExportFormat;
+import co.com.andres.university_campus_management.utils.JwtUtil;
+
+/**
+ * Exportaciones de matrículas de extremo a extremo: negociación del formato,
+ * compresión, contenido de cada formato y liberación del cursor cuando el
+ * cliente se desconecta.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class EnrollmentExportTest {
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Autowired
+	private JwtUtil jwtUtil;
+
+	@Autowired
+	private ObjectMapper objectMapper;
+
+	@Autowired
+	private DataSource dataSource;
+
+	@Autowired
+	private EnrollmentService enrollmentService;
+
+	@Autowired
+	private ProfessorRepository professorRepository;
+
+	@Autowired
+	private CourseRepository courseRepository;
+
+	@Autowired
+	private StudentRepository studentRepository;
+
+	@Autowired
+	private EnrollmentRepository enrollmentRepository;
+
+	private Course course;
+	private Course emptyCourse;
+	private Enrollment enrollment;
+	private Enrollment otherEnrollment;
+
+	@BeforeEach
+	void setUp() {
+		enrollmentRepository.deleteAll();
+		courseRepository.deleteAll();
+		studentRepository.deleteAll();
+		professorRepository.deleteAll();
+
+		var professor = professorRepository.save(professor("Luis", "luis@universidad.com"));
+		course = courseRepository.save(course("Programación", "PROG-101", professor));
+		emptyCourse = courseRepository.save(course("Redes", "REDE-301", professor));
+		var student = studentRepository.save(student("Ana", "Rojas", "ana@universidad.com", "2024000001"));
+		// Nombre con coma, comillas y salto de línea: obliga a entrecomillar en CSV
+		var otherStudent = studentRepository.save(student("Pedro \"Peter\"", "Zapata, Mora\nII",
+				"pedro@universidad.com", "2024000002"));
+		enrollment = enrollmentRepository.save(enrollment(student, course));
+		otherEnrollment = enrollmentRepository.save(enrollment(otherStudent, course));
+	}
+
+	@Test
+	void csvIsTheDefaultFormat() throws Exception {
+		var result = export(get("/api/inscripcion/export"));
+
+		mockMvc.perform(asyncDispatch(result))
+				.andExpect(status().isOk())
+				.andExpect(header().string(HttpHeaders.CONTENT_TYPE, "text/csv;charset=UTF-8"))
+				.andExpect(header().string(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"matriculas.csv\""))
+				.andExpect(header().doesNotExist(HttpHeaders.CONTENT_ENCODING))
+				.andExpect(content().string("id_enrollment,student_id,course_id,enrollment_date,enrollment_state\r\n"
+						+ row(enrollment) + row(otherEnrollment)));
+	}
+
+	@Test
+	void ndjsonFormatIsCaseInsensitive() throws Exception {
+		var result = export(get("/api/inscripcion/export").param("format", " NDJSON "));
+
+		var body = mockMvc.perform(asyncDispatch(result))
+				.andExpect(status().isOk())
+				.andExpect(header().string(HttpHeaders.CONTENT_TYPE, "application/x-ndjson"))
+				.andExpect(header().string(HttpHeaders.CONTENT_DISPOSITION,
+						"attachment; filename=\"matriculas.ndjson\""))
+				.andReturn().getResponse().getContentAsString(StandardCharsets.UTF_8);
+
+		var lines = body.split("\n", -1);
+		assertThat(lines).hasSize(3);
+		assertThat(lines[2]).isEmpty();
+		var first = objectMapper.readTree(lines[0]);
+		assertThat(first.get("id_enrollment").asLong()).isEqualTo(enrollment.getIdEnrollment());
+		assertThat(first.get("course_id").asLong()).isEqualTo(course.getIdCourse());
+		assertThat(first.get("enrollment_date").asText()).isEqualTo(LocalDate.now().toString());
+		assertThat(first.get("enrollment_state").asText()).isEqualTo("ACTIVE");
+		assertThat(objectMapper.readTree(lines[1]).get("id_enrollment").asLong())
+				.isEqualTo(otherEnrollment.getIdEnrollment());
+	}
+
+	@Test
+	void unknownFormatIsRejectedBeforeStreaming() throws Exception {
+		mockMvc.perform(authorized(get("/api/inscripcion/export").param("format", "xml")))
+				.andExpect(request().asyncNotStarted())
+				.andExpect(status().isBadRequest())
+				.andExpect(jsonPath("$.code").value("EXPORT_FORMAT_INVALID"));
+	}
+
+	@Test
+	void gzipIsAppliedWhenAccepted() throws Exception {
+		var result = export(get("/api/inscripcion/export").header(HttpHeaders.ACCEPT_ENCODING, "br, GZIP;q=0.8"));
+
+		var response = mockMvc.perform(asyncDispatch(result))
+				.andExpect(status().isOk())
+				.andExpect(header().string(HttpHeaders.CONTENT_ENCODING, "gzip"))
+				.andExpect(header().string(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING))
+				.andReturn().getResponse();
+
+		try (var in = new GZIPInputStream(new ByteArrayInputStream(response.getContentAsByteArray()))) {
+			assertThat(new String(in.readAllBytes(), StandardCharsets.UTF_8))
+					.startsWith("id_enrollment,student_id,course_id,enrollment_date,enrollment_state\r\n")
+					.endsWith(row(otherEnrollment));
+		}
+	}
+
+	@Test
+	void rosterQuotesValuesWithSeparators() throws Exception {
+		var result = export(get("/api/inscripcion/course/{id}/export", course.getIdCourse()));
+
+		var body = mockMvc.perform(asyncDispatch(result))
+				.andExpect(status().isOk())
+				.andExpect(header().string(HttpHeaders.CONTENT_DISPOSITION,
+						"attachment; filename=\"curso-" + course.getIdCourse() + ".csv\""))
+				.andReturn().getResponse().getContentAsString(StandardCharsets.UTF_8);
+
+		// Ordenado por apellido: Rojas antes que Zapata
+		assertThat(body).endsWith(",2024000002,\"Pedro \"\"Peter\"\"\",\"Zapata, Mora\nII\",pedro@universidad.com,"
+				+ LocalDate.now() + ",ACTIVE\r\n");
+		assertThat(body).contains(",2024000001,Ana,Rojas,ana@universidad.com,");
+	}
+
+	@Test
+	void emptyRosterNdjsonHasNoLines() throws Exception {
+		var result = export(get("/api/inscripcion/course/{id}/export", emptyCourse.getIdCourse())
+				.param("format", "ndjson"));
+
+		mockMvc.perform(asyncDispatch(result))
+				.andExpect(status().isOk())
+				.andExpect(content().string(""));
+	}
+
+	@Test
+	void unknownCourseIsNotFoundBeforeStreaming() throws Exception {
+		mockMvc.perform(authorized(get("/api/inscripcion/course/{id}/export", emptyCourse.getIdCourse() + 1000)))
+				.andExpect(request().asyncNotStarted())
+				.andExpect(status().isNotFound());
+	}
+
+	@Test
+	void disconnectReleasesTheCursorAndConnection() throws Exception {
+		var pool = dataSource.unwrap(HikariDataSource.class).getHikariPoolMXBean();
+		for (var format : ExportFormat.values()) {
+			var disconnected = new OutputStream() {
+				@Override
+				public void write(int b) throws IOException {
+					throw new IOException("Broken pipe");
+				}
+			};
+
+			assertThatThrownBy(() -> enrollmentService.exportEnrollments(format, disconnected))
+					.isInstanceOf(IOException.class);
+			assertThatThrownBy(() -> enrollmentService.exportRoster(course.getIdCourse(), format, disconnected))
+					.isInstanceOf(IOException.class);
+
+			assertThat(pool.getActiveConnections()).as(format.name()).isZero();
+		}
+		// La conexión devuelta al pool sigue siendo utilizable
+		assertThat(enrollmentRepository.count()).isEqualTo(2);
+	}
+
+	private MvcResult export(MockHttpServletRequestBuilder request) throws Exception {
+		return mockMvc.perform(authorized(request)).andExpect(request().asyncStarted()).andReturn();
+	}
+
+	private MockHttpServletRequestBuilder authorized(MockHttpServletRequestBuilder request) {
+		var token = jwtUtil.generateToken("admin@universidad.com", Set.of("ROLE_ADMIN"));
+		return request.header("Authorization", "Bearer " + token);
+	}
+
+	private String row(Enrollment enrollment) {
+		return enrollment.getIdEnrollment() + "," + enrollment.getStudent().getIdStudent() + ","
+				+ enrollment.getCourse().getIdCourse() + "," + enrollment.getEnrollmentDate() + ","
+				+ enrollment.getEnrollmentState() + "\r\n";
+	}
+}
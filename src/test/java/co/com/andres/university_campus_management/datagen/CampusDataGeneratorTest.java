@@ -0,0 +1,133 @@
+package co.com.andres.university_campus_management.datagen;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+
+import co.com.andres.university_campus_management.datagen.CampusDataGenerator.Offsets;
+import co.com.andres.university_campus_management.datagen.CampusDataGenerator.Settings;
+import co.com.andres.university_campus_management.model.DTO.AuthenticateRequest;
+import co.com.andres.university_campus_management.model.DTO.CourseRequest;
+import co.com.andres.university_campus_management.model.DTO.ProfessorRequest;
+import co.com.andres.university_campus_management.model.DTO.StudentRequest;
+import co.com.andres.university_campus_management.model.entity.EnrollmentState;
+import co.com.andres.university_campus_management.service.AuthenticateService;
+
+// Propiedad propia para no compartir la base de datos con las demás pruebas
+@SpringBootTest(properties = "datagen.password=Campus2024!")
+@ActiveProfiles("test")
+@DirtiesContext
+class CampusDataGeneratorTest {
+
+	private static final LocalDate REFERENCE_DATE = LocalDate.of(2024, 9, 1);
+
+	@Autowired
+	private DataSource dataSource;
+
+	@Autowired
+	private PasswordEncoder passwordEncoder;
+
+	@Autowired
+	private AuthenticateService authenticateService;
+
+	@Test
+	void loadsRowsThatPassTheRequestValidations() throws Exception {
+		var generator = new CampusDataGenerator(dataSource, passwordEncoder.encode("Campus2024!"));
+		var summary = generator.load(new Settings(7, 8, 60, 400, 6000, REFERENCE_DATE));
+
+		var jdbc = new JdbcTemplate(dataSource);
+		assertThat(jdbc.queryForObject("SELECT COUNT(*) FROM professors", Long.class)).isEqualTo(8);
+		assertThat(jdbc.queryForObject("SELECT COUNT(*) FROM courses", Long.class)).isEqualTo(60);
+		assertThat(jdbc.queryForObject("SELECT COUNT(*) FROM student", Long.class)).isEqualTo(400);
+		assertThat(jdbc.queryForObject("SELECT COUNT(*) FROM enrollments", Long.class)).isEqualTo(6000);
+
+		jdbc.query("SELECT s.name, s.last_name, s.email, s.address, s.phone, s.student_number FROM student s",
+				(rs, row) -> new StudentRequest(rs.getString(1), rs.getString(2), rs.getString(3), rs.getString(4),
+						rs.getString(5), rs.getString(6), null, null, "x"))
+				.forEach(student -> {
+					assertThat(student.isValidEmail()).as(student.email()).isTrue();
+					assertThat("No especificado".equals(student.phone()) || student.isValidPhone())
+							.as(student.phone()).isTrue();
+					assertThat(student.isValidStudentNumber()).as(student.studentNumber()).isTrue();
+				});
+		jdbc.query("SELECT p.id_professor, p.name, p.last_name, p.email, p.phone, p.address FROM professors p",
+				(rs, row) -> new ProfessorRequest(rs.getString(2), rs.getString(3), rs.getString(4), rs.getString(5),
+						rs.getString(6), Set.copyOf(jdbc.queryForList(
+								"SELECT rol FROM professor_roles WHERE professor_id = ?", String.class, rs.getLong(1))),
+						"x"))
+				.forEach(professor -> {
+					assertThat(professor.isValidEmail()).as(professor.email()).isTrue();
+					assertThat(professor.isValidPhone()).as(professor.phone()).isTrue();
+					assertThat(professor.isValidRoles()).as(professor.roles().toString()).isTrue();
+				});
+		jdbc.query("SELECT c.name, c.course_code, c.description, c.professor, c.maximun_capacity FROM courses c",
+				(rs, row) -> new CourseRequest(rs.getString(1), rs.getString(2), rs.getString(3), rs.getLong(4),
+						rs.getInt(5)))
+				.forEach(course -> {
+					assertThat(course.isValidCourseCode()).as(course.courseCode()).isTrue();
+					assertThat(course.isValidMaxCapacity()).isTrue();
+					assertThat(course.isValidProfessorId()).isTrue();
+				});
+
+		var overCapacity = jdbc.queryForObject("""
+				SELECT COUNT(*) FROM courses c
+				 WHERE c.maximun_capacity < (SELECT COUNT(*) FROM enrollments e
+				                              WHERE e.course = c.id_course AND e.enrollment_state = 'ACTIVE')
+				""", Long.class);
+		assertThat(overCapacity).isZero();
+		assertThat(summary.enrollmentStates().get(EnrollmentState.GRADUATED)).isGreaterThan(3000);
+		var perCourse = jdbc.queryForList("SELECT COUNT(*) FROM enrollments GROUP BY course ORDER BY 1 DESC",
+				Long.class);
+		assertThat(perCourse.get(0)).isGreaterThan(5 * perCourse.get(perCourse.size() / 2));
+
+		var login = authenticateService.login(new AuthenticateRequest(
+				jdbc.queryForObject("SELECT MIN(email) FROM student", String.class), "Campus2024!"));
+		assertThat(login.jwt()).isNotBlank();
+		jdbc.update("INSERT INTO courses (name, course_code, description, maximun_capacity, professor) "
+				+ "VALUES ('Curso nuevo', 'NUEV-101', 'Creado después de la carga', 30, NULL)");
+	}
+
+	@Test
+	void sameSeedGeneratesSameRows() throws Exception {
+		var settings = new Settings(11, 3, 20, 50, 500, REFERENCE_DATE);
+		assertThat(rows(settings)).isEqualTo(rows(settings));
+		assertThat(rows(new Settings(12, 3, 20, 50, 500, REFERENCE_DATE))).isNotEqualTo(rows(settings));
+	}
+
+	@Test
+	void rejectsMoreCoursesThanValidCodes() {
+		assertThatThrownBy(() -> new Settings(1, 1, 1_000_000, 1, 0, REFERENCE_DATE))
+				.isInstanceOf(IllegalArgumentException.class);
+	}
+
+	private static List<String> rows(Settings settings) throws Exception {
+		var rows = new ArrayList<String>();
+		new CampusDataGenerator(null, "hash").generate(settings, new Offsets(0, 0, 0, 0), Set.of(),
+				(table, columns) -> new BulkWriter() {
+					@Override
+					protected void write(Object[] values) {
+						rows.add(table + Arrays.toString(values));
+					}
+
+					@Override
+					public void close() {
+					}
+				});
+		return rows;
+	}
+}
@@ -0,0 +1,111 @@
+package co.com.andres.university_campus_management.jfr;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import co.com.andres.university_campus_management.config.exception.authenticate.InvalidCredentialsException;
+import co.com.andres.university_campus_management.config.exception.validationException.RequestValidationException;
+import co.com.andres.university_campus_management.model.DTO.AuthenticateRequest;
+import co.com.andres.university_campus_management.model.DTO.EnrollmentRequest;
+import co.com.andres.university_campus_management.service.AuthenticateService;
+import co.com.andres.university_campus_management.service.EnrollmentService;
+import co.com.andres.university_campus_management.service.StudentService;
+import co.com.andres.university_campus_management.utils.JwtUtil;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class FlightRecordingTest {
+
+	@Autowired
+	private EnrollmentService enrollmentService;
+
+	@Autowired
+	private AuthenticateService authenticateService;
+
+	@Autowired
+	private StudentService studentService;
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Autowired
+	private JwtUtil jwtUtil;
+
+	@TempDir
+	private Path directory;
+
+	@Test
+	void eventsAreDisabledWithoutTheRecording() {
+		assertThat(LoginEvent.start("login").isEnabled()).isFalse();
+		assertThat(SearchEvent.record("Student", "nameOrLastName", () -> 1, value -> value)).isEqualTo(1);
+	}
+
+	@Test
+	void recordingCapturesBusinessEventsWithoutPersonalData() throws Exception {
+		var file = directory.resolve("campus.jfr");
+		var recording = new FlightRecording(file, "default", Duration.ofMinutes(5), 10_000_000);
+		recording.start();
+
+		assertThatThrownBy(() -> enrollmentService.createEnrollment(new EnrollmentRequest(null, 42L, null, null)))
+				.isInstanceOf(RequestValidationException.class);
+		assertThatThrownBy(() -> authenticateService.login(new AuthenticateRequest("nadie.jfr@universidad.com", "secreto")))
+				.isInstanceOf(InvalidCredentialsException.class);
+		studentService.getByNameOrLastName("zzz-sin-resultados");
+		var token = jwtUtil.generateToken("admin@universidad.com", Set.of("ROLE_ADMIN"));
+		mockMvc.perform(get("/api/estudiante").header("Authorization", "Bearer " + token))
+				.andExpect(status().isOk());
+
+		recording.stop();
+
+		var events = RecordingFile.readAllEvents(file);
+		var enrollment = single(events, EnrollmentCreateEvent.NAME);
+		assertThat(enrollment.getLong("courseId")).isEqualTo(42L);
+		assertThat(enrollment.getString("outcome")).isEqualTo("REJECTED");
+
+		var login = single(events, LoginEvent.NAME);
+		assertThat(login.getString("endpoint")).isEqualTo("login");
+		assertThat(login.getString("userType")).isEqualTo("UNKNOWN");
+		assertThat(login.getString("outcome")).isEqualTo("INVALID_CREDENTIALS");
+		assertThat(login.getDuration()).isPositive();
+
+		var search = single(events, SearchEvent.NAME);
+		assertThat(search.getString("entity")).isEqualTo("Student");
+		assertThat(search.getInt("results")).isZero();
+		assertThat(search.getString("outcome")).isEqualTo("OK");
+
+		assertThat(single(events, JwtVerificationEvent.NAME).getString("outcome")).isEqualTo("VALID");
+
+		assertThat(events.stream().filter(event -> event.getEventType().getName().startsWith("university."))
+				.map(RecordedEvent::toString))
+				.noneMatch(text -> text.contains("@universidad.com") || text.contains("zzz-sin-resultados"));
+
+		var report = JfrReport.summarize(file, "university.");
+		assertThat(report).extracting(JfrReport.Summary::type).containsExactlyInAnyOrder(
+				EnrollmentCreateEvent.NAME, LoginEvent.NAME, SearchEvent.NAME, JwtVerificationEvent.NAME);
+		assertThat(JfrReport.format(report)).contains("INVALID_CREDENTIALS", "REJECTED");
+	}
+
+	private static RecordedEvent single(List<RecordedEvent> events, String name) {
+		var matching = events.stream().filter(event -> event.getEventType().getName().equals(name)).toList();
+		assertThat(matching).as(name).hasSize(1);
+		return matching.get(0);
+	}
+}
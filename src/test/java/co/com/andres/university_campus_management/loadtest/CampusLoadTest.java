@@ -0,0 +1,171 @@
+package co.com.andres.university_campus_management.loadtest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpRequest;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.SplittableRandom;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import co.com.andres.university_campus_management.UniversityCampusManagementApplication;
+import co.com.andres.university_campus_management.datagen.CampusDataGenerator;
+import co.com.andres.university_campus_management.loadtest.LoadDriver.Call;
+import co.com.andres.university_campus_management.loadtest.LoadDriver.EndpointStats;
+import co.com.andres.university_campus_management.loadtest.LoadDriver.Scenario;
+import co.com.andres.university_campus_management.utils.JwtUtil;
+
+/**
+ * Prueba de carga de extremo a extremo con los escenarios de tráfico del
+ * campus y comprobación de SLO.
+ *
+ * Arranca la aplicación en un puerto libre con el perfil "test" (H2 en
+ * memoria, sin servicios externos), la llena con el generador de datos
+ * sintéticos y ejecuta, uno tras otro:
+ * - registration-rush: POST /api/inscripcion concentrado en los cursos más
+ *   pedidos, como al abrir matrículas
+ * - login-storm: POST /authenticate/estudiante de muchos estudiantes distintos
+ * - catalog-browsing: GET /api/curso (listado) y GET /api/curso/{id}
+ * - admin-search: GET /api/estudiante/buscar con nombres comunes y raros
+ *
+ * Muestra y guarda en {@code target/load-test/campus-load-report.json} el
+ * throughput y las latencias p50/p95/p99 por endpoint, y falla si no se
+ * cumplen los SLO de {@code loadtest/slo.properties} (sobrescribibles con
+ * {@code -Dslo.<endpoint>.<métrica>=valor}).
+ *
+ * BCrypt usa costo 10, el mínimo de producción, para que el login pese lo que
+ * pesa en producción; el límite de intentos por IP se desactiva porque toda la
+ * carga sale de 127.0.0.1.
+ *
+ * Solo se ejecuta con el perfil Maven load-test: {@code mvn -Pload-test test}
+ */
+@Tag("load")
+class CampusLoadTest {
+
+	private static final Logger log = LoggerFactory.getLogger(CampusLoadTest.class);
+
+	private static final String PASSWORD = "Campus2024!";
+	private static final int PROFESSORS = 30;
+	private static final int COURSES = 300;
+	private static final int STUDENTS = 5_000;
+	private static final int ENROLLMENTS = 20_000;
+	private static final List<String> SEARCH_TERMS = List.of("Garc", "Rodr", "Zapata", "Castaño", "Sofía",
+			"Óscar", "María José", "Quintero Arango", "zzz");
+
+	@Test
+	void campusTrafficMeetsSlos() throws Exception {
+		try (ConfigurableApplicationContext context = new SpringApplicationBuilder(
+				UniversityCampusManagementApplication.class)
+				.profiles("test")
+				.run("--server.port=0",
+						"--security.bcrypt.strength=10",
+						"--login.throttle.max-per-ip=100000000",
+						"--login.throttle.max-per-email=100000000")) {
+
+			var dataSource = context.getBean(DataSource.class);
+			var generator = new CampusDataGenerator(dataSource, context.getBean(PasswordEncoder.class).encode(PASSWORD));
+			generator.load(new CampusDataGenerator.Settings(42, PROFESSORS, COURSES, STUDENTS, ENROLLMENTS,
+					LocalDate.now()));
+
+			var jdbc = new JdbcTemplate(dataSource);
+			var studentEmails = jdbc.queryForList("SELECT email FROM student ORDER BY id_student", String.class);
+			var studentIds = jdbc.queryForList("SELECT id_student FROM student ORDER BY id_student", Long.class);
+			var courseIds = jdbc.queryForList("SELECT id_course FROM courses ORDER BY id_course", Long.class);
+			var professorEmail = jdbc.queryForObject("SELECT MIN(email) FROM professors", String.class);
+
+			var jwtUtil = context.getBean(JwtUtil.class);
+			var baseUrl = "http://localhost:" + context.getEnvironment().getProperty("local.server.port");
+			var professorToken = jwtUtil.generateToken(professorEmail, Set.of("ROLE_PROFESSOR"));
+			var adminToken = jwtUtil.generateToken("admin@universidad.com", Set.of("ROLE_ADMIN"));
+			var studentTokens = studentEmails.stream().limit(50)
+					.map(email -> jwtUtil.generateToken(email, Set.of("ROLE_STUDENT")))
+					.toList();
+
+			var scenarios = List.of(
+					new Scenario("registration-rush", 64, 200, 2_000, i -> {
+						var random = new SplittableRandom(i);
+						// Cuatro de cada cinco solicitudes van a los diez cursos más pedidos
+						var course = random.nextDouble() < 0.8
+								? courseIds.get(random.nextInt(10))
+								: courseIds.get(random.nextInt(courseIds.size()));
+						var student = studentIds.get(random.nextInt(studentIds.size()));
+						var body = "{\"student\":" + student + ",\"course\":" + course
+								+ ",\"enrollment_date\":\"" + LocalDate.now() + "\"}";
+						return new Call("enrollment.create", post(baseUrl + "/api/inscripcion", body, professorToken),
+								201);
+					}),
+					new Scenario("login-storm", 32, 50, 500, i -> {
+						var body = "{\"email\":\"" + studentEmails.get(i % studentEmails.size())
+								+ "\",\"password\":\"" + PASSWORD + "\"}";
+						return new Call("auth.student", post(baseUrl + "/authenticate/estudiante", body, null), 200);
+					}),
+					new Scenario("catalog-browsing", 128, 500, 5_000, i -> {
+						var random = new SplittableRandom(i);
+						var token = studentTokens.get(random.nextInt(studentTokens.size()));
+						return random.nextDouble() < 0.2
+								? new Call("course.list", get(baseUrl + "/api/curso", token), 200)
+								: new Call("course.get", get(baseUrl + "/api/curso/"
+										+ courseIds.get(random.nextInt(courseIds.size())), token), 200);
+					}),
+					new Scenario("admin-search", 32, 100, 1_000, i -> {
+						var term = URLEncoder.encode(SEARCH_TERMS.get(i % SEARCH_TERMS.size()), StandardCharsets.UTF_8);
+						return new Call("student.search", get(baseUrl + "/api/estudiante/buscar?b=" + term, adminToken),
+								200);
+					}));
+
+			var results = new ArrayList<EndpointStats>();
+			for (var scenario : scenarios) {
+				results.addAll(LoadDriver.run(scenario));
+			}
+
+			log.info("Resultados de la prueba de carga del campus:\n{}\n{}", LoadDriver.HEADER,
+					String.join("\n", results.stream().map(EndpointStats::toString).toList()));
+			var report = Path.of("target", "load-test", "campus-load-report.json");
+			Files.createDirectories(report.getParent());
+			new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValue(report.toFile(), results);
+
+			var violations = SloGate.load().violations(results);
+			assertThat(violations).as("SLO incumplidos (informe en %s)", report).isEmpty();
+		}
+	}
+
+	private static HttpRequest get(String url, String token) {
+		return HttpRequest.newBuilder(URI.create(url))
+				.header("Authorization", "Bearer " + token)
+				.timeout(Duration.ofSeconds(30))
+				.GET()
+				.build();
+	}
+
+	private static HttpRequest post(String url, String body, String token) {
+		var builder = HttpRequest.newBuilder(URI.create(url))
+				.header("Content-Type", "application/json")
+				.timeout(Duration.ofSeconds(30))
+				.POST(HttpRequest.BodyPublishers.ofString(body));
+		if (token != null) {
+			builder.header("Authorization", "Bearer " + token);
+		}
+		return builder.build();
+	}
+}
@@ -0,0 +1,150 @@
+package co.com.andres.university_campus_management.loadtest;
+
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.function.IntFunction;
+
+/**
+ * Generador de carga HTTP de lazo cerrado para las pruebas de carga.
+ *
+ * Mantiene como máximo {@code concurrency} solicitudes en curso, cada una en
+ * un hilo virtual, y mide la latencia de cada solicitud desde el envío hasta
+ * recibir la respuesta completa. Una solicitud es un error si falla o si su
+ * estado no es el esperado. Los resultados se agrupan por endpoint (un nombre
+ * estable como {@code course.get}, no la URL con sus IDs).
+ */
+final class LoadDriver {
+
+	private LoadDriver() {
+	}
+
+	/**
+	 * Solicitud de un escenario.
+	 *
+	 * @param endpoint Nombre del endpoint en el informe y en los SLO
+	 * @param request Solicitud HTTP
+	 * @param expectedStatus Estado HTTP esperado
+	 */
+	record Call(String endpoint, HttpRequest request, int expectedStatus) {
+	}
+
+	/**
+	 * Escenario de carga.
+	 *
+	 * @param name Nombre del escenario
+	 * @param concurrency Solicitudes en curso como máximo
+	 * @param warmupRequests Solicitudes de calentamiento, sin medir
+	 * @param requests Solicitudes medidas
+	 * @param calls Solicitud número i del escenario (el calentamiento usa los mismos índices)
+	 */
+	record Scenario(String name, int concurrency, int warmupRequests, int requests, IntFunction<Call> calls) {
+	}
+
+	/**
+	 * Resultado de un endpoint en un escenario.
+	 *
+	 * @param scenario Nombre del escenario
+	 * @param endpoint Nombre del endpoint
+	 * @param requests Solicitudes medidas
+	 * @param errors Solicitudes fallidas o con un estado inesperado
+	 * @param throughput Solicitudes por segundo del endpoint durante el escenario
+	 * @param p50 Latencia p50 en milisegundos
+	 * @param p95 Latencia p95 en milisegundos
+	 * @param p99 Latencia p99 en milisegundos
+	 * @param max Latencia máxima en milisegundos
+	 */
+	record EndpointStats(String scenario, String endpoint, int requests, int errors, double throughput,
+			double p50, double p95, double p99, double max) {
+
+		double errorRate() {
+			return requests == 0 ? 0 : (double) errors / requests;
+		}
+
+		@Override
+		public String toString() {
+			return String.format("%-20s %-16s %7d %9.1f %8.2f %8.2f %8.2f %8.2f %7d", scenario, endpoint, requests,
+					throughput, p50, p95, p99, max, errors);
+		}
+	}
+
+	/**
+	 * Cabecera de la tabla que forman los {@link EndpointStats#toString()}.
+	 */
+	static final String HEADER = String.format("%-20s %-16s %7s %9s %8s %8s %8s %8s %7s", "escenario", "endpoint",
+			"req", "req/s", "p50 ms", "p95 ms", "p99 ms", "max ms", "errores");
+
+	/**
+	 * Ejecuta el calentamiento y luego la carga medida de un escenario.
+	 *
+	 * @param scenario Escenario
+	 * @return Resultado de cada endpoint, en orden de aparición
+	 * @throws InterruptedException si se interrumpe la espera
+	 */
+	static List<EndpointStats> run(Scenario scenario) throws InterruptedException {
+		load(scenario, scenario.warmupRequests());
+		return load(scenario, scenario.requests());
+	}
+
+	private static List<EndpointStats> load(Scenario scenario, int total) throws InterruptedException {
+		var calls = new Call[total];
+		var latencies = new long[total];
+		var failed = new boolean[total];
+		var inFlight = new Semaphore(scenario.concurrency());
+
+		long elapsed;
+		try (var executor = Executors.newVirtualThreadPerTaskExecutor();
+				var client = HttpClient.newBuilder().executor(executor).build()) {
+			long start = System.nanoTime();
+			for (int i = 0; i < total; i++) {
+				var call = scenario.calls().apply(i);
+				calls[i] = call;
+				inFlight.acquire();
+				int slot = i;
+				executor.submit(() -> {
+					long sent = System.nanoTime();
+					try {
+						var response = client.send(call.request(), HttpResponse.BodyHandlers.discarding());
+						failed[slot] = response.statusCode() != call.expectedStatus();
+					} catch (Exception e) {
+						failed[slot] = true;
+					} finally {
+						latencies[slot] = System.nanoTime() - sent;
+						inFlight.release();
+					}
+				});
+			}
+			inFlight.acquire(scenario.concurrency());
+			elapsed = System.nanoTime() - start;
+		}
+
+		var byEndpoint = new LinkedHashMap<String, List<Integer>>();
+		for (int i = 0; i < total; i++) {
+			byEndpoint.computeIfAbsent(calls[i].endpoint(), key -> new ArrayList<>()).add(i);
+		}
+		var stats = new ArrayList<EndpointStats>(byEndpoint.size());
+		byEndpoint.forEach((endpoint, slots) -> {
+			var sorted = slots.stream().mapToLong(slot -> latencies[slot]).toArray();
+			Arrays.sort(sorted);
+			var errors = (int) slots.stream().filter(slot -> failed[slot]).count();
+			stats.add(new EndpointStats(scenario.name(), endpoint, sorted.length, errors,
+					sorted.length * 1_000_000_000d / elapsed, percentile(sorted, 50), percentile(sorted, 95),
+					percentile(sorted, 99), sorted.length == 0 ? 0 : sorted[sorted.length - 1] / 1_000_000d));
+		});
+		return stats;
+	}
+
+	private static double percentile(long[] sorted, int p) {
+		if (sorted.length == 0) {
+			return 0;
+		}
+		int index = (int) Math.ceil(p / 100d * sorted.length) - 1;
+		return sorted[Math.max(index, 0)] / 1_000_000d;
+	}
+}
@@ -0,0 +1,90 @@
+package co.com.andres.university_campus_management.loadtest;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Properties;
+
+import co.com.andres.university_campus_management.loadtest.LoadDriver.EndpointStats;
+
+/**
+ * Objetivos de nivel de servicio (SLO) de las pruebas de carga.
+ *
+ * Se leen de {@code loadtest/slo.properties} con claves
+ * {@code <endpoint>.<métrica>} y cada una se puede sobrescribir con la
+ * propiedad de sistema {@code slo.<endpoint>.<métrica>}. Métricas:
+ * - {@code p50-ms}, {@code p95-ms}, {@code p99-ms}: latencia máxima admitida
+ * - {@code max-error-rate}: fracción máxima de errores (0 por defecto)
+ * - {@code min-throughput}: solicitudes por segundo mínimas
+ *
+ * Un endpoint sin una métrica configurada no se comprueba en esa métrica.
+ */
+final class SloGate {
+
+	private static final String RESOURCE = "loadtest/slo.properties";
+
+	private final Properties objectives;
+
+	private SloGate(Properties objectives) {
+		this.objectives = objectives;
+	}
+
+	/**
+	 * Carga los SLO del classpath de pruebas.
+	 *
+	 * @return SLO configurados
+	 * @throws IOException si no se puede leer el archivo
+	 */
+	static SloGate load() throws IOException {
+		var objectives = new Properties();
+		try (var input = SloGate.class.getClassLoader().getResourceAsStream(RESOURCE)) {
+			if (input == null) {
+				throw new IOException("No se encontró " + RESOURCE + " en el classpath de pruebas");
+			}
+			objectives.load(input);
+		}
+		return new SloGate(objectives);
+	}
+
+	/**
+	 * Comprueba los resultados contra los SLO.
+	 *
+	 * @param results Resultados por endpoint
+	 * @return Descripción de cada incumplimiento; vacía si se cumplen todos
+	 */
+	List<String> violations(List<EndpointStats> results) {
+		var violations = new ArrayList<String>();
+		for (var stats : results) {
+			atMost(violations, stats, "p50-ms", stats.p50());
+			atMost(violations, stats, "p95-ms", stats.p95());
+			atMost(violations, stats, "p99-ms", stats.p99());
+			var maxErrorRate = objective(stats.endpoint(), "max-error-rate");
+			if (stats.errorRate() > (maxErrorRate == null ? 0 : maxErrorRate)) {
+				violations.add(String.format(Locale.ROOT, "%s/%s: %d errores de %d (máximo %.2f%%)",
+						stats.scenario(), stats.endpoint(), stats.errors(), stats.requests(),
+						(maxErrorRate == null ? 0 : maxErrorRate) * 100));
+			}
+			var minThroughput = objective(stats.endpoint(), "min-throughput");
+			if (minThroughput != null && stats.throughput() < minThroughput) {
+				violations.add(String.format(Locale.ROOT, "%s/%s: %.1f req/s, mínimo %.1f",
+						stats.scenario(), stats.endpoint(), stats.throughput(), minThroughput));
+			}
+		}
+		return violations;
+	}
+
+	private void atMost(List<String> violations, EndpointStats stats, String metric, double value) {
+		var limit = objective(stats.endpoint(), metric);
+		if (limit != null && value > limit) {
+			violations.add(String.format(Locale.ROOT, "%s/%s: %s %.2f, máximo %.2f",
+					stats.scenario(), stats.endpoint(), metric, value, limit));
+		}
+	}
+
+	private Double objective(String endpoint, String metric) {
+		var key = endpoint + "." + metric;
+		var value = System.getProperty("slo." + key, objectives.getProperty(key));
+		return value == null || value.isBlank() ? null : Double.valueOf(value.trim());
+	}
+}
@@ -0,0 +1,146 @@
+package co.com.andres.university_campus_management.loadtest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import co.com.andres.university_campus_management.UniversityCampusManagementApplication;
+import co.com.andres.university_campus_management.loadtest.LoadDriver.Call;
+import co.com.andres.university_campus_management.loadtest.LoadDriver.EndpointStats;
+import co.com.andres.university_campus_management.loadtest.LoadDriver.Scenario;
+import co.com.andres.university_campus_management.model.entity.Course;
+import co.com.andres.university_campus_management.model.entity.Professor;
+import co.com.andres.university_campus_management.repository.CourseRepository;
+import co.com.andres.university_campus_management.repository.ProfessorRepository;
+import co.com.andres.university_campus_management.utils.JwtUtil;
+
+/**
+ * Compara el rendimiento de GET /api/curso con hilos de plataforma y con hilos
+ * virtuales bajo la misma carga concurrente.
+ *
+ * Arranca la aplicación con el perfil "test" y con los perfiles "test" +
+ * "virtual", con el mismo límite de hilos de Tomcat (32) y el mismo pool de
+ * conexiones (10); el monitor JFR de hilos fijados del perfil "virtual" se
+ * desactiva porque es un diagnóstico, no parte del modo de hilos. La
+ * concurrencia (200) satura el pool de hilos de plataforma, que es donde los
+ * hilos virtuales deberían rendir al menos igual. Tras una pasada de
+ * calentamiento que se descarta, cada modo se mide dos veces en orden alterno
+ * (plataforma, virtual, virtual, plataforma) para que el orden no favorezca a
+ * ninguno, y se compara la mejor medición de cada uno.
+ *
+ * Registra throughput y latencias p50/p95/p99 de cada medición y las guarda
+ * en {@code target/load-test/thread-mode-report.json}. Falla si hay errores o
+ * si el throughput con hilos virtuales queda por debajo del de plataforma
+ * menos la tolerancia ({@code -Dloadtest.thread-mode.tolerance}, 0.10 por
+ * defecto).
+ *
+ * Solo se ejecuta con el perfil Maven load-test: {@code mvn -Pload-test test}
+ */
+@Tag("load")
+class ThreadModeLoadComparisonTest {
+
+	private static final Logger log = LoggerFactory.getLogger(ThreadModeLoadComparisonTest.class);
+
+	private static final int COURSES = 200;
+	private static final int CONCURRENCY = 200;
+	private static final int WARMUP_REQUESTS = 500;
+	private static final int REQUESTS = 4_000;
+
+	@Test
+	void virtualThreadsKeepUpWithPlatformThreads() throws Exception {
+		var tolerance = Double.parseDouble(System.getProperty("loadtest.thread-mode.tolerance", "0.10"));
+		// Primera pasada descartada: compila con JIT el código de ambos lados antes de medir
+		run("calentamiento", "test");
+		var results = new ArrayList<EndpointStats>();
+		results.add(run("plataforma", "test"));
+		results.add(run("virtuales", "test", "virtual"));
+		results.add(run("virtuales", "test", "virtual"));
+		results.add(run("plataforma", "test"));
+
+		log.info("Comparación de hilos con {} solicitudes concurrentes:\n{}\n{}", CONCURRENCY, LoadDriver.HEADER,
+				String.join("\n", results.stream().map(EndpointStats::toString).toList()));
+		var report = Path.of("target", "load-test", "thread-mode-report.json");
+		Files.createDirectories(report.getParent());
+		new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValue(report.toFile(), results);
+
+		assertThat(results).allSatisfy(stats -> assertThat(stats.errors()).isZero());
+		var platform = best(results, "plataforma");
+		var virtual = best(results, "virtuales");
+		assertThat(virtual.throughput())
+				.as("Throughput con hilos virtuales frente a %.1f sol/s con hilos de plataforma (tolerancia %.0f%%)",
+						platform.throughput(), tolerance * 100)
+				.isGreaterThanOrEqualTo(platform.throughput() * (1 - tolerance));
+	}
+
+	private static EndpointStats best(List<EndpointStats> results, String mode) {
+		return results.stream()
+				.filter(stats -> stats.scenario().equals(mode))
+				.max(Comparator.comparingDouble(EndpointStats::throughput))
+				.orElseThrow();
+	}
+
+	private EndpointStats run(String mode, String... profiles) throws Exception {
+		try (ConfigurableApplicationContext context = new SpringApplicationBuilder(
+				UniversityCampusManagementApplication.class)
+				.profiles(profiles)
+				// Como argumentos, para que prevalezcan sobre los ficheros de cada perfil
+				.run("--server.port=0",
+						"--server.tomcat.threads.max=32",
+						"--spring.datasource.hikari.maximum-pool-size=10",
+						"--virtual.pinning.enabled=false")) {
+
+			seed(context);
+			var port = context.getEnvironment().getProperty("local.server.port");
+			var token = context.getBean(JwtUtil.class)
+					.generateToken("admin@universidad.com", Set.of("ROLE_ADMIN"));
+			var request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/api/curso"))
+					.header("Authorization", "Bearer " + token)
+					.timeout(Duration.ofSeconds(30))
+					.GET()
+					.build();
+
+			return LoadDriver.run(new Scenario(mode, CONCURRENCY, WARMUP_REQUESTS, REQUESTS,
+					i -> new Call("course.list", request, 200))).get(0);
+		}
+	}
+
+	private void seed(ConfigurableApplicationContext context) {
+		var professor = new Professor();
+		professor.setName("Carga");
+		professor.setLastName("Prueba");
+		professor.setEmail("carga@universidad.com");
+		professor.setAddress("Campus");
+		professor.setPassword("sin-uso");
+		professor.setRoles(Set.of("ROLE_PROFESSOR"));
+		professor = context.getBean(ProfessorRepository.class).save(professor);
+
+		var courses = context.getBean(CourseRepository.class);
+		for (int i = 0; i < COURSES; i++) {
+			var course = new Course();
+			course.setName("Curso " + i);
+			course.setCourseCode("CARGA-" + i);
+			course.setDescription("Curso generado para la prueba de carga");
+			course.setMaxCapacity(30);
+			course.setProfessor(professor);
+			courses.save(course);
+		}
+	}
+}
@@ -0,0 +1,102 @@
+package co.com.andres.university_campus_management.service.impl;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import co.com.andres.university_campus_management.config.exception.authenticate.InvalidCredentialsException;
+import co.com.andres.university_campus_management.model.DTO.AuthenticateRequest;
+import co.com.andres.university_campus_management.model.entity.UserCredential;
+import co.com.andres.university_campus_management.model.entity.UserType;
+import co.com.andres.university_campus_management.repository.ProfessorRepository;
+import co.com.andres.university_campus_management.repository.StudentRepository;
+import co.com.andres.university_campus_management.repository.UserCredentialRepository;
+import co.com.andres.university_campus_management.utils.JwtUtil;
+import co.com.andres.university_campus_management.utils.LoginThrottle;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Cada intento del login unificado hace exactamente una verificación BCrypt,
+ * exista o no el email, y nunca contra el hash de un email ambiguo.
+ */
+class AuthenticateServiceImplTest {
+
+	private static final String PASSWORD = "Campus2024!";
+
+	private final StudentRepository studentRepository = mock(StudentRepository.class);
+	private final ProfessorRepository professorRepository = mock(ProfessorRepository.class);
+	private final UserCredentialRepository credentialRepository = mock(UserCredentialRepository.class);
+	private final BCryptPasswordEncoder passwordEncoder = spy(new BCryptPasswordEncoder(4));
+
+	private AuthenticateServiceImpl service;
+	private String dummyHash;
+
+	@BeforeEach
+	void setUp() {
+		service = new AuthenticateServiceImpl(studentRepository, professorRepository, passwordEncoder, new JwtUtil(),
+				new LoginThrottle(new SimpleMeterRegistry(), 60_000, 6, 100, 100, 100), credentialRepository);
+		service.initDummyHash();
+		dummyHash = (String) ReflectionTestUtils.getField(service, "dummyHash");
+	}
+
+	@Test
+	void unknownEmailVerifiesOnceAgainstDummyHash() {
+		assertThatThrownBy(() -> service.login(new AuthenticateRequest("nadie@universidad.com", PASSWORD)))
+				.isInstanceOf(InvalidCredentialsException.class);
+
+		verify(passwordEncoder, times(1)).matches(any(), any());
+		verify(passwordEncoder).matches(PASSWORD, dummyHash);
+	}
+
+	@Test
+	void wrongPasswordVerifiesOnceAgainstStoredHash() {
+		var stored = passwordEncoder.encode(PASSWORD);
+		when(credentialRepository.findTop2ByEmail("ana@universidad.com"))
+				.thenReturn(List.of(credential("ana@universidad.com", stored, UserType.STUDENT, 1L)));
+
+		assertThatThrownBy(() -> service.login(new AuthenticateRequest("ana@universidad.com", "incorrecta")))
+				.isInstanceOf(InvalidCredentialsException.class);
+
+		verify(passwordEncoder, times(1)).matches(any(), any());
+		verify(passwordEncoder).matches("incorrecta", stored);
+		verifyNoInteractions(studentRepository, professorRepository);
+	}
+
+	@Test
+	void ambiguousEmailIsRejectedWithoutCheckingEitherHash() {
+		var studentHash = passwordEncoder.encode(PASSWORD);
+		var professorHash = passwordEncoder.encode(PASSWORD);
+		when(credentialRepository.findTop2ByEmail("doble@universidad.com")).thenReturn(List.of(
+				credential("doble@universidad.com", studentHash, UserType.STUDENT, 1L),
+				credential("doble@universidad.com", professorHash, UserType.PROFESSOR, 1L)));
+
+		assertThatThrownBy(() -> service.login(new AuthenticateRequest("doble@universidad.com", PASSWORD)))
+				.isInstanceOf(InvalidCredentialsException.class);
+
+		verify(passwordEncoder, times(1)).matches(any(), any());
+		verify(passwordEncoder).matches(eq(PASSWORD), eq(dummyHash));
+		verifyNoInteractions(studentRepository, professorRepository);
+	}
+
+	private static UserCredential credential(String email, String hash, UserType type, Long id) {
+		var credential = new UserCredential();
+		credential.setEmail(email);
+		credential.setPassword(hash);
+		credential.setUserType(type);
+		credential.setUserId(id);
+		return credential;
+	}
+}
@@ -0,0 +1,122 @@
+package co.com.andres.university_campus_management.service.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+
+import co.com.andres.university_campus_management.config.exception.authenticate.InvalidCredentialsException;
+import co.com.andres.university_campus_management.config.exception.professorException.ProfessorWithEmailExistException;
+import co.com.andres.university_campus_management.config.exception.studentException.StudentWithEmailExistException;
+import co.com.andres.university_campus_management.model.DTO.AuthenticateRequest;
+import co.com.andres.university_campus_management.model.DTO.ProfessorRequest;
+import co.com.andres.university_campus_management.model.DTO.StudentRequest;
+import co.com.andres.university_campus_management.model.entity.Professor;
+import co.com.andres.university_campus_management.model.entity.Student;
+import co.com.andres.university_campus_management.repository.ProfessorRepository;
+import co.com.andres.university_campus_management.repository.StudentRepository;
+import co.com.andres.university_campus_management.service.AuthenticateService;
+import co.com.andres.university_campus_management.service.ProfessorService;
+import co.com.andres.university_campus_management.service.StudentService;
+
+/**
+ * Un email solo puede pertenecer a un estudiante o a un profesor.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class CrossPopulationEmailTest {
+
+	private static final String PASSWORD = "Campus2024!";
+
+	@Autowired
+	private StudentService studentService;
+
+	@Autowired
+	private ProfessorService professorService;
+
+	@Autowired
+	private AuthenticateService authenticateService;
+
+	@Autowired
+	private StudentRepository studentRepository;
+
+	@Autowired
+	private ProfessorRepository professorRepository;
+
+	@Autowired
+	private PasswordEncoder passwordEncoder;
+
+	@Test
+	void createRejectsEmailOfTheOtherPopulation() {
+		professorService.createProfessor(professor("compartido.p@universidad.com"));
+		assertThatThrownBy(() -> studentService.createStudent(student("compartido.p@universidad.com", "2024800001")))
+				.isInstanceOf(StudentWithEmailExistException.class);
+
+		studentService.createStudent(student("compartido.e@universidad.com", "2024800002"));
+		assertThatThrownBy(() -> professorService.createProfessor(professor("compartido.e@universidad.com")))
+				.isInstanceOf(ProfessorWithEmailExistException.class);
+	}
+
+	@Test
+	void updateRejectsEmailOfTheOtherPopulation() {
+		var student = studentService.createStudent(student("cambio.e@universidad.com", "2024800003"));
+		var professor = professorService.createProfessor(professor("cambio.p@universidad.com"));
+
+		assertThatThrownBy(() -> studentService.updateStudent(student.idStudent(),
+				student("cambio.p@universidad.com", "2024800003")))
+				.isInstanceOf(StudentWithEmailExistException.class);
+		assertThatThrownBy(() -> professorService.updateProfessor(professor.idProfessor(),
+				professor("cambio.e@universidad.com")))
+				.isInstanceOf(ProfessorWithEmailExistException.class);
+
+		// Conservar el propio email no es un conflicto
+		assertThat(studentService.updateStudent(student.idStudent(), student("cambio.e@universidad.com", "2024800003"))
+				.email()).isEqualTo("cambio.e@universidad.com");
+		assertThat(professorService.updateProfessor(professor.idProfessor(), professor("cambio.p@universidad.com"))
+				.email()).isEqualTo("cambio.p@universidad.com");
+	}
+
+	@Test
+	void ambiguousEmailIsRejectedAtUnifiedLogin() {
+		// Dos altas simultáneas pueden saltarse la comprobación de los servicios
+		var student = new Student();
+		student.setName("Doble");
+		student.setLastName("Estudiante");
+		student.setEmail("doble@universidad.com");
+		student.setAddress("Calle 1");
+		student.setStudentNumber("2024800004");
+		student.setPassword(passwordEncoder.encode(PASSWORD));
+		student.setRoles(new HashSet<>(Set.of("ROLE_STUDENT")));
+		studentRepository.save(student);
+		var professor = new Professor();
+		professor.setName("Doble");
+		professor.setLastName("Profesor");
+		professor.setEmail("doble@universidad.com");
+		professor.setPhone("3001234567");
+		professor.setAddress("Calle 2");
+		professor.setPassword(passwordEncoder.encode(PASSWORD));
+		professor.setRoles(new HashSet<>(Set.of("ROLE_PROFESSOR")));
+		professorRepository.save(professor);
+
+		var request = new AuthenticateRequest("doble@universidad.com", PASSWORD);
+		assertThatThrownBy(() -> authenticateService.login(request)).isInstanceOf(InvalidCredentialsException.class);
+		// Los endpoints por población no son ambiguos
+		assertThat(authenticateService.logginStudent(request).jwt()).isNotBlank();
+		assertThat(authenticateService.logginProfessor(request).jwt()).isNotBlank();
+	}
+
+	private static StudentRequest student(String email, String number) {
+		return new StudentRequest("Eva", "Rojas", email, "Calle 123", "3001234567", number, null, null, PASSWORD);
+	}
+
+	private static ProfessorRequest professor(String email) {
+		return new ProfessorRequest("Luis", "Mora", email, "3007654321", "Calle 45", null, PASSWORD);
+	}
+}
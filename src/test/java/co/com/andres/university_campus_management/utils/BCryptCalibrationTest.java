@@ -0,0 +1,45 @@
+package co.com.andres.university_campus_management.utils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+class BCryptCalibrationTest {
+
+	@Test
+	void choosesHighestStrengthWithinTargetAndRange() {
+		var calibration = BCryptCalibration.measure(40, 4, 12);
+		int chosen = calibration.strength();
+
+		assertThat(calibration.pinned()).isFalse();
+		assertThat(chosen).isBetween(4, 12);
+		assertThat(calibration.measurements()).containsKey(chosen);
+		if (chosen > 4) {
+			assertThat(calibration.measurements().get(chosen)).isLessThanOrEqualTo(40);
+		}
+		if (chosen < 12) {
+			// Se detuvo porque el siguiente costo superaría el objetivo
+			var next = calibration.measurements().get(chosen + 1);
+			assertThat(next == null ? calibration.measurements().get(chosen) * 2 : next).isGreaterThan(40);
+		}
+		// Nunca se mide por encima del primer costo que supera el objetivo
+		assertThat(calibration.measurements().keySet()).allMatch(strength -> strength <= chosen + 1);
+	}
+
+	@Test
+	void neverGoesBelowMinimumStrength() {
+		var calibration = BCryptCalibration.measure(0, 5, 12);
+
+		assertThat(calibration.strength()).isEqualTo(5);
+		assertThat(calibration.measurements()).containsOnlyKeys(5);
+	}
+
+	@Test
+	void pinnedStrengthIsNotMeasured() {
+		var calibration = BCryptCalibration.pinned(12);
+
+		assertThat(calibration.strength()).isEqualTo(12);
+		assertThat(calibration.pinned()).isTrue();
+		assertThat(calibration.measurements()).isEmpty();
+	}
+}
@@ -0,0 +1,53 @@
+package co.com.andres.university_campus_management.utils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+
+import co.com.andres.university_campus_management.config.exception.batchException.BatchSizeValidException;
+
+class BatchLookupTest {
+
+	private final BatchLookup batchLookup = new BatchLookup(5);
+
+	@Test
+	void resultsFollowRequestOrderAndMissingIdsAreListedOnce() {
+		var queried = new ArrayList<List<Long>>();
+
+		var response = batchLookup.resolve(new long[] { 3, 9, 1, 3, 9 },
+				ids -> {
+					queried.add(ids);
+					return List.of("1", "3");
+				},
+				Long::parseLong);
+
+		assertThat(queried).containsExactly(List.of(1L, 3L, 9L));
+		assertThat(response.results()).containsExactly("3", "1", "3");
+		assertThat(response.missing()).containsExactly(9L);
+	}
+
+	@Test
+	void rejectsEmptyAndOversizedBatches() {
+		assertThatThrownBy(() -> batchLookup.resolve(new long[0], ids -> List.<String>of(), Long::parseLong))
+				.isInstanceOf(BatchSizeValidException.class);
+		assertThatThrownBy(() -> batchLookup.resolve(new long[] { 1, 2, 3, 4, 5, 6 }, ids -> List.<String>of(), Long::parseLong))
+				.isInstanceOf(BatchSizeValidException.class);
+	}
+
+	@Test
+	void rejectionIsStacklessAndReportsTheConfiguredLimit() {
+		var small = new BatchSizeValidException(5);
+		var large = new BatchSizeValidException(100);
+
+		assertThat(small.getStackTrace()).isEmpty();
+		assertThat(small.getStatus()).isEqualTo(HttpStatus.BAD_REQUEST);
+		assertThat(small.errorResponse().getCode()).isEqualTo("BATCH_SIZE_INVALID");
+		assertThat(small.errorResponse().getMessage()).contains("ENTRE 1 Y 5 ");
+		assertThat(large.errorResponse().getMessage()).contains("ENTRE 1 Y 100 ");
+	}
+}
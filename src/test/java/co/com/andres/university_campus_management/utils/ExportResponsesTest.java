@@ -0,0 +1,32 @@
+package co.com.andres.university_campus_management.utils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+class ExportResponsesTest {
+
+	@Test
+	void gzipIsAcceptedWithAPositiveWeight() {
+		assertThat(ExportResponses.acceptsGzip("gzip")).isTrue();
+		assertThat(ExportResponses.acceptsGzip("br, GZIP;q=0.8")).isTrue();
+		assertThat(ExportResponses.acceptsGzip("deflate, gzip ; Q=0.001")).isTrue();
+		assertThat(ExportResponses.acceptsGzip("x-gzip")).isTrue();
+		assertThat(ExportResponses.acceptsGzip("br, *;q=0.5")).isTrue();
+	}
+
+	@Test
+	void explicitRefusalOrAbsenceIsNotAcceptance() {
+		assertThat(ExportResponses.acceptsGzip(null)).isFalse();
+		assertThat(ExportResponses.acceptsGzip("")).isFalse();
+		assertThat(ExportResponses.acceptsGzip("identity")).isFalse();
+		assertThat(ExportResponses.acceptsGzip("gzip;q=0")).isFalse();
+		assertThat(ExportResponses.acceptsGzip("br, gzip;q=0.000")).isFalse();
+		// La entrada propia de gzip manda sobre el comodín
+		assertThat(ExportResponses.acceptsGzip("*;q=1, gzip;q=0")).isFalse();
+		assertThat(ExportResponses.acceptsGzip("*;q=0")).isFalse();
+		assertThat(ExportResponses.acceptsGzip("gzip;q=abc")).isFalse();
+		// Un nombre que solo contiene "gzip" no es gzip
+		assertThat(ExportResponses.acceptsGzip("x-gzip-custom")).isFalse();
+	}
+}
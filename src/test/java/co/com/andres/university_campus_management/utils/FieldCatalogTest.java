@@ -0,0 +1,51 @@
+package co.com.andres.university_campus_management.utils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+
+import co.com.andres.university_campus_management.config.exception.sparseException.SparseFieldValidException;
+import co.com.andres.university_campus_management.utils.FieldCatalog.Kind;
+
+class FieldCatalogTest {
+
+	private final FieldCatalog catalog = FieldCatalog.of("Student")
+			.field("id_student", "idStudent", Kind.NUMBER)
+			.field("name", "name", Kind.TEXT)
+			.field("email", "email", Kind.TEXT)
+			.alias("id", "id_student");
+
+	@Test
+	void selectsOnlyRequestedColumnsInCatalogOrder() {
+		var fieldSet = catalog.resolve("name, id");
+
+		assertThat(fieldSet.jpql()).isEqualTo("select e.idStudent, e.name from Student e");
+		assertThat(fieldSet.names()).extracting(Object::toString).containsExactly("id_student", "name");
+	}
+
+	@Test
+	void equivalentRequestsShareTheCachedFieldSet() {
+		assertThat(catalog.resolve("id,name")).isSameAs(catalog.resolve("name,id_student,name"));
+	}
+
+	@Test
+	void rejectsUnknownOrEmptyFields() {
+		assertThatThrownBy(() -> catalog.resolve("id,password")).isInstanceOf(SparseFieldValidException.class);
+		assertThatThrownBy(() -> catalog.resolve(" , ")).isInstanceOf(SparseFieldValidException.class);
+	}
+
+	@Test
+	void rejectionIsStacklessAndNamesEachCatalogsOwnFields() {
+		var student = new SparseFieldValidException("id_student, name");
+		var course = new SparseFieldValidException("id_course, course_code");
+
+		assertThat(student.getStackTrace()).isEmpty();
+		assertThat(student.getStatus()).isEqualTo(HttpStatus.BAD_REQUEST);
+		assertThat(student.errorResponse().getCode()).isEqualTo("FIELDS_INVALID");
+		// El mensaje depende de la instancia: el cuerpo no se comparte entre tipos de listado
+		assertThat(student.errorResponse().getMessage()).endsWith("id_student, name");
+		assertThat(course.errorResponse().getMessage()).endsWith("id_course, course_code");
+	}
+}
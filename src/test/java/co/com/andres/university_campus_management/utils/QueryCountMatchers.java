@@ -0,0 +1,63 @@
+package co.com.andres.university_campus_management.utils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.stream.Collectors;
+
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.ResultMatcher;
+
+import co.com.andres.university_campus_management.config.QueryBudgetFilter;
+
+/**
+ * Comprobaciones del número de sentencias SQL de una solicitud de MockMvc.
+ *
+ * Leen el {@link QueryCounter} que {@link QueryBudgetFilter} deja en la
+ * solicitud, de modo que también cuentan las sentencias de las tareas
+ * asíncronas (respuestas en streaming) si se comprueban tras el asyncDispatch.
+ * Si el número no coincide, el mensaje lista cada sentencia con sus
+ * ejecuciones.
+ */
+public final class QueryCountMatchers {
+
+	private QueryCountMatchers() {
+	}
+
+	/**
+	 * Exige que la solicitud haya ejecutado exactamente {@code expected} sentencias.
+	 */
+	public static ResultMatcher queryCount(long expected) {
+		return result -> {
+			var counter = counter(result);
+			assertThat(counter.count())
+					.as("Sentencias SQL de %s %s:%n%s", result.getRequest().getMethod(),
+							result.getRequest().getRequestURI(), describe(counter))
+					.isEqualTo(expected);
+		};
+	}
+
+	/**
+	 * Exige que ninguna sentencia se haya repetido más de {@code maxExecutions} veces.
+	 */
+	public static ResultMatcher noStatementRepeatedMoreThan(long maxExecutions) {
+		return result -> {
+			var counter = counter(result);
+			assertThat(counter.statements().values())
+					.as("Sentencias SQL de %s %s:%n%s", result.getRequest().getMethod(),
+							result.getRequest().getRequestURI(), describe(counter))
+					.allMatch(executions -> executions <= maxExecutions);
+		};
+	}
+
+	private static QueryCounter counter(MvcResult result) {
+		var counter = result.getRequest().getAttribute(QueryBudgetFilter.COUNTER_ATTRIBUTE);
+		assertThat(counter).as("La solicitud no pasó por QueryBudgetFilter").isInstanceOf(QueryCounter.class);
+		return (QueryCounter) counter;
+	}
+
+	private static String describe(QueryCounter counter) {
+		return counter.statements().entrySet().stream()
+				.map(entry -> "  " + entry.getValue() + " x " + entry.getKey())
+				.collect(Collectors.joining(System.lineSeparator()));
+	}
+}
@@ -0,0 +1,84 @@
+package co.com.andres.university_campus_management.utils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import co.com.andres.university_campus_management.config.exception.FieldViolation;
+import co.com.andres.university_campus_management.config.exception.couseException.CourseCodeValidException;
+import co.com.andres.university_campus_management.config.exception.couseException.CourseMaxCapacityValidException;
+import co.com.andres.university_campus_management.config.exception.validationException.RequestValidationException;
+import co.com.andres.university_campus_management.model.DTO.CourseRequest;
+import co.com.andres.university_campus_management.model.DTO.EnrollmentRequest;
+
+class RequestValidatorTest {
+
+	private final RequestValidator<CourseRequest> rules = RequestValidator.<CourseRequest>builder()
+			.rule("course_code", CourseRequest::isValidCourseCode, new CourseCodeValidException())
+			.rule("maximum_capacity", CourseRequest::isValidMaxCapacity, new CourseMaxCapacityValidException())
+			.build();
+
+	@Test
+	void collectsEveryViolationInOnePass() {
+		var request = new CourseRequest("Programación", "prog-1", null, 1L, 80);
+
+		assertThat(rules.validate(request)).extracting(FieldViolation::field)
+				.containsExactly("course_code", "maximum_capacity");
+		assertThatThrownBy(() -> rules.check(request))
+				.isInstanceOfSatisfying(RequestValidationException.class, ex -> {
+					assertThat(ex.getCode()).isEqualTo("VALIDATION_FAILED");
+					assertThat(ex.getViolations()).hasSize(2);
+				});
+	}
+
+	@Test
+	void validRequestProducesNoViolations() {
+		var request = new CourseRequest("Programación", "PROG-101", null, 1L, 30);
+
+		assertThat(rules.validate(request)).isEmpty();
+	}
+
+	@Test
+	void scannersMatchTheOriginalRegularExpressions() {
+		var emails = List.of("andres.rojas@universidad.com", "a+b_c-d@universidad.com", "@universidad.com",
+				"andres@universidad.co", "andrés@universidad.com", "a@b@universidad.com", "");
+		for (var email : emails) {
+			assertThat(FormatScanners.isUniversityEmail(email))
+					.as(email).isEqualTo(email.matches("^[A-Za-z0-9+_.-]+@universidad\\.com$"));
+		}
+
+		var phones = List.of("3001234567", "+573001234567", "123456", "+", "12345678901234567890",
+				"123456789012345678901", "300-123-4567", "");
+		for (var phone : phones) {
+			assertThat(FormatScanners.isPhone(phone))
+					.as(phone).isEqualTo(phone.matches("^\\+?[0-9]{7,20}$"));
+		}
+
+		var codes = List.of("PROG-101", "ABC-123", "AB-123", "ABCDE-123", "PROG-10", "PROG-1011", "prog-101",
+				"PROG101", "");
+		for (var code : codes) {
+			assertThat(FormatScanners.isCourseCode(code))
+					.as(code).isEqualTo(code.matches("^[A-Z]{3,4}-\\d{3}$"));
+		}
+
+		var numbers = List.of("2024001234", "12345678", "1234567", "12345678901", "2024A01234");
+		for (var number : numbers) {
+			assertThat(FormatScanners.isDigits(number, 8, 10))
+					.as(number).isEqualTo(number.matches("^[0-9]{8,10}$"));
+		}
+
+		var today = LocalDate.now();
+		var dates = List.of(today, today.plusYears(1), LocalDate.of(9999, 12, 31), LocalDate.of(10000, 1, 1),
+				today.minusDays(1), LocalDate.of(-1, 1, 1), LocalDate.MAX, LocalDate.MIN);
+		for (var date : dates) {
+			var request = new EnrollmentRequest(1L, 1L, date, null);
+			assertThat(request.isValidEnrollmentDate())
+					.as(date.toString())
+					.isEqualTo(!date.isBefore(today) && date.toString().matches("\\d{4}-\\d{2}-\\d{2}"));
+		}
+	}
+}
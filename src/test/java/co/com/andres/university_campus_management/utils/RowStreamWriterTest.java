@@ -0,0 +1,97 @@
+package co.com.andres.university_campus_management.utils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+
+import co.com.andres.university_campus_management.model.entity.EnrollmentState;
+
+class RowStreamWriterTest {
+
+	private static final String[] COLUMNS = { "id", "name", "date", "state" };
+
+	private final RowStreamWriter writer = new RowStreamWriter(JsonMapper.builder()
+			.addModule(new JavaTimeModule())
+			.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+			.build());
+
+	@Test
+	void csvQuotesOnlyValuesThatNeedIt() throws IOException {
+		var out = new ByteArrayOutputStream();
+		long rows = writer.write(ExportFormat.CSV, out, COLUMNS, Stream.of(
+				new Object[] { 1L, "Ana", LocalDate.of(2024, 2, 1), EnrollmentState.ACTIVE },
+				new Object[] { 2L, "Rojas, Ana \"la\nprimera\"", null, EnrollmentState.CANCELLED }),
+				row -> row);
+
+		assertThat(rows).isEqualTo(2);
+		assertThat(out.toString(StandardCharsets.UTF_8)).isEqualTo("id,name,date,state\r\n"
+				+ "1,Ana,2024-02-01,ACTIVE\r\n"
+				+ "2,\"Rojas, Ana \"\"la\nprimera\"\"\",,CANCELLED\r\n");
+	}
+
+	@Test
+	void ndjsonWritesOneObjectPerLine() throws IOException {
+		var out = new ByteArrayOutputStream();
+		long rows = writer.write(ExportFormat.NDJSON, out, COLUMNS, Stream.of(
+				new Object[] { 1L, "Ana", LocalDate.of(2024, 2, 1), EnrollmentState.ACTIVE },
+				new Object[] { 2, "Línea\ncon \"comillas\"", null, EnrollmentState.GRADUATED }),
+				row -> row);
+
+		assertThat(rows).isEqualTo(2);
+		assertThat(out.toString(StandardCharsets.UTF_8)).isEqualTo(
+				"{\"id\":1,\"name\":\"Ana\",\"date\":\"2024-02-01\",\"state\":\"ACTIVE\"}\n"
+						+ "{\"id\":2,\"name\":\"Línea\\ncon \\\"comillas\\\"\",\"date\":null,\"state\":\"GRADUATED\"}\n");
+	}
+
+	@Test
+	void emptyExportsHaveNoRowLines() throws IOException {
+		var ndjson = new ByteArrayOutputStream();
+		assertThat(writer.write(ExportFormat.NDJSON, ndjson, COLUMNS, Stream.<Object[]>empty(), row -> row)).isZero();
+		assertThat(ndjson.size()).isZero();
+
+		var csv = new ByteArrayOutputStream();
+		assertThat(writer.write(ExportFormat.CSV, csv, COLUMNS, Stream.<Object[]>empty(), row -> row)).isZero();
+		assertThat(csv.toString(StandardCharsets.UTF_8)).isEqualTo("id,name,date,state\r\n");
+	}
+
+	@Test
+	void disconnectStopsReadingAndClosesTheCursor() {
+		for (var format : ExportFormat.values()) {
+			var read = new AtomicInteger();
+			var closed = new AtomicBoolean();
+			var disconnected = new OutputStream() {
+				@Override
+				public void write(int b) throws IOException {
+					throw new IOException("Broken pipe");
+				}
+			};
+
+			// Mismo patrón que los servicios: el cursor se cierra con try-with-resources
+			assertThatThrownBy(() -> {
+				try (var rows = Stream.iterate(0L, i -> i + 1).limit(100_000)
+						.peek(i -> read.incrementAndGet())
+						.onClose(() -> closed.set(true))) {
+					writer.write(format, disconnected, COLUMNS, rows,
+							i -> new Object[] { i, "Estudiante " + i, null, EnrollmentState.ACTIVE });
+				}
+			}).isInstanceOf(IOException.class);
+
+			assertThat(closed).as(format.name()).isTrue();
+			assertThat(read.get()).as(format.name()).isLessThan(100_000);
+		}
+	}
+}
@@ -0,0 +1,94 @@
+package co.com.andres.university_campus_management.utils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import co.com.andres.university_campus_management.config.exception.couseException.CourseByIdException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class SingleFlightTest {
+
+	private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+	private final SingleFlight singleFlight = new SingleFlight(registry, () -> false);
+
+	@Test
+	void concurrentCallersShareOneLoad() throws Exception {
+		var loads = new AtomicInteger();
+		var release = new CountDownLatch(1);
+		var loaderStarted = new CountDownLatch(1);
+		var pool = Executors.newFixedThreadPool(4);
+		try {
+			var owner = pool.submit(() -> singleFlight.load("course.byId", 1L, () -> {
+				loads.incrementAndGet();
+				loaderStarted.countDown();
+				await(release);
+				return "curso";
+			}));
+			assertThat(loaderStarted.await(5, TimeUnit.SECONDS)).isTrue();
+
+			var followers = new ArrayList<Future<String>>();
+			for (int i = 0; i < 3; i++) {
+				followers.add(pool.submit(() -> singleFlight.load("course.byId", 1L, () -> {
+					loads.incrementAndGet();
+					return "otro";
+				})));
+			}
+			// Los seguidores deben quedar esperando la consulta en curso
+			while (registry.counter("singleflight.requests", "group", "course.byId", "outcome", "shared")
+					.count() < 3) {
+				Thread.sleep(5);
+			}
+			release.countDown();
+
+			assertThat(owner.get(5, TimeUnit.SECONDS)).isEqualTo("curso");
+			for (var follower : followers) {
+				assertThat(follower.get(5, TimeUnit.SECONDS)).isEqualTo("curso");
+			}
+		} finally {
+			pool.shutdownNow();
+		}
+
+		assertThat(loads).hasValue(1);
+		assertThat(registry.get("singleflight.coalescing.ratio").tag("group", "course.byId").gauge().value())
+				.isEqualTo(0.75);
+	}
+
+	@Test
+	void failureIsSharedAndNextCallLoadsAgain() throws Exception {
+		var release = new CountDownLatch(1);
+		var loaderStarted = new CountDownLatch(1);
+		var owner = CompletableFuture.supplyAsync(() -> singleFlight.load("student.byId", 7L, () -> {
+			loaderStarted.countDown();
+			await(release);
+			throw new CourseByIdException();
+		}));
+		assertThat(loaderStarted.await(5, TimeUnit.SECONDS)).isTrue();
+		var follower = CompletableFuture.supplyAsync(() -> singleFlight.load("student.byId", 7L, () -> "otro"));
+		while (registry.counter("singleflight.requests", "group", "student.byId", "outcome", "shared").count() < 1) {
+			Thread.sleep(5);
+		}
+		release.countDown();
+
+		assertThatThrownBy(owner::join).hasCauseInstanceOf(CourseByIdException.class);
+		assertThatThrownBy(follower::join).hasCauseInstanceOf(CourseByIdException.class);
+		assertThat(singleFlight.load("student.byId", 7L, () -> "estudiante")).isEqualTo("estudiante");
+	}
+
+	private static void await(CountDownLatch latch) {
+		try {
+			latch.await(5, TimeUnit.SECONDS);
+		} catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+		}
+	}
+}
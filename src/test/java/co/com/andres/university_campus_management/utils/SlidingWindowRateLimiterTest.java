@@ -0,0 +1,59 @@
+package co.com.andres.university_campus_management.utils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Test;
+
+import co.com.andres.university_campus_management.utils.SlidingWindowRateLimiter.Decision;
+
+class SlidingWindowRateLimiterTest {
+
+	private final AtomicLong clock = new AtomicLong(1_000_000);
+
+	@Test
+	void throttlesAfterLimitWithinWindow() {
+		var limiter = new SlidingWindowRateLimiter(3, 60_000, 6, 100, clock::get);
+
+		assertThat(limiter.tryAcquire("a@universidad.com")).isEqualTo(Decision.ALLOWED);
+		assertThat(limiter.tryAcquire("a@universidad.com")).isEqualTo(Decision.ALLOWED);
+		assertThat(limiter.tryAcquire("a@universidad.com")).isEqualTo(Decision.ALLOWED);
+		assertThat(limiter.tryAcquire("a@universidad.com")).isEqualTo(Decision.THROTTLED);
+		assertThat(limiter.tryAcquire("b@universidad.com")).isEqualTo(Decision.ALLOWED);
+	}
+
+	@Test
+	void windowSlidesAndOldAttemptsExpire() {
+		var limiter = new SlidingWindowRateLimiter(2, 60_000, 6, 100, clock::get);
+
+		limiter.tryAcquire("10.0.0.1");
+		clock.addAndGet(30_000);
+		limiter.tryAcquire("10.0.0.1");
+		assertThat(limiter.tryAcquire("10.0.0.1")).isEqualTo(Decision.THROTTLED);
+
+		// El primer intento sale de la ventana, los dos últimos siguen dentro
+		clock.addAndGet(35_000);
+		assertThat(limiter.tryAcquire("10.0.0.1")).isEqualTo(Decision.THROTTLED);
+
+		clock.addAndGet(60_000);
+		assertThat(limiter.tryAcquire("10.0.0.1")).isEqualTo(Decision.ALLOWED);
+	}
+
+	@Test
+	void memoryIsBoundedAndExpiredKeysAreEvicted() {
+		var limiter = new SlidingWindowRateLimiter(5, 60_000, 6, 2, clock::get);
+
+		limiter.tryAcquire("k1");
+		limiter.tryAcquire("k2");
+		assertThat(limiter.tryAcquire("k3")).isEqualTo(Decision.UNTRACKED);
+		assertThat(limiter.trackedKeys()).isEqualTo(2);
+
+		// La solicitud no libera espacio; solo el barrido elimina las ventanas expiradas
+		clock.addAndGet(61_000);
+		assertThat(limiter.tryAcquire("k3")).isEqualTo(Decision.UNTRACKED);
+		assertThat(limiter.evictExpired()).isEqualTo(2);
+		assertThat(limiter.tryAcquire("k3")).isEqualTo(Decision.ALLOWED);
+		assertThat(limiter.trackedKeys()).isEqualTo(1);
+	}
+}